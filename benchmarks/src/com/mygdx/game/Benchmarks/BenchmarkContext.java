@@ -0,0 +1,92 @@
+package com.mygdx.game.Benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.ActionTextSystem;
+import com.mygdx.game.Config;
+import com.mygdx.game.GameState;
+import com.mygdx.game.PlayerProfile;
+import com.ray3k.stripe.FreeTypeSkinLoader;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless game environment shared by the benchmarks. Created once per benchmark JVM.
+ * <br><br>
+ * Loads every asset the game board needs with a mocked GL context, the same way the unit tests do, so game states
+ * can be created without a window.
+ */
+public final class BenchmarkContext {
+
+    /** Context of the running JVM, created on first use. */
+    private static BenchmarkContext instance;
+
+    /** Asset manager loaded with every game board asset. */
+    private final AssetManager assets;
+
+    /**
+     * Starts a headless application and loads the assets.
+     */
+    private BenchmarkContext() {
+        new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        Gdx.gl = Mockito.mock(GL20.class);  // Mock gl to allow headless texture loading
+
+        Config config = Config.getInstance();
+        assets = new AssetManager();
+        assets.setLoader(Skin.class, new FreeTypeSkinLoader(assets.getFileHandleResolver()));
+
+        assets.load(config.getUiPath(), Skin.class);
+        assets.load(config.getTilePath(), Texture.class);
+        assets.load(config.getStarTilePath(), Texture.class);
+        assets.load(config.getEventTilePath(), Texture.class);
+        assets.load(config.getPenaltyTilePath(), Texture.class);
+        assets.load(config.getPlayerPath(), Texture.class);
+        assets.load(config.getPlayerFreezePath(), Texture.class);
+        assets.load(config.getBackgroundPath(), Texture.class);
+        assets.load(config.getPlayerShieldPath(), Texture.class);
+        assets.load(config.getMapArrowPath(), Texture.class);
+        assets.load(config.getAgilityTilePath(), Texture.class);
+        assets.finishLoading();
+
+        ActionTextSystem.initSkin(assets.get(config.getUiPath(), Skin.class));
+    }
+
+    /**
+     * Returns the context of the running JVM, creating it if needed.
+     * @return Benchmark context
+     */
+    public static synchronized BenchmarkContext get() {
+        if (instance == null) instance = new BenchmarkContext();
+        return instance;
+    }
+
+    /**
+     * Returns the loaded assets.
+     * @return Asset manager loaded with every game board asset
+     */
+    public AssetManager getAssets() { return assets; }
+
+    /**
+     * Creates a new game with a fixed seed, so every fork of a benchmark plays the same game.
+     *
+     * @param players Number of players
+     * @param seed Seed of the game
+     * @return New game state
+     */
+    public GameState newGame(int players, long seed) {
+        List<PlayerProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            profiles.add(new PlayerProfile("Player " + i));
+        }
+
+        return new GameState(profiles, assets, 0, false, seed);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mygdx.game.Benchmarks;
+
+import com.mygdx.game.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the turn loop and the board checks it runs. A fresh game is created for every iteration, as games grow
+ * their shop inventory as the rounds pass.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    /** Number of players in the game. */
+    @Param({"2", "5"})
+    public int players;
+
+    /** Game being played. */
+    private GameState gameState;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        gameState = BenchmarkContext.get().newGame(players, 2);
+    }
+
+    @Benchmark
+    public int nextTurn() {
+        gameState.nextTurn();
+        return gameState.getTurn();
+    }
+
+    @Benchmark
+    public void checkStar() {
+        gameState.checkStar(gameState.getNodeMap());
+    }
+
+    @Benchmark
+    public void checkPenalty() {
+        gameState.checkPenalty(gameState.getNodeMap());
+    }
+}
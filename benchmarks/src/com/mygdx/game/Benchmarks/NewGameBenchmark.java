@@ -0,0 +1,72 @@
+package com.mygdx.game.Benchmarks;
+
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.GameState;
+import com.mygdx.game.PlayerProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures starting a new game on a compiled board, on the default board and on a large generated one. Boards are
+ * compiled once in setup, as they are when loaded from a board file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NewGameBenchmark {
+
+    /** Number of rows and columns of the board, or 0 for the default board. */
+    @Param({"0", "100"})
+    public int side;
+
+    /** Board to play on. */
+    private BoardLayout layout;
+    /** Students playing the game. */
+    private List<PlayerProfile> profiles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.get();
+        layout = side == 0 ? BoardLayout.defaultLayout() : snake(side);
+        layout.getGraph();
+
+        profiles = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            profiles.add(new PlayerProfile("Player " + i));
+        }
+    }
+
+    @Benchmark
+    public GameState newGame() {
+        return new GameState(profiles, BenchmarkContext.get().getAssets(), 0, false, 1, layout);
+    }
+
+    /**
+     * Builds a square board of plain tiles, linked in one loop which snakes through every row.
+     *
+     * @param side Number of rows and columns. Must be even
+     * @return Layout of the board
+     */
+    private static BoardLayout snake(int side) {
+        int[][] map = new int[side][side];
+        int[][] direction = new int[side][side];
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                map[i][j] = 1;
+                boolean east = i % 2 == 0;
+                boolean end = east ? j == side - 1 : j == 1;
+                if (j == 0) direction[i][j] = i == 0 ? 2 : 1;  // Left column returns to the top
+                else if (end && i < side - 1) direction[i][j] = 3;
+                else if (end) direction[i][j] = 4;
+                else direction[i][j] = east ? 2 : 4;
+            }
+        }
+        return BoardLayout.fromGrid(map, direction);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mygdx.game.Benchmarks;
+
+import com.mygdx.game.JsonProfileStore;
+import com.mygdx.game.LogProfileStore;
+import com.mygdx.game.PlayerProfile;
+import com.mygdx.game.ProfileManager;
+import com.mygdx.game.ProfileStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording a new high score, which writes the profile database and both high score tables. The JSON store
+ * rewrites the whole database, while the log store appends the one changed student.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ProfileManagerBenchmark {
+
+    /** Number of student profiles in the database. */
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int roster;
+
+    /** Extension of the profile database, which chooses how it is stored. */
+    @Param({".json", LogProfileStore.EXTENSION})
+    public String extension;
+
+    /** Folder holding the benchmark's database files. */
+    private Path folder;
+    /** Profile manager under test. */
+    private ProfileManager profileManager;
+    /** Score recorded next. Always increases, so every call stores a new high score. */
+    private int score;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("profiles");
+
+        // Write the database directly, as adding students one at a time writes it on every addition
+        ArrayList<PlayerProfile> profiles = new ArrayList<>(roster);
+        for (int i = 0; i < roster; i++) {
+            profiles.add(new PlayerProfile("Student " + i, i * 10, i, 1));
+        }
+        String students = folder.resolve("students" + extension).toString();
+        ProfileStore store = LogProfileStore.isLog(students)
+                ? new LogProfileStore(Path.of(students)) : new JsonProfileStore(students);
+        store.write(profiles, profiles, List.of());
+
+        profileManager = new ProfileManager(students,
+                folder.resolve("highscores.json").toString(), folder.resolve("lifetime.json").toString());
+        score = roster;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (String file : new String[] {"students" + extension, "students" + extension + ".tmp",
+                "highscores.json", "lifetime.json"}) {
+            Files.deleteIfExists(folder.resolve(file));
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void updateHighScore() {
+        profileManager.updateHighScore("Student " + (score % roster), ++score);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mygdx.game.Benchmarks;
+
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.GameState;
+import com.mygdx.game.Node.Node;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the tiles reachable with a die roll, run on every roll and every move preview.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReachabilityBenchmark {
+
+    /** Number rolled. Rolls above 4 come from the multidice item. */
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    public int roll;
+
+    /** Compiled graph of the board. */
+    private BoardGraph graph;
+    /** Tile the search starts from. */
+    private Node start;
+    /** Tile the player came from. */
+    private String previous;
+
+    @Setup
+    public void setUp() {
+        GameState gameState = BenchmarkContext.get().newGame(4, 1);
+        graph = gameState.getBoardGraph();
+        start = gameState.getNodeMap().get("7,3");  // Below a junction on the right of the board, so longer rolls branch
+        previous = "7,2";
+    }
+
+    @Benchmark
+    public ArrayList<ArrayList<String>> getReachable() {
+        return start.getReachable(roll, previous, graph);
+    }
+
+    @Benchmark
+    public ArrayList<ArrayList<String>> getDestinations() {
+        return start.getDestinations(roll, previous, graph);
+    }
+}
@@ -0,0 +1,79 @@
+package com.mygdx.game.Benchmarks;
+
+import com.mygdx.game.GameState;
+import com.mygdx.game.SaveSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving a game and loading it back, as done by the pause screen and the save screen, in both save formats.
+ * <br><br>
+ * The save file is deleted through the save manifest after every round trip, so the save folder does not fill up.
+ * Save numbers are never reused, so the name of each save file is taken from the save system when it is written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveSystemBenchmark {
+
+    /** Name of the save. */
+    private static final String SAVE_NAME = "benchmark";
+    /** Name of the save kept for the read benchmark. */
+    private static final String READ_NAME = "benchmarkRead";
+
+    /** Number of players in the saved game. */
+    @Param({"2", "5"})
+    public int players;
+
+    /** Extension of the save files, which decides their format. */
+    @Param({".json", ".sav"})
+    public String format;
+
+    /** Used to save and load the game. */
+    private SaveSystem saveSystem;
+    /** Game to save. */
+    private GameState gameState;
+    /** File name of the last save written. */
+    private String lastSaved;
+    /** File name of the save kept for the read benchmark. */
+    private String readFile;
+
+    @Setup
+    public void setUp() {
+        new File("saves").mkdirs();
+        saveSystem = new SaveSystem(format);
+        saveSystem.addSaveCompleteListener(fileName -> lastSaved = fileName);
+        gameState = BenchmarkContext.get().newGame(players, 3);
+        for (int i = 0; i < players * 10; i++) {  // Play a few rounds so the save holds a typical game
+            gameState.nextTurn();
+        }
+        saveSystem.saveGameState(gameState, READ_NAME);
+        readFile = lastSaved;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        saveSystem.getManifest().delete(readFile);
+    }
+
+    @Benchmark
+    public GameState saveAndRead() throws IOException {
+        saveSystem.saveGameState(gameState, SAVE_NAME);
+        String saved = lastSaved;
+        GameState loaded = saveSystem.readGameState(saved, BenchmarkContext.get().getAssets());
+        saveSystem.getManifest().delete(saved);
+
+        return loaded;
+    }
+
+    @Benchmark
+    public GameState read() {
+        return saveSystem.readGameState(readFile, BenchmarkContext.get().getAssets());
+    }
+}
@@ -0,0 +1,247 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Save format which stores the parts of a game shared between saves only once.
+ * <br><br>
+ * Successive saves of a game are nearly identical, so the saved game state is split into chunks which stay the same
+ * from save to save: the board in runs of {@value #TILES_PER_CHUNK} tiles, each player, the market, and the shop. Each
+ * chunk is written in the binary {@link SaveFormat} to the {@value #FOLDER} folder next to the saves, named by the
+ * SHA-256 hash of its contents, and is only written if no save has stored it before. A save file then holds the rest of
+ * the game state, with each chunked field replaced by the list of its chunks' hashes. Disk use grows with the state
+ * that actually changed between saves, rather than with the number of saves.
+ * <br><br>
+ * Chunks which no save refers to any more are deleted by {@link #collect(File)}, which is run after saves are deleted.
+ * Saving and collecting hold the same lock, so a chunk is never collected between being written and the save which
+ * refers to it being renamed into place.
+ * @see SaveFormat
+ */
+public final class ChunkStore {
+
+    /** Extension of save files which refer to chunks. */
+    public static final String EXTENSION = ".ref";
+    /** Name of the folder holding the chunks, inside the save folder. */
+    public static final String FOLDER = "chunks";
+    /** Number of tiles in each chunk of the board. A change to one tile only rewrites its chunk. */
+    public static final int TILES_PER_CHUNK = 16;
+
+    /** Fields of the game state stored as chunks, with the number of elements in each chunk. */
+    private static final Map<String, Integer> CHUNKED = new LinkedHashMap<>();
+    static {
+        CHUNKED.put("tiles", TILES_PER_CHUNK);
+        CHUNKED.put("playerList", 1);
+        CHUNKED.put("stocks", Integer.MAX_VALUE);
+        CHUNKED.put("items", Integer.MAX_VALUE);
+    }
+
+    /** Held while writing saves and collecting chunks. */
+    private static final Object LOCK = new Object();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ChunkStore() {}
+
+    /**
+     * Checks if a save file refers to chunks.
+     *
+     * @param fileName Name of the save file
+     * @return True if the save is stored as chunks
+     */
+    public static boolean isChunked(String fileName) {
+        return fileName.endsWith(EXTENSION);
+    }
+
+    /**
+     * Writes a save, storing any chunks not already stored. The save is written to a temporary file and then renamed,
+     * so the save file is either complete or missing.
+     *
+     * @param root Saved form of the game. Used up by writing it
+     * @param target Path of the save file
+     * @throws IOException If the save or a chunk could not be written
+     */
+    public static void write(JsonValue root, Path target) throws IOException {
+        Path folder = target.resolveSibling(FOLDER);
+        synchronized (LOCK) {
+            Files.createDirectories(folder);
+            for (Map.Entry<String, Integer> field : CHUNKED.entrySet()) {
+                JsonValue value = root.get(field.getKey());
+                if (value == null || !value.isArray()) continue;
+
+                ArrayList<JsonValue> elements = new ArrayList<>(value.size);
+                for (JsonValue element = value.child; element != null; element = element.next) {
+                    elements.add(element);
+                }
+                JsonValue hashes = new JsonValue(JsonValue.ValueType.array);
+                for (int start = 0; start < elements.size(); start += field.getValue()) {
+                    JsonValue chunk = new JsonValue(JsonValue.ValueType.array);
+                    for (int i = start; i < elements.size() && i - start < field.getValue(); i++) {
+                        chunk.addChild(elements.get(i));
+                    }
+                    hashes.addChild(new JsonValue(store(chunk, folder)));
+                }
+                root.remove(field.getKey());
+                root.addChild(field.getKey(), hashes);
+            }
+
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                SaveFormat.writeBinary(root, out);
+            }
+            move(temp, target);
+        }
+    }
+
+    /**
+     * Reads a save, putting its chunks back in place.
+     *
+     * @param file Path of the save file
+     * @return Saved form of the game
+     * @throws IOException If the save or one of its chunks cannot be read
+     * @throws IllegalArgumentException If the save or one of its chunks is not valid
+     */
+    public static JsonValue read(Path file) throws IOException, IllegalArgumentException {
+        Path folder = file.resolveSibling(FOLDER);
+        JsonValue root;
+        try (InputStream in = Files.newInputStream(file)) {
+            root = SaveFormat.readBinary(in);
+        }
+
+        for (String name : CHUNKED.keySet()) {
+            JsonValue hashes = root.get(name);
+            if (hashes == null) continue;
+
+            JsonValue value = new JsonValue(JsonValue.ValueType.array);
+            for (JsonValue hash = hashes.child; hash != null; hash = hash.next) {
+                JsonValue chunk;
+                try (InputStream in = Files.newInputStream(folder.resolve(hash.asString()))) {
+                    chunk = SaveFormat.readBinary(in);
+                }
+                for (JsonValue element = chunk.child, next; element != null; element = next) {
+                    next = element.next;  // Moved into the value
+                    value.addChild(element);
+                }
+            }
+            root.remove(name);
+            root.addChild(name, value);
+        }
+
+        return root;
+    }
+
+    /**
+     * Deletes every chunk which no save in a folder refers to.
+     * <br><br>
+     * If a save cannot be read, the chunks it refers to are unknown, so they are all treated as in use and nothing is
+     * deleted. They are collected on a later run once the save can be read or has been deleted.
+     *
+     * @param saveFolder Folder containing the saves
+     * @return Number of chunks deleted
+     * @throws IOException If the saves or chunks could not be listed
+     */
+    public static int collect(File saveFolder) throws IOException {
+        Path folder = saveFolder.toPath().resolve(FOLDER);
+        synchronized (LOCK) {
+            if (!Files.isDirectory(folder)) return 0;
+
+            HashSet<String> used = new HashSet<>();
+            try (DirectoryStream<Path> saves = Files.newDirectoryStream(saveFolder.toPath(), "*" + EXTENSION)) {
+                for (Path save : saves) {
+                    try (InputStream in = Files.newInputStream(save)) {
+                        JsonValue root = SaveFormat.readBinary(in);
+                        for (String name : CHUNKED.keySet()) {
+                            JsonValue hashes = root.get(name);
+                            if (hashes == null) continue;
+                            for (JsonValue hash = hashes.child; hash != null; hash = hash.next) {
+                                used.add(hash.asString());
+                            }
+                        }
+                    } catch (IllegalArgumentException e) {
+                        e.printStackTrace();  // Not a valid save, so it can't be loaded anyway
+                    } catch (IOException e) {
+                        e.printStackTrace();  // Save's chunks are unknown, so keep every chunk
+                        return 0;
+                    }
+                }
+            }
+
+            int deleted = 0;
+            try (DirectoryStream<Path> chunks = Files.newDirectoryStream(folder)) {
+                for (Path chunk : chunks) {
+                    if (!used.contains(chunk.getFileName().toString()) && Files.deleteIfExists(chunk)) deleted++;
+                }
+            }
+            return deleted;
+        }
+    }
+
+    /**
+     * Stores a chunk under its hash, unless it is already stored.
+     *
+     * @param chunk Chunk to store
+     * @param folder Chunk folder
+     * @return Hash of the chunk
+     * @throws IOException If the chunk could not be written
+     */
+    private static String store(JsonValue chunk, Path folder) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SaveFormat.writeBinary(chunk, bytes);
+        byte[] data = bytes.toByteArray();
+        String hash = hash(data);
+
+        Path file = folder.resolve(hash);
+        if (!Files.exists(file)) {
+            Path temp = folder.resolve(hash + ".tmp");
+            try (InputStream in = new ByteArrayInputStream(data)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            move(temp, file);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the SHA-256 hash of some data, in hexadecimal.
+     */
+    private static String hash(byte[] data) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // Every Java platform has SHA-256
+        }
+    }
+
+    /**
+     * Renames a finished file into place, atomically where the file system allows it.
+     */
+    private static void move(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -11,6 +11,9 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.mygdx.game.Observer.Observable;
 import com.mygdx.game.Observer.Observer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Screen displayed at the end of a game.
  *
@@ -23,8 +26,8 @@ public class EndScreen extends GameScreen {
     private Observable<Void> menuEvent = new Observable<>();
     /** Event delete all saves for the game. */
     private Observable<Integer> deleteSavesEvent = new Observable<>();
-    /** Event updates lifetime and highscore of the player. */
-    private Observable<PlayerProfile> updateScoreEvent = new Observable<>();
+    /** Event updates lifetime and highscore of the players. Notified once with every player's profile. */
+    private Observable<List<PlayerProfile>> updateScoreEvent = new Observable<>();
 
     private Table table;
     /** Button to return to main menu. */
@@ -117,6 +120,7 @@ public class EndScreen extends GameScreen {
         table.add(menuButton);
 
         // Update Player Profiles
+        List<PlayerProfile> results = new ArrayList<>();
         for (Player player : finalGameState.getPlayerList()) {
             PlayerProfile profile = player.getPlayerProfile();
 
@@ -126,8 +130,9 @@ public class EndScreen extends GameScreen {
                 profile.setHighScore(player.getScore());
             }
 
-            updateScoreEvent.notifyObservers(profile);
+            results.add(profile);
         }
+        updateScoreEvent.notifyObservers(results);
 
         // Delete all saves for the game by matching the ID
         deleteSavesEvent.notifyObservers(finalGameState.getID());
@@ -149,5 +154,5 @@ public class EndScreen extends GameScreen {
      * Assigns an observer to listen for the event to update players' high scores and lifetime scores.
      * @param ob Observer to listen for the event to update players' high scores and lifetime scores.
      */
-    public void addUpdateScoreListener(Observer<PlayerProfile> ob) { updateScoreEvent.addObserver(ob); }
+    public void addUpdateScoreListener(Observer<List<PlayerProfile>> ob) { updateScoreEvent.addObserver(ob); }
 }
\ No newline at end of file
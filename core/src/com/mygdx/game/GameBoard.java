@@ -20,6 +20,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector3;
+import com.mygdx.game.Engine.TileType;
 import com.mygdx.game.Items.Item;
 import com.mygdx.game.Node.*;
 import com.mygdx.game.Observer.Observable;
@@ -73,6 +74,11 @@ public class GameBoard extends GameScreen {
      * @see MainGame
      */
     private Observable<String> saveGameEvent = new Observable<>();
+    /**
+     * Event occurs when a turn ends. Autosaves the game.
+     * @see MainGame
+     */
+    private Observable<GameState> turnEndEvent = new Observable<>();
 
     /* Input processing */
 
@@ -197,7 +203,7 @@ public class GameBoard extends GameScreen {
                }
                else if (ctrl && keycode == Input.Keys.S) {
                    // Display save dialog
-                   TextField saveNameInput = new TextField("NewGame", skin);
+                   TextField saveNameInput = new TextField(SaveSystem.DEFAULT_SAVE_NAME, skin);
                    Dialog saveGameDialog = new Dialog("Save Menu", skin) {
                        @Override
                        protected void result(Object object) {
@@ -258,6 +264,7 @@ public class GameBoard extends GameScreen {
                            currPlayer.getReachablePaths().add(new ArrayList<String>(Arrays.asList(currPlayer.getCurrentTile(), node.getID())));
 
                            currPlayer.move(node.getID(), gameState.getNodeMap(), batch, gameState.getHardMode());
+                           gameState.record("move", currPlayer, node);
                            if (!gameState.getNodeMap().get(currPlayer.getCurrentTile()).activate(currPlayer, batch, hudStage, skin, GameBoard.this, gameState.getHardMode())) {
                                turnChange();
                            }
@@ -274,6 +281,7 @@ public class GameBoard extends GameScreen {
                    if (sprite.getBoundingRectangle().contains(touchPoint.x, touchPoint.y)) {
                        // Player selected a reachable node, we update their position and activate the node
                        currPlayer.move(nodeID, nodeMap, batch, gameState.getHardMode());
+                       gameState.record("move", currPlayer, nodeMap.get(nodeID));
 
                        // Attempt to call Node's activate using the GameBoard's activate function. If it returns false, automatically change the turn.
                        // Otherwise, let the Node handle turn changing.
@@ -360,6 +368,7 @@ public class GameBoard extends GameScreen {
                 if (!currPlayer.canRoll()) return;
 
                 rollLabel.setText("Roll: " + gameState.getCurrentPlayer().rollDie(gameState.getNodeMap()));
+                gameState.record("roll", currPlayer);
                 rollLabel.setVisible(true);
 
                 // Play random sound
@@ -421,55 +430,28 @@ public class GameBoard extends GameScreen {
             public void changed(ChangeEvent event, Actor actor) {
                 Dialog modifyDialog = new Dialog("(DEBUG) Modify Tile", skin);
 
-                Map<String, Node> nodeMap = gameState.getNodeMap();
-                Node currentNode = nodeMap.get(gameState.getCurrentPlayer().getCurrentTile());
+                int currentIndex = gameState.getCurrentPlayer().getCurrentIndex();
+                Node currentNode = gameState.getTile(currentIndex);
 
                 TextButton normalTile = new TextButton("Normal Tile", skin);
                 normalTile.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeListener.ChangeEvent event, Actor actor) {
-                        String currentKey = currentNode.getID();
-                        int x = currentNode.getMapX();
-                        int y = currentNode.getMapY();
-                        boolean north = currentNode.getNorth();
-                        boolean south = currentNode.getSouth();
-                        boolean west = currentNode.getWest();
-                        boolean east = currentNode.getEast();
-                        nodeMap.remove(currentKey);
-                        NormalNode newNormal = new NormalNode(x, y, north, east, south, west, nodeMap, assets);
-                        nodeMap.put(currentKey, newNormal);
+                        gameState.setTileType(currentIndex, TileType.NORMAL);
                     }
                 });
                 TextButton starTile = new TextButton("Star Tile", skin);
                 starTile.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeListener.ChangeEvent event, Actor actor) {
-                        String currentKey = currentNode.getID();
-                        int x = currentNode.getMapX();
-                        int y = currentNode.getMapY();
-                        boolean north = currentNode.getNorth();
-                        boolean south = currentNode.getSouth();
-                        boolean west = currentNode.getWest();
-                        boolean east = currentNode.getEast();
-                        nodeMap.remove(currentKey);
-                        StarNode newStar = new StarNode(x, y, north, east, south, west, nodeMap, assets);
-                        nodeMap.put(currentKey, newStar);
+                        gameState.setTileType(currentIndex, TileType.STAR);
                     }
                 });
                 TextButton penaltyTile = new TextButton("Penalty Tile", skin);
                 penaltyTile.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeListener.ChangeEvent event, Actor actor) {
-                        String currentKey = currentNode.getID();
-                        int x = currentNode.getMapX();
-                        int y = currentNode.getMapY();
-                        boolean north = currentNode.getNorth();
-                        boolean south = currentNode.getSouth();
-                        boolean west = currentNode.getWest();
-                        boolean east = currentNode.getEast();
-                        nodeMap.remove(currentKey);
-                        PenaltyNode newPenal = new PenaltyNode(x, y, north, east, south, west, nodeMap, assets);
-                        nodeMap.put(currentKey, newPenal);
+                        gameState.setTileType(currentIndex, TileType.PENALTY);
                     }
                 });
 
@@ -477,17 +459,7 @@ public class GameBoard extends GameScreen {
                 eventTile.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeListener.ChangeEvent event, Actor actor) {
-                        String currentKey = currentNode.getID();
-                        int x = currentNode.getMapX();
-                        int y = currentNode.getMapY();
-                        boolean north = currentNode.getNorth();
-                        boolean south = currentNode.getSouth();
-                        boolean west = currentNode.getWest();
-                        boolean east = currentNode.getEast();
-                        nodeMap.remove(currentKey);
-                        GlobalPenaltyNode newEvent = new GlobalPenaltyNode(x, y, north, east, south, west, nodeMap, assets);
-                        newEvent.addEventListener(penaltyAmount -> gameState.globalPenaltyEvent(penaltyAmount));
-                        nodeMap.put(currentKey, newEvent);
+                        gameState.setTileType(currentIndex, TileType.EVENT);
                     }
                 });
 
@@ -495,10 +467,10 @@ public class GameBoard extends GameScreen {
                 // TODO does nothing?
                 ButtonGroup selectGroup = new ButtonGroup(normalTile, starTile, penaltyTile, eventTile);
                 selectGroup.setMaxCheckCount(1);
-                if (currentNode instanceof NormalNode) selectGroup.setChecked("Normal Tile");
-                else if (currentNode instanceof StarNode) selectGroup.setChecked("Star Tile");
-                else if (currentNode instanceof PenaltyNode) selectGroup.setChecked("Penalty Tile");
-                else if (currentNode instanceof GlobalPenaltyNode) selectGroup.setChecked("Event Tile");
+                if (currentNode.getType() == TileType.NORMAL) selectGroup.setChecked("Normal Tile");
+                else if (currentNode.getType() == TileType.STAR) selectGroup.setChecked("Star Tile");
+                else if (currentNode.getType() == TileType.PENALTY) selectGroup.setChecked("Penalty Tile");
+                else if (currentNode.getType() == TileType.EVENT) selectGroup.setChecked("Event Tile");
 
                 Table dataTable = new Table();
                 dataTable.setFillParent(true);
@@ -771,6 +743,7 @@ public class GameBoard extends GameScreen {
                         gameState.getCurrentPlayer().removeItem(item.getName());
                         ActionTextSystem.addText(item.getName() + " activated", player.getSprite().getX(), player.getSprite().getY() + 50, 0.5f);
                     }
+                    gameState.record("item", player);
                     checkRollButton();
                     updateItemButtons();
                 }
@@ -819,6 +792,7 @@ public class GameBoard extends GameScreen {
         rollButton.setVisible(true);
         rollLabel.setVisible(false);
         gameState.nextTurn();
+        turnEndEvent.notifyObservers(gameState);
 
         // Check for end of game
         if (gameState.isGameOver()) {
@@ -881,4 +855,10 @@ public class GameBoard extends GameScreen {
     public void addSaveGameListener(Observer<String> ob) {
         saveGameEvent.addObserver(ob);
     }
+
+    /**
+     * Assigns an observer to listen for the end of each turn.
+     * @param ob Observer to listen for the end of each turn.
+     */
+    public void addTurnEndListener(Observer<GameState> ob) { turnEndEvent.addObserver(ob); }
 }
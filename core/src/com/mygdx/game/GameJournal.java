@@ -0,0 +1,516 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.mygdx.game.Node.Node;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Append-only journal of the changes made to a game since it was last snapshotted.
+ * <br><br>
+ * Each state-changing action (a roll, a move and the tile it lands on, a trade in the shop, an item being used, the
+ * end of a turn and its market tick) is recorded as an entry holding only the values it changed, by their path in the
+ * saved form. The caller names the parts of the game the action changed: the player who took it and the tiles it
+ * changed. The fields of the game itself and the shop's items, which are only a few values, are recorded with every
+ * action. The end of a turn also records the stocks, every player and every tile changed during the turn, so anything
+ * changed outside an action, such as the outcome of a dialog or an event hitting every player, is picked up by the
+ * turn's entry. Entries are a single line of JSON, so an autosave only has to append a few lines to the journal file
+ * next to the last snapshot.
+ * <br><br>
+ * Recording an action only writes the saved form of the parts it changed, which has to happen before the game changes
+ * again. Parsing them and comparing them with the previous form of the same parts is left to a background thread
+ * shared by every journal, so the game doesn't wait for it. The work of each journal is done in the order it was
+ * recorded.
+ * <br><br>
+ * Loading replays the journal onto the snapshot's saved form before the game is created, so the game logic is never
+ * run again and the result is exactly the state that was recorded. A journal cut short by a crash is replayed up to
+ * its last complete entry.
+ * @see SaveSystem#autosave(GameState)
+ */
+public final class GameJournal {
+
+    /** Extension of journal files, which sit next to the snapshot they apply to. */
+    public static final String EXTENSION = ".journal";
+
+    /** Background thread which works out the entries of every journal. */
+    private static final ExecutorService differ = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "Game journal");
+        thread.setDaemon(true);  // Unwritten entries are lost along with the game
+        return thread;
+    });
+
+    /** Used to write the game's saved form, with the codecs of {@link SaveCodecs}. */
+    private final Json json = new Json();
+    /** Indicates if the game has been snapshotted, so its actions are being recorded. */
+    private boolean started;
+    /** Number of actions recorded since the last snapshot. */
+    private int size;
+    /** Saved form of the game as of the last entry. Only used by the background thread. */
+    private JsonValue base;
+    /** Index of each tile in the saved form's list of tiles, by tile ID. Only used by the background thread. */
+    private final HashMap<String, Integer> tileIndex = new HashMap<>();
+    /** Entries recorded since the last snapshot which haven't been written yet. Only used by the background thread. */
+    private final ArrayList<String> unwritten = new ArrayList<>();
+
+
+    /**
+     * Constructor for an empty journal. Nothing is recorded until the game is first snapshotted.
+     */
+    public GameJournal() {
+        SaveCodecs.register(json);
+    }
+
+    /**
+     * Records an action which has just changed the game. Does nothing if the game hasn't been snapshotted. The entry
+     * is worked out in the background, and left out if the action didn't change anything.
+     *
+     * @param gs Game the action was taken in
+     * @param action Name of the action, kept in the entry to make the journal readable
+     * @param player Player who took the action
+     * @param tiles Tiles the action changed
+     */
+    public void record(GameState gs, String action, Player player, Node... tiles) {
+        if (!started) return;
+
+        ArrayList<Part> parts = new ArrayList<>(tiles.length + 2);
+        parts.add(new Part(null, null, writeFields(gs, false)));
+        int index = gs.getPlayerList().indexOf(player);
+        if (index != -1) parts.add(new Part("playerList/" + index, null, json.toJson(player, Player.class)));
+        for (Node tile : tiles) {
+            parts.add(new Part(null, tile.getID(), json.toJson(tile, Node.class)));
+        }
+        add(action, parts);
+    }
+
+    /**
+     * Records the end of a turn, along with everything which may have changed during the turn without being recorded:
+     * the stocks, every player, and the tiles changed during the turn. Does nothing if the game hasn't been
+     * snapshotted.
+     *
+     * @param gs Game whose turn ended
+     * @param tiles Tiles changed during the turn
+     */
+    public void recordTurn(GameState gs, Collection<Node> tiles) {
+        if (!started) return;
+
+        ArrayList<Part> parts = new ArrayList<>(tiles.size() + gs.getPlayerList().size() + 1);
+        parts.add(new Part(null, null, writeFields(gs, true)));
+        for (int i = 0; i < gs.getPlayerList().size(); i++) {
+            parts.add(new Part("playerList/" + i, null, json.toJson(gs.getPlayerList().get(i), Player.class)));
+        }
+        for (Node tile : tiles) {
+            parts.add(new Part(null, tile.getID(), json.toJson(tile, Node.class)));
+        }
+        add("turn", parts);
+    }
+
+    /**
+     * Writes the saved form of the fields of the game itself, without its players and tiles.
+     *
+     * @param gs Game to write
+     * @param stocks True to include the stocks
+     * @return Saved form of the fields, as an object
+     */
+    private String writeFields(GameState gs, boolean stocks) {
+        StringWriter buffer = new StringWriter();
+        json.setWriter(buffer);
+        json.writeObjectStart();
+        GameState.Codec.writeFields(json, gs, stocks);
+        json.writeObjectEnd();
+        return buffer.toString();
+    }
+
+    /**
+     * Hands the parts of the game changed by an action to the background thread, which works out the entry.
+     *
+     * @param action Name of the action
+     * @param parts Saved form of each part the action changed
+     */
+    private void add(String action, List<Part> parts) {
+        size++;
+        differ.execute(() -> addEntry(action, parts));
+    }
+
+    /**
+     * Adds an entry holding the changes between the last saved form of some parts of the game and their new saved
+     * form. Run on the background thread.
+     *
+     * @param action Name of the action
+     * @param parts Saved form of each part after the action
+     */
+    private void addEntry(String action, List<Part> parts) {
+        JsonReader reader = new JsonReader();
+        StringWriter entry = new StringWriter();
+        try {
+            JsonWriter writer = new JsonWriter(entry);
+            writer.setOutputType(JsonWriter.OutputType.json);
+            ArrayList<String> removed = new ArrayList<>();
+            writer.object().set("action", action).object("changes");
+            int changes = 0;
+            for (Part part : parts) {
+                JsonValue current = reader.parse(part.saved);
+                if (part.tile != null) {
+                    Integer tile = tileIndex.get(part.tile);
+                    if (tile != null) changes += update("tiles/" + tile, current, writer, removed);
+                } else if (part.path != null) {
+                    changes += update(part.path, current, writer, removed);
+                } else {
+                    // Fields of the game itself. Fields left out were not written, rather than removed
+                    for (JsonValue field = current.child, next; field != null; field = next) {
+                        next = field.next;  // The field is moved into the saved form
+                        changes += update(field.name, field, writer, removed);
+                    }
+                }
+            }
+            writer.pop();
+            if (!removed.isEmpty()) {
+                writer.array("removed");
+                for (String path : removed) {
+                    writer.value(path);
+                }
+                writer.pop();
+            }
+            writer.pop();
+
+            if (changes == 0) return;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);  // Not thrown by a StringWriter
+        }
+
+        unwritten.add(entry.toString());
+    }
+
+    /**
+     * Writes the changes between a value of the last saved form and its new value, and puts the new value in the
+     * saved form.
+     *
+     * @param path Names and indices leading to the value, separated by slashes
+     * @param value New value
+     * @param writer Writer of the entry's changes
+     * @param removed Paths of the removed fields
+     * @return Number of changes written
+     * @throws IOException If the changes could not be written
+     */
+    private int update(String path, JsonValue value, JsonWriter writer, List<String> removed) throws IOException {
+        JsonValue old = find(base, path);
+        int changes;
+        if (old == null) {
+            writer.name(path);
+            writeValue(value, writer);
+            changes = 1;
+        } else {
+            changes = diff(old, value, path, writer, removed);
+        }
+
+        apply(base, path, value);
+        return changes;
+    }
+
+    /**
+     * Starts the journal again from a new snapshot of the game.
+     *
+     * @param gs Game to snapshot
+     * @return Saved form of the game, as compact JSON
+     */
+    public String snapshot(GameState gs) {
+        String snapshot = json.toJson(gs);
+        started = true;
+        size = 0;
+        differ.execute(() -> {
+            base = new JsonReader().parse(snapshot);
+            tileIndex.clear();
+            int index = 0;
+            for (JsonValue tile = base.get("tiles").child; tile != null; tile = tile.next, index++) {
+                tileIndex.put(tile.getInt("x") + "," + tile.getInt("y"), index);
+            }
+            unwritten.clear();  // Recorded before the snapshot, so already part of it
+        });
+        return snapshot;
+    }
+
+    /**
+     * Takes the entries recorded since they were last taken, so they can be written. The entries are handed over once
+     * every action recorded so far has been worked out, so the result should be waited for away from the render
+     * thread.
+     *
+     * @return Entries in the order they were recorded, one line of JSON each
+     */
+    public Future<List<String>> drain() {
+        return differ.submit(() -> {
+            List<String> entries = new ArrayList<>(unwritten);
+            unwritten.clear();
+            return entries;
+        });
+    }
+
+    /**
+     * Returns if the game has been snapshotted, so its actions are being recorded.
+     *
+     * @return True if actions are recorded, false if otherwise
+     */
+    public boolean isStarted() { return started; }
+
+    /**
+     * Returns the number of actions recorded since the last snapshot, including those already written and those which
+     * changed nothing.
+     *
+     * @return Journal length
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns the journal file of a save.
+     *
+     * @param save Path of the save file
+     * @return Path of the journal file, next to the save
+     */
+    public static Path fileFor(Path save) {
+        String name = save.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return save.resolveSibling((dot < 0 ? name : name.substring(0, dot)) + EXTENSION);
+    }
+
+    /**
+     * Replays the journal of a save, if it has one, onto the saved form of the game.
+     *
+     * @param save Path of the save file
+     * @param root Saved form of the game read from the save. Changed in place
+     * @return The saved form with every complete entry applied
+     * @throws IOException If the journal exists but could not be read
+     */
+    public static JsonValue replay(Path save, JsonValue root) throws IOException {
+        Path file = fileFor(save);
+        if (!Files.exists(file)) return root;
+
+        return replay(root, Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replays journal entries onto the saved form of a game.
+     *
+     * @param root Saved form of the game. Changed in place
+     * @param entries Journal entries, one line of JSON each
+     * @return The saved form with every complete entry applied
+     */
+    static JsonValue replay(JsonValue root, List<String> entries) {
+        JsonReader reader = new JsonReader();
+        for (String line : entries) {
+            if (line.isEmpty()) continue;
+            JsonValue entry;
+            try {
+                entry = reader.parse(line);
+            } catch (Exception e) {
+                break;  // Cut short while being written; later entries depend on it
+            }
+            for (JsonValue change = entry.get("changes").child, next; change != null; change = next) {
+                next = change.next;  // The change is moved into the saved form
+                apply(root, change.name, change);
+            }
+            JsonValue removed = entry.get("removed");
+            for (JsonValue path = removed == null ? null : removed.child; path != null; path = path.next) {
+                apply(root, path.asString(), null);
+            }
+        }
+
+        return root;
+    }
+
+    /**
+     * Writes a change for each value which differs between two saved forms. Objects are compared field by field and
+     * arrays of the same length element by element; anything else that differs is written whole. Fields left out of
+     * the newer form are listed as removed.
+     *
+     * @param before Value before the action
+     * @param after Value after the action
+     * @param path Names and indices leading to the values, separated by slashes
+     * @param writer Writer of the entry's changes
+     * @param removed Paths of the removed fields
+     * @return Number of changes written
+     * @throws IOException If the changes could not be written
+     */
+    private static int diff(JsonValue before, JsonValue after, String path, JsonWriter writer, List<String> removed)
+            throws IOException {
+        int changes = 0;
+        if (before.isObject() && after.isObject()) {
+            for (JsonValue field = after.child; field != null; field = field.next) {
+                JsonValue old = before.get(field.name);
+                if (old == null) {
+                    writer.name(join(path, field.name));
+                    writeValue(field, writer);
+                    changes++;
+                } else {
+                    changes += diff(old, field, join(path, field.name), writer, removed);
+                }
+            }
+            for (JsonValue field = before.child; field != null; field = field.next) {
+                if (after.has(field.name)) continue;
+                removed.add(join(path, field.name));
+                changes++;
+            }
+        } else if (before.isArray() && after.isArray() && before.size == after.size) {
+            int i = 0;
+            for (JsonValue a = before.child, b = after.child; b != null; a = a.next, b = b.next, i++) {
+                changes += diff(a, b, join(path, Integer.toString(i)), writer, removed);
+            }
+        } else if (!same(before, after)) {
+            writer.name(path);
+            writeValue(after, writer);
+            changes++;
+        }
+
+        return changes;
+    }
+
+    /**
+     * Adds a step to a path.
+     */
+    private static String join(String path, String step) {
+        return path.isEmpty() ? step : path + "/" + step;
+    }
+
+    /**
+     * Checks if two values are the same, comparing containers by their contents.
+     */
+    private static boolean same(JsonValue a, JsonValue b) {
+        if (a.type() != b.type()) return false;
+        if (a.isObject() || a.isArray()) {
+            if (a.size != b.size) return false;
+            for (JsonValue x = a.child, y = b.child; x != null; x = x.next, y = y.next) {
+                if ((a.isObject() && !x.name.equals(y.name)) || !same(x, y)) return false;
+            }
+            return true;
+        }
+
+        return a.isNull() || a.asString().equals(b.asString());
+    }
+
+    /**
+     * Writes a value exactly as it was read. Numbers keep their original text, so values such as student names made
+     * of digits read back the same way.
+     */
+    private static void writeValue(JsonValue value, JsonWriter writer) throws IOException {
+        switch (value.type()) {
+            case object:
+                writer.object();
+                for (JsonValue field = value.child; field != null; field = field.next) {
+                    writer.name(field.name);
+                    writeValue(field, writer);
+                }
+                writer.pop();
+                break;
+            case array:
+                writer.array();
+                for (JsonValue element = value.child; element != null; element = element.next) {
+                    writeValue(element, writer);
+                }
+                writer.pop();
+                break;
+            case doubleValue:
+            case longValue:
+                writer.json(value.asString());
+                break;
+            case booleanValue:
+                writer.value(value.asBoolean());
+                break;
+            case stringValue:
+                writer.value(value.asString());
+                break;
+            default:
+                writer.value(null);
+        }
+    }
+
+    /**
+     * Finds a single value of a saved form.
+     *
+     * @param root Saved form of the game
+     * @param path Names and indices leading to the value, separated by slashes
+     * @return The value, or null if it doesn't exist
+     */
+    private static JsonValue find(JsonValue root, String path) {
+        JsonValue value = root;
+        for (String step : path.split("/")) {
+            if (value == null) return null;
+            value = value.isArray() ? value.get(Integer.parseInt(step)) : value.get(step);
+        }
+
+        return value;
+    }
+
+    /**
+     * Sets or removes a single value of a saved form.
+     *
+     * @param root Saved form of the game
+     * @param path Names and indices leading to the value, separated by slashes
+     * @param value New value, or null to remove the value
+     * @throws IllegalArgumentException If the path leads through a value which doesn't exist
+     */
+    private static void apply(JsonValue root, String path, JsonValue value) throws IllegalArgumentException {
+        String[] steps = path.split("/");
+        JsonValue parent = root;
+        for (int i = 0; i < steps.length - 1 && parent != null; i++) {
+            parent = parent.isArray() ? parent.get(Integer.parseInt(steps[i])) : parent.get(steps[i]);
+        }
+        if (parent == null) throw new IllegalArgumentException("Journal change to a missing value: " + path);
+
+        String step = steps[steps.length - 1];
+        JsonValue old = parent.isArray() ? parent.get(Integer.parseInt(step)) : parent.get(step);
+        if (value == null) {
+            if (old != null) parent.remove(step);
+            return;
+        }
+
+        value.parent = parent;
+        value.name = parent.isObject() ? step : null;
+        if (old == null) {
+            if (parent.isArray()) throw new IllegalArgumentException("Journal change to a missing value: " + path);
+            parent.addChild(step, value);
+            return;
+        }
+
+        value.prev = old.prev;
+        value.next = old.next;
+        if (old.prev == null) parent.child = value; else old.prev.next = value;
+        if (old.next != null) old.next.prev = value;
+    }
+
+
+    /**
+     * Saved form of a part of the game changed by an action.
+     */
+    private static final class Part {
+        /** Path of the part in the game's saved form, or null for a tile or the fields of the game itself. */
+        private final String path;
+        /** ID of the tile, or null if the part is not a tile. */
+        private final String tile;
+        /** Saved form of the part, as compact JSON. */
+        private final String saved;
+
+        /**
+         * Constructor for a changed part of the game.
+         *
+         * @param path Path of the part in the game's saved form, or null for a tile or the fields of the game itself
+         * @param tile ID of the tile, or null if the part is not a tile
+         * @param saved Saved form of the part
+         */
+        Part(String path, String tile, String saved) {
+            this.path = path;
+            this.tile = tile;
+            this.saved = saved;
+        }
+    }
+}
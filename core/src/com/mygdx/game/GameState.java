@@ -4,13 +4,23 @@ package com.mygdx.game;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.GameModel;
+import com.mygdx.game.Engine.GameRandom;
+import com.mygdx.game.Engine.Market;
+import com.mygdx.game.Engine.PlayerModel;
+import com.mygdx.game.Engine.RandomStream;
+import com.mygdx.game.Engine.TileIndex;
+import com.mygdx.game.Engine.TileType;
 import com.mygdx.game.Items.*;
 import com.mygdx.game.Items.Bike;
 import com.mygdx.game.Items.FreezeItem;
 import com.mygdx.game.Items.MultiDice;
 import com.mygdx.game.Items.Shield;
 import com.mygdx.game.Node.*;
-import com.mygdx.game.Node.StarNode;
 import java.io.Serializable;
 import java.util.*;
 
@@ -20,55 +30,50 @@ import java.util.*;
  * <br><br>
  * Including the difficulty, player list, which player's turn it currently is, the round number, the map of game board
  * tiles, number of stars, and the available stocks. Can be saved and loaded. Used to update student profiles at the
- * end of a game.
+ * end of a game. The turn, round and tile rules are shared with the headless engine through {@link GameModel}.
  * @see SaveSystem
  *
  * @author Franck Limtung (flimtung)
  * @author Kevin Chen (kchen546)
  * @author Earl Castillo (ecastil3)
  */
-public class GameState implements Serializable {
+public class GameState extends GameModel implements Serializable {
 
     /** Unique ID used to differentiate game state save files. Used to cleanup save files after termination of a game. */
     private int id;
     /** List of players in the game. */
     private List<Player> playerList;
-    /** Player whose turn it is at a given moment. */
-    private int currPlayerTurn;
-    /** Current turn number. */
-    private int turnNumber;
     /** All available stocks. */
     private Stock [] stocks;
     /** All items. */
     private Array<Item> items;
 
-    /** Current round number. */
-    private int roundNumber;
     /** Represents the gameboard map. */
     private HashMap<String, Node> nodeMap;
+    /** Compiled graph of the links between gameboard tiles. Rebuilt from the node map after loading. */
+    transient private BoardGraph boardGraph;
+    /** Gameboard tiles, by index in the board graph. Kept in sync with the node map. */
+    transient private Node[] tiles;
+    /** Index from tile type to the gameboard tiles of that type. Kept in sync with the node map. */
+    transient private TileIndex tileTypes;
+    /** View of the node map handed out to other classes. Routes changes through replaceNode. */
+    transient private NodeMapView nodeView;
     /** Used to load assets. */
     transient private AssetManager assetMan;
-    /** Maximum number of stars allowed on the gameboard at any given time. */
-    private final int maxStar = 3;
-    /** Minimum number of stars required on the gameboard at any given time. */
-    private final int minStar = 1;
     /** Current number of stars on the gameboard. */
     private int currentStar;
-    /** Maximum number of penalty tiles allowed on the gameboard at any given time. */
-    private final int maxPen = 3;
-    /** Minimum number of penalty tiles required on the gameboard at any given time. */
-    private final int minPen = 1;
     /** Current number of penalty nodes required on the gameboard at any given time. */
     private int currentPen;
-    /**
-     * Indicates if the game has ended. <br><br>
-     * Set to true when the number of rounds exceeds the maximum number of rounds. Checked by Gameboard
-     */
-    private boolean gameOver = false;
     /** Indicates if difficulty level is set to hard. Hard mode changes the game mechanics to be less forgiving. */
     private boolean hardMode = false;
     /** Indicates if debug mode is currently enabled. */
     transient private boolean debugMode = false;
+    /** Used to generate all random events in the game. Saved with the game so it carries on the same way. */
+    private GameRandom random;
+    /** Changes made to the game since it was last autosaved. */
+    transient private GameJournal journal = new GameJournal();
+    /** IDs of the tiles changed since the last turn was recorded in the journal. */
+    transient private LinkedHashSet<String> changedTiles = new LinkedHashSet<>();
 
 
     /**
@@ -81,161 +86,100 @@ public class GameState implements Serializable {
      * @throws IllegalArgumentException If the profile list is null or empty
      */
     public GameState(List<PlayerProfile> profileList, AssetManager assets, int id, boolean hardMode) throws IllegalArgumentException {
+        this(profileList, assets, id, hardMode, RandomStream.newSeed());
+    }
+
+    /**
+     * Constructor initializes a new game state whose random events are generated from the given seed. Games with the
+     * same seed and the same choices by the players always turn out the same way.
+     *
+     * @param profileList List of students participating in the game
+     * @param assets AssetManager used to load assets
+     * @param id Unique ID of the gameState. Used to cleanup saves after termination of a game
+     * @param hardMode controls if hard mode is enabled
+     * @param seed Seed used to generate the game's random events
+     * @throws IllegalArgumentException If the profile list is null or empty
+     */
+    public GameState(List<PlayerProfile> profileList, AssetManager assets, int id, boolean hardMode, long seed) throws IllegalArgumentException {
+        this(profileList, assets, id, hardMode, seed, BoardLayout.defaultLayout());
+    }
+
+    /**
+     * Constructor initializes a new game state played on the given board. Boards can be loaded from board files with
+     * {@link com.mygdx.game.Engine.BoardFormat}. The board's compiled graph is shared, so only the tiles themselves are
+     * created for each game.
+     *
+     * @param profileList List of students participating in the game
+     * @param assets AssetManager used to load assets
+     * @param id Unique ID of the gameState. Used to cleanup saves after termination of a game
+     * @param hardMode controls if hard mode is enabled
+     * @param seed Seed used to generate the game's random events
+     * @param layout Board to play on
+     * @throws IllegalArgumentException If the profile list is null or empty, or the board has too few plain tiles for
+     *                                  every player to start on
+     */
+    public GameState(List<PlayerProfile> profileList, AssetManager assets, int id, boolean hardMode, long seed,
+                     BoardLayout layout) throws IllegalArgumentException {
         assetMan = assets;
         this.hardMode = hardMode;
         this.id = id;
+        this.random = new GameRandom(seed);
         this.items = new Array<Item>();
 
         if (profileList == null || profileList.isEmpty()) {
             throw new IllegalArgumentException("Player list cannot be empty");
         }
         this.playerList = new ArrayList<Player>();
-        currPlayerTurn = 0;
-        turnNumber = 0;
-        roundNumber = 1;
 
         // Add items
         Config config = Config.getInstance();
         Skin skin = assets.get(config.getUiPath(), Skin.class);
         // 25% CHANCE PER ADDITIONAL ITEM
-        for (int i = 0; i == 0; i = Utility.getRandom(0, 3)) {
+        for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
             items.add(new Bike(skin));
         }
-        for (int i = 0; i == 0; i = Utility.getRandom(0, 3)) {
+        for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
             items.add(new MultiDice(skin));
         }
-        for (int i = 0; i == 0; i = Utility.getRandom(0, 3)) {
+        for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
             items.add(new Shield(skin));
         }
-        for (int i = 0; i == 0; i = Utility.getRandom(0, 3)) {
+        for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
             items.add(new FreezeItem(skin));
         }
-        for (int i = 0; i == 0; i = Utility.getRandom(0, 3)) {
+        for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
             items.add(new Book(skin));
         }
 
         for (PlayerProfile playerProfile : profileList) {
             Player player = new Player(playerProfile, assets);
+            player.setDice(random.dice().split());
             // Each player gets a different color
             player.getSprite().setColor(Utility.getRandom(0, 255) / 255f, Utility.getRandom(0, 255) / 255f, Utility.getRandom(0, 255) / 255f, 1);
             this.playerList.add(player);
         }
-        //Matrix representing the map, easier to visualize and configure
-        int map[][] = { {1,1,2,1,1,3,1,1,0,0},
-                        {5,0,0,0,0,0,0,1,0,0},
-                        {1,0,1,1,1,5,1,1,1,2},
-                        {1,0,1,0,1,0,0,1,0,1},
-                        {1,1,1,0,1,0,0,1,0,1},
-                        {0,0,1,0,1,0,0,3,0,1},
-                        {0,0,4,1,1,0,0,1,0,5},
-                        {0,0,0,0,1,1,1,1,1,1}};
-        /*
-        0 = wall
-        1 = normal
-        2 = star
-        3 = penalty
-        4 = event
-        */
-        //Matrix representing node-node direction, easier to visualize and configure
-        int direction[][]={ {3,4,4,4,4,4,4,4,0,0},
-                            {3,0,0,0,0,0,0,1,0,0},
-                            {3,0,2,2,3,4,4,14,4,4},
-                            {3,0,1,0,3,0,0,1,0,1},
-                            {2,2,13,0,3,0,0,1,0,1},
-                            {0,0,3,0,3,0,0,1,0,1},
-                            {0,0,2,2,3,0,0,1,0,1},
-                            {0,0,0,0,2,2,2,12,2,1}};
-        /*
-        1 = N
-        2 = E
-        3 = S
-        4 = W
-        12 = N/E
-        13 = N/S
-        14 = N/W
-        23 = E/S
-        24 = E/W
-        34 = S/W
-        */
-        nodeMap = new HashMap<String, Node>();
-        for(int i = 0; i < map.length; i++) {
-            for (int j = 0; j < map[0].length; j++) {
-                boolean north = false;
-                boolean east = false;
-                boolean south = false;
-                boolean west = false;
-                String ID = String.valueOf(j) + "," + String.valueOf(map.length - i);
-                switch (direction[i][j]) {
-                    case 1:
-                        north = true;
-                        break;
-                    case 2:
-                        east = true;
-                        break;
-                    case 3:
-                        south = true;
-                        break;
-                    case 4:
-                        west = true;
-                        break;
-                    case 12:
-                        north = true;
-                        east = true;
-                        break;
-                    case 13:
-                        north = true;
-                        south = true;
-                        break;
-                    case 14:
-                        north = true;
-                        west = true;
-                        break;
-                    case 23:
-                        east = true;
-                        south = true;
-                        break;
-                    case 24:
-                        east = true;
-                        west = true;
-                        break;
-                    case 34:
-                        west = true;
-                        south = true;
-                        break;
-                    default:
-                        break;
-                }
-                switch (map[i][j]) {
-                    case 1:
-                        nodeMap.put(ID, new NormalNode(j, map.length - i, north, east, south, west, nodeMap, assets));
-                        break;
-                    case 2:
-                        nodeMap.put(ID, new StarNode(j, map.length - i, north, east, south, west, nodeMap, assets));
-                        break;
-                    case 3:
-                        nodeMap.put(ID, new PenaltyNode(j, map.length - i, north, east, south, west, nodeMap, assets));
-                        break;
-                    case 4:
-                        createGlobalPenaltyNode(j, map.length - i, north, east, south, west);
-                        break;
-                    case 5:
-                        nodeMap.put(ID, new AgilityTestNode(j, map.length - i, north, east, south, west, nodeMap, assets));
-                        break;
-                    default:
-                        break;
-                }
-            }
+        // Build the game board from the shared layout. Tiles are created in layout order, which is graph order
+        BoardGraph graph = layout.getGraph();
+        Node[] boardTiles = new Node[layout.size()];
+        nodeMap = new HashMap<String, Node>(layout.size() * 2);
+        for (int tile = 0; tile < layout.size(); tile++) {
+            boardTiles[tile] = new Node(layout, tile, assets);
+            nodeMap.put(boardTiles[tile].getID(), boardTiles[tile]);
         }
 
+        attachBoard(graph, boardTiles);
+
         // Set starting nodes - player cannot start on a special node, only a plain node
         // They also can't start on the same node as another player
         ArrayList<String> nodeIDs = new ArrayList<>();
-        for (Node node : nodeMap.values()) {
-            if (node.getClass().equals(NormalNode.class)) nodeIDs.add(node.getID());
+        for (int tile : tileTypes.toArray(TileType.NORMAL)) {
+            nodeIDs.add(boardGraph.getID(tile));
         }
-        Utility.shuffle(nodeIDs);
+        random.board().shuffle(nodeIDs);
 
-        assert(nodeIDs.size() >= playerList.size());
+        if (nodeIDs.size() < playerList.size()) {
+            throw new IllegalArgumentException("Board has too few plain tiles for " + playerList.size() + " players");
+        }
         for (Player player : playerList) {
             player.setCurrentTile(nodeIDs.get(nodeIDs.size() - 1), nodeMap);
             nodeIDs.remove(nodeIDs.size() - 1);
@@ -257,23 +201,42 @@ public class GameState implements Serializable {
     private GameState() {}
 
     /**
-     * Re-initialize objects owned by the GameState which couldn't be fully serialized.
+     * Re-initialize the model objects owned by the GameState which couldn't be fully serialized: the board graph, and
+     * each player's dice and position. Uses no assets, so tools which only read the game, such as rebuilding the save
+     * index, can load it without an AssetManager. Does nothing if the GameState has already been restored.
+     */
+    public void restore() {
+        if (boardGraph != null) return;
+
+        if (random == null) random = new GameRandom(RandomStream.newSeed());  // Saved before games were seeded
+        for (Map.Entry<String, Node> entry : nodeMap.entrySet()) {
+            entry.setValue(LegacyNodes.upgrade(entry.getValue()));  // Saved before tiles were a single class
+        }
+        compileBoard();
+
+        for (Player player : playerList) {
+            if (player.getDice() == null) player.setDice(random.dice().split());
+            player.restoreBoard(nodeMap);
+        }
+    }
+
+    /**
+     * Re-initialize objects owned by the GameState which couldn't be fully serialized. Sprites and dialogs are created
+     * the first time they are drawn or used, so this only hands out the assets they are created from.
      *
      * @param assets an AssetManager loaded with all the assets required by the GameState
      */
     public void loadTextures(AssetManager assets) {
+        restore();
         assetMan = assets;
         for (Node node : nodeMap.values()) {
-            // Restore Node Observers
-            if (node instanceof GlobalPenaltyNode) {
-                ((GlobalPenaltyNode)node).addEventListener(penaltyAmount -> globalPenaltyEvent(penaltyAmount));
-            }
             node.loadTextures(assets);
         }
 
         for (Player player : playerList) {
             player.loadTextures(assets);
         }
+        getCurrentPlayer().restoreTurn(nodeMap);
 
         for (Item item : items) {
             item.loadTextures(assets.get(Config.getInstance().getUiPath()));
@@ -282,96 +245,42 @@ public class GameState implements Serializable {
 
 
     /**
-     * Moves to the next round in the game.
-     * <br><br>
-     * Each turn, dividends are paid out and stocks are updated.
-     * Every 2 rounds, each player's level is increased.
-     * Every 5 rounds, new items are added to the game board.
-     */
-    public void nextRound(){
-        if(turnNumber % playerList.size() == 0 && turnNumber != 0){
-            roundNumber++;
-
-            //Paying out dividend for safe and medium risk stocks for all players
-            for (Player p : getPlayerList()) {
-                payoutDividend(p, 0);
-                payoutDividend(p, 1);
-                payoutDividend(p, 3);
-                payoutDividend(p, 4);
-            }
-
-            //Updating Safe and Medium Risk Stocks
-            stocks[0].updatePrice();
-            stocks[1].updatePrice();
-            stocks[3].updatePrice();
-            stocks[4].updatePrice();
-
-            //Checking for payout
+     * End the current Player's turn, and start the next Player's turn. Records the turn in the game's journal, along
+     * with every player and every tile changed during the turn.
+     */
+    @Override
+    public void nextTurn() {
+        super.nextTurn();
 
-            // Check for game end
-            if (roundNumber > Config.getInstance().getMaxRounds()) {
-                for (Player p : getPlayerList()) {
-                    p.calculateScore(); // Calculate the score for each player
-                }
-                gameOver = true;
-            }
-        }
-        if(roundNumber > 0 && roundNumber % 2 == 0){ //Play level increases every other round
-            for (Player p : getPlayerList()){
-                p.levelUp();
-            }
-        }
-        // Every 5 rounds put random items in the shop
-        if(roundNumber > 0 && roundNumber % 5 == 0){
-            items.add(randItem());
-            items.add(randItem());
-            items.add(randItem());
-            // Less items
-            //items.add(randItem());
-            //items.add(randItem());
-        }
-        if(roundNumber > 0 && roundNumber % 7 == 0){
-            checkPenalty(nodeMap);
+        ArrayList<Node> changed = new ArrayList<>(changedTiles.size());
+        for (String id : changedTiles) {
+            changed.add(nodeMap.get(id));
         }
-        //Updating safe-medium stocks / dividends
+        journal.recordTurn(this, changed);
+        changedTiles.clear();
     }
 
-
-    /**
-     * End the current Player's turn, and start the next Player's turn
-     */
-    public void nextTurn() {
-
+    @Override
+    protected void endTurn() {
         // Wipe Player's calculated turn values
         getCurrentPlayer().endTurn(nodeMap);
-        removeStar(nodeMap);
-        checkStar(nodeMap);
-        currPlayerTurn = (currPlayerTurn + 1) % playerList.size();
-        if (getCurrentPlayer().isFrozen()) {
-            getCurrentPlayer().setFrozen(false);
-            // Skip turn
-            currPlayerTurn = (currPlayerTurn + 1) % playerList.size();
-            turnNumber++;
-        }
-        getCurrentPlayer().startTurn(nodeMap);
-        turnNumber++;
-
-        //Paying out stocks that payout dividends every turn
-        this.payoutDividend(getCurrentPlayer(), 2);
-        this.payoutDividend(getCurrentPlayer(), 2);
-
-        //Updating high risk stocks
-        this.stocks[2].updatePrice();
-        this.stocks[5].updatePrice();
+    }
 
+    @Override
+    protected void startTurn() {
+        getCurrentPlayer().startTurn(nodeMap);
+    }
 
-        nextRound(); // Check current round;
+    @Override
+    protected void restockItem() {
+        items.add(randItem());
     }
 
     /**
      * Returns if hard mode is enabled.
      * @return True if hard mode is enabled, false if otherwise
      */
+    @Override
     public boolean getHardMode(){
         return this.hardMode;
     }
@@ -389,197 +298,141 @@ public class GameState implements Serializable {
      */
     public List<Player> getPlayerList() { return playerList; }
 
+    @Override
+    public int getPlayerCount() { return playerList.size(); }
+
+    @Override
+    protected PlayerModel getPlayerModel(int player) { return playerList.get(player); }
+
+    @Override
+    protected int getPosition(int player) { return playerList.get(player).getCurrentIndex(); }
+
     /**
-     * Returns the map of gameboard tiles.
+     * Returns the map of gameboard tiles. Putting a node into the map replaces the tile through
+     * {@link #replaceNode(Node)}, so the board graph and tile type index stay in sync. Tiles cannot be removed.
      * @return Map of nodes
      */
-    public Map<String, Node> getNodeMap() { return nodeMap; }
+    public Map<String, Node> getNodeMap() {
+        if (nodeView == null) nodeView = new NodeMapView();
+        return nodeView;
+    }
 
     /**
-     * Returns the current round number.
-     * @return Current round number.
+     * Returns the compiled graph of the links between gameboard tiles.
+     * @return Graph of the gameboard
      */
-    public int getRound() { return roundNumber; }
+    public BoardGraph getBoardGraph() { return boardGraph; }
 
     /**
-     * Sets the current round number.
-     * @param round Round number.
+     * Returns the gameboard tile with the given index in the board graph.
+     * @param index Index of the tile
+     * @return Node at the index
      */
-    public void setRound(int round) {
-        this.roundNumber = round;
-    }
+    public Node getTile(int index) { return tiles[index]; }
 
     /**
-     * Returns the current turn.
-     * @return Current turn number.
+     * Changes the type of a gameboard tile, keeping the tile type index in sync. The tile keeps its Node.
+     *
+     * @param index Index of the tile in the board graph
+     * @param type New type of the tile
      */
-    public int getTurn() { return turnNumber; }
+    @Override
+    public void setTileType(int index, TileType type) {
+        tiles[index].setType(type);
+        tileTypes.setType(index, type);
+        changedTiles.add(tiles[index].getID());
+        currentStar = tileTypes.count(TileType.STAR);
+        currentPen = tileTypes.count(TileType.PENALTY);
+    }
 
-    /**
-     * Global penalty event for event node.
-     * <br><br>
-     * In easy mode, the penalty reduces all player's money by a given amount, unless the player currently has a negative
-     * amount of money. In hard mode, it reduces all player's stars by 1. If the player does not have a star, it reduces
-     * their money by the given amount. If the player has a shield, they are protected from the penalty's effects.
-     * @param penaltyAmount Amount to reduce each player's money.
-     */
-    public void globalPenaltyEvent(int penaltyAmount){
-        //needs to be put here due to activation order
-        for (Player p : getPlayerList()){
-            if (p.useShield()) continue;  // Player has shield -- consume shield to prevent penalty
-
-            if(hardMode){ // Hard mode enabled
-
-                if(p.getStars() > 0){  // Player has stars
-                    p.setStars(p.getStars() - 1);  // Deduct one star
-                }else{  // Player does not have stars
-                    p.setMoney(p.getMoney() - penaltyAmount);  // Reduce money by penalty amount
-                }
-            }
-            else {  // Easy mode
+    @Override
+    protected boolean isStarTaken(int index) { return !tiles[index].hasStar; }
 
-                // Check that reducing the player's money would not result in a negative value
-                if(p.getMoney() - penaltyAmount >= 0 ){
-                    p.setMoney(p.getMoney() - penaltyAmount);  // Reduce money by penalty amount
-                }
+    @Override
+    protected TileIndex getTileIndex() { return tileTypes; }
 
-            }
+    /**
+     * Replaces a gameboard tile with a new node at the same position, keeping the node map and the board graph's
+     * tile array in sync. The node must keep the links of the tile it replaces.
+     *
+     * @param node Node to place on the board
+     * @throws IllegalArgumentException If there is no tile at the node's position
+     */
+    public void replaceNode(Node node) throws IllegalArgumentException {
+        int index = boardGraph.indexOf(node.getID());
+        if (index == -1) {
+            throw new IllegalArgumentException("No tile at " + node.getID());
         }
+
+        node.addEventListener(penaltyAmount -> globalPenaltyEvent(penaltyAmount));
+        nodeMap.put(node.getID(), node);
+        tiles[index] = node;
+        tileTypes.setType(index, node.getType());
+        changedTiles.add(node.getID());
     }
 
+    /**
+     * Compiles the node map into the board graph, tile array and tile type index, and hands the graph to every player.
+     * Used after loading, when only the node map has been saved.
+     */
+    private void compileBoard() {
+        BoardGraph graph = Node.compileGraph(nodeMap.values());
+        Node[] boardTiles = new Node[graph.size()];
+        for (int i = 0; i < boardTiles.length; i++) {
+            boardTiles[i] = nodeMap.get(graph.getID(i));
+        }
 
+        attachBoard(graph, boardTiles);
+    }
 
     /**
-     * Adds a star to the game board. Run when there are fewer stars on the game board than the per turn limit.
-     * Generates a random number between mininum and maximum allowed number of stars.
-     * @param nodeMap
+     * Sets up the transient board state from a compiled graph and the node of each of its tiles. Also listens for
+     * global penalty events on every tile, as any tile can become an event tile.
+     *
+     * @param graph Compiled graph of the board
+     * @param boardTiles Node of each tile, by index in the graph
      */
-    public void checkStar(Map<String, Node> nodeMap){
-        //should only run when map has
-        //not getting the right current node
-        currentStar = 0;
-        for (Map.Entry<String, Node> node : nodeMap.entrySet()) {
-            if (node.getValue() instanceof StarNode) {
-                currentStar++;
-            }
+    private void attachBoard(BoardGraph graph, Node[] boardTiles) {
+        boardGraph = graph;
+        tiles = boardTiles;
+        TileType[] types = new TileType[tiles.length];
+        for (int i = 0; i < tiles.length; i++) {
+            types[i] = tiles[i].getType();
+            tiles[i].addEventListener(penaltyAmount -> globalPenaltyEvent(penaltyAmount));
         }
+        tileTypes = new TileIndex(types);
 
-        int starLimit = Utility.getRandom(minStar, maxStar); //setting random number of max star every turn
-        if(currentStar < starLimit){ //only add new star if currentStar is less than maxStar
-            List<Node> normalNodeList = new ArrayList<Node>();
-            for (Map.Entry<String, Node> node : nodeMap.entrySet()) {
-                Node node1 = node.getValue();
-                if (node1 instanceof NormalNode) {
-                    normalNodeList.add(node1);
-                    Utility.shuffle(normalNodeList);
-                }
-            }
-            Node randNode = normalNodeList.get(Utility.getRandom(0, normalNodeList.size() - 1));
-            String randKey = randNode.getID();
-            int x = randNode.getMapX();
-            int y = randNode.getMapY();
-            boolean north = randNode.getNorth();
-            boolean south = randNode.getSouth();
-            boolean west = randNode.getWest();
-            boolean east = randNode.getEast();
-            StarNode newStar = new StarNode(x, y, north, east, south, west, nodeMap, assetMan);
-            newStar.hasStar = true;
-            newStar.checkStar();
-            nodeMap.remove(randKey);
-            nodeMap.put(randKey, newStar);
+        for (Player player : playerList) {
+            player.setBoard(boardGraph);
         }
     }
 
     /**
-     * Convert a node which previously had a star back to a normal node.
+     * Adds a star to the game board. Run when there are fewer stars on the game board than the per turn limit.
+     * Generates a random number between mininum and maximum allowed number of stars.
      * @param nodeMap The map of nodes on the board
+     * @see GameModel#checkStar()
      */
-    public void removeStar(Map<String, Node> nodeMap){
-        Node currentNode = nodeMap.get(getCurrentPlayer().getCurrentTile());
-        if(currentNode instanceof StarNode){
-            if(!((StarNode) currentNode).hasStar){
-                String currentKey = currentNode.getID();
-                int x = currentNode.getMapX();
-                int y = currentNode.getMapY();
-                boolean north = currentNode.getNorth();
-                boolean south = currentNode.getSouth();
-                boolean west = currentNode.getWest();
-                boolean east = currentNode.getEast();
-                nodeMap.remove(currentKey);
-                NormalNode newNormal = new NormalNode(x, y, north, east, south, west, nodeMap, assetMan);
-                nodeMap.put(currentKey, newNormal);
-            }
-        }
+    public void checkStar(Map<String, Node> nodeMap){
+        checkStar();
     }
 
     /**
-     * Creates a penalty node
-     * @param x Penalty node's x-coordinate
-     * @param y Penalty node's y-coordinate
-     * @param north North
-     * @param east East
-     * @param south South
-     * @param west West
+     * Convert a node which previously had a star back to a normal node.
+     * @param nodeMap The map of nodes on the board
+     * @see GameModel#removeStar()
      */
-    private void createGlobalPenaltyNode(int x, int y, boolean north, boolean east, boolean south, boolean west) {
-        GlobalPenaltyNode globalPenaltyNode = new GlobalPenaltyNode(x, y, north, east, south, west, nodeMap, assetMan);
-        globalPenaltyNode.addEventListener(penaltyValue -> globalPenaltyEvent(penaltyValue));
-        nodeMap.put(x + "," + y, globalPenaltyNode);
+    public void removeStar(Map<String, Node> nodeMap){
+        removeStar();
     }
 
     /**
      * Check number of penalty nodes on the board.
      * @param nodeMap Map of nodes to use.
+     * @see GameModel#checkPenalty()
      */
     public void checkPenalty(Map<String, Node> nodeMap){
-        currentPen = 0;
-        for (Map.Entry<String, Node> node : nodeMap.entrySet()) {
-            if (node.getValue() instanceof PenaltyNode) {
-                currentPen++;
-            }
-        }
-        if(currentPen < Utility.getRandom(minPen, maxPen)){
-            List<Node> normalNodeList = new ArrayList<Node>();
-            for (Map.Entry<String, Node> node : nodeMap.entrySet()) {
-                Node node1 = node.getValue();
-                if (node1 instanceof NormalNode) {
-                    normalNodeList.add(node1);
-                    Utility.shuffle(normalNodeList);
-                }
-            }
-            Node randNode = normalNodeList.get(Utility.getRandom(0, normalNodeList.size() - 1));
-            String randKey = randNode.getID();
-            int x = randNode.getMapX();
-            int y = randNode.getMapY();
-            boolean north = randNode.getNorth();
-            boolean south = randNode.getSouth();
-            boolean west = randNode.getWest();
-            boolean east = randNode.getEast();
-            PenaltyNode newPen = new PenaltyNode(x, y, north, east, south, west, nodeMap, assetMan);
-            nodeMap.remove(randKey);
-            nodeMap.put(randKey, newPen);
-
-        } else if (currentPen > minPen) {
-            List<Node> penaltyNodeList = new ArrayList<Node>();
-            for (Map.Entry<String, Node> node : nodeMap.entrySet()) {
-                Node node1 = node.getValue();
-                if (node1 instanceof PenaltyNode) {
-                    penaltyNodeList.add(node1);
-                    Utility.shuffle(penaltyNodeList);
-                }
-            }
-            Node randNode = penaltyNodeList.get(Utility.getRandom(0, penaltyNodeList.size() - 1));
-            String randKey = randNode.getID();
-            int x = randNode.getMapX();
-            int y = randNode.getMapY();
-            boolean north = randNode.getNorth();
-            boolean south = randNode.getSouth();
-            boolean west = randNode.getWest();
-            boolean east = randNode.getEast();
-            NormalNode newNorm = new NormalNode(x, y, north, east, south, west, nodeMap, assetMan);
-            nodeMap.remove(randKey);
-            nodeMap.put(randKey, newNorm);
-        }
+        checkPenalty();
     }
 
     /**
@@ -588,147 +441,25 @@ public class GameState implements Serializable {
      */
     public Stock [] getAllStocks () {return this.stocks;}
 
+    @Override
+    protected Stock[] getStocks() { return this.stocks; }
+
     /**
-     * Initializes all 6 stock options
-     * 1.) Safe Growth Stock
-     * 2.) Medium Growth Stock
-     * 3.) High Risk Growth Stock
-     * 4.) Safe Dividend Stock
-     * 5.) Medium Dividend Stock
-     * 6.) High Risk Dividend Stock
+     * Initializes all 6 stock options.
+     * @see Market#createStocks()
      */
     private void iniStocks () {
-        this.stocks = new Stock[6];
-
-        //Temp variables
-        String tickerName;
-        String description;
-        int price;
-        double divPay;
-        double minG;
-        double minD;
-        double maxG;
-        double maxD;
-        int risk;
-        int divRisk;
-
-        //SAFE GROWTH STOCK
-        tickerName = "SGS";
-        description = "Safe Growth Stock for the risk adverse with low risk low rewards and low dividend pay\n" +
-                "                 \n" +
-                "KEY INFROMATION: \n" +
-                "Growth: 0.5% to 2% every ROUND \n" +
-                "Decline: 0.1% to 1% every ROUND\n" +
-                "Risk: 20% Chance to Decline\n" +
-                "Dividend Pay: Every 5 Rounds\n" +
-                "Dividend change: No Change. Constant 2%";
-        price = 100;
-        divPay = 2;
-        minG = 0.5;
-        maxG = 2;
-        minD = 0.1;
-        maxD = 1;
-        risk = 2;
-        divRisk = 0;
-        stocks[0] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
-
-        //MEDIUM RISK GROWTH STOCK
-        tickerName ="MGS";
-        description = "A Stock with good growth and slightly higher risk. Dividends are payed more frequently.\n" +
-                "                 \n" +
-                "KEY INFORMATION: \n" +
-                "Growth: 2% to 10% every ROUND\n" +
-                "Decline: 1% to 3% every ROUND\n" +
-                "Risk: 40% Chance to decline\n" +
-                "Dividend Pay: Every Round\n" +
-                "Dividend change: No Change. Constant 2%";
-        price = 75;
-        minG = 2;
-        maxG = 10;
-        minD = 1;
-        maxD = 3;
-        risk = 4;
-        stocks[1] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
-
-        //HIGH RISK GROWTH STOCK "Penny Stock"
-        tickerName ="HRGS";
-        description = "High Risk Stock. Which Changes every turn instead of every Round Not advisable in most cases\n" +
-                "                 \n" +
-                "KEY INFORMATION: \n" +
-                "Growth: 10% to 25% every TURN\n" +
-                "Decline: 15% to 20% every TURN\n" +
-                "Risk: 70% Chance to decline\n" +
-                "Dividend Pay: Every 5 Rounds\n" +
-                "Dividend Change: No Change. Constant 1%";
-        price = 20;
-        divPay = 1;
-        minG = 10;
-        maxG = 25;
-        minD = 15;
-        maxD = 20;
-        risk = 7;
-        stocks[2] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
-
-        //SAFE RISK Dividend STOCK
-        tickerName ="SDS";
-        description = "Safe Consistent Dividend Stock. Low Stock Price change but more consistent income\n" +
-                "                 \n" +
-                "KEY INFORMATION: \n" +
-                "This stock focuses on income rather than stock price growth\n" +
-                "Growth: 1% to 2% every Round\n" +
-                "Decline: 0.1% to 0.5% every ROUND\n" +
-                "Risk: 20% Chance to decline in stock value\n" +
-                "Risk: 10% Chance to decline in dividend Pay\n" +
-                "Dividend payout: every ROUND\n" +
-                "Dividend decrease: 0.5% decrease in pay or 1% pay increase";
-        price = 120;
-        divPay = 2;
-        minG = 1;
-        maxG = 2;
-        minD = 0.1;
-        maxD = 0.5;
-        risk = 2;
-        divRisk = 1;
-        stocks[3] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
-
-        //Medium RISK Dividend STOCK
-        tickerName ="MRDS";
-        description = "Increased payout with a higher risk for a decline in dividend pay " +
-                "This stock focuses on income per turn rather than stock price increase\n" +
-                "                 \n" +
-                "KEY INFORMATION: \n" +
-                "Growth: 1% to 2% every Round\n" +
-                "Decline: 0.1% to 0.5% every ROUND\n" +
-                "Risk: 20% Chance to decline in stock value\n" +
-                "Risk: 10% Chance to decline in dividend Pay\n" +
-                "Dividend payout: every ROUND\n" +
-                "Dividend decrease: 2% decrease in pay or 10% pay increase";
-        divRisk = 3;
-        divPay = 20; //Dividend pay of 20% per round
-        stocks[4] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
-
-        //HIGH RISK Dividend STOCK
-        tickerName ="HRDS";
-        description = "Highest dividend payout with extreme payout inconsistency however, dividends are paid out every turn. " +
-                "This stock focuses on income per turn rather than stock price increase\n" +
-                "                 \n" +
-                "KEY INFORMATION: \n" +
-                "Growth: 1% to 2% every TURN\n" +
-                "Decline: 0.1% to 0.5% every TURN\n" +
-                "Risk: 20% Chance to decline in stock value\n" +
-                "Risk: 10% Chance to decline in dividend Pay\n" +
-                "Dividend payout: every TURN\n" +
-                "Dividend decrease: 50% decrease in pay or 30% pay increase";
-        divRisk = 5;
-        divPay = 80; //80% div pay per turn
-        stocks[5] = new Stock(tickerName, price, description, minG, minD, maxG, maxD, divPay, risk, divRisk);
+        this.stocks = Market.createStocks(random.market());
     }
 
     /**
-     * Checks if the game is over.
-     * @return True if the game is over, otherwise false
+     * Returns the seed used to generate the game's random events.
+     * @return Seed of the game
      */
-    public boolean isGameOver() {return gameOver;}
+    public long getSeed() {return random.getSeed();}
+
+    @Override
+    protected GameRandom getRandom() { return random; }
 
     /**
      * Returns the game state's unique ID
@@ -736,31 +467,13 @@ public class GameState implements Serializable {
      */
     public int getID() {return id;}
 
-    /**
-     * Payout dividend of stock to player.
-     * @param player Player to pay.
-     * @param stockID Stock's ID number.
-     */
-    private void payoutDividend (Player player, int stockID) {
-
-        //Finding how much of each stock that the player owns
-        int owned = player.getCurrentInvestments().get(stockID).size();
-
-        int playMoney = player.getMoney();
-        int divPay = this.stocks[stockID].dividendPay();
-
-        //Paying out dividend:
-        //Amount player has + how much the stock pays per share * how many shares the player owns.
-        player.setMoney(playMoney + (divPay*owned));
-    }
-
     /**
      * Choose a random item from existing items.
      * TODO find a way to get all Item subclass and choose from that instead
      * @return Item randomly chosen.
      */
     private Item randItem(){
-        int rand = Utility.getRandom(1,4);
+        int rand = random.items().nextInt(1,4);
         Item item;
         Config config = Config.getInstance();
         Skin skin = this.assetMan.get(config.getUiPath(), Skin.class);
@@ -791,6 +504,29 @@ public class GameState implements Serializable {
         return items;
     }
 
+    /**
+     * Records an action which has just changed the game in the game's journal, so autosaves only need to write what
+     * changed. Does nothing until the game has been autosaved. Anything else the action changes, such as the outcome
+     * of a dialog it opens, is recorded with the end of the turn.
+     * @param action Name of the action
+     * @param player Player who took the action
+     * @param tiles Tiles the action changed, such as the tile the player landed on
+     */
+    public void record(String action, Player player, Node... tiles) {
+        for (Node tile : tiles) {
+            changedTiles.add(tile.getID());
+        }
+        journal.record(this, action, player, tiles);
+    }
+
+    /**
+     * Get the journal of changes made since the game was last autosaved.
+     * @return The game's journal
+     */
+    public GameJournal getJournal() {
+        return journal;
+    }
+
     /**
      * Check if debug is enabled.
      * @return debugMode
@@ -806,4 +542,188 @@ public class GameState implements Serializable {
     public void setDebugMode(boolean debugMode) {
         this.debugMode = debugMode;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * View of the node map which keeps the board graph's tile array and the tile type index in sync when tiles are
+     * replaced.
+     */
+    private class NodeMapView extends AbstractMap<String, Node> {
+
+        @Override
+        public Node get(Object key) { return nodeMap.get(key); }
+
+        @Override
+        public boolean containsKey(Object key) { return nodeMap.containsKey(key); }
+
+        @Override
+        public int size() { return nodeMap.size(); }
+
+        @Override
+        public Node put(String key, Node node) throws IllegalArgumentException {
+            if (!key.equals(node.getID())) {
+                throw new IllegalArgumentException("Node " + node.getID() + " cannot be placed at " + key);
+            }
+
+            Node previous = nodeMap.get(key);
+            replaceNode(node);
+            return previous;
+        }
+
+        @Override
+        public Set<String> keySet() { return Collections.unmodifiableSet(nodeMap.keySet()); }
+
+        @Override
+        public Collection<Node> values() { return Collections.unmodifiableCollection(nodeMap.values()); }
+
+        @Override
+        public Set<Entry<String, Node>> entrySet() { return Collections.unmodifiableMap(nodeMap).entrySet(); }
+    }
+
+
+    /**
+     * Saves the gameplay state of a game. Sprites, dialogs and descriptions are rebuilt by loadTextures, and each
+     * stock's fixed details come from its {@link Market} definition, so only what changes during a game is written.
+     * Tiles are saved as a list, as each tile's ID follows from its position.
+     * <br><br>
+     * Every save records the version of this format it was written in. Saves with no version were written by
+     * reflection before this codec existed, and are read by {@link SaveSystem} without it. Registered by
+     * {@link SaveCodecs}.
+     */
+    public static final class Codec implements Json.Serializer<GameState> {
+        @Override
+        public void write(Json json, GameState gs, Class knownType) {
+            json.writeObjectStart();
+            writeFields(json, gs, true);
+
+            json.writeArrayStart("playerList");
+            for (Player player : gs.playerList) {
+                json.writeValue(player, Player.class);
+            }
+            json.writeArrayEnd();
+
+            json.writeArrayStart("tiles");
+            for (Node node : gs.nodeMap.values()) {
+                json.writeValue(node, Node.class);
+            }
+            json.writeArrayEnd();
+            json.writeObjectEnd();
+        }
+
+        /**
+         * Writes the fields of the game itself, its random streams and the shop's items, inside an object which has
+         * already been started. Used on its own by the {@link GameJournal} to record what an action changed.
+         *
+         * @param json Json object being written to
+         * @param gs Game to write
+         * @param stocks True to also write the stocks, which only change between turns
+         */
+        static void writeFields(Json json, GameState gs, boolean stocks) {
+            json.writeValue("version", SaveCodecs.VERSION);
+            json.writeValue("id", gs.id);
+            json.writeValue("hardMode", gs.hardMode);
+            json.writeValue("currPlayerTurn", gs.currPlayerTurn);
+            json.writeValue("turnNumber", gs.turnNumber);
+            json.writeValue("roundNumber", gs.roundNumber);
+            json.writeValue("currentStar", gs.currentStar);
+            json.writeValue("currentPen", gs.currentPen);
+            json.writeValue("gameOver", gs.gameOver);
+
+            json.writeObjectStart("random");
+            json.writeValue("seed", gs.random.getSeed());
+            json.writeValue("dice", gs.random.dice().getState());
+            json.writeValue("market", gs.random.market().getState());
+            json.writeValue("board", gs.random.board().getState());
+            json.writeValue("items", gs.random.items().getState());
+            json.writeObjectEnd();
+
+            if (stocks) {
+                json.writeArrayStart("stocks");
+                for (Stock stock : gs.stocks) {
+                    json.writeObjectStart();
+                    json.writeValue("tickerName", stock.getTickerName());
+                    json.writeValue("price", stock.getPrice());
+                    json.writeValue("priceChange", stock.getPriceChange());
+                    json.writeValue("divPay", stock.getDivPay());
+                    json.writeValue("divPayChange", stock.getDivPayChange());
+                    json.writeValue("rand", stock.getRandom().getState());
+                    json.writeObjectEnd();
+                }
+                json.writeArrayEnd();
+            }
+
+            json.writeArrayStart("items");
+            for (Item item : gs.items) {
+                json.writeValue(item, Item.class);
+            }
+            json.writeArrayEnd();
+        }
+
+        @Override
+        public GameState read(Json json, JsonValue jsonData, Class type) throws IllegalArgumentException {
+            int version = jsonData.getInt("version");
+            if (version > SaveCodecs.VERSION) {
+                throw new IllegalArgumentException("Save was written by a newer version of the game: " + version);
+            }
+
+            GameState gs = new GameState();
+            gs.id = jsonData.getInt("id");
+            gs.hardMode = jsonData.getBoolean("hardMode");
+            gs.currPlayerTurn = jsonData.getInt("currPlayerTurn");
+            gs.turnNumber = jsonData.getInt("turnNumber");
+            gs.roundNumber = jsonData.getInt("roundNumber");
+            gs.currentStar = jsonData.getInt("currentStar");
+            gs.currentPen = jsonData.getInt("currentPen");
+            gs.gameOver = jsonData.getBoolean("gameOver");
+
+            JsonValue random = jsonData.get("random");
+            gs.random = new GameRandom(random.getLong("seed"), new RandomStream(random.getLong("dice")),
+                    new RandomStream(random.getLong("market")), new RandomStream(random.getLong("board")),
+                    new RandomStream(random.getLong("items")));
+
+            gs.stocks = Market.createStocks(new RandomStream(0));  // Streams are replaced by the saved ones
+            for (JsonValue saved = jsonData.get("stocks").child; saved != null; saved = saved.next) {
+                Stock stock = findStock(gs.stocks, saved.getString("tickerName"));
+                stock.restore(saved.getInt("price"), saved.getDouble("priceChange"), saved.getDouble("divPay"),
+                        saved.getDouble("divPayChange"), new RandomStream(saved.getLong("rand")));
+            }
+
+            gs.items = new Array<>();
+            for (JsonValue item = jsonData.get("items").child; item != null; item = item.next) {
+                gs.items.add(json.readValue(Item.class, null, item));
+            }
+
+            gs.playerList = new ArrayList<>();
+            for (JsonValue player = jsonData.get("playerList").child; player != null; player = player.next) {
+                Player read = json.readValue(Player.class, null, player);
+                read.linkShares(gs.stocks);
+                gs.playerList.add(read);
+            }
+
+            JsonValue tiles = jsonData.get("tiles");
+            gs.nodeMap = new HashMap<>(tiles.size * 2);
+            for (JsonValue tile = tiles.child; tile != null; tile = tile.next) {
+                Node node = json.readValue(Node.class, null, tile);
+                gs.nodeMap.put(node.getID(), node);
+            }
+
+            return gs;
+        }
+
+        /**
+         * Finds the stock with the given ticker name.
+         *
+         * @param stocks Stocks of the game
+         * @param tickerName Ticker name of the stock
+         * @return Stock with the ticker name
+         * @throws IllegalArgumentException If no stock has the ticker name
+         */
+        private static Stock findStock(Stock[] stocks, String tickerName) throws IllegalArgumentException {
+            for (Stock stock : stocks) {
+                if (stock.getTickerName().equals(tickerName)) return stock;
+            }
+
+            throw new IllegalArgumentException("Unknown stock: " + tickerName);
+        }
+    }
+}
@@ -11,13 +11,14 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
 import com.mygdx.game.Observer.Observable;
 import com.mygdx.game.Observer.Observer;
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Instructor dashboard screen displays metrics to track student progress.
  * <br><br>
  * Metrics include the student's highest achieved individual game score, overall lifetime score (the cumulative score
- * from all played games), their knowledge level, and the number of tips they have unlocked. From this dashboard,
+ * from all played games), where each score ranks among all students, their knowledge level, and the number of tips
+ * they have unlocked. From this dashboard,
  * instructors can enter Manage Students mode to add, edit, and remove student profiles.
  * @see ManageStudentsScreen
  * @see PlayerProfile
@@ -72,19 +73,21 @@ public class InstructorDashboardScreen extends GameScreen{
         // Add screen title
         Label title = new Label("Instructor Dashboard", skin, "menu");
         title.setAlignment(Align.center);
-        table.add(title).colspan(5);
+        table.add(title).colspan(7);
         table.row();
 
         // Add header to student information table
         studentTable.add(new Label("Student Name", this.skin));
         studentTable.add(new Label("High Score", this.skin));
+        studentTable.add(new Label("High Score Rank", this.skin));
         studentTable.add(new Label("Lifetime Score", this.skin));
+        studentTable.add(new Label("Lifetime Rank", this.skin));
         studentTable.add(new Label("Knowledge Level", this.skin));
         studentTable.add(new Label("Tips Unlocked", this.skin));
         studentTable.row();
 
         // Load student information
-        ArrayList<PlayerProfile> studentProfiles = this.profileManager.getStudentProfiles();
+        List<PlayerProfile> studentProfiles = this.profileManager.getStudentProfiles();
 
         // Display student information
         for (PlayerProfile studentProfile : studentProfiles) {
@@ -92,14 +95,24 @@ public class InstructorDashboardScreen extends GameScreen{
             // Create text for each field
             Label studentName = new Label(studentProfile.getName(), this.skin);
             Label highScore = new Label(Integer.toString(studentProfile.getHighScore()), this.skin);
+            Label highScoreRank = new Label(this.formatRank(
+                    this.profileManager.getHighScoreRank(studentProfile.getName()),
+                    this.profileManager.getHighScorePercentile(studentProfile.getName()),
+                    studentProfiles.size()), this.skin);
             Label lifetimeScore = new Label(Integer.toString(studentProfile.getLifetimeScore()), this.skin);
+            Label lifetimeRank = new Label(this.formatRank(
+                    this.profileManager.getLifetimeScoreRank(studentProfile.getName()),
+                    this.profileManager.getLifetimeScorePercentile(studentProfile.getName()),
+                    studentProfiles.size()), this.skin);
             Label knowledgeLevel = new Label(Integer.toString(studentProfile.getKnowledgeLevel()), this.skin);
             Label tipsUnlocked = new Label(Integer.toString(studentProfile.getTipCount()), this.skin);
 
             // Display each field
             studentTable.add(studentName);
             studentTable.add(highScore);
+            studentTable.add(highScoreRank);
             studentTable.add(lifetimeScore);
+            studentTable.add(lifetimeRank);
             studentTable.add(knowledgeLevel);
             studentTable.add(tipsUnlocked);
             studentTable.row();
@@ -111,7 +124,7 @@ public class InstructorDashboardScreen extends GameScreen{
         scroll.setScrollBarPositions(false, true);
         scroll.setScrollbarsOnTop(false);
         scroll.setScrollbarsVisible(true);
-        table.add(scroll).colspan(5).fillX().expand();
+        table.add(scroll).colspan(7).fillX().expand();
         table.row();
 
         // Initialize buttons
@@ -121,7 +134,7 @@ public class InstructorDashboardScreen extends GameScreen{
         // Display buttons
         buttonTable.add(manageStudentsButton);
         buttonTable.add(returnButton);
-        table.add(buttonTable).colspan(5).expandX();
+        table.add(buttonTable).colspan(7).expandX();
 
         // Add button listeners
         manageStudentsButton.addListener(new ChangeListener() {
@@ -153,6 +166,32 @@ public class InstructorDashboardScreen extends GameScreen{
     }
 
 
+    /**
+     * Formats where a student's score ranks among all students, such as "3 of 40 (92nd percentile)".
+     *
+     * @param rank Rank of the score, where 1 is the highest
+     * @param percentile Percentile of the score
+     * @param numStudents Number of students ranked
+     * @return Text describing the rank
+     */
+    private String formatRank(int rank, int percentile, int numStudents) {
+
+        // Ordinal suffix of the percentile: 1st, 2nd, 3rd, 4th, ..., 11th, 12th, 13th, ..., 21st
+        String suffix = "th";
+        if (percentile % 100 < 11 || percentile % 100 > 13) {
+            switch (percentile % 10) {
+                case 1: suffix = "st"; break;
+                case 2: suffix = "nd"; break;
+                case 3: suffix = "rd"; break;
+                default: break;
+            }
+        }
+
+        return rank + " of " + numStudents + " (" + percentile + suffix + " percentile)";
+
+    }
+
+
     /**
      * Assigns an observer to listen for the event to return to main menu.
      * @param ob Observer to listen for the event to return to main menu.
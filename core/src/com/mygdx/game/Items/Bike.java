@@ -2,6 +2,7 @@ package com.mygdx.game.Items;
 
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Node.Node;
 import com.mygdx.game.Player;
@@ -20,8 +21,8 @@ public class Bike extends Item {
      * @param skin Skin to initialize Item with
      */
     public Bike(Skin skin) {
-        super("Bike", false, skin);
-        this.price = 200;
+        super(ItemType.BIKE.getName(), false, skin);
+        this.price = ItemType.BIKE.getPrice();
         this.description = "Used to go anywhere on the board.";
     }
 
@@ -2,6 +2,7 @@ package com.mygdx.game.Items;
 
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Player;
 
@@ -20,8 +21,8 @@ public class Book extends Item{
      * @param skin used to style the associated dialog box
      */
     public Book(Skin skin) {
-        super("Book", false, skin);
-        this.price = 50;
+        super(ItemType.BOOK.getName(), false, skin);
+        this.price = ItemType.BOOK.getPrice();
         this.description = "Power Up: provides the necessary knowledge to boost player up by 1 level.";
 
     }
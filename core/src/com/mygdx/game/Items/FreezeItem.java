@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Player;
 import com.mygdx.game.SoundSystem;
@@ -20,35 +21,37 @@ public class FreezeItem extends Item {
     transient GameState gameState; // Transient, only set when use() is activated and used in the dialog
 
     public FreezeItem(Skin skin) {
-        super("FreezeItem", false, skin);
-        this.price = 100;
+        super(ItemType.FREEZE.getName(), false, skin);
+        this.price = ItemType.FREEZE.getPrice();
         this.description = "Used to freeze a player for one turn.";
     }
 
     @Override
     public boolean use(Player player, GameState gameState, Stage stage) {
         this.gameState = gameState;
+        Dialog dialog = getUsedItemDialog();
 
         for (int i = 0; i < gameState.getPlayerList().size(); i++) {
             Player otherPlayer = gameState.getPlayerList().get(i);
             if (otherPlayer == player) continue; // Skip self
-            usedItemDialog.button(otherPlayer.getPlayerProfile().getName(), Integer.valueOf(i)); // Will call result of usedItemDialog with the player index
+            dialog.button(otherPlayer.getPlayerProfile().getName(), Integer.valueOf(i)); // Will call result of the dialog with the player index
         }
 
-        usedItemDialog.show(stage);
+        dialog.show(stage);
 
         return true;
     }
 
     @Override
-    public void loadTextures(Skin skin) {
-        usedItemDialog = new Dialog("Choice", skin) {
+    protected Dialog createDialog(Skin skin) {
+        Dialog dialog = new Dialog("Choice", skin) {
             @Override
             protected void result(Object object) {
                 gameState.getPlayerList().get((int)object).setFrozen(true);
             }
         };
-        usedItemDialog.text("Which player do you want to Freeze?");
+        dialog.text("Which player do you want to Freeze?");
+        return dialog;
     }
 
 
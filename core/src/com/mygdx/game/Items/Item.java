@@ -5,6 +5,9 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Player;
 
@@ -25,7 +28,8 @@ import com.mygdx.game.Player;
 public class Item {
     protected String name;
     protected boolean passive; // Passive items cannot be activated, they just affect the Player in some way
-    transient protected Dialog usedItemDialog; // Transient; must be rebuilt by calling loadTextures after deserialization
+    transient protected Dialog usedItemDialog; // Transient; created on first use from the skin given to loadTextures
+    transient protected Skin skin; // Transient; must be set by calling loadTextures after deserialization
     protected int price; // The cost of an item in the shop
     protected String description; // A brief description of the item
 
@@ -33,12 +37,12 @@ public class Item {
      * Standard constructor
      * @param name the Item's name
      * @param passive whether the Item is passive or active
-     * @param skin skin to use to style the dialog box
+     * @param skin skin to use to style the dialog box, or null to create the dialog box later with loadTextures
      */
     public Item(String name, boolean passive, Skin skin, int price, String description) {
         this.name = name;
         this.passive = passive;
-        loadTextures(skin);
+        if (skin != null) loadTextures(skin);
         this.price = price;
         this.description = description;
     }
@@ -47,7 +51,7 @@ public class Item {
     public Item(String name, boolean passive, Skin skin) {
         this.name = name;
         this.passive = passive;
-        loadTextures(skin);
+        if (skin != null) loadTextures(skin);
     }
 
     /**
@@ -66,13 +70,52 @@ public class Item {
     protected Item() {}
 
     /**
-     * Creates and presents graphical display box that appears when an item is activated
+     * Creates an item of the given type.
+     *
+     * @param type type of item to create
+     * @param skin skin to use to style the dialog box, or null to create the dialog box later with loadTextures
+     * @return new Item
+     */
+    public static Item create(ItemType type, Skin skin) {
+        switch (type) {
+            case BIKE: return new Bike(skin);
+            case BOOK: return new Book(skin);
+            case FREEZE: return new FreezeItem(skin);
+            case MULTI_DICE: return new MultiDice(skin);
+            default: return new Shield(skin);
+        }
+    }
+
+    /**
+     * Sets the skin of the graphical display box that appears when an item is activated. The box itself is only
+     * created when the item is first used, as most items are never used in a given session.
      * @param skin to style the dialog box that appears
      */
     public void loadTextures(Skin skin) {
-        usedItemDialog = new Dialog("Used Item", skin); // ChangeListener does nothing, as the user just has to press ok
-        usedItemDialog.text("You used \"" + getName() + "\".");
-        usedItemDialog.button("Ok");
+        this.skin = skin;
+        usedItemDialog = null;
+    }
+
+    /**
+     * Returns the display box that appears when the item is activated, creating it the first time it is needed.
+     *
+     * @return Dialog box styled with the skin given to loadTextures
+     */
+    protected Dialog getUsedItemDialog() {
+        if (usedItemDialog == null) usedItemDialog = createDialog(skin);
+        return usedItemDialog;
+    }
+
+    /**
+     * Creates the graphical display box that appears when an item is activated
+     * @param skin to style the dialog box that appears
+     * @return new Dialog box
+     */
+    protected Dialog createDialog(Skin skin) {
+        Dialog dialog = new Dialog("Used Item", skin); // ChangeListener does nothing, as the user just has to press ok
+        dialog.text("You used \"" + getName() + "\".");
+        dialog.button("Ok");
+        return dialog;
     }
 
     /**
@@ -83,7 +126,7 @@ public class Item {
      * @return True if the item should be removed, false if otherwise
      */
     public boolean use(Player player, GameState state, Stage stage) {
-        usedItemDialog.show(stage);
+        getUsedItemDialog().show(stage);
         return true;
     }
 
@@ -138,4 +181,21 @@ public class Item {
             return false;
         }
     }
+
+    /**
+     * Saves an item as the name of its type. Everything else about an item is set by its type, so nothing else is
+     * written. Registered for Item and every subclass by {@link com.mygdx.game.SaveCodecs}.
+     */
+    public static final class Codec<T extends Item> implements Json.Serializer<T> {
+        @Override
+        public void write(Json json, T item, Class knownType) {
+            json.writeValue(item.name);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(Json json, JsonValue jsonData, Class type) throws IllegalArgumentException {
+            return (T) create(ItemType.fromName(jsonData.asString()), null);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.mygdx.game.Items;
 
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Items.Item;
 import com.mygdx.game.Player;
@@ -14,8 +15,8 @@ import com.mygdx.game.Player;
 
 public class MultiDice extends Item {
     public MultiDice(Skin skin){
-        super("MultiDice", false, skin);
-        this.price = 50;
+        super(ItemType.MULTI_DICE.getName(), false, skin);
+        this.price = ItemType.MULTI_DICE.getPrice();
         this.description = "Doubles the amount of dice, increasing the maximum roll.";
     }
     public boolean use(Player player, GameState gameState, Stage stage) {
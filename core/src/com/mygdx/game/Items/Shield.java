@@ -3,6 +3,7 @@ package com.mygdx.game.Items;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.mygdx.game.ActionTextSystem;
+import com.mygdx.game.Engine.ItemType;
 import com.mygdx.game.GameState;
 import com.mygdx.game.Player;
 import com.mygdx.game.SoundSystem;
@@ -16,8 +17,8 @@ import com.mygdx.game.SoundSystem;
 
 public class Shield extends Item{
     public Shield(Skin skin){
-        super("Shield", false, skin);
-        this.price = 150;
+        super(ItemType.SHIELD.getName(), false, skin);
+        this.price = ItemType.SHIELD.getPrice();
         this.description = "Immunity: protects player from next penalty.";
     }
     public boolean use(Player player, GameState gameState, Stage stage) {
@@ -0,0 +1,47 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the student database as a single JSON file in the {@link ProfileFormat}, rewritten in full on every write.
+ * <br><br>
+ * The file is easy to read and edit by hand, which suits a single class. A database written in the old format is
+ * rewritten in the current one when it is loaded.
+ * @see LogProfileStore
+ */
+public final class JsonProfileStore implements ProfileStore {
+
+    /** Filename of JSON file storing all student profiles. */
+    private final String filename;
+
+    /**
+     * Constructor for a store which reads and writes the given file.
+     *
+     * @param filename Filename of JSON file storing student profiles. Created on the first write if missing
+     */
+    public JsonProfileStore(String filename) {
+        this.filename = filename;
+    }
+
+    @Override
+    public ArrayList<PlayerProfile> load() throws IOException, IllegalArgumentException {
+        JsonValue root = ProfileFormat.read(filename);
+        ArrayList<PlayerProfile> profiles = ProfileFormat.readStudents(root);
+
+        // Rewrite a database in the current format, once, if it was written in the old one
+        if (ProfileFormat.isLegacy(root)) write(profiles, profiles, List.of());
+        return profiles;
+    }
+
+    @Override
+    public void write(List<PlayerProfile> roster, List<PlayerProfile> changed, List<PlayerProfile> removed)
+            throws IOException {
+        Files.writeString(Paths.get(filename), ProfileFormat.writeStudents(roster));
+    }
+}
@@ -0,0 +1,93 @@
+package com.mygdx.game;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The financial tips students unlock as their knowledge level rises, from simplest to most advanced. Implements the
+ * singleton pattern.
+ * <br><br>
+ * The catalog is read from file once, the first time it is used, and shared by every student. A student's learned
+ * tips are a view over the start of the catalog rather than a copy of it.
+ */
+public final class KnowledgeCatalog {
+
+    /** Number of tips unlocked by each knowledge level. */
+    public static final int TIPS_PER_LEVEL = 5;
+    /** Filepath to the knowledge catalog, relative to the assets directory. */
+    private static final String CATALOG_PATH = "external/knowledge catalog.txt";
+
+    /** Every tip in the catalog, one per line of the file. Unmodifiable. */
+    private final List<String> tips;
+
+    /**
+     * Contains the static Singleton.
+     */
+    private static class KnowledgeCatalogHolder {
+        private static final KnowledgeCatalog instance = new KnowledgeCatalog();
+    }
+
+    /**
+     * Accessor for the static Singleton.
+     *
+     * @return the KnowledgeCatalog object
+     */
+    public static KnowledgeCatalog getInstance() {
+        return KnowledgeCatalogHolder.instance;
+    }
+
+    /**
+     * Private constructor reads the catalog. The catalog is empty if it cannot be read.
+     */
+    private KnowledgeCatalog() {
+
+        // Define path to assets directory, where knowledge catalog is stored
+        String catalogPathname = CATALOG_PATH;
+        String currentDirectory = System.getProperty("user.dir");
+
+        // Specify absolute path if running from unit tests folder
+        if (currentDirectory.endsWith("core")) {
+            catalogPathname = currentDirectory.substring(0, currentDirectory.length()-4) + "assets/" + catalogPathname;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Path.of(catalogPathname), StandardCharsets.UTF_8);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            lines = Collections.emptyList();
+        }
+        this.tips = Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Returns the number of tips unlocked at a knowledge level.
+     *
+     * @param knowledgeLevel Student's knowledge level
+     * @return Number of tips unlocked, at most the number of tips in the catalog
+     */
+    public int getTipCount(int knowledgeLevel) {
+        return (int) Math.max(0, Math.min(tips.size(), (long) knowledgeLevel * TIPS_PER_LEVEL));
+    }
+
+    /**
+     * Returns the tips unlocked at a knowledge level, from simplest to most advanced.
+     *
+     * @param knowledgeLevel Student's knowledge level
+     * @return Unmodifiable view of the unlocked tips
+     */
+    public List<String> getLearned(int knowledgeLevel) {
+        return tips.subList(0, getTipCount(knowledgeLevel));
+    }
+
+    /**
+     * Returns the number of tips in the catalog.
+     * @return Number of tips
+     */
+    public int size() { return tips.size(); }
+}
@@ -11,7 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.mygdx.game.Observer.Observable;
 import com.mygdx.game.Observer.Observer;
-import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Shows all knowledge that the current player has learned based on player's current knowledge level
@@ -30,7 +30,7 @@ public class KnowledgeListScreen extends GameScreen{
     /** Allows screen to be scrolled. */
     private ScrollPane scroller;
     /** List of knowledge for a player. */
-    private LinkedList<String> playerKnowledge = new LinkedList<>();
+    private List<String> playerKnowledge = List.of();
 
     /**
      * Constructor initializes knowledge screen.
@@ -59,9 +59,9 @@ public class KnowledgeListScreen extends GameScreen{
 
     /**
      * Updates the list of the current play's obtained knowledge
-     * @param knowledge LinkList holding all player's current knowledge list
+     * @param knowledge List holding all player's current knowledge list
      */
-    public void setPlayerKnowledge (LinkedList<String> knowledge) {this.playerKnowledge = knowledge;}
+    public void setPlayerKnowledge (List<String> knowledge) {this.playerKnowledge = knowledge;}
 
     /**
      * Assigns an observer to listen for the event to return to the pause screen.
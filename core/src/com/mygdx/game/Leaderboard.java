@@ -0,0 +1,165 @@
+package com.mygdx.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * High score table holding the students with the highest scores of one kind, kept up to date as scores change.
+ * <br><br>
+ * Students are ranked from highest to lowest score, and students with the same score in the order they were added to
+ * the roster. The table is an ordered set of its few students, so a student whose score rises only has to be compared
+ * against the table rather than the whole roster. The roster is only searched again when a student in the table drops
+ * their score or is removed, as a student outside the table may then take their place.
+ *
+ * @see ProfileManager
+ */
+public final class Leaderboard {
+
+    /** Number of students in the table. */
+    private final int size;
+    /** Score the table ranks students on. */
+    private final ToIntFunction<PlayerProfile> score;
+    /** Position of each student in the roster. Breaks ties between students with the same score. */
+    private final ToLongFunction<PlayerProfile> rosterOrder;
+    /** Students in the table, from highest to lowest ranked. */
+    private final TreeSet<Entry> table = new TreeSet<>(
+            Comparator.comparingInt((Entry entry) -> entry.score).reversed().thenComparingLong(entry -> entry.order));
+    /** Entry of each student in the table. */
+    private final IdentityHashMap<PlayerProfile, Entry> entries = new IdentityHashMap<>();
+
+
+    /**
+     * Constructor for an empty table.
+     *
+     * @param size Number of students in the table
+     * @param score Score the table ranks students on
+     * @param rosterOrder Position of each student in the roster, used to rank students with the same score
+     * @throws IllegalArgumentException If the size is less than 1
+     */
+    public Leaderboard(int size, ToIntFunction<PlayerProfile> score, ToLongFunction<PlayerProfile> rosterOrder)
+            throws IllegalArgumentException {
+        if (size < 1) throw new IllegalArgumentException("Leaderboard must hold at least one student");
+        this.size = size;
+        this.score = score;
+        this.rosterOrder = rosterOrder;
+    }
+
+    /**
+     * Fills the table from the whole roster.
+     *
+     * @param roster Every student
+     */
+    public void rebuild(Collection<PlayerProfile> roster) {
+        table.clear();
+        entries.clear();
+        for (PlayerProfile profile : roster) {
+            offer(new Entry(profile, score.applyAsInt(profile), rosterOrder.applyAsLong(profile)));
+        }
+    }
+
+    /**
+     * Updates the table after a student was added or changed.
+     *
+     * @param profile Student who was added or changed
+     * @param roster Every student, searched if the student's score dropped out of the table
+     * @param renamed True if the student was renamed
+     * @return True if the students in the table, their order, or the name of one of them changed
+     */
+    public boolean update(PlayerProfile profile, Collection<PlayerProfile> roster, boolean renamed) {
+        int newScore = score.applyAsInt(profile);
+        Entry entry = entries.get(profile);
+        if (entry == null) {
+            return offer(new Entry(profile, newScore, rosterOrder.applyAsLong(profile)));
+        }
+
+        if (entry.score == newScore) return renamed;  // Same place, so only a new name changes what the table shows
+        ArrayList<PlayerProfile> before = getProfiles();
+        if (newScore < entry.score && roster.size() > table.size()) {
+            rebuild(roster);  // A student outside the table may now rank higher
+        }
+        else {
+            table.remove(entry);
+            Entry moved = new Entry(profile, newScore, entry.order);
+            table.add(moved);
+            entries.put(profile, moved);
+        }
+        return renamed || !sameOrder(before);
+    }
+
+    /**
+     * Updates the table after a student was removed from the roster.
+     *
+     * @param profile Student who was removed
+     * @param roster Every remaining student, searched if the student was in the table
+     * @return True if the table changed, false if the student wasn't in it
+     */
+    public boolean remove(PlayerProfile profile, Collection<PlayerProfile> roster) {
+        if (!entries.containsKey(profile)) return false;
+
+        rebuild(roster);  // The next student in the roster takes their place
+        return true;
+    }
+
+    /**
+     * Returns the students in the table, from highest to lowest ranked.
+     *
+     * @return Copy of the table
+     */
+    public ArrayList<PlayerProfile> getProfiles() {
+        ArrayList<PlayerProfile> profiles = new ArrayList<>(table.size());
+        for (Entry entry : table) {
+            profiles.add(entry.profile);
+        }
+        return profiles;
+    }
+
+    /**
+     * Checks if the table holds the same students, in the same order, as it did before a change.
+     *
+     * @param before Students in the table before the change, from highest to lowest ranked
+     * @return True if nothing moved
+     */
+    private boolean sameOrder(ArrayList<PlayerProfile> before) {
+        if (before.size() != table.size()) return false;
+        int i = 0;
+        for (Entry entry : table) {
+            if (entry.profile != before.get(i++)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a student to the table if they rank high enough, pushing out the lowest ranked student if it is full.
+     *
+     * @return True if the student was added
+     */
+    private boolean offer(Entry entry) {
+        if (table.size() == size) {
+            if (table.comparator().compare(entry, table.last()) > 0) return false;
+            entries.remove(table.pollLast().profile);
+        }
+        table.add(entry);
+        entries.put(entry.profile, entry);
+        return true;
+    }
+
+    /**
+     * A student's place in the table: their score when it was last updated, and their position in the roster.
+     */
+    private static final class Entry {
+        final PlayerProfile profile;
+        final int score;
+        final long order;
+
+        Entry(PlayerProfile profile, int score, long order) {
+            this.profile = profile;
+            this.score = score;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.mygdx.game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Stores the student database as an append-only log, so writing a change costs the same whatever the size of the
+ * roster. Chosen for student databases with the {@value #EXTENSION} extension.
+ * <br><br>
+ * Each student is given a key, which stays the same when they are renamed. Every write appends a record for each
+ * student added or changed, holding their key and every stored field, a record for each student removed, and then a
+ * commit record. Each record holds its length and a CRC-32 checksum of its contents. Loading replays the log: each
+ * student's last record wins, in the order students were first stored. The records of a write only take effect once
+ * its commit record has been read, so a write cut short by a crash is dropped whole, and the log is cut back to the
+ * last commit. The key of each student in memory is kept in an identity map, so a write never searches the log.
+ * <br><br>
+ * The log grows with every write. Once it holds more than {@value #MIN_GARBAGE} records which have been replaced, and
+ * more replaced records than current ones, it is compacted: the current students are written to a new log, which is
+ * then renamed over the old one, so the log is either the old one or the compacted one if the game stops partway.
+ * <br><br>
+ * A write which fails is undone: the keys it gave out or took back are restored, and the log is cut back to its
+ * length before the write. If the log cannot be cut back, the next write compacts it instead of appending to it.
+ * @see JsonProfileStore
+ */
+public final class LogProfileStore implements ProfileStore {
+
+    /** Extension of student databases stored as a log. */
+    public static final String EXTENSION = ".log";
+    /** Current version of the log format. */
+    public static final int VERSION = 1;
+
+    /** First bytes of the log. */
+    private static final byte[] MAGIC = {'F', 'F', 'P', 'L'};
+    /** Length of the magic bytes and version. */
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+    /** Number of replaced records the log may hold before it is compacted. */
+    private static final int MIN_GARBAGE = 1024;
+
+    // Type of each record, written as its first byte
+    /** Student added or changed, followed by their key and every stored field. */
+    private static final int PUT = 1;
+    /** Student removed, followed by their key. */
+    private static final int DELETE = 2;
+    /** End of a write. The records since the last commit take effect. */
+    private static final int COMMIT = 3;
+
+    /** Path of the log. */
+    private final Path file;
+    /** Key of each stored student. */
+    private final IdentityHashMap<PlayerProfile, Long> keys = new IdentityHashMap<>();
+    /** Key given to the next student stored. */
+    private long nextKey = 0;
+    /** Number of committed put and delete records in the log, including replaced ones. */
+    private long records = 0;
+    /** Indicates if a failed write may have left part of a record at the end of the log, so it must be compacted. */
+    private boolean damaged = false;
+
+
+    /**
+     * Constructor for a store which reads and writes the given log.
+     *
+     * @param file Path of the log. Created on the first write if missing
+     */
+    public LogProfileStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Checks if a student database is stored as a log.
+     *
+     * @param fileName Name of the student database
+     * @return True if the database is stored as a log
+     */
+    public static boolean isLog(String fileName) {
+        return fileName.endsWith(EXTENSION);
+    }
+
+    @Override
+    public ArrayList<PlayerProfile> load() throws IOException, IllegalArgumentException {
+        keys.clear();
+        nextKey = 0;
+        records = 0;
+        damaged = false;
+        if (!Files.exists(file)) return new ArrayList<>();
+
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (log.remaining() < HEADER_LENGTH) {  // Cut short while being created, before anything was committed
+            Files.delete(file);
+            return new ArrayList<>();
+        }
+        for (byte b : MAGIC) {
+            if (log.get() != b) throw new IllegalArgumentException("Not a student database log");
+        }
+        int version = log.get() & 0xFF;
+        if (version > VERSION) {
+            throw new IllegalArgumentException("Student database was written by a newer version of the game: " + version);
+        }
+
+        // Replay every committed write. The students of each write are held back until its commit is read
+        LinkedHashMap<Long, PlayerProfile> students = new LinkedHashMap<>();
+        LinkedHashMap<Long, PlayerProfile> pending = new LinkedHashMap<>();
+        int committed = log.position();
+        long pendingRecords = 0;
+        ByteBuffer record;
+        while ((record = nextRecord(log)) != null) {
+            int type = record.get();
+            if (type == COMMIT) {
+                for (Map.Entry<Long, PlayerProfile> entry : pending.entrySet()) {
+                    if (entry.getValue() == null) students.remove(entry.getKey());
+                    else students.put(entry.getKey(), entry.getValue());
+                }
+                pending.clear();
+                records += pendingRecords;
+                pendingRecords = 0;
+                committed = log.position();
+                continue;
+            }
+
+            if (type != PUT && type != DELETE) {
+                throw new IllegalArgumentException("Unknown record in student database log: " + type);
+            }
+            try {
+                long key = record.getLong();
+                nextKey = Math.max(nextKey, key + 1);
+                pending.put(key, type == PUT ? readProfile(record) : null);  // Null marks a removed student
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Malformed record in student database log", e);
+            }
+            pendingRecords++;
+        }
+
+        // Cut off a write which never finished, so later writes follow the last commit
+        if (committed < log.limit()) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(committed);
+            }
+        }
+
+        ArrayList<PlayerProfile> profiles = new ArrayList<>(students.size());
+        for (Map.Entry<Long, PlayerProfile> entry : students.entrySet()) {
+            keys.put(entry.getValue(), entry.getKey());
+            profiles.add(entry.getValue());
+        }
+        if (needsCompaction()) compact(profiles);
+        return profiles;
+    }
+
+    @Override
+    public void write(List<PlayerProfile> roster, List<PlayerProfile> changed, List<PlayerProfile> removed)
+            throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        boolean created = !Files.exists(file);
+        if (created) writeHeader(buffer);
+
+        // Keys given and taken by this write, so they can be put back if it fails
+        IdentityHashMap<PlayerProfile, Long> removedKeys = new IdentityHashMap<>();
+        ArrayList<PlayerProfile> added = new ArrayList<>();
+        long firstKey = nextKey;
+
+        long written = 0;
+        for (PlayerProfile profile : removed) {
+            Long key = keys.remove(profile);
+            if (key == null) continue;  // Added and removed before ever being written
+            removedKeys.put(profile, key);
+            writeRecord(buffer, DELETE, key, null);
+            written++;
+        }
+        for (PlayerProfile profile : changed) {
+            Long key = keys.get(profile);
+            if (key == null) {
+                key = nextKey++;
+                keys.put(profile, key);
+                added.add(profile);
+            }
+            writeRecord(buffer, PUT, key, profile);
+            written++;
+        }
+        if (written == 0 && !damaged) return;
+
+        if (damaged) {
+            compact(roster);  // Replaces whatever the failed write left behind
+            damaged = false;
+            return;
+        }
+        writeRecord(buffer, COMMIT, 0, null);
+
+        long length = created ? 0 : Files.size(file);
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            buffer.writeTo(out);  // The whole write at once
+        } catch (IOException e) {
+            // Put the keys back as they were, and cut off whatever part of the write reached the log
+            keys.putAll(removedKeys);
+            for (PlayerProfile profile : added) {
+                keys.remove(profile);
+            }
+            nextKey = firstKey;
+            try {
+                if (created) {
+                    Files.deleteIfExists(file);
+                } else {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        channel.truncate(length);
+                    }
+                }
+            } catch (IOException truncateFailed) {
+                damaged = true;  // The next write compacts the log instead of appending after the torn record
+            }
+            throw e;
+        }
+        records += written;
+
+        if (needsCompaction()) compact(roster);
+    }
+
+    /**
+     * Checks if enough of the log has been replaced for it to be compacted.
+     *
+     * @return True if the log should be compacted
+     */
+    private boolean needsCompaction() {
+        long garbage = records - keys.size();
+        return garbage > MIN_GARBAGE && garbage > keys.size();
+    }
+
+    /**
+     * Rewrites the log with a single record for each current student. The new log is written to a temporary file,
+     * forced to disk, and renamed over the old one.
+     *
+     * @param roster Every student, in the order they were added
+     * @throws IOException If the new log cannot be written
+     */
+    private void compact(List<PlayerProfile> roster) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeHeader(buffer);
+        for (PlayerProfile profile : roster) {
+            Long key = keys.get(profile);
+            if (key == null) {  // Added by a write which failed
+                key = nextKey++;
+                keys.put(profile, key);
+            }
+            writeRecord(buffer, PUT, key, profile);
+        }
+        writeRecord(buffer, COMMIT, 0, null);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer contents = ByteBuffer.wrap(buffer.toByteArray());
+            while (contents.hasRemaining()) channel.write(contents);
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        records = roster.size();
+    }
+
+    /**
+     * Writes the magic bytes and version which start the log.
+     *
+     * @param out Stream to write to
+     */
+    private static void writeHeader(ByteArrayOutputStream out) {
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(VERSION);
+    }
+
+    /**
+     * Writes a record: its length, its contents, and a checksum of its contents.
+     *
+     * @param out Stream to write to
+     * @param type Type of record
+     * @param key Key of the student, unused for commits
+     * @param profile Student stored, for put records
+     * @throws IOException Never, as the stream is in memory
+     */
+    private static void writeRecord(ByteArrayOutputStream out, int type, long key, PlayerProfile profile)
+            throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(body);
+        data.writeByte(type);
+        if (type != COMMIT) data.writeLong(key);
+        if (type == PUT) {
+            writeString(data, profile.getName());
+            data.writeInt(profile.getLifetimeScore());
+            data.writeInt(profile.getHighScore());
+            data.writeInt(profile.getKnowledgeLevel());
+            writeString(data, profile.getSpritePath());
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(body.toByteArray());
+        DataOutputStream record = new DataOutputStream(out);
+        record.writeInt(body.size());
+        body.writeTo(record);
+        record.writeInt((int) checksum.getValue());
+    }
+
+    /**
+     * Reads the next record of the log, if it is whole and its checksum matches.
+     *
+     * @param log Log, positioned at the start of a record. Moved past the record if it is read
+     * @return Contents of the record, or null if the log ends or the record was cut short or damaged
+     */
+    private static ByteBuffer nextRecord(ByteBuffer log) {
+        if (log.remaining() < Integer.BYTES) return null;
+
+        int start = log.position();
+        int length = log.getInt();
+        if (length < 1 || length > log.remaining() - Integer.BYTES) {
+            log.position(start);
+            return null;
+        }
+
+        ByteBuffer body = log.slice();
+        body.limit(length);
+        log.position(log.position() + length);
+        CRC32 checksum = new CRC32();
+        checksum.update(body.duplicate());
+        if ((int) checksum.getValue() != log.getInt()) {
+            log.position(start);
+            return null;
+        }
+        return body;
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 bytes. Null is written as a length of -1.
+     *
+     * @param out Stream to write to
+     * @param value String to write
+     * @throws IOException Never, as the stream is in memory
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the stored fields of a student from a put record, in the order they were written.
+     *
+     * @param record Record to read from, positioned after the key
+     * @return Profile of the student
+     * @throws BufferUnderflowException If the record is shorter than its fields
+     */
+    private static PlayerProfile readProfile(ByteBuffer record) throws BufferUnderflowException {
+        String name = readString(record);
+        int lifetimeScore = record.getInt();
+        int highScore = record.getInt();
+        int knowledgeLevel = record.getInt();
+        PlayerProfile profile = new PlayerProfile(name, lifetimeScore, highScore, knowledgeLevel);
+        profile.setSpritePath(readString(record));
+        return profile;
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param record Record to read from
+     * @return String read, or null
+     * @throws BufferUnderflowException If the record is shorter than the string
+     */
+    private static String readString(ByteBuffer record) throws BufferUnderflowException {
+        int length = record.getInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
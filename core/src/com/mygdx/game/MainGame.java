@@ -28,8 +28,8 @@ public class MainGame extends Game {
 	private SpriteBatch batch;
 	/** Used to load assets. */
 	private AssetManager assets = new AssetManager();
-	/** Handles functions relating to saving and loading game states. */
-	private SaveSystem saveSystem = new SaveSystem();
+	/** Handles functions relating to saving and loading game states. New saves are binary; older JSON saves still load. */
+	private SaveSystem saveSystem = new SaveSystem(SaveFormat.BINARY_EXTENSION);
 	/** Responsible for managing student profiles and high scores. */
 	private ProfileManager profileManager;
 	/** Used to enable debug mode*/
@@ -135,6 +135,9 @@ public class MainGame extends Game {
 			setScreen(agilityTestScreen);
 		});
 		gameBoard.addSaveGameListener(saveName -> saveGameState(gameBoard.getGameState(), saveName));
+		gameBoard.addTurnEndListener(gameState -> saveSystem.autosave(gameState));
+		shopScreen.addTradeListener(trade -> gameBoard.getGameState().record(trade,
+				gameBoard.getGameState().getCurrentPlayer()));
 
 		//For back to screen buttons
 		knowledgeListScreen.addBackToPause(v -> setScreen(pauseScreen));
@@ -153,6 +156,14 @@ public class MainGame extends Game {
 			setScreen(knowledgeListScreen);
 		});
 
+		// Report saves which could not be written. The save system reports from its own thread
+		saveSystem.addSaveFailedListener(saveName -> Gdx.app.postRunnable(() -> {
+			if (getScreen() instanceof GameScreen) {
+				GameScreen screen = (GameScreen) getScreen();
+				Utility.showErrorDialog("Error; failed to save " + saveName, screen.stage, screen.skin);
+			}
+		}));
+
 		// Set EndScreen observers
 		endScreen.addMenuListener(v -> {
 			SoundSystem.getInstance().stopMusic();
@@ -166,12 +177,10 @@ public class MainGame extends Game {
                 Utility.showErrorDialog("Error; failed to open saves folder.", endScreen.stage, endScreen.skin);
             }
         });
-		endScreen.addUpdateScoreListener(profile -> {
+		endScreen.addUpdateScoreListener(profiles -> {
 
-			// Modify the PlayerProfile based on what happened in the game
-			this.profileManager.changeKnowledgeLevel(profile.getName(), profile.getKnowledgeLevel());
-			this.profileManager.updateHighScore(profile.getName(), profile.getHighScore());
-			this.profileManager.updateLifetimeScore(profile.getName(), profile.getLifetimeScore());
+			// Modify the PlayerProfiles based on what happened in the game
+			this.profileManager.applyGameResults(profiles);
 
 			// Reload all screens involving scores and levels to reflect changes
 			this.reloadScoreScreens();
@@ -218,6 +227,7 @@ public class MainGame extends Game {
 		mainMenuScreen.addStartGameListener(v -> setScreen(newGameScreen));
 		mainMenuScreen.addContinueGameListener(v -> {
             try {
+				saveSystem.flush();  // The latest save may still be being written
                 saveScreen.loadLatestSave(mainMenuScreen.stage, mainMenuScreen.skin);
             } catch (FileNotFoundException e) {
 				Utility.showErrorDialog("Error; saves folder not found", mainMenuScreen.stage, mainMenuScreen.skin);
@@ -227,6 +237,7 @@ public class MainGame extends Game {
 		mainMenuScreen.addTutorialScreenListener(v -> setScreen(tutorialScreen));
 		// Set InstructorDashboardScreen observers
 		mainMenuScreen.addLoadGameListener(v -> {
+			saveSystem.flush();  // List saves still being written
 			setScreen(saveScreen);
 		});
 		mainMenuScreen.addHighScoreListener(v -> {
@@ -272,9 +283,11 @@ public class MainGame extends Game {
 			String newName = studentData[1];
 			int newKnowledgeLevel = Integer.parseInt(studentData[2]);
 
-			// Make changes to student database
-			this.profileManager.changeKnowledgeLevel(currentName, newKnowledgeLevel);  // FIXME: Since players stored as references, may be better to just use the getProfile() and PlayerProfile getters/setters directly?
-			this.profileManager.renameStudent(currentName, newName);
+			// Make changes to student database, writing them to file once
+			this.profileManager.batch(() -> {
+				this.profileManager.changeKnowledgeLevel(currentName, newKnowledgeLevel);
+				this.profileManager.renameStudent(currentName, newName);
+			});
 
 			// Reload all screens involving scores and levels to reflect changes
 			this.reloadScoreScreens();
@@ -347,6 +360,7 @@ public class MainGame extends Game {
 		newGameScreen.dispose();
 		tutorialScreen.dispose();
 
+		saveSystem.dispose();  // Write any saves still waiting
 		batch.dispose();
 		assets.dispose();
 		super.dispose();
@@ -358,14 +372,16 @@ public class MainGame extends Game {
 	 */
 	private void saveGameState(GameState gs, String saveName) {
 
-		// Save game state
-		saveSystem.saveGameState(gs, saveName);
+		// Save game state in the background, so the game doesn't stall while the save is written
+		saveSystem.saveGameStateAsync(gs, saveName);
 
-		// Update the level of each player in the game
-		for (Player player : gs.getPlayerList()) {
-			String studentName = player.getPlayerProfile().getName();
-			this.profileManager.changeKnowledgeLevel(studentName, player.getLevel());
-		}
+		// Update the level of each player in the game, writing the student database once
+		this.profileManager.batch(() -> {
+			for (Player player : gs.getPlayerList()) {
+				String studentName = player.getPlayerProfile().getName();
+				this.profileManager.changeKnowledgeLevel(studentName, player.getLevel());
+			}
+		});
 
 		// Reload all screens involving scores and levels to reflect changes
 		this.reloadScoreScreens();
@@ -377,6 +393,7 @@ public class MainGame extends Game {
 	 * @param path the path where the serialized JSON is located
 	 */
 	private GameState loadGameState(String path) {
+		saveSystem.flush();  // Finish writing any saves still in progress
 		return saveSystem.readGameState(path, assets);
 	}
 
@@ -14,8 +14,10 @@ import com.badlogic.gdx.utils.Align;
 import com.mygdx.game.Observer.Observable;
 import com.mygdx.game.Observer.Observer;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Manage students mode in the instructor dashboard. Provides a user interface for instructors to manage their class.
@@ -63,7 +65,7 @@ public class ManageStudentsScreen extends GameScreen {
     /** Responsible for storing and managing student profiles. */
     private final ProfileManager profileManager;
     /** List of all student profiles. */
-    private ArrayList<PlayerProfile> studentProfiles;
+    private List<PlayerProfile> studentProfiles;
 
 
     /** Buttons to select each student to be edited or removed. */
@@ -555,27 +557,15 @@ public class ManageStudentsScreen extends GameScreen {
      */
     private boolean inGame(String studentName) {
 
-        // Open folder of saves
-        File saveFolder = new File("saves");
-        File[] fileList = saveFolder.listFiles();
-
-        if (fileList != null) {  // Saved games exist
-
-            // Check each saved game
-            SaveSystem saves = new SaveSystem();
-            for (File file : fileList) {
-
-                GameState gs = saves.readGameState(file.getName(), this.assets);  // Load game state
-
-                // Check each player in the game save file
-                for (Player player : gs.getPlayerList()) {
-                    if (player.getPlayerProfile().getName().equals(studentName)) {  // Student found in game
-                        return true;
-                    }
-
+        // Check the players of each saved game
+        try {
+            for (SaveManifest.Entry save : SaveManifest.of(new File("saves")).list()) {
+                if (save.hasPlayer(studentName)) {  // Student found in game
+                    return true;
                 }
             }
-
+        } catch (FileNotFoundException e) {
+            return false;  // No saved games exist
         }
 
         return false;  // No saved games exist or checked all save files and student not found
@@ -1,54 +1,34 @@
 package com.mygdx.game.Node;
 
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.mygdx.game.Config;
+import com.mygdx.game.Engine.Rules;
 import com.mygdx.game.GameBoard;
 import com.mygdx.game.Player;
 
-import java.util.Map;
-
 /**
  * On landing, the Player has a choice to start an Agility Test game.
  */
-public class AgilityTestNode extends Node {
-    Sprite symbol;
-
-    public AgilityTestNode(int mapX, int mapY, boolean north, boolean east, boolean south, boolean west, Map<String, Node> map, AssetManager assets) {
-        super(mapX, mapY, north, east, south, west, assets);
-        loadTextures(assets);
-    }
-
-
-    public AgilityTestNode(int mapX, int mapY, AssetManager assets) {
-        super(mapX, mapY, assets);
-        loadTextures(assets);
-    }
+public class AgilityTestBehaviour extends NodeBehaviour {
 
     /**
-     * necessary for serialization
+     * Only created by {@link NodeBehaviour#of(com.mygdx.game.Engine.TileType)}.
      */
-    private AgilityTestNode() {}
+    AgilityTestBehaviour() {}
 
     @Override
-    public void loadTextures(AssetManager assets) {
-        super.loadTextures(assets);
-
-        symbol = new Sprite((Texture) assets.get(Config.getInstance().getAgilityTilePath()));
-        symbol.setTexture(assets.get(Config.getInstance().getAgilityTilePath()));
-        symbol.setPosition(sprite.getX() + 12.5f, sprite.getY() + 12.5f);
-        symbol.setSize(75, 75);
+    public Texture getSymbol(NodeTextures textures) {
+        return textures.getAgility();
     }
 
     /**
      * Prompt the Player to start a game, if they have enough money
      *
+     * @param node the Node which was landed on
      * @param player the Player who landed on the Node
      * @param batch the SpriteBatch to draw on
      * @param stage the GameBoard's Stage
@@ -58,13 +38,13 @@ public class AgilityTestNode extends Node {
      * @return true if the Node will handle changing the turn, false otherwise
      */
     @Override
-    public boolean activate(Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
-        if(player.getMoney() >= 100) {
+    public boolean activate(Node node, Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
+        if(player.getMoney() >= Rules.AGILITY_TEST_COST) {
             Dialog playDialog = new Dialog("Play Game", skin) {
                 @Override
                 protected void result(Object object) {
                     if ((Boolean) object) {
-                        player.setMoney(player.getMoney() - 100);
+                        player.setMoney(player.getMoney() - Rules.AGILITY_TEST_COST);
                         board.agilityTestEvent.notifyObservers(null);
                     }
                     else {
@@ -98,11 +78,12 @@ public class AgilityTestNode extends Node {
     /**
      * Draw the symbol on top of the sprite.
      *
+     * @param node the Node to draw
      * @param batch the Batch to draw with
      */
     @Override
-    public void draw(Batch batch) {
-        sprite.draw(batch);
-        symbol.draw(batch);
+    public void draw(Node node, Batch batch) {
+        node.getSprite().draw(batch);
+        node.symbol.draw(batch);
     }
 }
@@ -0,0 +1,52 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Player;
+import com.mygdx.game.SoundSystem;
+
+/**
+ * When landed on, removes money from ALL players on the board.
+ */
+public class EventBehaviour extends NodeBehaviour {
+
+    /**
+     * Only created by {@link NodeBehaviour#of(com.mygdx.game.Engine.TileType)}.
+     */
+    EventBehaviour() {}
+
+    @Override
+    public Texture getTexture(NodeTextures textures) {
+        return textures.getEvent();
+    }
+
+    /**
+     * coule be used with item too
+     * @param node
+     * @param player
+     * @param batch
+     */
+    @Override
+    public void activate(Node node, Player player, SpriteBatch batch, boolean hardmode) {
+        //setting penalty amount to be double, actual activation is in GameState
+        node.penaltyAmount = Rules.globalPenalty(node.penaltyAmount, hardmode);
+        //notify observer in GameState
+        node.notifyGlobalEvent(node.penaltyAmount);
+        SoundSystem.getInstance().playSound("damage.mp3");
+    }
+
+    //TODO decide where the star selling should go, shop/sellnode or something else
+    //Hardmode everyone lose star if they have money
+    /*
+    public void sellStar(Player p, int starToMoney, int starsToSell){
+        if(p.getStars() <= 0){
+            //show dialogue for player has no star
+        }else{
+            int moneyGained = starToMoney * starsToSell;
+            p.setStars(p.getStars() - starsToSell);
+            p.setMoney(p.getMoney() + moneyGained);
+        }
+    }
+    */
+}
@@ -0,0 +1,74 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Json;
+import com.mygdx.game.Engine.TileType;
+
+/**
+ * Reads tiles from games saved before every tile became a single Node class.
+ * <br><br>
+ * Older saves name a Node subclass for each tile type. Those names are mapped to the placeholder classes below, which
+ * only set the tile type, and {@link #upgrade(Node)} then swaps each placeholder for a plain Node.
+ */
+public final class LegacyNodes {
+
+    /**
+     * Registers the old tile class names with a Json reader. Fields which only existed on the old classes are skipped.
+     *
+     * @param json Json object used to read saves
+     */
+    public static void register(Json json) {
+        json.addClassTag("com.mygdx.game.Node.NormalNode", Normal.class);
+        json.addClassTag("com.mygdx.game.Node.StarNode", Star.class);
+        json.addClassTag("com.mygdx.game.Node.PenaltyNode", Penalty.class);
+        json.addClassTag("com.mygdx.game.Node.GlobalPenaltyNode", Event.class);
+        json.addClassTag("com.mygdx.game.Node.AgilityTestNode", Agility.class);
+        json.setIgnoreUnknownFields(true);
+    }
+
+    /**
+     * Replaces a tile read from an old save with a plain Node of the same type. Other Nodes are returned unchanged.
+     *
+     * @param node Node read from a save
+     * @return Plain Node, whose textures are loaded by {@link Node#loadTextures(AssetManager)}
+     */
+    public static Node upgrade(Node node) {
+        if (node.getClass() == Node.class) return node;
+
+        Node upgraded = new Node(node.x, node.y, node.north, node.east, node.south, node.west, node.type, null);
+        upgraded.hasStar = node.hasStar;
+        upgraded.penaltyAmount = node.penaltyAmount;
+        upgraded.checkStar();
+        return upgraded;
+    }
+
+    /**
+     * Not instantiable.
+     */
+    private LegacyNodes() {}
+
+    /** Placeholder for saved normal tiles. */
+    static class Normal extends Node {
+        private Normal() { type = TileType.NORMAL; }
+    }
+
+    /** Placeholder for saved star tiles. */
+    static class Star extends Node {
+        private Star() { type = TileType.STAR; }
+    }
+
+    /** Placeholder for saved penalty tiles. */
+    static class Penalty extends Node {
+        private Penalty() { type = TileType.PENALTY; }
+    }
+
+    /** Placeholder for saved event tiles. */
+    static class Event extends Node {
+        private Event() { type = TileType.EVENT; }
+    }
+
+    /** Placeholder for saved agility test tiles. */
+    static class Agility extends Node {
+        private Agility() { type = TileType.AGILITY; }
+    }
+}
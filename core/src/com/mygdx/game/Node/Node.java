@@ -12,8 +12,15 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.mygdx.game.Config;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Engine.TileType;
 import com.mygdx.game.GameBoard;
+import com.mygdx.game.Observer.Observable;
+import com.mygdx.game.Observer.Observer;
 import com.mygdx.game.Player;
 
 
@@ -21,12 +28,15 @@ import java.io.Serializable;
 import java.util.*;
 
 /**
- * Represents a Node on the game board. 
+ * Represents a Node on the game board.
+ * <br><br>
+ * Each tile on the board is one long-lived Node. What the tile does is decided by its type, through a shared
+ * {@link NodeBehaviour}, so changing a tile's type is a field write rather than a new Node.
  */
-public abstract class Node implements Serializable {
+public class Node implements Serializable {
     protected String nodeID; // ID of the node in the Node Map
     protected Sprite sprite; // Sprite to render node on the board
-    protected Texture tileTexture; // Texture of the board tile
+    transient protected Sprite symbol; // Symbol drawn on top of the tile, for tile types which have one
     protected int x, y;
     protected int separateDist = 150; // Distance between nodes on the map
 
@@ -36,6 +46,17 @@ public abstract class Node implements Serializable {
     protected boolean south = false;
     protected boolean west = false;
 
+    protected TileType type; // Current type of the tile
+    public boolean hasStar = true; // Whether the star on a star tile can still be bought
+    protected int penaltyAmount = Rules.GLOBAL_PENALTY_AMOUNT; // Amount taken by the global penalty of an event tile
+
+    transient protected NodeBehaviour behaviour; // Shared behaviour of the tile's type
+    transient protected NodeTextures textures; // Shared tile textures, or null until the sprites are created
+    transient protected AssetManager assets; // Used to create the sprites the first time the Node is drawn
+    // Observable must be transient as the Observer contains a reference to the GameState, creating a loop
+    // Recreate observers when deserializing
+    transient protected Observable<Integer> globalEvent = new Observable<>();
+
 
     /**
      * Constructor for Node.
@@ -46,10 +67,11 @@ public abstract class Node implements Serializable {
      * @param east   indicates if there's a node East on the map
      * @param south  indicates if there's a node South on the map
      * @param west   indicates if there's a node West on the map
+     * @param type   type of tile
      * @param assets AssetManager to use
      */
-    public Node(int mapX, int mapY, boolean north, boolean east, boolean south, boolean west, AssetManager assets) {
-        this(mapX, mapY, assets);
+    public Node(int mapX, int mapY, boolean north, boolean east, boolean south, boolean west, TileType type, AssetManager assets) {
+        this(mapX, mapY, type, assets);
 
         // Set available directions
         this.north = north;
@@ -63,36 +85,98 @@ public abstract class Node implements Serializable {
      *
      * @param mapX X position
      * @param mapY Y position
+     * @param type type of tile
      * @param assets AssetManager to use
      */
-    public Node(int mapX, int mapY, AssetManager assets) {
+    public Node(int mapX, int mapY, TileType type, AssetManager assets) {
         this.nodeID = String.valueOf(mapX) + "," + String.valueOf(mapY);
         this.x = mapX;
         this.y = mapY;
+        this.type = type;
 
-        // Setup sprite
-        Config config = Config.getInstance();
-        tileTexture = assets.get(config.getTilePath());
-        sprite = new Sprite(tileTexture);
-        sprite.setSize(100, 100);
-        sprite.setPosition(x * separateDist, y * separateDist);
         loadTextures(assets);
     }
 
+    /**
+     * Constructor for the Node of a tile in a board layout. Shares the tile ID of the layout's compiled graph.
+     *
+     * @param layout layout of the board
+     * @param tile   index of the tile in the layout
+     * @param assets AssetManager to use
+     */
+    public Node(BoardLayout layout, int tile, AssetManager assets) {
+        this(layout.getX(tile), layout.getY(tile), layout.hasDirection(tile, BoardLayout.NORTH),
+                layout.hasDirection(tile, BoardLayout.EAST), layout.hasDirection(tile, BoardLayout.SOUTH),
+                layout.hasDirection(tile, BoardLayout.WEST), layout.getType(tile), assets);
+        this.nodeID = layout.getGraph().getID(tile);
+    }
+
     /**
      * No-arg constructor for serialization
      */
     protected Node() {}
 
     /**
-     * Load/reload textures. Required after deserialization.
+     * Load/reload textures. Required after deserialization. The Node's sprites are not created until it is first drawn
+     * or coloured, as saves only store the tile itself, and a loaded game may never be shown.
      *
-     * @param assets AssetManager to use
+     * @param assets AssetManager to use, or null if the Node will never be drawn
      */
     public void loadTextures(AssetManager assets) {
-        Config config = Config.getInstance();
-        tileTexture = assets.get(config.getTilePath());
-        sprite.setTexture(tileTexture);
+        this.assets = assets;
+        textures = null;  // Reapplied when next drawn
+        behaviour = NodeBehaviour.of(type);
+    }
+
+    /**
+     * Returns the type of tile this Node represents on the board.
+     *
+     * @return the Node's tile type
+     */
+    public TileType getType() { return type; }
+
+    /**
+     * Changes the type of tile this Node represents. A tile which becomes a star tile holds a star.
+     *
+     * @param type new tile type
+     */
+    public void setType(TileType type) {
+        this.type = type;
+        if (type == TileType.STAR) hasStar = true;
+        behaviour = NodeBehaviour.of(type);
+        if (textures != null) applyTextures();
+    }
+
+    /**
+     * Creates the Node's sprite if it has none, and sets its textures. Run the first time the sprite is needed.
+     */
+    private void createSprites() {
+        textures = NodeTextures.of(assets);
+        if (sprite == null) {
+            sprite = new Sprite(textures.getTile());
+            sprite.setSize(100, 100);
+            sprite.setPosition(x * separateDist, y * separateDist);
+        }
+        symbol = null;
+        applyTextures();
+    }
+
+    /**
+     * Sets the tile and symbol textures of the Node's type. The symbol sprite is only created once the tile has a type
+     * with a symbol, as most tiles never do.
+     */
+    private void applyTextures() {
+        sprite.setTexture(behaviour.getTexture(textures));
+        Texture symbolTexture = behaviour.getSymbol(textures);
+        if (symbolTexture != null) {
+            if (symbol == null) {
+                symbol = new Sprite(symbolTexture);
+                symbol.setPosition(sprite.getX() + 12.5f, sprite.getY() + 12.5f);
+                symbol.setSize(75, 75);
+            }
+            symbol.setTexture(symbolTexture);
+        }
+        checkStar();
     }
 
     /**
@@ -103,6 +187,7 @@ public abstract class Node implements Serializable {
      * @param hardmode whether the gameState is in hard mode
      */
     public void activate(Player player, SpriteBatch batch, boolean hardmode) {
+        behaviour.activate(this, player, batch, hardmode);
     }
 
     /**
@@ -118,16 +203,43 @@ public abstract class Node implements Serializable {
      * @return true if the Node will handle changing the turn, false otherwise
      */
     public boolean activate(Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
-        return false; // Returns false if the GameBoard should start the next turn automatically
+        return behaviour.activate(this, player, batch, stage, skin, board, hardmode);
     }
 
+    /**
+     * Hide the star if it was bought.
+     */
+    public void checkStar() {
+        if (symbol == null) return;  // Nothing drawn on top of the tile
+        if (type != TileType.STAR || hasStar) {
+            symbol.setAlpha(1.0f);
+        }
+        else {
+            symbol.setAlpha(0.0f);
+        }
+    }
+
+    /**
+     * Add an observer which is notified with the penalty amount when this Node triggers a global penalty event.
+     *
+     * @param ob observer to add
+     */
+    public void addEventListener(Observer<Integer> ob) { globalEvent.addObserver(ob); }
+
+    /**
+     * Notify observers of a global penalty event.
+     *
+     * @param penaltyAmount amount each player loses
+     */
+    void notifyGlobalEvent(int penaltyAmount) { globalEvent.notifyObservers(penaltyAmount); }
+
     /**
      * Draw the Node.
      *
      * @param batch the Batch to draw with
      */
     public void draw(Batch batch) {
-        sprite.draw(batch);
+        behaviour.draw(this, batch);
     }
 
     /**
@@ -136,102 +248,99 @@ public abstract class Node implements Serializable {
      *
      * @param distance EXACT distance from this node to match
      * @param prevNodeID previous node taken. Used to prevent going backwards
-     * @param nodeMap Map of nodes
+     * @param graph compiled graph of the board this node is on
      * @return the list of paths to reachable nodes
      */
-    public ArrayList<ArrayList<String>> getReachable(int distance, String prevNodeID, Map<String, Node> nodeMap) {
-        ArrayList<ArrayList<String>> foundNodes = new ArrayList<>();
-        if (distance < 1) return foundNodes; // Nothing in reach
-
-        ArrayList<String> path = new ArrayList<>(List.of(nodeID));
-        // Try all directions by adding / removing 1 from the x and y coordinates
-        String northID = String.valueOf(x) + "," + String.valueOf(y + 1);
-        String eastID = String.valueOf(x + 1) + "," + String.valueOf(y);
-        String southID = String.valueOf(x) + "," + String.valueOf(y - 1);
-        String westID = String.valueOf(x - 1) + "," + String.valueOf(y);
-        if (north && !northID.equals(prevNodeID)) {
-            getReachableRecur(nodeMap.get(northID), path, 1, distance, foundNodes, nodeMap);
-        }
-        if (east && !eastID.equals(prevNodeID)) {
-            getReachableRecur(nodeMap.get(eastID), path, 1, distance, foundNodes, nodeMap);
-        }
-        if (south && !southID.equals(prevNodeID)) {
-            getReachableRecur(nodeMap.get(southID), path, 1, distance, foundNodes, nodeMap);
-        }
-        if (west && !westID.equals(prevNodeID)) {
-            getReachableRecur(nodeMap.get(westID), path, 1, distance, foundNodes, nodeMap);
+    public ArrayList<ArrayList<String>> getReachable(int distance, String prevNodeID, BoardGraph graph) {
+        int[][] paths = graph.getReachability().getPaths(graph.indexOf(nodeID), graph.indexOf(prevNodeID), distance);
+        return toIDs(paths, graph);
+    }
+
+    /**
+     * Get one path to each Node exactly {@code distance} nodes away from this Node. Unlike
+     * {@link #getReachable(int, String, BoardGraph)}, the time taken does not grow with the number of distinct paths,
+     * so this stays fast on boards with many junctions. The path to each Node is the first of its paths found by
+     * {@code getReachable}.
+     *
+     * @param distance EXACT distance from this node to match
+     * @param prevNodeID previous node taken. Used to prevent going backwards
+     * @param graph compiled graph of the board this node is on
+     * @return the list of paths to reachable nodes, one per node
+     */
+    public ArrayList<ArrayList<String>> getDestinations(int distance, String prevNodeID, BoardGraph graph) {
+        int[][] paths = graph.getReachability().getDestinations(graph.indexOf(nodeID), graph.indexOf(prevNodeID), distance);
+        return toIDs(paths, graph);
+    }
+
+    /**
+     * Converts paths of tile indices into paths of node IDs.
+     *
+     * @param paths paths of tile indices
+     * @param graph graph the paths were found on
+     * @return the list of paths as node IDs
+     */
+    public static ArrayList<ArrayList<String>> toIDs(int[][] paths, BoardGraph graph) {
+        ArrayList<ArrayList<String>> foundNodes = new ArrayList<>(paths.length);
+        for (int[] path : paths) {
+            ArrayList<String> pathIDs = new ArrayList<>(path.length);
+            for (int tile : path) {
+                pathIDs.add(graph.getID(tile));
+            }
+            foundNodes.add(pathIDs);
         }
 
         return foundNodes;
     }
 
     /**
-     * Recursive helper function for getReachable. Depth First Search.
+     * Compiles nodes into a graph of the links between them. Tiles are numbered row by row, from the top left.
+     * Boards with the same tiles and links share one graph.
      *
-     * @param curr the current node
-     * @param path the path of nodes from the starting node to here (going backwards is disallowed)
-     * @param distance the current distance from the starting node
-     * @param target the target distance from the starting node
-     * @param found the list of valid reachable nodes found
+     * @param nodes all nodes on the board
+     * @return shared graph of the board
      */
-    private void getReachableRecur(Node curr, ArrayList<String> path, int distance, int target, ArrayList<ArrayList<String>> found, Map<String, Node> map) {
+    public static BoardGraph compileGraph(Collection<? extends Node> nodes) {
+        ArrayList<Node> ordered = new ArrayList<>(nodes);
+        ordered.sort((a, b) -> a.y != b.y ? Integer.compare(b.y, a.y) : Integer.compare(a.x, b.x));
 
-        ArrayList<String> newPath = new ArrayList<>(path);
-        newPath.add(curr.getID());
-
-        if (distance > target) {
-            // Logic error, we would run forever
-            throw new IllegalArgumentException("Distance exceeds target");
-        }
-        if (distance == target) {
-            found.add(newPath);
-            return;
+        int[] xs = new int[ordered.size()];
+        int[] ys = new int[ordered.size()];
+        int[] directions = new int[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            Node node = ordered.get(i);
+            xs[i] = node.x;
+            ys[i] = node.y;
+            directions[i] = node.getDirections();
         }
 
-        int currX = curr.getMapX();
-        int currY = curr.getMapY();
-        String northID = currX + "," + (currY + 1);
-        String eastID = (currX + 1) + "," + currY;
-        String southID = currX + "," + (currY - 1);
-        String westID = (currX - 1) + "," + currY;
-        if (curr.getNorth() && !northID.equals(path.get(path.size() - 1))) {
-            getReachableRecur(map.get(northID), newPath, distance + 1, target, found, map);
-        }
-        if (curr.getEast() && !eastID.equals(path.get(path.size() - 1))) {
-            getReachableRecur(map.get(eastID), newPath, distance + 1, target, found, map);
-        }
-        if (curr.getSouth() && !southID.equals(path.get(path.size() - 1))) {
-            getReachableRecur(map.get(southID), newPath, distance + 1, target, found, map);
-        }
-        if (curr.getWest() && !westID.equals(path.get(path.size() - 1))) {
-            getReachableRecur(map.get(westID), newPath, distance + 1, target, found, map);
-        }
+        return BoardGraph.of(xs, ys, directions);
     }
 
 
     /**
      * Nodes are set green when they are reachable for the current player
      */
-    public void setGreen() { sprite.setColor(Color.GREEN); }
+    public void setGreen() { getSprite().setColor(Color.GREEN); }
 
     /**
      * Nodes are set gray when they were on the previous path taken by the player
      */
-    public void setGray() { sprite.setColor(Color.GRAY); }
+    public void setGray() { getSprite().setColor(Color.GRAY); }
 
     /**
      * After movement, all reachable nodes must have their original color restored.
      */
-    public void setNoColor() { sprite.setColor(Color.WHITE); }
+    public void setNoColor() { getSprite().setColor(Color.WHITE); }
 
     public String getID() { return nodeID; }
 
     /**
-     * Getter to allow rendering of the Node's Sprite
+     * Getter to allow rendering of the Node's Sprite. Creates the sprite the first time it is needed.
      *
      * @return Node's Sprite
      */
     public Sprite getSprite() {
+        if (textures == null) createSprites();
         return sprite;
     }
 
@@ -245,6 +354,20 @@ public abstract class Node implements Serializable {
     public boolean getSouth() { return south; }
     public boolean getWest() { return west; }
 
+    /**
+     * Returns the enabled directions as {@link BoardLayout} direction flags.
+     *
+     * @return direction flags of the Node
+     */
+    public int getDirections() {
+        int directions = 0;
+        if (north) directions |= BoardLayout.NORTH;
+        if (east) directions |= BoardLayout.EAST;
+        if (south) directions |= BoardLayout.SOUTH;
+        if (west) directions |= BoardLayout.WEST;
+        return directions;
+    }
+
     // Getters for position
 
     // Position scaled to node
@@ -252,4 +375,42 @@ public abstract class Node implements Serializable {
     public int getYPos() { return y * separateDist; }
     public int getMapX() { return x; }
     public int getMapY() { return y; }
+
+
+    /**
+     * Saves a tile as its position, enabled directions, type, whether its star can still be bought, and the amount of
+     * its global penalty once it has doubled in hard mode. The ID is derived from the position and the sprite is created
+     * when the tile is first drawn. Registered by {@link com.mygdx.game.SaveCodecs}.
+     */
+    public static final class Codec implements Json.Serializer<Node> {
+        @Override
+        public void write(Json json, Node node, Class knownType) {
+            json.writeObjectStart();
+            json.writeValue("x", node.x);
+            json.writeValue("y", node.y);
+            json.writeValue("directions", node.getDirections());
+            json.writeValue("type", node.type.getCode());
+            if (!node.hasStar) json.writeValue("hasStar", false);
+            if (node.penaltyAmount != Rules.GLOBAL_PENALTY_AMOUNT) json.writeValue("penaltyAmount", node.penaltyAmount);
+            json.writeObjectEnd();
+        }
+
+        @Override
+        public Node read(Json json, JsonValue jsonData, Class type) throws IllegalArgumentException {
+            Node node = new Node();
+            node.x = jsonData.getInt("x");
+            node.y = jsonData.getInt("y");
+            node.nodeID = node.x + "," + node.y;
+            int directions = jsonData.getInt("directions");
+            node.north = (directions & BoardLayout.NORTH) != 0;
+            node.east = (directions & BoardLayout.EAST) != 0;
+            node.south = (directions & BoardLayout.SOUTH) != 0;
+            node.west = (directions & BoardLayout.WEST) != 0;
+            node.type = TileType.fromCode(jsonData.getInt("type"));
+            if (node.type == null) throw new IllegalArgumentException("Tile " + node.nodeID + " has no type");
+            node.hasStar = jsonData.getBoolean("hasStar", true);
+            node.penaltyAmount = jsonData.getInt("penaltyAmount", Rules.GLOBAL_PENALTY_AMOUNT);
+            return node;
+        }
+    }
 }
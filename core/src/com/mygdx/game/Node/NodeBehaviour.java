@@ -0,0 +1,100 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.Engine.TileType;
+import com.mygdx.game.GameBoard;
+import com.mygdx.game.Player;
+
+import java.util.EnumMap;
+
+/**
+ * What a tile does when it is landed on, and how it is drawn.
+ * <br><br>
+ * There is one shared behaviour per tile type. Behaviours hold no state of their own; anything which belongs to a
+ * single tile, such as whether its star has been bought, is stored on the {@link Node}. Changing a tile's type only
+ * swaps the behaviour it points to.
+ */
+public abstract class NodeBehaviour {
+
+    /** Shared behaviour of each tile type. */
+    private static final EnumMap<TileType, NodeBehaviour> behaviours = new EnumMap<>(TileType.class);
+    static {
+        behaviours.put(TileType.NORMAL, new NormalBehaviour());
+        behaviours.put(TileType.STAR, new StarBehaviour());
+        behaviours.put(TileType.PENALTY, new PenaltyBehaviour());
+        behaviours.put(TileType.EVENT, new EventBehaviour());
+        behaviours.put(TileType.AGILITY, new AgilityTestBehaviour());
+    }
+
+    /**
+     * Returns the shared behaviour of a tile type.
+     *
+     * @param type Tile type
+     * @return Behaviour of tiles of that type
+     */
+    public static NodeBehaviour of(TileType type) {
+        return behaviours.get(type);
+    }
+
+    /**
+     * Returns the texture of the tile itself.
+     *
+     * @param textures Textures loaded for the game board
+     * @return Tile texture
+     */
+    public Texture getTexture(NodeTextures textures) {
+        return textures.getTile();
+    }
+
+    /**
+     * Returns the symbol drawn on top of the tile, if the tile type has one.
+     *
+     * @param textures Textures loaded for the game board
+     * @return Symbol texture, or null if nothing is drawn on top of the tile
+     */
+    public Texture getSymbol(NodeTextures textures) {
+        return null;
+    }
+
+    /**
+     * Draw a tile.
+     *
+     * @param node the Node to draw
+     * @param batch the Batch to draw with
+     */
+    public void draw(Node node, Batch batch) {
+        node.getSprite().draw(batch);
+    }
+
+    /**
+     * Runs when a tile is landed on.
+     *
+     * @param node the Node which was landed on
+     * @param player the Player who landed on the Node
+     * @param batch the SpriteBatch to draw on
+     * @param hardmode whether the gameState is in hard mode
+     */
+    public void activate(Node node, Player player, SpriteBatch batch, boolean hardmode) {
+    }
+
+    /**
+     * Run by the GameBoard when a tile is landed on. Used to allow interaction with the GameBoard.
+     * To delay passing of a turn, this function can return true to indicate that it will control starting the next turn.
+     *
+     * @param node the Node which was landed on
+     * @param player the Player who landed on the Node
+     * @param batch the SpriteBatch to draw on
+     * @param stage the GameBoard's Stage
+     * @param skin the GameBoard's Skin
+     * @param board the GameBoard executing the function
+     * @param hardmode whether the gameState is in hard mode
+     * @return true if the Node will handle changing the turn, false otherwise
+     */
+    public boolean activate(Node node, Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
+        return false; // Returns false if the GameBoard should start the next turn automatically
+    }
+}
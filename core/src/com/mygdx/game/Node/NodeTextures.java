@@ -0,0 +1,60 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.mygdx.game.Config;
+
+/**
+ * Textures used to draw game board tiles, looked up once per AssetManager and shared by every tile.
+ */
+public final class NodeTextures {
+
+    /** Textures looked up most recently. Reused while the same AssetManager is in use. */
+    private static NodeTextures current;
+
+    /** AssetManager the textures were loaded from. */
+    private final AssetManager assets;
+    /** General tile texture. */
+    private final Texture tile;
+    /** Star drawn on top of star tiles. */
+    private final Texture star;
+    /** Penalty tile texture. */
+    private final Texture penalty;
+    /** Event tile texture. */
+    private final Texture event;
+    /** Symbol drawn on top of agility test tiles. */
+    private final Texture agility;
+
+
+    /**
+     * Constructor looks up every tile texture.
+     *
+     * @param assets AssetManager loaded with the game board textures
+     */
+    private NodeTextures(AssetManager assets) {
+        Config config = Config.getInstance();
+        this.assets = assets;
+        this.tile = assets.get(config.getTilePath());
+        this.star = assets.get(config.getStarTilePath());
+        this.penalty = assets.get(config.getPenaltyTilePath());
+        this.event = assets.get(config.getEventTilePath());
+        this.agility = assets.get(config.getAgilityTilePath());
+    }
+
+    /**
+     * Returns the tile textures loaded from an AssetManager.
+     *
+     * @param assets AssetManager loaded with the game board textures
+     * @return Tile textures
+     */
+    public static synchronized NodeTextures of(AssetManager assets) {
+        if (current == null || current.assets != assets) current = new NodeTextures(assets);
+        return current;
+    }
+
+    public Texture getTile() { return tile; }
+    public Texture getStar() { return star; }
+    public Texture getPenalty() { return penalty; }
+    public Texture getEvent() { return event; }
+    public Texture getAgility() { return agility; }
+}
@@ -0,0 +1,25 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Player;
+
+/**
+ * Plain tile. Gives the player a small amount of money.
+ */
+public class NormalBehaviour extends NodeBehaviour {
+
+    /**
+     * Only created by {@link NodeBehaviour#of(com.mygdx.game.Engine.TileType)}.
+     */
+    NormalBehaviour() {}
+
+    @Override
+    public void activate(Node node, Player player, SpriteBatch batch, boolean hardmode) {
+        //maybe add logic for showing the adding money graphic??
+        player.setMoney(player.getMoney() + getBaseMoney());
+    }
+    public int getBaseMoney(){
+        return Rules.NORMAL_TILE_MONEY;
+    }
+}
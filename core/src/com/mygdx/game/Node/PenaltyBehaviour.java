@@ -0,0 +1,37 @@
+package com.mygdx.game.Node;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Engine.GameModel;
+import com.mygdx.game.Player;
+import com.mygdx.game.SoundSystem;
+
+/**
+ * Tile which takes money or stars from the player who lands on it.
+ */
+public class PenaltyBehaviour extends NodeBehaviour {
+
+    /**
+     * Only created by {@link NodeBehaviour#of(com.mygdx.game.Engine.TileType)}.
+     */
+    PenaltyBehaviour() {}
+
+    @Override
+    public Texture getTexture(NodeTextures textures) {
+        return textures.getPenalty();
+    }
+
+    /**
+     * TODO hardmode lose star and go negative
+     * easy mode no lose star and no negative
+     * @param node
+     * @param player
+     * @param batch
+     */
+    @Override
+    public void activate(Node node, Player player, SpriteBatch batch, boolean hardmode) {
+        GameModel.applyPenalty(player, hardmode);
+
+        SoundSystem.getInstance().playSound("damage.mp3");
+    }
+}
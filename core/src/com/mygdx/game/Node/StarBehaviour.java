@@ -1,58 +1,34 @@
 package com.mygdx.game.Node;
 
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.mygdx.game.*;
-import com.mygdx.game.Observer.Observable;
+import com.mygdx.game.Engine.GameModel;
+import com.mygdx.game.Engine.Rules;
 
-import java.util.Map;
+/**
+ * Tile holding a star which can be purchased. Whether the star is still there is stored on the Node.
+ */
+public class StarBehaviour extends NodeBehaviour {
 
-
-public class StarNode extends Node {
-    int starCost;
-    public boolean hasStar = true;
-    private Observable<Void> starEvent = new Observable<Void>();
-    private Dialog buyStarDialog;
-    private Dialog starDialog;
-
-    transient protected Sprite starSprite; // Visible if there is a star on the node
-
-
-    public StarNode(int mapX, int mapY, boolean north, boolean east, boolean south, boolean west, Map<String, Node> map, AssetManager assets) {
-        super(mapX, mapY, north, east, south, west, assets);
-        loadTextures(assets);
-    }
-
-    public StarNode(int mapX, int mapY, AssetManager assets) {
-        super(mapX, mapY, assets);
-        loadTextures(assets);
-    }
     /**
-     * necessary for serialization
+     * Only created by {@link NodeBehaviour#of(com.mygdx.game.Engine.TileType)}.
      */
-    private StarNode() {}
+    StarBehaviour() {}
 
     @Override
-    public void loadTextures(AssetManager assets) {
-        super.loadTextures(assets);
-
-        starSprite = new Sprite((Texture) assets.get(Config.getInstance().getStarTilePath()));
-        starSprite.setTexture(assets.get(Config.getInstance().getStarTilePath()));
-        starSprite.setPosition(sprite.getX() + 12.5f, sprite.getY() + 12.5f);
-        starSprite.setSize(75, 75);
-
-        checkStar();
+    public Texture getSymbol(NodeTextures textures) {
+        return textures.getStar();
     }
 
     /**
      * activate the star purchase dialog,
      *
+     * @param node the Node which was landed on
      * @param player the Player who landed on the Node
      * @param batch the SpriteBatch to draw on
      * @param stage the GameBoard's Stage
@@ -61,19 +37,16 @@ public class StarNode extends Node {
      * @param hardmode whether the gameState is in hard mode
      * @return true if the Node will handle changing the turn, false otherwise
      */
-    public boolean activate(Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
-        if(!hardmode){
-            starCost = 100;
-        }else {
-            starCost = 250;
-        }
-        if(hasStar){
+    @Override
+    public boolean activate(Node node, Player player, SpriteBatch batch, Stage stage, Skin skin, GameBoard board, boolean hardmode) {
+        int starCost = Rules.starCost(hardmode);
+        if(node.hasStar){
             if(player.getMoney() >= starCost){
-                buyStarDialog = new Dialog("Buying Star", skin) {
+                Dialog buyStarDialog = new Dialog("Buying Star", skin) {
                     @Override
                     protected void result(Object object) {
                         if ((Boolean) object) {
-                            starMod(player);
+                            starMod(node, player, starCost);
                         }
 
                         // Inform GameState to change the turn
@@ -87,7 +60,7 @@ public class StarNode extends Node {
                 buyStarDialog.show(stage);
                 //TODO dialog for denied purchase
             }else{
-                starDialog = new Dialog("Can't buy Star", skin) {
+                Dialog starDialog = new Dialog("Can't buy Star", skin) {
                     @Override
                     protected void result(Object object) {
                         if ((Boolean) object) {
@@ -109,38 +82,29 @@ public class StarNode extends Node {
     /**
      * Draw the star on top of the sprite.
      *
+     * @param node the Node to draw
      * @param batch the Batch to draw with
      */
     @Override
-    public void draw(Batch batch) {
-        sprite.draw(batch);
-        starSprite.draw(batch);
+    public void draw(Node node, Batch batch) {
+        node.getSprite().draw(batch);
+        node.symbol.draw(batch);
     }
 
     /**
      * Perform the purchasing of a star by a player
      *
+     * @param node Node holding the star
      * @param player Player who is buying
+     * @param starCost Price of the star
      */
-    protected void starMod(Player player){
-            this.hasStar = false;
-            player.setStars( player.getStars() + 1 );
-            player.setMoney(player.getMoney() - starCost);
-            checkStar();
+    protected void starMod(Node node, Player player, int starCost){
+            node.hasStar = false;
+            GameModel.payForStar(player, starCost);
+            node.checkStar();
 
             // Feedback
             SoundSystem.getInstance().playSound("gainedStar.mp3", 0.35f);
             ActionTextSystem.addText("+1 Star", player.getSprite().getX(), player.getSprite().getY() + 50, 0.5f);
     }
-    /**
-     * Hide star if it was grabbed.
-     */
-    public void checkStar() {
-        if (hasStar) {
-            starSprite.setAlpha(1.0f);
-        }
-        else {
-            starSprite.setAlpha(0.0f);
-        }
-    }
 }
@@ -114,7 +114,7 @@ public class PauseScreen extends GameScreen {
         confirmMenuDialog.button("No", false);
 
         // Setup save game box
-        TextField saveNameInput = new TextField("NewGame", skin);
+        TextField saveNameInput = new TextField(SaveSystem.DEFAULT_SAVE_NAME, skin);
         saveGameDialog = new Dialog("Save Menu", skin) {
             @Override
             protected void result(Object object) {
@@ -6,6 +6,12 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.Engine.PlayerModel;
+import com.mygdx.game.Engine.RandomStream;
+import com.mygdx.game.Engine.Rules;
 import com.mygdx.game.Items.Item;
 import com.mygdx.game.Node.Node;
 
@@ -29,7 +35,7 @@ import static java.lang.Math.abs;
  * @author Franck Limtung (flimtung)
  * @author Earl Castillo (ecastil3)
  */
-public class Player implements Serializable {
+public class Player implements PlayerModel, Serializable {
 
     /* Student data  */
 
@@ -79,6 +85,8 @@ public class Player implements Serializable {
 
     /** Number rolled on the die on a given turn. */
     private int dieRoll;
+    /** Stream the player's die rolls are drawn from. Split from the game's dice stream. */
+    private RandomStream dice;
     /** Number of die rolls remaining on a given turn. */
     private int rollsLeft;
     /** Maximum number of times a player can roll the die on a given turn. */
@@ -89,7 +97,11 @@ public class Player implements Serializable {
     private int maxMoves;
     /** Node ID of player's current position on the game board. */
     private String currentTile;
-    /** All paths reachable from the player's current position on the game board. */
+    /** Compiled graph of the game board. Set by the GameState, and rebuilt after loading. */
+    transient private BoardGraph board;
+    /** Index of the player's current position in the board graph, or -1 if the player has no board graph. */
+    transient private int currentIndex = -1;
+    /** One path to each tile reachable from the player's current position on the game board. */
     private ArrayList<ArrayList<String>> reachablePaths;
     /**
      * The previous game board tile the player was on. <br><br>
@@ -105,6 +117,12 @@ public class Player implements Serializable {
     private Sprite freezeSprite;
     /** Sprite rendered over the player when they have a shield. */
     private Sprite shieldSprite;
+    /** Colour of the player's sprite, read from a save. Applied when the sprites are rebuilt. */
+    transient private Color savedColor;
+    /** Used to create the sprites the first time they are needed. */
+    transient private AssetManager assets;
+    /** Position of the player's current tile on the board, where the sprites are placed when they are created. */
+    transient private float tileX, tileY;
 
 
     /**
@@ -166,18 +184,6 @@ public class Player implements Serializable {
         this.reachablePaths = new ArrayList<>();
         this.previousPath = new ArrayList<>();
 
-        // Load player's sprite
-        sprite = new Sprite((Texture) assets.get(profile.getSpritePath()));
-        sprite.setSize(100, 100);
-        sprite.setPosition(0, 0);
-
-        freezeSprite = new Sprite((Texture) assets.get(Config.getInstance().getPlayerFreezePath()));
-        freezeSprite.setSize(100, 100);
-        freezeSprite.setAlpha(0.0f); // Starts invisible
-        shieldSprite = new Sprite((Texture) assets.get(Config.getInstance().getPlayerShieldPath()));
-        shieldSprite.setSize(35, 35);
-        shieldSprite.setAlpha(0.0f);
-
         loadTextures(assets);
     }
 
@@ -189,7 +195,7 @@ public class Player implements Serializable {
      */
     public Player(PlayerProfile profile, AssetManager assets) {
 
-        this(profile, assets, 0, 500, 0, null, 0, null, false, false, false, null);
+        this(profile, assets, 0, Rules.STARTING_MONEY, 0, null, 0, null, false, false, false, null);
     }
 
     /**
@@ -199,14 +205,14 @@ public class Player implements Serializable {
 
 
     /**
-     * Loads the player's sprites. Includes any sprites for the player's items.
+     * Loads the player's sprites. Includes any sprites for the player's items. Sprites the player doesn't have yet are
+     * created the first time they are needed, as saves only store the player's state.
      *
      * @param assets Used to load assets
      */
     public void loadTextures(AssetManager assets) {
-        sprite.setTexture(assets.get(profile.getSpritePath()));
-        freezeSprite.setTexture(assets.get(Config.getInstance().getPlayerFreezePath()));
-        shieldSprite.setTexture(assets.get(Config.getInstance().getPlayerShieldPath()));
+        this.assets = assets;
+        if (sprite != null) reloadSprites();
 
         // Load textures for all items
         Config config = Config.getInstance();
@@ -216,6 +222,63 @@ public class Player implements Serializable {
         }
     }
 
+    /**
+     * Sets the textures of sprites the player already has.
+     */
+    private void reloadSprites() {
+        sprite.setTexture(assets.get(profile.getSpritePath()));
+        freezeSprite.setTexture(assets.get(Config.getInstance().getPlayerFreezePath()));
+        shieldSprite.setTexture(assets.get(Config.getInstance().getPlayerShieldPath()));
+    }
+
+
+    /**
+     * Creates the player's sprites on their current tile, unless they already exist. The freeze and shield sprites are
+     * only visible while the player is frozen or has a shield.
+     */
+    private void createSprites() {
+        if (sprite != null) return;
+
+        sprite = new Sprite((Texture) assets.get(profile.getSpritePath()));
+        sprite.setSize(100, 100);
+        sprite.setPosition(tileX, tileY);
+        if (savedColor != null) sprite.setColor(savedColor);
+
+        freezeSprite = new Sprite((Texture) assets.get(Config.getInstance().getPlayerFreezePath()));
+        freezeSprite.setSize(100, 100);
+        freezeSprite.setPosition(tileX, tileY);
+        freezeSprite.setAlpha(frozen ? 0.8f : 0.0f); // Invisible unless frozen
+        shieldSprite = new Sprite((Texture) assets.get(Config.getInstance().getPlayerShieldPath()));
+        shieldSprite.setSize(35, 35);
+        shieldSprite.setPosition(tileX - 10, tileY - 10);
+        shieldSprite.setAlpha(hasShield ? 0.8f : 0.0f);
+    }
+
+    /**
+     * Places the player on their current tile. Used after loading a game, and doesn't need any assets.
+     *
+     * @param nodeMap Map of all board nodes.
+     */
+    public void restoreBoard(Map<String, Node> nodeMap) {
+        if (currentTile == null) return;  // Not on the board yet
+
+        setCurrentTile(currentTile, nodeMap);
+    }
+
+    /**
+     * Colours the tiles of the player's turn as they were before the game was saved. Used after loading a game in
+     * which it is the player's turn.
+     *
+     * @param nodeMap Map of all board nodes.
+     */
+    public void restoreTurn(Map<String, Node> nodeMap) {
+        if (currentTile == null) return;  // Not on the board yet
+
+        startTurn(nodeMap);
+        for (ArrayList<String> reachablePath : reachablePaths) {
+            nodeMap.get(reachablePath.get(reachablePath.size() - 1)).setGreen();
+        }
+    }
 
     /**
      * Refreshes the player's attributes. Run at the end of the player's turn.
@@ -267,9 +330,10 @@ public class Player implements Serializable {
     public int rollDie(Map<String, Node> nodeMap) {
 
         // Roll die
-        dieRoll = Utility.getRandom(1, 4);
+        if (dice == null) dice = new RandomStream();  // Player is not part of a seeded game
+        dieRoll = dice.nextInt(1, Rules.DIE_SIDES);
         if(useMultiDice){  // Check if multidice was used
-            dieRoll += Utility.getRandom(1, 4);
+            dieRoll += dice.nextInt(1, Rules.DIE_SIDES);
             useMultiDice = false;
         }
 
@@ -278,8 +342,10 @@ public class Player implements Serializable {
         if (previousPath.size() >= 2) {
             previousNode = previousPath.get(previousPath.size() - 2);
         }
-        // Get reachable nodes and color them
-        reachablePaths = nodeMap.get(currentTile).getReachable(dieRoll, previousNode, nodeMap);
+        // Get reachable nodes and color them. Only one path to each node is needed, as the player picks a node
+        if (board == null) setBoard(Node.compileGraph(nodeMap.values()));  // Not part of a game state; compiled once
+        int[][] paths = board.getReachability().getDestinations(currentIndex, board.indexOf(previousNode), dieRoll);
+        reachablePaths = Node.toIDs(paths, board);
         for (ArrayList<String> reachablePath : reachablePaths) {
             nodeMap.get(reachablePath.get(reachablePath.size() - 1)).setGreen();
         }
@@ -481,12 +547,14 @@ public class Player implements Serializable {
 
         if (has) {
             SoundSystem.getInstance().playSound("shield.mp3");
-            shieldSprite.setPosition(sprite.getX() - 10, sprite.getY() - 10);
-            shieldSprite.setAlpha(0.8f);
+            if (shieldSprite != null) {  // Otherwise placed when created
+                shieldSprite.setPosition(sprite.getX() - 10, sprite.getY() - 10);
+                shieldSprite.setAlpha(0.8f);
+            }
         }
         else {
             SoundSystem.getInstance().playSound("shieldDrop.mp3");
-            shieldSprite.setAlpha(0);
+            if (shieldSprite != null) shieldSprite.setAlpha(0);
         }
     }
 
@@ -506,7 +574,7 @@ public class Player implements Serializable {
      * Score = 1000 * stars + money + investments
      */
     public void calculateScore() {
-        this.score = 1000 * this.stars + this.money + this.investments;
+        this.score = Rules.calculateScore(this.stars, this.money, this.investments);
     }
 
 
@@ -538,8 +606,28 @@ public class Player implements Serializable {
      */
     public void setCurrentTile(String newTileID, Map<String, Node> nodeMap) {
         this.currentTile = newTileID;
+        if (board != null) currentIndex = board.indexOf(newTileID);
         Node newTile = nodeMap.get(newTileID);
-        this.sprite.setPosition(newTile.getXPos(), newTile.getYPos());
+        tileX = newTile.getXPos();
+        tileY = newTile.getYPos();
+        if (sprite != null) sprite.setPosition(tileX, tileY);
+    }
+
+    /**
+     * Returns the index of the player's current position in the board graph.
+     *
+     * @return Index of the player's current tile, or -1 if the player has no board graph
+     */
+    public int getCurrentIndex() { return currentIndex; }
+
+    /**
+     * Sets the compiled graph of the game board, which is used to find reachable tiles.
+     *
+     * @param board Graph of the board the player is on
+     */
+    public void setBoard(BoardGraph board) {
+        this.board = board;
+        this.currentIndex = board.indexOf(currentTile);
     }
 
     /**
@@ -612,6 +700,20 @@ public class Player implements Serializable {
      */
     public int getDieRoll() { return dieRoll; }
 
+    /**
+     * Returns the stream the player's die rolls are drawn from.
+     *
+     * @return Dice stream, or null if it has not been set
+     */
+    public RandomStream getDice() { return dice; }
+
+    /**
+     * Sets the stream the player's die rolls are drawn from.
+     *
+     * @param dice Dice stream. Owned by the player from now on
+     */
+    public void setDice(RandomStream dice) { this.dice = dice; }
+
 
     /**
      * Check if Player has moves remaining for the current turn.
@@ -650,7 +752,10 @@ public class Player implements Serializable {
      *
      * @return Player's sprite.
      */
-    public Sprite getSprite() { return sprite; }
+    public Sprite getSprite() {
+        createSprites();
+        return sprite;
+    }
 
 
     /**
@@ -659,6 +764,7 @@ public class Player implements Serializable {
      * @return Player's sprite when frozen
      */
     public Sprite getFreezeSprite() {
+        createSprites();
         return freezeSprite;
     }
 
@@ -668,6 +774,7 @@ public class Player implements Serializable {
      * @return Sprite for the shield item
      */
     public Sprite getShieldSprite() {
+        createSprites();
         return shieldSprite;
     }
 
@@ -690,11 +797,13 @@ public class Player implements Serializable {
 
             // Play sound effect
             SoundSystem.getInstance().playSound("coldsnap.wav");
-            freezeSprite.setPosition(sprite.getX(), sprite.getY());
-            freezeSprite.setAlpha(0.8f);
+            if (freezeSprite != null) {  // Otherwise placed when created
+                freezeSprite.setPosition(sprite.getX(), sprite.getY());
+                freezeSprite.setAlpha(0.8f);
+            }
         }
         else {
-            freezeSprite.setAlpha(0);
+            if (freezeSprite != null) freezeSprite.setAlpha(0);
             this.frozen = false; // Unfreeze player
         }
     }
@@ -716,7 +825,7 @@ public class Player implements Serializable {
      */
     public boolean useShield() {
         if (hasShield) {
-            ActionTextSystem.addText("Used Shield", sprite.getX(), sprite.getY() + 50, 0.5f);
+            ActionTextSystem.addText("Used Shield", tileX, tileY + 50, 0.5f);
             setHasShield(false);
             return true;
         }
@@ -734,6 +843,17 @@ public class Player implements Serializable {
     }
 
 
+    /**
+     * Returns the number of shares the player owns of a stock.
+     *
+     * @param stock Stock type from the 6 available stocks
+     * @return Number of shares owned
+     */
+    public int getShares(int stock) {
+        return this.stocks.get(stock).size();
+    }
+
+
     /**
      * Adds a new stock to the player's stock portfolio and updates the player's money and investment account.
      *
@@ -787,10 +907,136 @@ public class Player implements Serializable {
     }
 
 
+    /**
+     * Points every share the player owns at the game's stock of that type. Used after loading, as saves only store the
+     * number of shares owned.
+     *
+     * @param market The game's stocks
+     */
+    void linkShares(Stock[] market) {
+        for (int i = 0; i < stocks.size() && i < market.length; i++) {
+            ArrayList<Stock> shares = stocks.get(i);
+            for (int j = 0; j < shares.size(); j++) {
+                shares.set(j, market[i]);
+            }
+        }
+    }
+
     /**
      * Returns the total value of the player's investment account
      *
      * @return Total value of investment account
      */
     public int getInvestments() {return this.investments;}
+
+
+    /**
+     * Saves the state of a player: their profile, score, money, shares, items, and where they are in their turn.
+     * Sprites are created when they are first drawn, except for the colour of the player's sprite, which is saved.
+     * Shares are saved as the number owned of each stock, and linked to the game's stocks by {@link GameState}.
+     * Registered by {@link SaveCodecs}.
+     */
+    public static final class Codec implements Json.Serializer<Player> {
+        @Override
+        public void write(Json json, Player player, Class knownType) {
+            json.writeObjectStart();
+            json.writeValue("profile", player.profile, PlayerProfile.class);
+            json.writeValue("level", player.level);
+            json.writeValue("score", player.score);
+            json.writeValue("stars", player.stars);
+            json.writeValue("money", player.money);
+            json.writeValue("investments", player.investments);
+            json.writeArrayStart("shares");
+            for (ArrayList<Stock> shares : player.stocks) {
+                json.writeValue(shares.size());
+            }
+            json.writeArrayEnd();
+            json.writeArrayStart("items");
+            for (Item item : player.items) {
+                json.writeValue(item, Item.class);
+            }
+            json.writeArrayEnd();
+            json.writeValue("useMultiDice", player.useMultiDice);
+            json.writeValue("hasShield", player.hasShield);
+            json.writeValue("frozen", player.frozen);
+            json.writeValue("dieRoll", player.dieRoll);
+            if (player.dice != null) json.writeValue("dice", player.dice.getState());
+            json.writeValue("rollsLeft", player.rollsLeft);
+            json.writeValue("maxRolls", player.maxRolls);
+            json.writeValue("movesLeft", player.movesLeft);
+            json.writeValue("maxMoves", player.maxMoves);
+            json.writeValue("currentTile", player.currentTile);
+            json.writeArrayStart("reachablePaths");
+            for (ArrayList<String> path : player.reachablePaths) {
+                writePath(json, null, path);
+            }
+            json.writeArrayEnd();
+            writePath(json, "previousPath", player.previousPath);
+            Color color = player.sprite != null ? player.sprite.getColor() : player.savedColor;
+            if (color != null) json.writeValue("color", Color.rgba8888(color));
+            json.writeObjectEnd();
+        }
+
+        @Override
+        public Player read(Json json, JsonValue jsonData, Class type) {
+            Player player = new Player();
+            player.profile = json.readValue(PlayerProfile.class, null, jsonData.get("profile"));
+            player.level = jsonData.getInt("level");
+            player.score = jsonData.getInt("score");
+            player.stars = jsonData.getInt("stars");
+            player.money = jsonData.getInt("money");
+            player.investments = jsonData.getInt("investments");
+            player.stocks = new ArrayList<>();
+            for (JsonValue owned = jsonData.get("shares").child; owned != null; owned = owned.next) {
+                ArrayList<Stock> shares = new ArrayList<>(owned.asInt());
+                for (int i = 0; i < owned.asInt(); i++) {
+                    shares.add(null);  // Linked to the game's stocks once they have been read
+                }
+                player.stocks.add(shares);
+            }
+            player.items = new ArrayList<>();
+            for (JsonValue item = jsonData.get("items").child; item != null; item = item.next) {
+                player.items.add(json.readValue(Item.class, null, item));
+            }
+            player.useMultiDice = jsonData.getBoolean("useMultiDice");
+            player.hasShield = jsonData.getBoolean("hasShield");
+            player.frozen = jsonData.getBoolean("frozen");
+            player.dieRoll = jsonData.getInt("dieRoll");
+            if (jsonData.has("dice")) player.dice = new RandomStream(jsonData.getLong("dice"));
+            player.rollsLeft = jsonData.getInt("rollsLeft");
+            player.maxRolls = jsonData.getInt("maxRolls");
+            player.movesLeft = jsonData.getInt("movesLeft");
+            player.maxMoves = jsonData.getInt("maxMoves");
+            player.currentTile = jsonData.getString("currentTile", null);
+            player.reachablePaths = new ArrayList<>();
+            for (JsonValue path = jsonData.get("reachablePaths").child; path != null; path = path.next) {
+                player.reachablePaths.add(readPath(path));
+            }
+            player.previousPath = readPath(jsonData.get("previousPath"));
+            if (jsonData.has("color")) player.savedColor = new Color(jsonData.getInt("color"));
+            return player;
+        }
+
+        /**
+         * Writes a path of node IDs as an array.
+         */
+        private static void writePath(Json json, String name, ArrayList<String> path) {
+            if (name == null) json.writeArrayStart(); else json.writeArrayStart(name);
+            for (String id : path) {
+                json.writeValue(id);
+            }
+            json.writeArrayEnd();
+        }
+
+        /**
+         * Reads a path of node IDs written by {@link #writePath(Json, String, ArrayList)}.
+         */
+        private static ArrayList<String> readPath(JsonValue jsonData) {
+            ArrayList<String> path = new ArrayList<>(jsonData.size);
+            for (JsonValue id = jsonData.child; id != null; id = id.next) {
+                path.add(id.asString());
+            }
+            return path;
+        }
+    }
 }
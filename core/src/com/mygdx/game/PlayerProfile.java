@@ -1,8 +1,9 @@
 package com.mygdx.game;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.*;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.util.List;
 
 
 /**
@@ -24,8 +25,6 @@ public class PlayerProfile {
     private int highScore;
     /** Student's knowledge level. */
     private int knowledgeLevel;
-    /** Stores all the learned knowledge from the knowledge catalog. Based on the student's knowledge level. */
-    private LinkedList<String> learned = new LinkedList<>();
     /** Path of the sprite to use when rendering the Player */
     private String spritePath;
 
@@ -45,9 +44,6 @@ public class PlayerProfile {
         this.highScore = highScore;
         this.knowledgeLevel = knowledgeLevel;
 
-        // Load knowledge base based on knowledge level
-        this.updateKnowledgeBase();
-
         Config config = Config.getInstance();
         spritePath = config.getPlayerPath();
     }
@@ -65,11 +61,10 @@ public class PlayerProfile {
     private PlayerProfile() {}
 
     /**
-     * Increases the player's knowledge level and updates their learned knowledge base.
+     * Increases the player's knowledge level, unlocking more of the knowledge catalog.
      */
     public void updateKnowledgeLevel () {
         this.knowledgeLevel++;
-        updateKnowledgeBase();
     }
 
     /**
@@ -129,12 +124,11 @@ public class PlayerProfile {
     }
 
     /**
-     * Purpose: sets the student's knowledge level and updates the knowledge base.
+     * Purpose: sets the student's knowledge level, which decides how much of the knowledge catalog is unlocked.
      * @param newLevel New knowledge level
      */
     public void setKnowledgeLevel(int newLevel) {
         this.knowledgeLevel = newLevel;
-        this.updateKnowledgeBase();
     }
 
      /**
@@ -144,53 +138,55 @@ public class PlayerProfile {
     public String getSpritePath() { return spritePath; }
 
     /**
-     * Updates the player's learned knowledge
+     * Sets the filepath of the player's sprite.
+     * @param spritePath File path of the player's Sprite
      */
-    private void updateKnowledgeBase () {
-
-        //Player levels up every 3 rounds for a total of 13 levels
-        //Each knowledge level grants 5 tips. Total of 65 "tips"
-        //As the player levels up, more and more complicated tips are granted
-        int line = this.knowledgeLevel * 5;
-        this.learned = new LinkedList<>(); //Resetting list
-
-        //Reading from file
-        try {
-
-            // Define path to assets directory, where knowledge catalog is stored
-            String catalogPathname = "external/knowledge catalog.txt";
-            String currentDirectory = System.getProperty("user.dir");
-
-            // Specify absolute path if running from unit tests folder
-            if (currentDirectory.endsWith("core")) {
-                catalogPathname = currentDirectory.substring(0, currentDirectory.length()-4) + "assets/" + catalogPathname;
-            }
-
-            // Open file
-            Scanner catalog = new Scanner(new File(catalogPathname));
-
-            for (int i = 0; i < line; i++) { //Getting all knowledge up to line
-                if (!catalog.hasNextLine()) break; //No more lines to read
-
-                this.learned.add(catalog.nextLine());
-            }
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-    }
+    public void setSpritePath(String spritePath) { this.spritePath = spritePath; }
 
     /**
-     * Returns a list of the student's knowledge base.
-     * @return List of the student's knowledge base.
+     * Returns a list of the student's knowledge base: the tips unlocked at their knowledge level, from simplest to
+     * most advanced.
+     * @return Unmodifiable view of the student's knowledge base, shared with the {@link KnowledgeCatalog}.
      */
-    public LinkedList<String> getLearned () {return this.learned;}
+    public List<String> getLearned () {
+        return KnowledgeCatalog.getInstance().getLearned(this.knowledgeLevel);
+    }
 
     /**
      * Returns the number of tips unlocked.
      * @return Number of tips unlocked.
      */
     public int getTipCount() {
-        return this.learned.size();
+        return KnowledgeCatalog.getInstance().getTipCount(this.knowledgeLevel);
+    }
+
+
+    /**
+     * Saves the profile of a player in a saved game or the student database. The learned knowledge base is not saved,
+     * as it follows from the knowledge level. Registered by {@link SaveCodecs}, and used by {@link ProfileFormat}.
+     */
+    public static final class Codec implements Json.Serializer<PlayerProfile> {
+        @Override
+        public void write(Json json, PlayerProfile profile, Class knownType) {
+            json.writeObjectStart();
+            json.writeValue("name", profile.name);
+            json.writeValue("lifetimeScore", profile.lifetimeScore);
+            json.writeValue("highScore", profile.highScore);
+            json.writeValue("knowledgeLevel", profile.knowledgeLevel);
+            json.writeValue("spritePath", profile.spritePath);
+            json.writeObjectEnd();
+        }
+
+        @Override
+        public PlayerProfile read(Json json, JsonValue jsonData, Class type) {
+            PlayerProfile profile = new PlayerProfile();
+            profile.name = jsonData.getString("name");
+            profile.lifetimeScore = jsonData.getInt("lifetimeScore", 0);
+            profile.highScore = jsonData.getInt("highScore", 0);
+            profile.knowledgeLevel = jsonData.getInt("knowledgeLevel", 1);
+            profile.spritePath = jsonData.getString("spritePath", Config.getInstance().getPlayerPath());
+            return profile;
+        }
     }
 
 }
\ No newline at end of file
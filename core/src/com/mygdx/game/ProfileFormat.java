@@ -0,0 +1,167 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the student database and high score table files used by {@link ProfileManager}.
+ * <br><br>
+ * Version 1 files were a list of profiles written by reflection, so every profile carried a copy of each tip it had
+ * unlocked, and each high score table carried its own copies of its students. Version 2 files record their version and
+ * store only what can't be worked out again. The student database stores each student's name, scores, knowledge level
+ * and sprite, written by {@link PlayerProfile.Codec}. Tips follow from the knowledge level through the
+ * {@link KnowledgeCatalog}. The high score tables store only the names of their students, which refer to the student
+ * database. Version 1 files are still read, and are rewritten in version 2 the first time they are loaded.
+ */
+public final class ProfileFormat {
+
+    /** Current version of the profile file format. Version 1 files have no version. */
+    public static final int VERSION = 2;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ProfileFormat() {}
+
+    /**
+     * Reads a student database or high score table file.
+     *
+     * @param filename Filename of JSON file
+     * @return Root of the file, or null if the file is missing, empty or cannot be opened
+     */
+    public static JsonValue read(String filename) {
+        try {
+            String inputString = Files.readString(Path.of(filename));
+            if (inputString.isEmpty()) return null;  // Empty file
+            return new JsonReader().parse(inputString);
+        }
+        catch (IOException e) {  // Error opening file
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a profile file was written in version 1 of the format, which has no version.
+     *
+     * @param root Root of the file, or null if the file is missing or empty
+     * @return True if the file is in version 1 of the format, false if it is current or missing
+     */
+    public static boolean isLegacy(JsonValue root) {
+        return root != null && root.isArray();
+    }
+
+    /**
+     * Reads the students of a student database file.
+     *
+     * @param root Root of the file, or null if the file is missing or empty
+     * @return Every student in the file, in order. Empty if the file is missing or empty
+     * @throws IllegalArgumentException If the file was written by a newer version of the game
+     */
+    public static ArrayList<PlayerProfile> readStudents(JsonValue root) throws IllegalArgumentException {
+        ArrayList<PlayerProfile> profiles = new ArrayList<>();
+        Json json = createJson();
+        for (JsonValue saved = students(root); saved != null; saved = saved.next) {
+            profiles.add(json.readValue(PlayerProfile.class, saved));
+        }
+        return profiles;
+    }
+
+    /**
+     * Reads the names of the students in a high score table file, from highest to lowest ranked.
+     *
+     * @param root Root of the file, or null if the file is missing or empty
+     * @return Names of the students in the table. Empty if the file is missing or empty
+     * @throws IllegalArgumentException If the file was written by a newer version of the game
+     */
+    public static ArrayList<String> readTable(JsonValue root) throws IllegalArgumentException {
+        ArrayList<String> names = new ArrayList<>();
+        for (JsonValue saved = students(root); saved != null; saved = saved.next) {
+            names.add(saved.isObject() ? saved.getString("name") : saved.asString());  // Version 1 stored copies
+        }
+        return names;
+    }
+
+    /**
+     * Writes a student database file.
+     *
+     * @param profiles Every student, in order
+     * @return Contents of the file
+     */
+    public static String writeStudents(List<PlayerProfile> profiles) {
+        Json json = createJson();
+        StringWriter buffer = new StringWriter();
+        json.setWriter(buffer);
+
+        json.writeObjectStart();
+        json.writeValue("version", VERSION);
+        json.writeArrayStart("students");
+        for (PlayerProfile profile : profiles) {
+            json.writeValue(profile, PlayerProfile.class);
+        }
+        json.writeArrayEnd();
+        json.writeObjectEnd();
+
+        return json.prettyPrint(buffer.toString());
+    }
+
+    /**
+     * Writes a high score table file.
+     *
+     * @param profiles Students in the table, from highest to lowest ranked
+     * @return Contents of the file
+     */
+    public static String writeTable(List<PlayerProfile> profiles) {
+        Json json = createJson();
+        StringWriter buffer = new StringWriter();
+        json.setWriter(buffer);
+
+        json.writeObjectStart();
+        json.writeValue("version", VERSION);
+        json.writeArrayStart("students");
+        for (PlayerProfile profile : profiles) {
+            json.writeValue(profile.getName());
+        }
+        json.writeArrayEnd();
+        json.writeObjectEnd();
+
+        return json.prettyPrint(buffer.toString());
+    }
+
+    /**
+     * Finds the list of students in a profile file of either version.
+     *
+     * @param root Root of the file, or null if the file is missing or empty
+     * @return First entry of the list, or null if there are none
+     * @throws IllegalArgumentException If the file was written by a newer version of the game
+     */
+    private static JsonValue students(JsonValue root) throws IllegalArgumentException {
+        if (root == null) return null;
+        if (isLegacy(root)) return root.child;
+
+        int version = root.getInt("version", 0);
+        if (version > VERSION) {
+            throw new IllegalArgumentException("Profile file was written by a newer version of the game: " + version);
+        }
+        JsonValue students = root.get("students");
+        return students == null ? null : students.child;
+    }
+
+    /**
+     * Creates a Json object which reads and writes profiles with their codec.
+     *
+     * @return Json object
+     */
+    private static Json createJson() {
+        Json json = new Json();
+        json.setSerializer(PlayerProfile.class, new PlayerProfile.Codec());
+        return json;
+    }
+}
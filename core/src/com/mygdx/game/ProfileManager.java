@@ -1,109 +1,167 @@
 package com.mygdx.game;
 
-import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.ScoreIndex;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Responsible for managing the database of student profiles and high score tables.
  * <br><br>
  * Includes methods to add, edit, or remove student profiles. Any changes made to the student profiles will
- * automatically update the high score tables and write the changes to file.
+ * automatically update the high score tables and write the changes to file. Profiles are found by name through a hash
+ * index, and the bulk methods write the database files once for the whole batch, so changes to a large roster cost
+ * the same per student as changes to a single class. Any other group of changes can be written once by making them
+ * inside {@link #batch(Runnable)}. The roster is kept by each student's position in it, so removing a student doesn't
+ * shift the students after them.
+ * <br><br>
+ * Besides the top 5 high score tables, every student's high score and lifetime score is counted in a
+ * {@link ScoreIndex}, so where any student stands in the whole roster can be found without sorting it.
+ * <br><br>
+ * The files are written in the {@link ProfileFormat}, where the high score tables refer to students by name rather
+ * than copying them. Files in the old format are rewritten in the current one when they are first loaded. The student
+ * database is kept by a {@link ProfileStore}, which is told only which students changed: a JSON file rewritten in full,
+ * or for very large rosters a {@link LogProfileStore} which appends each change.
  *
  * @author Joelene Hales
  */
 public class ProfileManager implements Serializable {
 
-    /** Object used to read/write student profiles to/from files. */
-    private static final Json json = new Json();
-    /** Filename of JSON file storing all student profiles. */
-    private String studentInformationFilename;
+    /** Number of students in each high score table. */
+    private static final int HIGH_SCORE_TABLE_SIZE = 5;
+    /** Store holding all student profiles. */
+    transient private ProfileStore store;
     /** Filename of JSON file storing the students with the highest achieved individual game scores. */
     private String highScoreFilename;
     /** Filename of JSON file storing the students with the highest overall lifetime scores. */
     private String lifetimeScoreFilename;
 
 
-    /** All student profiles. */
-    private ArrayList<PlayerProfile> studentInformation = new ArrayList<PlayerProfile>();
+    /** All student profiles by their position in the roster, in the order they were added. */
+    private LinkedHashMap<Long, PlayerProfile> studentInformation = new LinkedHashMap<Long, PlayerProfile>();
+    /** Read-only list of all student profiles, in the order they were added. Follows changes to the roster. */
+    transient private List<PlayerProfile> roster = new RosterView();
+    /** Index from student name to profile. Kept in sync with the student profiles. */
+    transient private HashMap<String, PlayerProfile> profileIndex = new HashMap<String, PlayerProfile>();
+    /** Number of batches of changes being made. Changes are written to file when the outermost batch ends. */
+    transient private int batchDepth = 0;
+    /** True if changes have been made in the current batch, which haven't been written to file. */
+    transient private boolean unsavedChanges = false;
+    /** Students added or changed since the database was last written, in the order they were first changed. */
+    transient private ArrayList<PlayerProfile> changedProfiles = new ArrayList<PlayerProfile>();
+    /** Students removed since the database was last written. */
+    transient private ArrayList<PlayerProfile> removedProfiles = new ArrayList<PlayerProfile>();
+    /** Where each student stands: their position in the roster, and the scores they are counted with. */
+    transient private IdentityHashMap<PlayerProfile, Standing> standings =
+            new IdentityHashMap<PlayerProfile, Standing>();
+    /** Position given to the next student added. */
+    transient private long nextRosterOrder = 0;
+    /** Counts every student's high score, to rank students within the whole roster. */
+    transient private ScoreIndex highScoreRanks = new ScoreIndex();
+    /** Counts every student's lifetime score, to rank students within the whole roster. */
+    transient private ScoreIndex lifetimeScoreRanks = new ScoreIndex();
     /** Top 5 students with the highest achieved individual game scores. */
-    private ArrayList<PlayerProfile> highScoreList = new ArrayList<PlayerProfile>();
+    transient private Leaderboard highScores =
+            new Leaderboard(HIGH_SCORE_TABLE_SIZE, PlayerProfile::getHighScore, this::getRosterOrder);
     /** Top 5 students with the highest overall lifetime scores. */
-    private ArrayList<PlayerProfile> lifetimeHighScoreList = new ArrayList<PlayerProfile>();
+    transient private Leaderboard lifetimeScores =
+            new Leaderboard(HIGH_SCORE_TABLE_SIZE, PlayerProfile::getLifetimeScore, this::getRosterOrder);
+    /** True if the individual game high score table changed since it was last written to file. */
+    transient private boolean highScoresChanged = false;
+    /** True if the lifetime high score table changed since it was last written to file. */
+    transient private boolean lifetimeScoresChanged = false;
 
 
     /**
-     * Constructor loads and stores all student profiles and high scores.
+     * Constructor loads and stores all student profiles and high scores. Student databases with the
+     * {@value LogProfileStore#EXTENSION} extension are stored as a {@link LogProfileStore}, and any other as a
+     * {@link JsonProfileStore}.
      *
-     * @param studentInformationFilename Filename of JSON file storing student profiles.
+     * @param studentInformationFilename Filename of file storing student profiles.
      * @param highScoreFilename Filename of JSON file storing the students with the highest achieved individual game scores.
      * @param lifetimeScoreFilename Filename of JSON file storing the students with the highest overall lifetime scores.
      */
     public ProfileManager(String studentInformationFilename, String highScoreFilename, String lifetimeScoreFilename) {
-
-        // Store filenames
-        this.studentInformationFilename = studentInformationFilename;
-        this.highScoreFilename = highScoreFilename;
-        this.lifetimeScoreFilename = lifetimeScoreFilename;
-
-        // Load student profiles
-        this.studentInformation = this.loadProfiles(this.studentInformationFilename);  // All student profiles
-        this.highScoreList = this.loadProfiles(this.highScoreFilename);                // Top 5 students with highest achieved individual game scores
-        this.lifetimeHighScoreList = this.loadProfiles(this.lifetimeScoreFilename);    // Top 5 students with the highest overall lifetime scores
-
+        this(LogProfileStore.isLog(studentInformationFilename)
+                        ? new LogProfileStore(Path.of(studentInformationFilename))
+                        : new JsonProfileStore(studentInformationFilename),
+                highScoreFilename, lifetimeScoreFilename);
     }
 
 
     /**
-     * Private no-arg constructor for serialization.
-     */
-    private ProfileManager() {}
-
-
-    /**
-     * Loads a list of student profiles from file.
+     * Constructor loads and stores all student profiles from a store, and the high scores.
      *
-     * @param filename Filename of JSON file containing student profiles.
-     * @return List of student profiles loaded.
+     * @param store Store holding student profiles.
+     * @param highScoreFilename Filename of JSON file storing the students with the highest achieved individual game scores.
+     * @param lifetimeScoreFilename Filename of JSON file storing the students with the highest overall lifetime scores.
+     * @throws IllegalArgumentException If the student database is not valid, or was written by a newer version.
      */
-    private ArrayList<PlayerProfile> loadProfiles(String filename) {
+    public ProfileManager(ProfileStore store, String highScoreFilename, String lifetimeScoreFilename)
+            throws IllegalArgumentException {
 
-        ArrayList<PlayerProfile> profiles;  // Stores player profiles read from file
+        // Store filenames
+        this.store = store;
+        this.highScoreFilename = highScoreFilename;
+        this.lifetimeScoreFilename = lifetimeScoreFilename;
 
+        // Load student profiles
+        ArrayList<PlayerProfile> loaded;
         try {
-            // Open file and read data
-            String inputString = Files.readString(Path.of(filename));
-
-            if (inputString.isEmpty()) {  // Empty file
-                profiles = new ArrayList<PlayerProfile>();  // Initialize an empty list of profiles
-            }
-            else {
-                // Create student profiles from read data
-                profiles = json.fromJson(ArrayList.class, PlayerProfile.class, inputString);
-            }
-
+            loaded = store.load();  // All student profiles
+        }
+        catch (IOException e) {  // Error reading the database
+            e.printStackTrace();
+            loaded = new ArrayList<PlayerProfile>();  // Initialize an empty list of profiles
         }
-        catch (IOException e) {  // Error opening file
-            profiles = new ArrayList<PlayerProfile>();  // Initialize an empty list of profiles
+
+        // Index student profiles by name. If a name appears more than once, the first profile is used, as before
+        for (PlayerProfile profile : loaded) {
+            this.profileIndex.putIfAbsent(profile.getName(), profile);
+            this.addStanding(profile);
         }
 
-        return profiles;
+        // Rank the students, and rewrite the high score tables if they are missing or out of date
+        this.highScores.rebuild(this.roster);
+        this.lifetimeScores.rebuild(this.roster);
+        JsonValue savedHighScores = ProfileFormat.read(this.highScoreFilename);
+        JsonValue savedLifetimeScores = ProfileFormat.read(this.lifetimeScoreFilename);
+        this.highScoresChanged = ProfileFormat.isLegacy(savedHighScores)
+                || !sameStudents(ProfileFormat.readTable(savedHighScores), this.highScores.getProfiles());
+        this.lifetimeScoresChanged = ProfileFormat.isLegacy(savedLifetimeScores)
+                || !sameStudents(ProfileFormat.readTable(savedLifetimeScores), this.lifetimeScores.getProfiles());
+        this.updateHighScoreFiles();
 
     }
 
 
     /**
-     * Returns a list of all student profiles.
+     * Private no-arg constructor for serialization.
+     */
+    private ProfileManager() {}
+
+
+    /**
+     * Returns a list of all student profiles, in the order they were added. The list can't be changed, and follows
+     * changes to the roster. Finding a student by index walks the roster, so visit every student by iterating instead.
      *
      * @return List of all student profiles.
      */
-    public ArrayList<PlayerProfile> getStudentProfiles() {
-        return this.studentInformation;
+    public List<PlayerProfile> getStudentProfiles() {
+        return this.roster;
     }
 
 
@@ -114,7 +172,7 @@ public class ProfileManager implements Serializable {
      * @return Students with the highest achieved individual game scores.
      */
     public ArrayList<PlayerProfile> getHighScoreList() {
-        return this.highScoreList;
+        return this.highScores.getProfiles();
     }
 
 
@@ -125,21 +183,20 @@ public class ProfileManager implements Serializable {
      * @return Students with the highest overall lifetime scores.
      */
     public ArrayList<PlayerProfile> getLifetimeHighScoreList() {
-        return this.lifetimeHighScoreList;
+        return this.lifetimeScores.getProfiles();
     }
 
 
     /**
-     * Saves a list of student profiles to a JSON file.
+     * Writes a student database or high score table file.
      *
-     * @param profiles List of student profiles to save.
+     * @param contents Contents of the file, in the current {@link ProfileFormat}.
      * @param filename Filename of JSON file.
      */
-    private void saveProfiles(ArrayList<PlayerProfile> profiles, String filename) {
+    private void writeDatabase(String contents, String filename) {
 
         try {
-            String profileString = json.prettyPrint(profiles);  // Serialize profile list
-            Files.writeString(Paths.get(filename), profileString);  // Open file and write
+            Files.writeString(Paths.get(filename), contents);  // Open file and write
         }
         catch (IOException e) {
             e.printStackTrace();
@@ -149,67 +206,147 @@ public class ProfileManager implements Serializable {
 
 
     /**
-     * Finds the index of a student's profile in a list of profiles.
+     * Checks if a student profile with the given name exists in the database.
      *
      * @param name Student's name.
-     * @param profileList List of student profiles to search.
-     * @return Index of the student in the list of profiles, or -1 if the student could not be found.
+     * @return True if a student profile with the given name exists, false if otherwise.
      */
-    private int findProfileIndex(String name, ArrayList<PlayerProfile> profileList) {
+    private boolean exists(String name) {
+        return this.profileIndex.containsKey(name);
+    }
 
-        // Search for student in the list of profiles by name
-        for (int index = 0; index < profileList.size(); index++) {  // Iterate through list of profiles
 
-            if (profileList.get(index).getName().equals(name)) {  // Profile found
-                return index;
-            }
+    /**
+     * Retrieves the profile of the student with the given name.
+     *
+     * @param name Student's name
+     * @return Student's profile
+     * @throws IllegalArgumentException If a student with the entered name does not exist
+     */
+    private PlayerProfile getProfile(String name) throws IllegalArgumentException {
+
+        PlayerProfile studentProfile = this.profileIndex.get(name);
+        if (studentProfile == null) {
+            throw new IllegalArgumentException("Student with the entered name does not exist.");
         }
 
-        return -1;  // Checked entire list and student not found
+        return studentProfile;
 
     }
 
 
     /**
-     * Checks if a student profile with the given name exists in the database.
+     * Returns the position of a student in the list of profiles, in the order students were added.
      *
-     * @param name Student's name.
-     * @return True if a student profile with the given name exists, false if otherwise.
+     * @param profile Student's profile.
+     * @return Position of the student. Students added later have higher positions.
      */
-    private boolean exists(String name) {
+    private long getRosterOrder(PlayerProfile profile) {
+        return this.standings.get(profile).order;
+    }
 
-        // Search the list of profiles for the student
-        for (PlayerProfile student : this.studentInformation) {
-            if (student.getName().equals(name)) {   // Profile with the given name found
-                return true;
-            }
-        }
 
-        return false;  // Checked entire list and student not found
+    /**
+     * Adds a student to the roster in a position after every other student, and counts their scores.
+     *
+     * @param profile Profile added.
+     */
+    private void addStanding(PlayerProfile profile) {
+        Standing standing = new Standing(this.nextRosterOrder++, profile);
+        this.studentInformation.put(standing.order, profile);
+        this.standings.put(profile, standing);
+        this.highScoreRanks.add(profile.getHighScore());
+        this.lifetimeScoreRanks.add(profile.getLifetimeScore());
+    }
+
 
+    /**
+     * Updates the high score tables and score counts after a student was added or changed, and records the change to
+     * be written to the store.
+     *
+     * @param profile Profile added or changed.
+     */
+    private void updateRankings(PlayerProfile profile) {
+        this.updateRankings(profile, false);
     }
 
 
     /**
-     * Retrieves the profile of the student with the given name.
+     * Updates the high score tables and score counts after a student was added, changed or renamed, and records the
+     * change to be written to the store.
      *
-     * @param name Student's name
-     * @return Student's profile
-     * @throws IllegalArgumentException If a student with the entered name does not exist
+     * @param profile Profile added or changed.
+     * @param renamed True if the student was renamed, which changes the high score tables they are in.
      */
-    private PlayerProfile getProfile(String name) throws IllegalArgumentException {
+    private void updateRankings(PlayerProfile profile, boolean renamed) {
 
-        // Search for student in the list of profiles by name
-        for (PlayerProfile studentProfile : this.studentInformation) {  // Iterate through list of profiles
+        Standing standing = this.standings.get(profile);
+        this.highScoreRanks.move(standing.highScore, profile.getHighScore());
+        this.lifetimeScoreRanks.move(standing.lifetimeScore, profile.getLifetimeScore());
+        standing.highScore = profile.getHighScore();
+        standing.lifetimeScore = profile.getLifetimeScore();
 
-            if (studentProfile.getName().equals(name)) {  // Student's profile found
-                return studentProfile;
-            }
+        this.highScoresChanged |= this.highScores.update(profile, this.roster, renamed);
+        this.lifetimeScoresChanged |= this.lifetimeScores.update(profile, this.roster, renamed);
+        this.changedProfiles.add(profile);  // Written to the store with the next change
+
+    }
 
+
+    /**
+     * Writes the student database and the high score tables to file. Run once after each change, or batch of changes.
+     * Inside a batch, the changes are only written once the batch ends.
+     */
+    private void saveChanges() {
+
+        if (this.batchDepth > 0) {  // Written when the batch ends
+            this.unsavedChanges = true;
+            return;
         }
 
-        // Checked entire list and student not found
-        throw new IllegalArgumentException("Student with the entered name does not exist.");
+        // Tell the store about each student changed once, leaving out students removed since
+        Set<PlayerProfile> written = Collections.newSetFromMap(new IdentityHashMap<PlayerProfile, Boolean>());
+        ArrayList<PlayerProfile> changed = new ArrayList<PlayerProfile>();
+        for (PlayerProfile profile : this.changedProfiles) {
+            if (this.standings.containsKey(profile) && written.add(profile)) changed.add(profile);
+        }
+        try {
+            this.store.write(this.roster, changed, this.removedProfiles);  // Write changes to file
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+        this.changedProfiles.clear();
+        this.removedProfiles.clear();
+
+        this.updateHighScoreFiles();  // Update high score tables
+        this.unsavedChanges = false;
+
+    }
+
+
+    /**
+     * Makes a group of changes to the student profiles, and writes updates to the database files once they have all
+     * been made, rather than after each change. Batches may be nested, in which case the files are written when the
+     * outermost batch ends.
+     * <br><br>
+     * If a change throws an exception, the changes made before it are still written, so the files always match the
+     * profiles in memory.
+     *
+     * @param changes Changes to make, by calling the methods of this ProfileManager.
+     */
+    public void batch(Runnable changes) {
+
+        this.batchDepth++;
+        try {
+            changes.run();
+        }
+        finally {
+            this.batchDepth--;
+            if (this.batchDepth == 0 && this.unsavedChanges) {
+                this.saveChanges();  // Write every change in the batch at once
+            }
+        }
 
     }
 
@@ -229,11 +366,41 @@ public class ProfileManager implements Serializable {
 
         // Create new profile for the student with the given name
         PlayerProfile studentProfile = new PlayerProfile(name);
-        this.studentInformation.add(studentProfile);
+        this.profileIndex.put(name, studentProfile);
+        this.addStanding(studentProfile);
+        this.updateRankings(studentProfile);
+
+        this.saveChanges();
+
+    }
+
+
+    /**
+     * Creates a new student profile for each name and writes updates to the database files once. No profiles are
+     * created if any of the names can't be added.
+     *
+     * @param names Students' names.
+     * @throws IllegalArgumentException If a student with one of the names already exists, or a name is repeated.
+     */
+    public void addStudents(Collection<String> names) throws IllegalArgumentException {
+
+        // Check every name before making any changes
+        LinkedHashMap<String, PlayerProfile> added = new LinkedHashMap<String, PlayerProfile>();
+        for (String name : names) {
+            if (this.exists(name) || added.containsKey(name)) {
+                throw new IllegalArgumentException("Student with the entered name already exists: " + name);
+            }
+            added.put(name, new PlayerProfile(name));
+        }
+
+        this.profileIndex.putAll(added);
+        for (PlayerProfile studentProfile : added.values()) {
+            this.addStanding(studentProfile);
+            this.updateRankings(studentProfile);
+        }
+
+        this.saveChanges();
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
-        
     }
 
 
@@ -250,23 +417,53 @@ public class ProfileManager implements Serializable {
             throw new IllegalArgumentException("Student with the entered name does not exist.");
         }
 
-        PlayerProfile removedProfile = getProfile(name);  // Retrieve the profile to be removed
-        this.studentInformation.remove(removedProfile);   // Remove profile from list
+        PlayerProfile removedProfile = this.profileIndex.remove(name);  // Retrieve the profile to be removed
+        this.removeFromRankings(List.of(removedProfile));
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
+        this.saveChanges();
 
         return removedProfile;
 
     }
 
 
+    /**
+     * Deletes the profiles of several existing students and writes updates to the database files once. No profiles are
+     * removed if any of the students do not exist.
+     *
+     * @param names Students' names.
+     * @return Profiles removed, in the order of the names given.
+     * @throws IllegalArgumentException If a student with one of the names does not exist.
+     */
+    public List<PlayerProfile> removeStudents(Collection<String> names) throws IllegalArgumentException {
+
+        // Check every name before making any changes
+        ArrayList<PlayerProfile> removedProfiles = new ArrayList<PlayerProfile>(names.size());
+        Set<PlayerProfile> removed = Collections.newSetFromMap(new IdentityHashMap<PlayerProfile, Boolean>());
+        for (String name : names) {
+            PlayerProfile profile = this.getProfile(name);
+            if (removed.add(profile)) removedProfiles.add(profile);
+        }
+
+        for (PlayerProfile profile : removedProfiles) {
+            this.profileIndex.remove(profile.getName());
+        }
+        this.removeFromRankings(removedProfiles);
+
+        this.saveChanges();
+
+        return removedProfiles;
+
+    }
+
+
     /**
      * Renames the student with the given name and writes updates to the database files.
      *
      * @param name Student's name.
      * @param newName New name of student.
-     * @throws IllegalArgumentException If the student to be renamed does not exist.
+     * @throws IllegalArgumentException If the student to be renamed does not exist, or another student already has the
+     * new name.
      */
     public void renameStudent(String name, String newName) throws IllegalArgumentException {
 
@@ -274,11 +471,16 @@ public class ProfileManager implements Serializable {
             throw new IllegalArgumentException("Student with the entered name does not exist.");
         }
 
-        PlayerProfile profile = getProfile(name);   // Retrieve the profile of the student with the given name
+        if (!name.equals(newName) && this.exists(newName)) {  // Names must stay unique to find students by name
+            throw new IllegalArgumentException("Student with the entered name already exists.");
+        }
+
+        PlayerProfile profile = this.profileIndex.remove(name);   // Retrieve the profile of the student with the given name
         profile.setName(newName);   // Rename student
+        this.profileIndex.put(newName, profile);
+        this.updateRankings(profile, true);
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
+        this.saveChanges();
 
     }
 
@@ -303,9 +505,9 @@ public class ProfileManager implements Serializable {
 
         PlayerProfile profile = getProfile(name);      // Retrieve the profile of the student with the given name
         profile.setKnowledgeLevel(newKnowledgeLevel);  // Change student's knowledge level
+        this.updateRankings(profile);
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
+        this.saveChanges();
 
     }
 
@@ -330,9 +532,9 @@ public class ProfileManager implements Serializable {
         else {
             profile.setHighScore(newHighScore);  // Update student's high score
         }
+        this.updateRankings(profile);
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
+        this.saveChanges();
 
     }
 
@@ -352,111 +554,248 @@ public class ProfileManager implements Serializable {
 
         PlayerProfile profile = getProfile(name);  // Retrieve the profile of the student with the given name
         profile.setLifetimeScore(newScore);        // Update student's lifetime score
+        this.updateRankings(profile);
 
-        this.saveProfiles(this.studentInformation, this.studentInformationFilename);  // Write changes to file
-        this.updateHighScoreFiles();  // Update high score tables
+        this.saveChanges();
 
     }
 
 
     /**
-     * Creates a copy of a list of student profiles. The list itself is a deep copy. Each student profile within the
-     * list is a shallow copy.
+     * Applies the results of a finished game to the profiles of its players, and writes updates to the database files
+     * once. Each student's knowledge level and lifetime score are set to those of the result, and their high score is
+     * raised to the result's if it is higher. No profiles are changed if any of the results can't be applied.
      *
-     * @param profileList List of profiles to copy
-     * @return Copy of the student profile list
+     * @param results Profiles of the game's players, holding their values after the game.
+     * @throws IllegalArgumentException If a student with one of the results' names does not exist.
+     * @throws NumberFormatException If a result has a negative knowledge level
      */
-    private ArrayList<PlayerProfile> copyProfileList(ArrayList<PlayerProfile> profileList) {
+    public void applyGameResults(Collection<PlayerProfile> results) throws IllegalArgumentException {
 
-        ArrayList<PlayerProfile> listCopy = new ArrayList<PlayerProfile>(profileList.size());  // Create a new empty list with the same size
-        listCopy.addAll(profileList);   // Add each student profile to the list copy
+        // Check every result before making any changes
+        ArrayList<PlayerProfile> profiles = new ArrayList<PlayerProfile>(results.size());
+        for (PlayerProfile result : results) {
+            if (result.getKnowledgeLevel() < 0) {
+                throw new NumberFormatException("Knowledge level must be a non-negative integer.");
+            }
+            profiles.add(this.getProfile(result.getName()));
+        }
 
-        return listCopy;
+        int i = 0;
+        for (PlayerProfile result : results) {
+            PlayerProfile profile = profiles.get(i++);
+            profile.setKnowledgeLevel(result.getKnowledgeLevel());
+            if (profile.getHighScore() < result.getHighScore()) profile.setHighScore(result.getHighScore());
+            profile.setLifetimeScore(result.getLifetimeScore());
+            this.updateRankings(profile);
+        }
+
+        this.saveChanges();
 
     }
 
 
     /**
-     * Comparator used to sort student profiles on highest achieved individual game score, in descending order.
+     * Removes students from the roster by their position in it, updates the high score tables and score counts,
+     * forgets where they stood, and records the removal to be written to the store.
+     *
+     * @param removedProfiles Profiles to remove from the roster.
      */
-    private static final Comparator<PlayerProfile> highScoreComparator = new Comparator<PlayerProfile>() {
+    private void removeFromRankings(List<PlayerProfile> removedProfiles) {
 
-        @Override
-        public int compare(PlayerProfile p1, PlayerProfile p2) {
+        for (PlayerProfile profile : removedProfiles) {
+            this.studentInformation.remove(this.getRosterOrder(profile));  // Found by key, so nothing else moves
+        }
+        for (PlayerProfile profile : removedProfiles) {
+            this.highScoresChanged |= this.highScores.remove(profile, this.roster);
+            this.lifetimeScoresChanged |= this.lifetimeScores.remove(profile, this.roster);
+        }
+        for (PlayerProfile profile : removedProfiles) {
+            Standing standing = this.standings.remove(profile);  // Only once the tables no longer need it
+            this.highScoreRanks.remove(standing.highScore);
+            this.lifetimeScoreRanks.remove(standing.lifetimeScore);
+        }
+        this.removedProfiles.addAll(removedProfiles);
 
-            Integer score1 = p1.getHighScore();
-            Integer score2 = p2.getHighScore();
+    }
 
-            return score2.compareTo(score1);  // Return in descending order
 
-        }
-    };
+    /**
+     * Returns where a student stands, holding the scores they are counted with. Ranks are worked out from these, so
+     * they match the score counts even if the profile was changed directly and not yet updated.
+     *
+     * @param name Student's name.
+     * @return Standing of the student.
+     * @throws IllegalArgumentException If a student with the entered name does not exist.
+     */
+    private Standing getStanding(String name) throws IllegalArgumentException {
+        return this.standings.get(this.getProfile(name));
+    }
 
 
     /**
-     *Comparator used to sort student profiles on overall lifetime score, in descending order.
+     * Returns the rank of a student's high score within the whole roster. Students with equal scores share a rank.
+     *
+     * @param name Student's name.
+     * @return Rank of the student's high score, where 1 is the highest.
+     * @throws IllegalArgumentException If a student with the entered name does not exist.
      */
-    private static final Comparator<PlayerProfile> lifetimeScoreComparator = new Comparator<PlayerProfile>() {
+    public int getHighScoreRank(String name) throws IllegalArgumentException {
+        return this.highScoreRanks.rank(this.getStanding(name).highScore);
+    }
 
-        @Override
-        public int compare(PlayerProfile p1, PlayerProfile p2) {
 
-            Integer score1 = p1.getLifetimeScore();
-            Integer score2 = p2.getLifetimeScore();
+    /**
+     * Returns the rank of a student's lifetime score within the whole roster. Students with equal scores share a rank.
+     *
+     * @param name Student's name.
+     * @return Rank of the student's lifetime score, where 1 is the highest.
+     * @throws IllegalArgumentException If a student with the entered name does not exist.
+     */
+    public int getLifetimeScoreRank(String name) throws IllegalArgumentException {
+        return this.lifetimeScoreRanks.rank(this.getStanding(name).lifetimeScore);
+    }
 
-            return score2.compareTo(score1);  // Return in descending order
 
-        }
-    };
+    /**
+     * Returns the percentile of a student's high score: the percentage of students whose high score is no higher.
+     *
+     * @param name Student's name.
+     * @return Percentile from 0 to 100, rounded down.
+     * @throws IllegalArgumentException If a student with the entered name does not exist.
+     */
+    public int getHighScorePercentile(String name) throws IllegalArgumentException {
+        return this.highScoreRanks.percentile(this.getStanding(name).highScore);
+    }
 
 
     /**
-     * Sorts the student profiles on highest achieved individual game score, in descending order.
+     * Returns the percentile of a student's lifetime score: the percentage of students whose lifetime score is no
+     * higher.
      *
-     * @return Copy of the student profile list sorted on highest achieved individual game score, in descending order.
+     * @param name Student's name.
+     * @return Percentile from 0 to 100, rounded down.
+     * @throws IllegalArgumentException If a student with the entered name does not exist.
      */
-    private ArrayList<PlayerProfile> sortHighScore() {
+    public int getLifetimeScorePercentile(String name) throws IllegalArgumentException {
+        return this.lifetimeScoreRanks.percentile(this.getStanding(name).lifetimeScore);
+    }
 
-        ArrayList<PlayerProfile> sortedCopy = copyProfileList(this.studentInformation);  // Copy list of student profiles
-        sortedCopy.sort(highScoreComparator);  // Sort on highest achieved individual game score, in descending order
 
-        return sortedCopy;
+    /**
+     * Counts the students whose high score is within a range.
+     *
+     * @param low Lowest high score to count.
+     * @param high Highest high score to count.
+     * @return Number of students with a high score from low to high, inclusive.
+     */
+    public int countHighScoresBetween(int low, int high) {
+        return this.highScoreRanks.countBetween(low, high);
+    }
+
 
+    /**
+     * Counts the students whose lifetime score is within a range.
+     *
+     * @param low Lowest lifetime score to count.
+     * @param high Highest lifetime score to count.
+     * @return Number of students with a lifetime score from low to high, inclusive.
+     */
+    public int countLifetimeScoresBetween(int low, int high) {
+        return this.lifetimeScoreRanks.countBetween(low, high);
     }
 
 
     /**
-     * Sorts the student profiles on overall lifetime score, in descending order.
+     * Checks if a high score table file holds the same students as a high score table, in the same order.
      *
-     * @return Copy of the student profile list sorted on overall lifetime score, in descending order.
+     * @param names Names of the students in the file.
+     * @param profiles Students in the table.
+     * @return True if the students in each position have the same name, false if otherwise.
      */
-    private ArrayList<PlayerProfile> sortLifetimeScore() {
+    private static boolean sameStudents(List<String> names, List<PlayerProfile> profiles) {
 
-        ArrayList<PlayerProfile> sortedCopy = copyProfileList(this.studentInformation);  // Copy list of student profiles
-        sortedCopy.sort(lifetimeScoreComparator);  // Sort on overall lifetime score, in descending order
+        if (names.size() != profiles.size()) return false;
+        for (int i = 0; i < names.size(); i++) {
+            if (!names.get(i).equals(profiles.get(i).getName())) return false;
+        }
 
-        return sortedCopy;
+        return true;
 
     }
 
 
     /**
-     * Updates the individual game and lifetime high score tables and writes updates to file.
+     * Writes the individual game and lifetime high score tables to file, if they changed since they were last written.
+     * The tables themselves are kept up to date as each student is changed.
      */
     private void updateHighScoreFiles() {
 
-        // Find top 5 students with the highest achieved game scores and lifetime scores
-        this.highScoreList = this.sortHighScore();
-        this.lifetimeHighScoreList = this.sortLifetimeScore();
+        if (this.highScoresChanged) {
+            this.writeDatabase(ProfileFormat.writeTable(this.highScores.getProfiles()), this.highScoreFilename);
+            this.highScoresChanged = false;
+        }
+        if (this.lifetimeScoresChanged) {
+            this.writeDatabase(ProfileFormat.writeTable(this.lifetimeScores.getProfiles()), this.lifetimeScoreFilename);
+            this.lifetimeScoresChanged = false;
+        }
+
+    }
+
+
+    /**
+     * Read-only list view of the roster, in the order students were added. Iterating visits the roster directly, while
+     * finding a student by index walks it from the start.
+     */
+    private final class RosterView extends AbstractList<PlayerProfile> {
+
+        @Override
+        public PlayerProfile get(int index) {
+
+            if (index < 0 || index >= this.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+            }
+            Iterator<PlayerProfile> profiles = this.iterator();
+            for (int i = 0; i < index; i++) profiles.next();
+
+            return profiles.next();
 
-        if (this.studentInformation.size() >= 5) {  // More than 5 students in the database
-            this.highScoreList =  new ArrayList<PlayerProfile>(this.highScoreList.subList(0, 5));  // Take only the top 5 students
-            this.lifetimeHighScoreList =  new ArrayList<PlayerProfile>(this.lifetimeHighScoreList.subList(0, 5));
         }
 
-        // Save high score tables to file
-        this.saveProfiles(highScoreList, this.highScoreFilename);
-        this.saveProfiles(lifetimeHighScoreList, this.lifetimeScoreFilename);
+
+        @Override
+        public Iterator<PlayerProfile> iterator() {
+            return Collections.unmodifiableCollection(ProfileManager.this.studentInformation.values()).iterator();
+        }
+
+
+        @Override
+        public int size() {
+            return ProfileManager.this.studentInformation.size();
+        }
+
+    }
+
+
+    /**
+     * Where a student stands in the roster: their position in the order students were added, and the scores they are
+     * counted with in the score counts. The scores are kept so a changed score can be moved in the counts, even if the
+     * profile was changed directly.
+     */
+    private static final class Standing {
+
+        /** Position in the order students were added. */
+        final long order;
+        /** High score the student is counted with. */
+        int highScore;
+        /** Lifetime score the student is counted with. */
+        int lifetimeScore;
+
+        Standing(long order, PlayerProfile profile) {
+            this.order = order;
+            this.highScore = profile.getHighScore();
+            this.lifetimeScore = profile.getLifetimeScore();
+        }
 
     }
 
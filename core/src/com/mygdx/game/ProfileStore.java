@@ -0,0 +1,37 @@
+package com.mygdx.game;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the student database of a {@link ProfileManager}.
+ * <br><br>
+ * The profile manager holds every profile in memory, and after each change, or batch of changes, tells the store which
+ * students were added, changed and removed. {@link JsonProfileStore} rewrites the whole database as a JSON file, while
+ * {@link LogProfileStore} appends only the changed students to a log, so writing a change costs the same whatever the
+ * size of the roster.
+ */
+public interface ProfileStore {
+
+    /**
+     * Reads every student profile.
+     *
+     * @return Every student, in the order they were added. Empty if nothing has been stored yet
+     * @throws IOException If the database cannot be read
+     * @throws IllegalArgumentException If the database is not valid, or was written by a newer version of the game
+     */
+    ArrayList<PlayerProfile> load() throws IOException, IllegalArgumentException;
+
+    /**
+     * Writes changes to the student profiles.
+     *
+     * @param roster Every student, in the order they were added
+     * @param changed Students added or changed since the last write, in the order they were first changed. Every one
+     *                is in the roster
+     * @param removed Students removed since the last write. None are in the roster
+     * @throws IOException If the changes cannot be written
+     */
+    void write(List<PlayerProfile> roster, List<PlayerProfile> changed, List<PlayerProfile> removed)
+            throws IOException;
+}
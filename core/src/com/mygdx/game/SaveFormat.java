@@ -0,0 +1,429 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads and writes save files, in the original JSON format and a compact binary format. The format of a save is
+ * chosen by its file extension: {@value #BINARY_EXTENSION} files are binary, anything else is read as JSON.
+ * <br><br>
+ * Both formats store the same tree of values that {@link com.badlogic.gdx.utils.Json} writes for a game state, so a
+ * save reads back the same way whichever format it was written in. The binary format starts with the bytes {@code FFSV}
+ * and a version number. The rest of the file is compressed with DEFLATE, and holds a table of every distinct string in
+ * the save (field names, class tags, tile IDs, ticker names and descriptions), and then the tree itself. Each value is
+ * a one-byte tag followed by its contents: integers as variable-length numbers, decimals as 4 or 8 bytes, strings as an
+ * index into the table, and objects and arrays as a count followed by their children. Nothing is formatted and no
+ * string is stored twice, and compression takes care of the structure repeated by every tile and sprite, so binary
+ * saves are about a tenth of the size of JSON saves and are read without parsing any text.
+ */
+public final class SaveFormat {
+
+    /** Extension of JSON save files. */
+    public static final String JSON_EXTENSION = ".json";
+    /** Extension of binary save files. */
+    public static final String BINARY_EXTENSION = ".sav";
+
+    /** First bytes of the binary format. */
+    private static final byte[] MAGIC = {'F', 'F', 'S', 'V'};
+    /** Current version of the binary format. */
+    public static final int VERSION = 1;
+
+    // Tags written before each value of the binary format
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    /** Integer, as a zigzag-encoded variable-length number. */
+    private static final int LONG = 3;
+    /** Decimal which is exactly a float, as 4 bytes. */
+    private static final int FLOAT = 4;
+    /** Decimal, as 8 bytes. */
+    private static final int DOUBLE = 5;
+    /** String, as an index into the string table. */
+    private static final int STRING = 6;
+    /** Object, as a count followed by the name and value of each child. */
+    private static final int OBJECT = 7;
+    /** Array, as a count followed by each value. */
+    private static final int ARRAY = 8;
+    /** Integer written differently from how Java prints it, such as "007". Followed by the original text. */
+    private static final int LONG_TEXT = 9;
+    /** Decimal written differently from how Java prints it, such as "1.50". Followed by the original text. */
+    private static final int DOUBLE_TEXT = 10;
+
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SaveFormat() {}
+
+    /**
+     * Checks if a save file is stored in the binary format.
+     *
+     * @param fileName Name of the save file
+     * @return True if the file is binary, false if it is JSON
+     */
+    public static boolean isBinary(String fileName) {
+        return fileName.endsWith(BINARY_EXTENSION);
+    }
+
+    /**
+     * Reads the value tree of a save file, in the format given by its extension. Saves stored as chunks are read
+     * through the {@link ChunkStore}.
+     *
+     * @param file Path to the save file
+     * @return Root of the saved game state
+     * @throws IOException If the file cannot be read, or ends early
+     * @throws IllegalArgumentException If the file is not a valid save
+     */
+    public static JsonValue read(Path file) throws IOException, IllegalArgumentException {
+        if (ChunkStore.isChunked(file.getFileName().toString())) return ChunkStore.read(file);
+        if (!isBinary(file.getFileName().toString())) return new JsonReader().parse(Files.readString(file));
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return readBinary(in);
+        }
+    }
+
+    /**
+     * Reads a value tree in the binary format.
+     *
+     * @param in Stream to read from. Read to the end of the save, but not closed
+     * @return Root of the tree
+     * @throws IOException If the stream cannot be read, or ends early
+     * @throws IllegalArgumentException If the data is not a valid save
+     */
+    public static JsonValue readBinary(InputStream in) throws IOException, IllegalArgumentException {
+        DataInputStream header = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        header.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) throw new IllegalArgumentException("Not a binary save file");
+        }
+        int version = header.readUnsignedByte();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported save version: " + version);
+
+        Inflater inflater = new Inflater();
+        try {
+            return readBody(new DataInputStream(new BufferedInputStream(new InflaterInputStream(in, inflater))));
+        } catch (EOFException e) {
+            throw e;
+        } catch (IOException e) {  // Thrown by the inflater for data that isn't compressed
+            throw new IllegalArgumentException("Malformed save file", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Reads the string table and value tree of the binary format.
+     *
+     * @param data Decompressed stream to read from
+     * @return Root of the tree
+     * @throws IOException If the stream cannot be read, or ends early
+     * @throws IllegalArgumentException If the data is not a valid save
+     */
+    private static JsonValue readBody(DataInputStream data) throws IOException, IllegalArgumentException {
+        int count = readCount(data);
+        // Counts and lengths are not trusted until their contents are read, so the table and buffer grow as they fill
+        String[] strings = new String[Math.min(count, 1024)];
+        byte[] buffer = new byte[64];
+        for (int i = 0; i < count; i++) {
+            if (i == strings.length) strings = Arrays.copyOf(strings, (int) Math.min(count, strings.length * 2L));
+            int length = readCount(data);
+            buffer = readBytes(data, buffer, length);
+            strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        return readValue(data, strings);
+    }
+
+    /**
+     * Reads a number of bytes, growing the buffer only as the bytes arrive.
+     *
+     * @param in Stream to read from
+     * @param buffer Buffer to read into, if it is large enough
+     * @param length Number of bytes to read
+     * @return Buffer holding the bytes from index 0. A new array if the given one was too small
+     * @throws IOException If the stream fails or ends early
+     */
+    private static byte[] readBytes(InputStream in, byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            if (read == buffer.length) buffer = Arrays.copyOf(buffer, (int) Math.min(length, buffer.length * 2L));
+            int bytes = in.read(buffer, read, Math.min(length, buffer.length) - read);
+            if (bytes < 0) throw new EOFException();
+            read += bytes;
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Writes a value tree in the binary format.
+     *
+     * @param root Root of the tree, as produced by {@link JsonReader}
+     * @param out Stream to write to. Flushed, but not closed
+     * @throws IOException If the stream fails
+     */
+    public static void writeBinary(JsonValue root, OutputStream out) throws IOException {
+        LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+        collectStrings(root, strings);
+
+        out.write(MAGIC);
+        out.write(VERSION);
+
+        Deflater deflater = new Deflater();
+        try {
+            DeflaterOutputStream compressed = new DeflaterOutputStream(out, deflater, 8192);
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(compressed, 8192));
+            writeBody(data, root, strings);
+            data.flush();
+            compressed.finish();
+            out.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the string table and value tree of the binary format.
+     *
+     * @param data Stream to write to, compressed
+     * @param root Root of the tree
+     * @param strings Index of each string in the table
+     * @throws IOException If the stream fails
+     */
+    private static void writeBody(DataOutputStream data, JsonValue root, LinkedHashMap<String, Integer> strings)
+            throws IOException {
+        writeVarLong(data, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(data, bytes.length);
+            data.write(bytes);
+        }
+
+        writeValue(data, root, strings);
+    }
+
+    /**
+     * Adds every name and string value in a tree to the string table, in the order they are first written.
+     *
+     * @param value Root of the tree
+     * @param strings Index of each string in the table
+     */
+    private static void collectStrings(JsonValue value, LinkedHashMap<String, Integer> strings) {
+        if (value.name != null) intern(value.name, strings);
+        switch (value.type()) {
+            case stringValue:
+                intern(value.asString(), strings);
+                break;
+            case longValue:
+                if (!value.asString().equals(Long.toString(value.asLong()))) intern(value.asString(), strings);
+                break;
+            case doubleValue:
+                if (!value.asString().equals(Double.toString(value.asDouble()))) intern(value.asString(), strings);
+                break;
+            case object:
+            case array:
+                for (JsonValue child = value.child; child != null; child = child.next) {
+                    collectStrings(child, strings);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Adds a string to the string table if it is not there already.
+     */
+    private static void intern(String string, LinkedHashMap<String, Integer> strings) {
+        if (!strings.containsKey(string)) strings.put(string, strings.size());
+    }
+
+    /**
+     * Writes a value and its children. Names of object children are written by their parent.
+     *
+     * @param out Stream to write to
+     * @param value Value to write
+     * @param strings Index of each string in the table
+     * @throws IOException If the stream fails
+     */
+    private static void writeValue(DataOutput out, JsonValue value, LinkedHashMap<String, Integer> strings)
+            throws IOException {
+        switch (value.type()) {
+            case nullValue:
+                out.writeByte(NULL);
+                break;
+            case booleanValue:
+                out.writeByte(value.asBoolean() ? TRUE : FALSE);
+                break;
+            case longValue: {
+                long number = value.asLong();
+                boolean plain = value.asString().equals(Long.toString(number));
+                out.writeByte(plain ? LONG : LONG_TEXT);
+                writeVarLong(out, zigZagEncode(number));
+                if (!plain) writeVarLong(out, strings.get(value.asString()));
+                break;
+            }
+            case doubleValue: {
+                double number = value.asDouble();
+                boolean plain = value.asString().equals(Double.toString(number));
+                if (plain && (double) (float) number == number) {
+                    out.writeByte(FLOAT);
+                    out.writeFloat((float) number);
+                } else {
+                    out.writeByte(plain ? DOUBLE : DOUBLE_TEXT);
+                    out.writeDouble(number);
+                    if (!plain) writeVarLong(out, strings.get(value.asString()));
+                }
+                break;
+            }
+            case stringValue:
+                out.writeByte(STRING);
+                writeVarLong(out, strings.get(value.asString()));
+                break;
+            case object:
+                out.writeByte(OBJECT);
+                writeVarLong(out, value.size);
+                for (JsonValue child = value.child; child != null; child = child.next) {
+                    writeVarLong(out, strings.get(child.name));
+                    writeValue(out, child, strings);
+                }
+                break;
+            case array:
+                out.writeByte(ARRAY);
+                writeVarLong(out, value.size);
+                for (JsonValue child = value.child; child != null; child = child.next) {
+                    writeValue(out, child, strings);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Reads a value and its children.
+     *
+     * @param in Stream to read from
+     * @param strings String table of the save
+     * @return Value read, without a name
+     * @throws IOException If the stream fails or ends early
+     * @throws IllegalArgumentException If the data is not a valid value
+     */
+    private static JsonValue readValue(DataInput in, String[] strings) throws IOException, IllegalArgumentException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case NULL:
+                return new JsonValue(JsonValue.ValueType.nullValue);
+            case TRUE:
+                return new JsonValue(true);
+            case FALSE:
+                return new JsonValue(false);
+            case LONG:
+                return new JsonValue(zigZagDecode(readVarLong(in)));
+            case LONG_TEXT:
+                return new JsonValue(zigZagDecode(readVarLong(in)), readString(in, strings));
+            case FLOAT:
+                return new JsonValue(in.readFloat());
+            case DOUBLE:
+                return new JsonValue(in.readDouble());
+            case DOUBLE_TEXT:
+                return new JsonValue(in.readDouble(), readString(in, strings));
+            case STRING:
+                return new JsonValue(readString(in, strings));
+            case OBJECT:
+            case ARRAY: {
+                boolean object = tag == OBJECT;
+                JsonValue parent = new JsonValue(object ? JsonValue.ValueType.object : JsonValue.ValueType.array);
+                int size = readCount(in);
+                JsonValue last = null;
+                for (int i = 0; i < size; i++) {
+                    String name = object ? readString(in, strings) : null;
+                    JsonValue child = readValue(in, strings);
+                    child.name = name;
+                    child.parent = parent;
+                    // Link children directly; JsonValue.addChild walks the whole list for every child
+                    if (last == null) {
+                        parent.child = child;
+                    } else {
+                        last.next = child;
+                        child.prev = last;
+                    }
+                    last = child;
+                }
+                parent.size = size;
+                return parent;
+            }
+            default:
+                throw new IllegalArgumentException("Malformed value in save file: tag " + tag);
+        }
+    }
+
+    /**
+     * Reads an index into the string table and returns the string.
+     * @throws IllegalArgumentException If the index is outside the table
+     */
+    private static String readString(DataInput in, String[] strings) throws IOException, IllegalArgumentException {
+        int index = readCount(in);
+        if (index >= strings.length) throw new IllegalArgumentException("Malformed string in save file");
+        return strings[index];
+    }
+
+    /**
+     * Reads a count or index, which must fit in a non-negative int.
+     * @throws IllegalArgumentException If the number is too large
+     */
+    private static int readCount(DataInput in) throws IOException, IllegalArgumentException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) throw new IllegalArgumentException("Malformed count in save file");
+        return (int) value;
+    }
+
+    /**
+     * Writes a number using 7 bits per byte, with the high bit set on every byte but the last. Small non-negative
+     * numbers take a single byte.
+     * @param out Stream to write to
+     * @param value Value to write, treated as unsigned
+     * @throws IOException If the stream fails
+     */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutput, long)}.
+     * @param in Stream to read from
+     * @return Value read
+     * @throws IOException If the stream fails or ends early
+     * @throws IllegalArgumentException If the value is longer than a long
+     */
+    private static long readVarLong(DataInput in) throws IOException, IllegalArgumentException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed number in save file");
+    }
+
+    /** Maps signed numbers to unsigned ones so small negative numbers stay short: 0, -1, 1, -2 become 0, 1, 2, 3. */
+    private static long zigZagEncode(long value) { return (value << 1) ^ (value >> 63); }
+
+    /** Inverse of {@link #zigZagEncode(long)}. */
+    private static long zigZagDecode(long value) { return (value >>> 1) ^ -(value & 1); }
+}
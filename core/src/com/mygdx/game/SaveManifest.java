@@ -0,0 +1,468 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the game states saved in a save folder.
+ * <br><br>
+ * Stores a summary of every save, so saves can be listed, matched to their game, and cleaned up without loading each
+ * game state. The index is kept in a manifest file in the save folder, which the {@link SaveSystem} updates whenever a
+ * game is saved or deleted. Each update appends a single line of JSON to the file, so an autosave never rewrites the
+ * whole manifest. The lines are replayed in order when the manifest is read, and the file is rewritten with one line
+ * per save once it holds more than twice as many lines as there are saves.
+ * <br><br>
+ * The manifest also hands out save numbers. The last number used for each save name is kept with the entries, so a new
+ * save gets the next number straight away instead of trying each number in turn.
+ * <br><br>
+ * Save files can still be added or removed behind the manifest's back. When listing saves, each file is matched to its
+ * entry by size and modified time; files without a matching entry have their summary read from the save's top-level
+ * fields, which is much cheaper than loading the game. If the manifest is missing or unreadable it is rebuilt the same
+ * way, one save at a time.
+ */
+public final class SaveManifest {
+
+    /** Name of the manifest file in the save folder. Does not match the save file pattern. */
+    public static final String FILE_NAME = "manifest.jsonl";
+    /** Lines the manifest file may hold beyond twice the number of saves before it is rewritten. */
+    private static final int COMPACT_SLACK = 16;
+    /** Names of save files. Matches all strings starting with a valid save filename and a save format's extension. */
+    private static final Pattern SAVE_PATTERN = Pattern.compile("^.*_.*\\.(json|sav|ref)$");
+
+    /** Manifest of each save folder, by folder path. */
+    private static final HashMap<String, SaveManifest> manifests = new HashMap<>();
+
+    /** Folder containing the saves. */
+    private final File folder;
+    /** Summary of each save, by save file name. Null until the manifest file has been read. */
+    private LinkedHashMap<String, Entry> entries;
+    /** Last save number used for each save name. Null until worked out from the entries. */
+    private HashMap<String, Integer> lastNumbers;
+    /** Number of lines in the manifest file. */
+    private int lines;
+    /** Indicates if the manifest file has a damaged line, so it must be rewritten before anything is appended. */
+    private boolean damaged;
+    /** Used to read and write the manifest file. */
+    private final Json json = new Json(JsonWriter.OutputType.json);
+
+
+    /**
+     * Constructor for the manifest of a save folder. Use {@link #of(File)} to share one manifest per folder.
+     *
+     * @param folder Folder containing the saves
+     */
+    private SaveManifest(File folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * Returns the manifest of a save folder. Every caller using the same folder shares one manifest.
+     *
+     * @param folder Folder containing the saves
+     * @return Manifest of the folder
+     */
+    public static synchronized SaveManifest of(File folder) {
+        String key = folder.getAbsoluteFile().toPath().normalize().toString();
+        SaveManifest manifest = manifests.get(key);
+        if (manifest == null) {
+            manifest = new SaveManifest(folder);
+            manifests.put(key, manifest);
+        }
+
+        return manifest;
+    }
+
+
+    /**
+     * Returns a summary of every save in the folder, bringing the manifest up to date with the files on disk first.
+     *
+     * @return Summaries of the saves, in the order the folder lists them
+     * @throws FileNotFoundException If the save folder wasn't found. It will not be thrown if the folder is just empty.
+     */
+    public synchronized List<Entry> list() throws FileNotFoundException {
+        File[] fileList = folder.listFiles();
+        if (fileList == null) throw new FileNotFoundException();
+        LinkedHashMap<String, Entry> known = getEntries();
+
+        boolean changed = false;
+        LinkedHashMap<String, Entry> current = new LinkedHashMap<>();
+        for (File file : fileList) {
+            if (!file.isFile() || !SAVE_PATTERN.matcher(file.getName()).matches()) continue;
+
+            Entry entry = known.get(file.getName());
+            if (entry == null || entry.size != file.length() || entry.modified != file.lastModified()) {
+                entry = readEntry(file);  // New or changed behind the manifest's back
+                changed = true;
+                if (entry == null) continue;
+            } else if (entry.journalModified != journalModified(file)) {
+                entry = new Entry(entry.fileName, entry.gameID, entry.round, entry.players, entry.modified,
+                        entry.size, journalModified(file));
+                changed = true;
+            }
+            current.put(file.getName(), entry);
+        }
+
+        if (changed || current.size() != known.size()) {
+            entries = current;
+            lastNumbers = null;  // Worked out again from the new entries
+            write();
+        }
+
+        return new ArrayList<>(current.values());
+    }
+
+    /**
+     * Returns the most recently written save. An autosave counts as written whenever its journal is appended to.
+     *
+     * @return Summary of the latest save, or null if there are no saves
+     * @throws FileNotFoundException If the save folder wasn't found
+     */
+    public synchronized Entry latest() throws FileNotFoundException {
+        Entry latest = null;
+        for (Entry entry : list()) {
+            if (latest == null || entry.getLastWritten() > latest.getLastWritten()) latest = entry;
+        }
+
+        return latest;
+    }
+
+    /**
+     * Returns the summary of every save the manifest knows about, without checking the files on disk. Used for
+     * housekeeping which must not slow down saving.
+     *
+     * @return Summaries of the saves
+     */
+    public synchronized List<Entry> known() {
+        return new ArrayList<>(getEntries().values());
+    }
+
+    /**
+     * Claims the next save number for a save name. Numbers are not handed out twice, unless saves are removed behind
+     * the manifest's back.
+     *
+     * @param name Name the game is being saved under
+     * @param extensions Extensions of every save format, so a number used in any format is skipped
+     * @return Save number to use
+     */
+    public synchronized int nextNumber(String name, String... extensions) {
+        if (lastNumbers == null) {
+            lastNumbers = new HashMap<>();
+            for (String fileName : getEntries().keySet()) {
+                claim(fileName);
+            }
+        }
+
+        int number = lastNumbers.getOrDefault(name, 0) + 1;
+        while (exists(name + "_" + number, extensions)) number++;  // Added behind the manifest's back
+        lastNumbers.put(name, number);
+        return number;
+    }
+
+    /**
+     * Checks if a save file exists in any format.
+     */
+    private boolean exists(String base, String[] extensions) {
+        for (String extension : extensions) {
+            if (new File(folder, base + extension).isFile()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the save number of a save file as used.
+     *
+     * @param fileName Name of the save file
+     */
+    private void claim(String fileName) {
+        int underscore = fileName.lastIndexOf('_');
+        int dot = fileName.lastIndexOf('.');
+        if (underscore < 0 || dot < underscore) return;
+        try {
+            int number = Integer.parseInt(fileName.substring(underscore + 1, dot));
+            lastNumbers.merge(fileName.substring(0, underscore), number, Math::max);
+        } catch (NumberFormatException e) {
+            // Not numbered; doesn't use up a number
+        }
+    }
+
+    /**
+     * Records a game state which has just been written to a save file, or whose journal has just been appended to.
+     *
+     * @param fileName Name of the save file in the save folder
+     * @param gameID ID of the saved game
+     * @param round Round the game was saved on
+     * @param players Names of the students playing the game
+     */
+    public synchronized void record(String fileName, int gameID, int round, String[] players) {
+        File file = new File(folder, fileName);
+        Entry entry = new Entry(fileName, gameID, round, players.clone(), file.lastModified(), file.length(),
+                journalModified(file));
+        if (entry.equals(getEntries().get(fileName))) return;  // Already up to date
+
+        getEntries().put(fileName, entry);
+        if (lastNumbers != null) claim(fileName);
+        append(new Change(entry, null));
+    }
+
+    /**
+     * Deletes a save file, its journal if it has one, and its entry.
+     *
+     * @param fileName Name of the save file in the save folder
+     * @throws IOException If the file exists but could not be deleted
+     */
+    public synchronized void delete(String fileName) throws IOException {
+        Files.deleteIfExists(new File(folder, fileName).toPath());
+        Files.deleteIfExists(GameJournal.fileFor(new File(folder, fileName).toPath()));
+        if (getEntries().remove(fileName) != null) append(new Change(null, fileName));
+    }
+
+    /**
+     * Returns the entries read from the manifest file, reading it on first use. A missing or unreadable manifest
+     * starts out empty, and is rebuilt by the next {@link #list()}. A damaged line, such as one cut short by a crash,
+     * is skipped.
+     *
+     * @return Entries by save file name
+     */
+    private LinkedHashMap<String, Entry> getEntries() {
+        if (entries == null) {
+            entries = new LinkedHashMap<>();
+            lines = 0;
+            Path path = new File(folder, FILE_NAME).toPath();
+            if (Files.exists(path)) {
+                try {
+                    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                        if (line.isEmpty()) continue;
+                        lines++;
+                        Change change;
+                        try {
+                            change = json.fromJson(Change.class, line);
+                        } catch (SerializationException e) {
+                            damaged = true;
+                            continue;
+                        }
+                        if (change.entry != null) entries.put(change.entry.fileName, change.entry);
+                        if (change.deleted != null) entries.remove(change.deleted);
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();  // Rebuilt from the save files
+                    entries.clear();
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Appends a change to the manifest file, or rewrites the file if it has grown long or is damaged. Failing to write
+     * it only costs a rebuild, so errors are not passed on.
+     *
+     * @param change Change to append
+     */
+    private void append(Change change) {
+        if (damaged || lines > 2 * entries.size() + COMPACT_SLACK) {
+            write();
+            return;
+        }
+
+        try {
+            Files.writeString(new File(folder, FILE_NAME).toPath(), json.toJson(change) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            lines++;
+        } catch (IOException e) {
+            e.printStackTrace();
+            damaged = true;  // The line may have been cut short
+        }
+    }
+
+    /**
+     * Writes the manifest file from scratch, with one line per save. Failing to write it only costs a rebuild, so
+     * errors are not passed on.
+     */
+    private void write() {
+        StringBuilder text = new StringBuilder();
+        for (Entry entry : entries.values()) {
+            text.append(json.toJson(new Change(entry, null))).append('\n');
+        }
+
+        try {
+            Files.writeString(new File(folder, FILE_NAME).toPath(), text, StandardCharsets.UTF_8);
+            lines = entries.size();
+            damaged = false;
+        } catch (IOException e) {
+            e.printStackTrace();
+            damaged = true;
+        }
+    }
+
+    /**
+     * Reads the summary of a save from its top-level fields, without creating the game state.
+     *
+     * @param file Save file
+     * @return Summary of the save, or null if the file is not a readable save
+     */
+    private static Entry readEntry(File file) {
+        try {
+            JsonValue root = SaveFormat.read(file.toPath());
+            ArrayList<String> players = new ArrayList<>();
+            JsonValue playerList = root.get("playerList");
+            if (playerList != null) {
+                for (JsonValue player : playerList) {
+                    JsonValue profile = player.get("profile");
+                    if (profile != null) players.add(profile.getString("name", ""));
+                }
+            }
+
+            return new Entry(file.getName(), root.getInt("id", 0), root.getInt("roundNumber", 1),
+                    players.toArray(new String[0]), file.lastModified(), file.length(), journalModified(file));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Returns the time the journal of a save was last modified.
+     *
+     * @param save Save file
+     * @return Modified time of the journal in milliseconds since the epoch, or 0 if the save has no journal
+     */
+    private static long journalModified(File save) {
+        return GameJournal.fileFor(save.toPath()).toFile().lastModified();
+    }
+
+
+    /**
+     * Line of the manifest file: a save which was written, or a save which was deleted.
+     */
+    private static final class Change {
+        /** Summary of a save which was written, or null. */
+        private Entry entry;
+        /** Name of a save file which was deleted, or null. */
+        private String deleted;
+
+        /**
+         * Constructor for a change.
+         *
+         * @param entry Summary of a save which was written, or null
+         * @param deleted Name of a save file which was deleted, or null
+         */
+        Change(Entry entry, String deleted) {
+            this.entry = entry;
+            this.deleted = deleted;
+        }
+
+        /**
+         * No-arg constructor for deserialization
+         */
+        private Change() {}
+    }
+
+    /**
+     * Summary of a single save.
+     */
+    public static final class Entry {
+        /** Name of the save file in the save folder. */
+        private String fileName;
+        /** ID of the saved game. Shared by every save of the same game. */
+        private int gameID;
+        /** Round the game was saved on. */
+        private int round;
+        /** Names of the students playing the game. */
+        private String[] players;
+        /** Time the save file was last modified, in milliseconds since the epoch. */
+        private long modified;
+        /** Size of the save file in bytes. */
+        private long size;
+        /** Time the save's journal was last modified, or 0 if it has no journal. */
+        private long journalModified;
+
+        /**
+         * Constructor for a save summary.
+         *
+         * @param fileName Name of the save file
+         * @param gameID ID of the saved game
+         * @param round Round the game was saved on
+         * @param players Names of the students playing the game
+         * @param modified Time the save file was last modified
+         * @param size Size of the save file in bytes
+         * @param journalModified Time the save's journal was last modified, or 0 if it has no journal
+         */
+        Entry(String fileName, int gameID, int round, String[] players, long modified, long size,
+              long journalModified) {
+            this.fileName = fileName;
+            this.gameID = gameID;
+            this.round = round;
+            this.players = players;
+            this.modified = modified;
+            this.size = size;
+            this.journalModified = journalModified;
+        }
+
+        /**
+         * No-arg constructor for deserialization
+         */
+        private Entry() {}
+
+        public String getFileName() { return fileName; }
+        public int getGameID() { return gameID; }
+        public int getRound() { return round; }
+        public String[] getPlayers() { return players.clone(); }
+        public long getModified() { return modified; }
+        public long getSize() { return size; }
+
+        /**
+         * Returns the time the save was last written to, counting appends to its journal.
+         * @return Newer of the modified times of the save file and its journal, in milliseconds since the epoch
+         */
+        public long getLastWritten() { return Math.max(modified, journalModified); }
+
+        /**
+         * Returns the name the game was saved under, which is the file name without the save number.
+         * @return Save name
+         */
+        public String getName() { return fileName.substring(0, fileName.lastIndexOf('_')); }
+
+        /**
+         * Checks if a student is playing in the saved game.
+         * @param studentName Student's name
+         * @return True if the student is in the game, false if otherwise
+         */
+        public boolean hasPlayer(String studentName) {
+            for (String player : players) {
+                if (player.equals(studentName)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) return false;
+            Entry entry = (Entry) o;
+            return fileName.equals(entry.fileName) && gameID == entry.gameID && round == entry.round
+                    && Arrays.equals(players, entry.players) && modified == entry.modified && size == entry.size
+                    && journalModified == entry.journalModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return fileName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.mygdx.game;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Rules deciding which old saves are deleted, so the save folder stays the same size over a semester of play.
+ * <br><br>
+ * Saves kept under the name the save dialog suggests are pruned to the most recent few of each game. Saves the player
+ * named themselves can be kept forever. Each game has a single autosave, and only the autosaves of the most recently
+ * played games are kept. Saves are ranked by when they were last written, so an autosave is as recent as the last
+ * append to its journal. The autosave of the game being played is always kept.
+ * @see SaveSystem#setRetention(SaveRetention)
+ */
+public final class SaveRetention {
+
+    /** Keeps the last 3 unnamed saves of each game, every named save, and the autosaves of the last 10 games. */
+    public static final SaveRetention DEFAULT = new SaveRetention(3, true, 10);
+    /** Never deletes a save. */
+    public static final SaveRetention KEEP_ALL = new SaveRetention(Integer.MAX_VALUE, true, Integer.MAX_VALUE);
+
+    /** Number of unnamed saves kept for each game. */
+    private final int savesPerGame;
+    /** Whether saves the player named are kept forever, instead of counting towards the saves of their game. */
+    private final boolean keepNamed;
+    /** Number of games whose autosave is kept. */
+    private final int autosavedGames;
+
+
+    /**
+     * Constructor for a retention policy.
+     *
+     * @param savesPerGame Number of unnamed saves kept for each game, most recent first
+     * @param keepNamed True to keep saves the player named forever
+     * @param autosavedGames Number of games whose autosave is kept, most recent first
+     * @throws IllegalArgumentException If a number of saves is less than 1
+     */
+    public SaveRetention(int savesPerGame, boolean keepNamed, int autosavedGames) throws IllegalArgumentException {
+        if (savesPerGame < 1 || autosavedGames < 1) {
+            throw new IllegalArgumentException("At least one save must be kept");
+        }
+        this.savesPerGame = savesPerGame;
+        this.keepNamed = keepNamed;
+        this.autosavedGames = autosavedGames;
+    }
+
+    /**
+     * Finds the saves which should be deleted.
+     *
+     * @param saves Every save in the save folder
+     * @return File names of the saves to delete
+     */
+    public List<String> expired(List<SaveManifest.Entry> saves) {
+        return expired(saves, null);
+    }
+
+    /**
+     * Finds the saves which should be deleted, keeping the autosave of the game being played.
+     *
+     * @param saves Every save in the save folder
+     * @param playing File name of the autosave of the game being played, or null. Always kept, and counted first
+     *                among the kept autosaves
+     * @return File names of the saves to delete
+     */
+    public List<String> expired(List<SaveManifest.Entry> saves, String playing) {
+        ArrayList<SaveManifest.Entry> newestFirst = new ArrayList<>(saves);
+        newestFirst.sort(Comparator.comparingLong(SaveManifest.Entry::getLastWritten).reversed());
+
+        List<String> expired = new ArrayList<>();
+        HashMap<Integer, Integer> keptPerGame = new HashMap<>();
+        int keptAutosaves = 0;
+        for (SaveManifest.Entry save : saves) {
+            if (save.getFileName().equals(playing)) keptAutosaves++;
+        }
+        for (SaveManifest.Entry save : newestFirst) {
+            String name = save.getName();
+            if (name.equals(SaveSystem.AUTOSAVE_NAME)) {
+                if (save.getFileName().equals(playing)) continue;
+                if (++keptAutosaves > autosavedGames) expired.add(save.getFileName());
+            } else if (!keepNamed || name.equals(SaveSystem.DEFAULT_SAVE_NAME)) {
+                int kept = keptPerGame.merge(save.getGameID(), 1, Integer::sum);
+                if (kept > savesPerGame) expired.add(save.getFileName());
+            }
+        }
+
+        return expired;
+    }
+}
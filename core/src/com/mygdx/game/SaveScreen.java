@@ -16,11 +16,7 @@ import com.mygdx.game.Observer.Observer;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashSet;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 /**
  * Screen displayed when loading a saved game state.
@@ -107,24 +103,13 @@ public class SaveScreen extends GameScreen {
     /**
      * Generate an unused ID number to use to create a new GameStates.
      *
-     * @param sSystem Used to deserialize JSON files
+     * @param sSystem Used to find the IDs of saved games
      * @return Unique integer ID
      */
     public int getUniqueID(SaveSystem sSystem) throws FileNotFoundException {
-        File[] fileList = getFileList();
-
         HashSet<Integer> foundIDs = new HashSet<>();
-        for (File file : fileList) {
-            if (file.isFile()) {
-                // Match all strings starting with a valid save filename and ending with .json
-                Pattern pattern = Pattern.compile("^.*_.*\\.json$");
-                Matcher matcher = pattern.matcher(file.getName());
-                if (matcher.matches()) {
-                    // Get ID
-                    GameState gs = sSystem.readGameState(file.getName(), assets);
-                    foundIDs.add(gs.getID());
-                }
-            }
+        for (SaveManifest.Entry save : sSystem.getManifest().list()) {
+            foundIDs.add(save.getGameID());
         }
 
         // Generate random ID until it's unique
@@ -144,32 +129,14 @@ public class SaveScreen extends GameScreen {
      * @throws FileNotFoundException if the saves folder isn't found
      */
     public void loadLatestSave(Stage stage, Skin skin) throws FileNotFoundException {
-        File[] fileList = getFileList();
-
-        // Get the latest save by modified time
-        File latestModifiedFile = null;
-        long lastModifiedTime = Long.MIN_VALUE;
+        // Get the latest save by the time it was last written, counting appends to an autosave's journal
+        SaveManifest.Entry latest = getManifest().latest();
 
-        for (File file : fileList) {
-            if (file.isFile()) {
-                // Match all strings starting with a valid save filename and ending with .json
-                Config config = Config.getInstance();
-                Pattern pattern = Pattern.compile("^.*_.*\\.json$");
-                Matcher matcher = pattern.matcher(file.getName());
-                if (matcher.matches()) {
-                    if (file.lastModified() > lastModifiedTime) {
-                        lastModifiedTime = file.lastModified();
-                        latestModifiedFile = file;
-                    }
-                }
-            }
-        }
-
-        if (latestModifiedFile == null) {
+        if (latest == null) {
             Utility.showErrorDialog("No saves to load.", stage, skin);
         }
         else {
-            loadSaveEvent.notifyObservers(latestModifiedFile.getName());
+            loadSaveEvent.notifyObservers(latest.getFileName());
         }
     }
 
@@ -177,31 +144,22 @@ public class SaveScreen extends GameScreen {
      * Remove all GameStates with a given ID. Used when the game ends.
      *
      * @param id The ID of the game state
-     * @param sSystem The SaveSystem object used to get game states.
+     * @param sSystem The SaveSystem object used to find and delete saves.
      */
     public void deleteByID(int id, SaveSystem sSystem) throws FileNotFoundException {
-        File[] fileList = getFileList();
-
-        for (File file : fileList) {
-            if (file.isFile()) {
-                // Match all strings starting with a valid save filename and ending with .json
-                Config config = Config.getInstance();
-                Pattern pattern = Pattern.compile("^.*_.*\\.json$");
-                Matcher matcher = pattern.matcher(file.getName());
-                if (matcher.matches()) {
-                    // Get ID
-                    GameState gs = sSystem.readGameState(file.getName(), assets);
-                    // Delete if we find a match
-                    if (gs.getID() == id) {
-                        try {
-                            Files.delete(Path.of(file.getPath()));
-                        } catch (IOException e) {
-                            Utility.showErrorDialog("Error; failed to delete a save associated with this game.", stage, skin);
-                        }
-                    }
+        sSystem.flush();  // Saves of the game still being written must be deleted too
+        SaveManifest manifest = sSystem.getManifest();
+        for (SaveManifest.Entry save : manifest.list()) {
+            // Delete if we find a match
+            if (save.getGameID() == id) {
+                try {
+                    manifest.delete(save.getFileName());
+                } catch (IOException e) {
+                    Utility.showErrorDialog("Error; failed to delete a save associated with this game.", stage, skin);
                 }
             }
         }
+        collectChunks();
     }
 
 
@@ -216,63 +174,62 @@ public class SaveScreen extends GameScreen {
         table.add(menuButton);
         table.row().pad(10, 0, 10, 0);
 
-        int saveNum = 1;
-        File[] fileList = getFileList();
+        SaveManifest manifest = getManifest();
+        for (SaveManifest.Entry save : manifest.list()) {
+            String fileName = save.getFileName();
+            Label saveLabel = new Label(fileName, skin);
+            TextButton loadButton = new TextButton("Load", skin);
+            loadButton.addListener(new ChangeListener() {
+                @Override
+                public void changed(ChangeEvent event, Actor actor) {
+                    loadSaveEvent.notifyObservers(fileName);
+                }
+            });
+            Button deleteButton = new TextButton("Delete", skin);
+            deleteButton.addListener(new ChangeListener() {
+                @Override
+                public void changed(ChangeEvent event, Actor actor) {
+                    try {
+                        manifest.delete(fileName);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                    collectChunks();
+                    try {
+                        findSaves();
+                    } catch (FileNotFoundException e) {
+                        Utility.showErrorDialog("Error; saves folder not found", stage, skin);
+                    }
+                }
+            });
 
-        for (File file : fileList) {
-            if (file.isFile()) {
-                // Match all strings starting with a valid save filename and ending with .json
-                Config config = Config.getInstance();
-                Pattern pattern = Pattern.compile("^.*_.*\\.json$");
-                Matcher matcher = pattern.matcher(file.getName());
-                if (matcher.matches()) {
-                    Label saveLabel = new Label(file.getName(), skin);
-                    TextButton loadButton = new TextButton("Load", skin);
-                    loadButton.addListener(new ChangeListener() {
-                        @Override
-                        public void changed(ChangeEvent event, Actor actor) {
-                            loadSaveEvent.notifyObservers(file.getName());
-                        }
-                    });
-                    Button deleteButton = new TextButton("Delete", skin);
-                    deleteButton.addListener(new ChangeListener() {
-                        @Override
-                        public void changed(ChangeEvent event, Actor actor) {
-                            try {
-                                Files.delete(Path.of(file.getPath()));
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            }
-                            try {
-                                findSaves();
-                            } catch (FileNotFoundException e) {
-                                Utility.showErrorDialog("Error; saves folder not found", stage, skin);
-                            }
-                        }
-                    });
+            table.add(saveLabel);
+            table.add(loadButton);
+            table.add(deleteButton);
+            table.row().pad(10, 0, 10, 0);
+        }
+    }
 
-                    table.add(saveLabel);
-                    table.add(loadButton);
-                    table.add(deleteButton);
-                    table.row().pad(10, 0, 10, 0);
-                }
-            }
+
+    /**
+     * Delete the stored chunks which no save refers to any more. Run after deleting saves.
+     */
+    private void collectChunks() {
+        try {
+            ChunkStore.collect(new File("saves"));
+        } catch (IOException e) {
+            e.printStackTrace();  // Unused chunks only take up space; collected after the next delete
         }
     }
 
 
     /**
-     * Get the list of all saved game states in the save folder.
+     * Get the index of all saved game states in the save folder.
      *
-     * @return an array of Files
-     * @throws FileNotFoundException If the save folder wasn't found. It will not be thrown if the folder is just empty.
+     * @return Manifest of the save folder
      */
-    private File[] getFileList() throws FileNotFoundException {
-        File saveFolder = new File("saves");
-        File[] fileList = saveFolder.listFiles();
-        if (fileList == null) throw new FileNotFoundException();
-
-        return fileList;
+    private SaveManifest getManifest() {
+        return SaveManifest.of(new File("saves"));
     }
 
 
@@ -3,28 +3,116 @@ package com.mygdx.game;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Node.LegacyNodes;
+import com.mygdx.game.Observer.Observable;
+import com.mygdx.game.Observer.Observer;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Class used to save and load game states.
+ * <br><br>
+ * Games can be saved in the background with {@link #saveGameStateAsync(GameState, String)}. The game state is copied
+ * into a snapshot on the calling thread, so the game can carry on straight away, and the snapshot is written to disk by
+ * a background thread. Save files are written to a temporary file first and then renamed, so a crash never leaves a
+ * half-written save behind.
+ * <br><br>
+ * Saves are written as JSON ({@value SaveFormat#JSON_EXTENSION}), in the compact binary format of {@link SaveFormat}
+ * ({@value SaveFormat#BINARY_EXTENSION}), or as chunks shared between saves in the {@link ChunkStore}
+ * ({@value ChunkStore#EXTENSION}), depending on the extension the save system was created with. Saves are read in the
+ * format given by their own extension, so saves written in any of the three formats can always be loaded.
+ * <br><br>
+ * Games are also autosaved at the end of every turn with {@link #autosave(GameState)}. An autosave only appends the
+ * game's {@link GameJournal} to the journal file next to the game's autosave, and writes a new snapshot of the whole
+ * game every {@value #SNAPSHOT_INTERVAL} journal entries. Loading a save replays its journal, if it has one.
+ * <br><br>
+ * Save numbers are handed out by the {@link SaveManifest}. After each save, old saves are deleted in the background
+ * according to the {@link SaveRetention} policy.
  *
  * @author Franck Limtung (flimtung)
  */
 public class SaveSystem {
 
-    /** Object used to read/write game state data to/from file. */
+    /** Largest number of games with saves waiting to be written. Saving another game waits for the writer. */
+    private static final int MAX_PENDING = 8;
+    /** Number of journal entries after which an autosave writes a new snapshot instead of appending to the journal. */
+    private static final int SNAPSHOT_INTERVAL = 64;
+    /** Name games are autosaved under. The game's ID takes the place of the save number. */
+    public static final String AUTOSAVE_NAME = "autosave";
+    /** Name suggested by the save dialog. Saves left with this name count as unnamed. */
+    public static final String DEFAULT_SAVE_NAME = "NewGame";
+
+    /** Object used to read/write game state data to/from file, with the codecs of {@link SaveCodecs}. */
     private final Json json = new Json();
+    /** Object used to read saves written by reflection, before the codecs existed. */
+    private final Json legacyJson = new Json();
+    /** Object used by the writer thread to format snapshots. */
+    private final Json printer = new Json();
+    /** Extension of the save files written, which decides their format. */
+    private final String extension;
+
+    /** Saves waiting to be written, by game ID and save name. A newer save of the same game replaces a waiting one. */
+    private final LinkedHashMap<String, Snapshot> pending = new LinkedHashMap<>();
+    /** Background thread which writes saves, created on first use. */
+    private ExecutorService writer;
+    /** Decides which old saves are deleted after saving. */
+    private volatile SaveRetention retention = SaveRetention.DEFAULT;
+    /** Autosave files whose last write failed. Their journal is not appended to until a new snapshot is written. */
+    private final Set<String> staleAutosaves = ConcurrentHashMap.newKeySet();
+    /** Autosave file of the game being played, which is never pruned while its journal is appended to. */
+    private volatile String playingAutosave;
+
+    /** Event notified with the save file name when a save has been written. Notified on the thread which wrote it. */
+    private final Observable<String> saveCompleteEvent = new Observable<>();
+    /** Event notified with the save name when a save could not be written. Notified on the thread which wrote it. */
+    private final Observable<String> saveFailedEvent = new Observable<>();
+
 
     /**
-     * Initialize the save system. Includes special treatment of texture objects.
+     * Initialize the save system, writing saves as JSON.
      */
     public SaveSystem() {
+        this(SaveFormat.JSON_EXTENSION);
+    }
+
+    /**
+     * Initialize the save system. Games are written with hand-written codecs, and older saves are read by reflection,
+     * which includes special treatment of texture objects.
+     *
+     * @param extension Extension of the save files to write: {@link SaveFormat#JSON_EXTENSION},
+     *                  {@link SaveFormat#BINARY_EXTENSION}, or {@link ChunkStore#EXTENSION} to share unchanged parts
+     *                  of the game between saves
+     * @throws IllegalArgumentException If the extension is not a save format
+     */
+    public SaveSystem(String extension) throws IllegalArgumentException {
+        if (!extension.equals(SaveFormat.JSON_EXTENSION) && !extension.equals(SaveFormat.BINARY_EXTENSION)
+                && !extension.equals(ChunkStore.EXTENSION)) {
+            throw new IllegalArgumentException("Unknown save format: " + extension);
+        }
+        this.extension = extension;
+        SaveCodecs.register(json);
+
         // Textures don't support serialization. We skip textures and reconstruct them after loading
-        json.setSerializer(Texture.class, new Json.Serializer<Texture>() {
+        legacyJson.setSerializer(Texture.class, new Json.Serializer<Texture>() {
             @Override
             public void write(Json json, Texture object, Class knownType) {
                 json.writeValue(null);
@@ -34,6 +122,8 @@ public class SaveSystem {
                 return null;
             }
         });
+        // Games saved before tiles became a single class
+        LegacyNodes.register(legacyJson);
     }
 
     /**
@@ -41,41 +131,401 @@ public class SaveSystem {
      * We cannot properly serialize certain LibGDX classes, so those must be reconstructed when deserializing.
      *
      * @param gs the GameState object to serialize
-     * @param path the path to save the file. If a file with the same name exists, it will increment an ID for the save file
+     * @param path the path to save the file. If a file with the same name exists, it will increment an ID for the save
+     *             file
      */
     public void saveGameState(GameState gs, String path) {
+        Snapshot snapshot = snapshot(gs, path);
+        if (snapshot != null) write(snapshot);
+    }
+
+    /**
+     * Saves a GameState in the background. The GameState is copied before returning, so it can be changed straight
+     * away. Completion is reported to the listeners added with {@link #addSaveCompleteListener(Observer)} and
+     * {@link #addSaveFailedListener(Observer)}.
+     * <br><br>
+     * If an earlier save of the same game under the same name is still waiting to be written, only this newer save is
+     * written. If too many games have saves waiting, waits for the oldest to be written first.
+     *
+     * @param gs the GameState object to serialize
+     * @param path the name to save the game under. A save number is added to it, as with {@link #saveGameState}
+     */
+    public void saveGameStateAsync(GameState gs, String path) {
+        Snapshot snapshot = snapshot(gs, path);
+        if (snapshot == null) return;
+        synchronized (pending) {
+            try {
+                while (pending.size() >= MAX_PENDING && !pending.containsKey(snapshot.key)) pending.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                saveFailedEvent.notifyObservers(path);
+                return;
+            }
+
+            if (pending.put(snapshot.key, snapshot) == null) {  // Otherwise merged into the waiting save
+                getWriter().execute(() -> writePending(snapshot.key));
+            }
+        }
+    }
+
+    /**
+     * Autosaves a game in the background. Appends the changes recorded in the game's journal since the last autosave
+     * to the autosave's journal file, or writes a new snapshot of the game if it hasn't been autosaved yet, the journal
+     * has grown long, or the last autosave failed. The game can carry on straight away.
+     *
+     * @param gs the GameState object to autosave
+     */
+    public void autosave(GameState gs) {
+        GameJournal journal = gs.getJournal();
+        String fileName = AUTOSAVE_NAME + "_" + gs.getID() + extension;
+        playingAutosave = fileName;
+        String[] players = playerNames(gs);
+        int gameID = gs.getID();
+        int round = gs.getRound();
+
+        Runnable task;
+        if (!journal.isStarted() || journal.size() >= SNAPSHOT_INTERVAL || staleAutosaves.remove(fileName)) {
+            Snapshot snapshot;
+            try {
+                snapshot = new Snapshot(AUTOSAVE_NAME, gameID, round, players, journal.snapshot(gs), fileName);
+            } catch (Exception e) {
+                e.printStackTrace();
+                saveFailedEvent.notifyObservers(AUTOSAVE_NAME);
+                return;
+            }
+            task = () -> write(snapshot);
+        } else {
+            Future<List<String>> entries = journal.drain();  // Waited for by the writer thread
+            task = () -> append(fileName, entries, gameID, round, players);
+        }
+
+        synchronized (pending) {
+            getWriter().execute(task);  // Runs after any earlier autosave of the game, so entries follow their snapshot
+        }
+    }
+
+    /**
+     * Waits until every save started by {@link #saveGameStateAsync(GameState, String)} has been written.
+     */
+    public void flush() {
+        ExecutorService current;
+        synchronized (pending) {
+            current = writer;
+        }
+        if (current == null) return;  // Nothing has been saved in the background
+
         try {
-            Config config = Config.getInstance();
-            String JSONed = json.prettyPrint(gs);
+            current.submit(() -> {}).get();  // Saves are written in order, so this runs after all of them
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes every waiting save and stops the background thread. Used when the game closes.
+     */
+    public void dispose() {
+        flush();
+        synchronized (pending) {
+            if (writer != null) writer.shutdown();
+            writer = null;
+        }
+    }
+
+    /**
+     * Returns the background thread which writes saves, starting it if needed. Must be called while holding the lock
+     * on the pending saves.
+     *
+     * @return Save writer
+     */
+    private ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "Save writer");
+                thread.setDaemon(true);  // Don't keep the game open; dispose writes any waiting saves
+                return thread;
+            });
+        }
+
+        return writer;
+    }
+
+    /**
+     * Writes the waiting save of a game. Run on the background thread.
+     *
+     * @param key Game ID and save name of the save
+     */
+    private void writePending(String key) {
+        Snapshot snapshot;
+        synchronized (pending) {
+            snapshot = pending.remove(key);
+            pending.notifyAll();
+        }
+
+        write(snapshot);
+    }
+
+    /**
+     * Copies everything needed to write a save. Must run on the thread which updates the GameState.
+     *
+     * @param gs the GameState object to serialize
+     * @param path the name to save the game under
+     * @return Snapshot of the game, or null if the game could not be serialized
+     */
+    private Snapshot snapshot(GameState gs, String path) {
+        try {
+            String[] players = playerNames(gs);
+
+            // Compact JSON is the cheapest complete copy of the game; formatting it is left to the writer
+            return new Snapshot(path, gs.getID(), gs.getRound(), players, json.toJson(gs));
+        } catch (Exception e) {
+            e.printStackTrace();
+            saveFailedEvent.notifyObservers(path);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the names of the students playing a game.
+     *
+     * @param gs Game state
+     * @return Student names, in turn order
+     */
+    private static String[] playerNames(GameState gs) {
+        String[] players = new String[gs.getPlayerList().size()];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = gs.getPlayerList().get(i).getPlayerProfile().getName();
+        }
+
+        return players;
+    }
+
+    /**
+     * Formats a snapshot and writes it to the first free save slot, or to its own file if it is an autosave. The save
+     * is written to a temporary file and then renamed, so the save file is either complete or missing. The journal of
+     * an autosave is deleted first, so a crash leaves the older autosave without its journal rather than a journal
+     * applied to the wrong snapshot.
+     *
+     * @param snapshot Snapshot to write
+     */
+    private void write(Snapshot snapshot) {
+        String fileName;
+        try {
+            String JSONed = null;
+            JsonValue tree = null;
+            if (SaveFormat.isBinary(extension) || ChunkStore.isChunked(extension)) {
+                tree = new JsonReader().parse(snapshot.json);
+            } else {
+                synchronized (printer) {
+                    JSONed = printer.prettyPrint(snapshot.json);
+                }
+            }
 
-            // Keep increasing the save number until we find an empty slot
-            int saveNumber = 1;
             File saveFolder = new File("saves");
-            while (Utility.fileExists(saveFolder+File.separator + path + "_" + saveNumber + ".json")) saveNumber++;
-            Files.writeString(Paths.get(saveFolder+File.separator + path + "_" + saveNumber + ".json"), JSONed);
+            synchronized (this) {  // Claim a slot and fill it before anyone else looks for one
+                if (snapshot.fileName != null) {
+                    fileName = snapshot.fileName;
+                    Files.deleteIfExists(GameJournal.fileFor(Paths.get(saveFolder+File.separator + fileName)));
+                } else {
+                    int saveNumber = SaveManifest.of(saveFolder).nextNumber(snapshot.path,
+                            SaveFormat.JSON_EXTENSION, SaveFormat.BINARY_EXTENSION, ChunkStore.EXTENSION);
+                    fileName = snapshot.path + "_" + saveNumber + extension;
+                }
+
+                Path target = Paths.get(saveFolder+File.separator + fileName);
+                if (ChunkStore.isChunked(extension)) {
+                    ChunkStore.write(tree, target);
+                } else {
+                    Path temp = Paths.get(saveFolder+File.separator + fileName + ".tmp");
+                    if (tree != null) {
+                        try (OutputStream out = Files.newOutputStream(temp)) {
+                            SaveFormat.writeBinary(tree, out);
+                        }
+                    } else {
+                        Files.writeString(temp, JSONed);
+                    }
+                    try {
+                        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+            }
+            SaveManifest.of(saveFolder).record(fileName, snapshot.gameID, snapshot.round, snapshot.players);
+        } catch (Exception e) {
+            e.printStackTrace();
+            if (snapshot.fileName != null) staleAutosaves.add(snapshot.fileName);
+            saveFailedEvent.notifyObservers(snapshot.path);
+            return;
+        }
+
+        saveCompleteEvent.notifyObservers(fileName);
+        synchronized (pending) {
+            getWriter().execute(this::prune);
+        }
+    }
+
+    /**
+     * Deletes the old saves which the retention policy no longer keeps. Run on the background thread.
+     */
+    private void prune() {
+        File saveFolder = new File("saves");
+        SaveManifest manifest = SaveManifest.of(saveFolder);
+        List<String> expired = retention.expired(manifest.known(), playingAutosave);
+        for (String fileName : expired) {
+            try {
+                manifest.delete(fileName);
+            } catch (Exception e) {
+                e.printStackTrace();  // Tried again after the next save
+            }
+        }
+
+        if (expired.isEmpty()) return;
+        try {
+            ChunkStore.collect(saveFolder);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sets the policy deciding which old saves are deleted after saving. Defaults to {@link SaveRetention#DEFAULT}.
+     *
+     * @param retention Retention policy
+     */
+    public void setRetention(SaveRetention retention) {
+        this.retention = retention;
+    }
+
+    /**
+     * Appends journal entries to the journal of an autosave. Run on the background thread, after the autosave's
+     * snapshot has been written.
+     *
+     * @param fileName Name of the autosave file
+     * @param pendingEntries Journal entries, one line each, once the journal has worked them out
+     * @param gameID ID of the game
+     * @param round Round the game is on
+     * @param players Names of the students playing the game
+     */
+    private void append(String fileName, Future<List<String>> pendingEntries, int gameID, int round,
+                        String[] players) {
+        if (staleAutosaves.contains(fileName)) return;  // Belongs to a snapshot which wasn't written
+
+        File saveFolder = new File("saves");
+        try {
+            List<String> entries = pendingEntries.get();
+            if (entries.isEmpty()) return;  // Nothing changed since the last autosave
+
+            Path save = Paths.get(saveFolder+File.separator + fileName);
+            if (!Files.exists(save)) throw new FileNotFoundException(fileName);
+
+            Files.write(GameJournal.fileFor(save), entries, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            SaveManifest.of(saveFolder).record(fileName, gameID, round, players);  // Journal's new modified time
         } catch (Exception e) {
             e.printStackTrace();
+            staleAutosaves.add(fileName);
+            saveFailedEvent.notifyObservers(AUTOSAVE_NAME);
+            return;
         }
+
+        saveCompleteEvent.notifyObservers(fileName);
     }
 
     /**
-     * Deserialize a GameState object from a JSON file.
+     * Returns the index of the saves in the save folder. Used to list and clean up saves without loading them.
      *
-     * @param savePath the path to the JSON file
+     * @return Manifest of the save folder
+     */
+    public SaveManifest getManifest() {
+        return SaveManifest.of(new File("saves"));
+    }
+
+    /**
+     * Deserialize a GameState object from a save file, in the format given by the file's extension. If the save has a
+     * journal, its entries are replayed onto the save.
+     *
+     * @param savePath the path to the save file
      * @param assets an AssetManager loaded with all the assets required by the GameState and its objects
      * @return a GameState object
      */
     public GameState readGameState(String savePath, AssetManager assets) {
+        GameState gs = readGameState(savePath);
+        if (gs != null) gs.loadTextures(assets);
+        return gs;
+    }
+
+    /**
+     * Deserialize a GameState object from a save file without loading any assets. The game's model is complete, but it
+     * can't be drawn or played until {@link GameState#loadTextures(AssetManager)} is run. Used by tools which only read
+     * the game, such as rebuilding the save index.
+     *
+     * @param savePath the path to the save file
+     * @return a GameState object, or null if the save could not be read
+     */
+    public GameState readGameState(String savePath) {
         try {
-            Config config = Config.getInstance();
             File saveFolder = new File("saves");
-            String gsString = Files.readString(Path.of(saveFolder+File.separator + savePath));
-            GameState gs = json.fromJson(GameState.class, gsString);
-            gs.loadTextures(assets);
+            Path save = Path.of(saveFolder+File.separator + savePath);
+            JsonValue tree = GameJournal.replay(save, SaveFormat.read(save));
+            Json reader = SaveCodecs.isLegacy(tree) ? legacyJson : json;
+            GameState gs = reader.readValue(GameState.class, null, tree);
+            gs.restore();
             return gs;
         } catch (Exception e) {
             e.printStackTrace();
             return null;
         }
     }
+
+    /**
+     * Assigns an observer to listen for saves being written. Notified with the save file name, on the thread which
+     * wrote the save; observers which update the screen should hand the work to the render thread.
+     * @param ob Observer to listen for saves being written.
+     */
+    public void addSaveCompleteListener(Observer<String> ob) { saveCompleteEvent.addObserver(ob); }
+
+    /**
+     * Assigns an observer to listen for saves which could not be written. Notified with the save name, on the thread
+     * which tried to write the save.
+     * @param ob Observer to listen for failed saves.
+     */
+    public void addSaveFailedListener(Observer<String> ob) { saveFailedEvent.addObserver(ob); }
+
+
+    /**
+     * Copy of a game state taken to be saved.
+     */
+    private static final class Snapshot {
+        /** Name to save the game under. */
+        private final String path;
+        /** ID of the game. */
+        private final int gameID;
+        /** Round the game was saved on. */
+        private final int round;
+        /** Names of the students playing the game. */
+        private final String[] players;
+        /** Game state as compact JSON. */
+        private final String json;
+        /** Name of the file to write, or null to write to the first free save slot. */
+        private final String fileName;
+        /** Key used to merge saves of the same game under the same name. */
+        private final String key;
+
+        private Snapshot(String path, int gameID, int round, String[] players, String json) {
+            this(path, gameID, round, players, json, null);
+        }
+
+        private Snapshot(String path, int gameID, int round, String[] players, String json, String fileName) {
+            this.path = path;
+            this.gameID = gameID;
+            this.round = round;
+            this.players = players;
+            this.json = json;
+            this.fileName = fileName;
+            this.key = gameID + "/" + path;
+        }
+    }
 }
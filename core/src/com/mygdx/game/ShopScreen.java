@@ -40,6 +40,8 @@ import java.text.DecimalFormat;
  */
 public class ShopScreen extends GameScreen {
     private Observable<Void> boardEvent = new Observable<Void>();
+    /** Event notified with the name of the trade when the player buys or sells something. */
+    private Observable<String> tradeEvent = new Observable<>();
 
     private Player currentPlayer;
     private Stock [] stocksAvailable;
@@ -259,6 +261,7 @@ public class ShopScreen extends GameScreen {
      */
     private void buyStock (int num) {
         this.currentPlayer.addInvestments(this.stocksAvailable[num], num);
+        tradeEvent.notifyObservers("buyStock");
         this.background.remove();
         this.playerInfo.remove();
         updateScreen();
@@ -270,6 +273,7 @@ public class ShopScreen extends GameScreen {
      */
     private void sellStock(int num) {
         this.currentPlayer.removeInvestment(this.stocksAvailable[num], num);
+        tradeEvent.notifyObservers("sellStock");
         this.background.remove();
         this.playerInfo.remove();
         updateScreen();
@@ -320,6 +324,7 @@ public class ShopScreen extends GameScreen {
             currentPlayer.setMoney(currentPlayer.getMoney() - currentItem.getPrice());
             currentPlayer.addItem(currentItem);
             availableItems.removeIndex(itemSelector.getSelectedIndex() - 1);
+            tradeEvent.notifyObservers("buyItem");
             itemSelector.setSelectedIndex(0);
             SoundSystem.getInstance().playSound("buy.wav");
             ActionTextSystem.addText("Bought " + currentItem.getName(), buyButton.getX(), buyButton.getY(), 0.5f);
@@ -428,4 +433,10 @@ public class ShopScreen extends GameScreen {
     }
 
     public void addBoardListener(Observer<Void> ob) { boardEvent.addObserver(ob); }
+
+    /**
+     * Assigns an observer to listen for the player buying or selling something.
+     * @param ob Observer notified with the name of the trade.
+     */
+    public void addTradeListener(Observer<String> ob) { tradeEvent.addObserver(ob); }
 }
\ No newline at end of file
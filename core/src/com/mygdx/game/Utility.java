@@ -6,7 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 import java.io.File;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static java.lang.Math.abs;
 
@@ -23,10 +23,12 @@ public final class Utility {
     private Utility() {}
 
     /**
-     * Returns a random value within the range
+     * Returns a random value within the range. Only for randomness outside the game's rules, such as sounds and
+     * minigame questions; game events are drawn from the game's own seeded streams.
      *
      * @param min the minimum value of the range
      * @param max the maximum value of the range
+     * @see com.mygdx.game.Engine.GameRandom
      */
     public static int getRandom(int min, int max) throws IllegalArgumentException {
 
@@ -34,9 +36,7 @@ public final class Utility {
             throw new IllegalArgumentException();
         }
 
-        Random random = new Random();  // Create new randomizer
-
-        return min + random.nextInt((max - min) + 1);
+        return min + ThreadLocalRandom.current().nextInt((max - min) + 1);
     }
 
     /**
@@ -0,0 +1,111 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkStoreTest {
+    static private AssetManager asset;
+    static private final Json json = new Json();
+
+    @TempDir
+    Path folder;
+
+    @BeforeAll
+    static void setUp() {
+        asset = new GameContext().getAssetManager();
+        SaveCodecs.register(json);
+    }
+
+    /** Saved form of a game. */
+    private static JsonValue tree(GameState gs) {
+        return new JsonReader().parse(json.toJson(gs));
+    }
+
+    /** Number of chunks stored. */
+    private long chunks() throws IOException {
+        try (Stream<Path> files = Files.list(folder.resolve(ChunkStore.FOLDER))) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("A"), new PlayerProfile("007")), asset, 1, false);
+        Path save = folder.resolve("game_1" + ChunkStore.EXTENSION);
+        ChunkStore.write(tree(gs), save);
+
+        JsonValue read = SaveFormat.read(save);
+        assertEquals(tree(gs).toJson(JsonWriter.OutputType.json).length(),
+                read.toJson(JsonWriter.OutputType.json).length());
+        assertEquals("007", read.get("playerList").get(1).get("profile").getString("name"));
+        assertEquals(gs.getNodeMap().size(), read.get("tiles").size);
+        GameState loaded = json.readValue(GameState.class, null, read);
+        assertEquals(gs.getAllStocks()[2].getPrice(), loaded.getAllStocks()[2].getPrice());
+        assertTrue(Files.size(save) < 1024, "Save holds " + Files.size(save) + " bytes");
+    }
+
+    @Test
+    void storesSharedChunksOnce() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("A"), new PlayerProfile("B")), asset, 2, false);
+        ChunkStore.write(tree(gs), folder.resolve("game_1" + ChunkStore.EXTENSION));
+        long first = chunks();
+        ChunkStore.write(tree(gs), folder.resolve("game_2" + ChunkStore.EXTENSION));
+        assertEquals(first, chunks());  // Identical save, nothing new stored
+
+        gs.getPlayerList().get(1).setMoney(999);
+        ChunkStore.write(tree(gs), folder.resolve("game_3" + ChunkStore.EXTENSION));
+        assertEquals(first + 1, chunks());  // Only the changed player
+        assertEquals(999, SaveFormat.read(folder.resolve("game_3" + ChunkStore.EXTENSION))
+                .get("playerList").get(1).getInt("money"));
+    }
+
+    @Test
+    void collectsUnusedChunks() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("A")), asset, 3, false);
+        ChunkStore.write(tree(gs), folder.resolve("game_1" + ChunkStore.EXTENSION));
+        gs.getCurrentPlayer().setMoney(5);
+        ChunkStore.write(tree(gs), folder.resolve("game_2" + ChunkStore.EXTENSION));
+        long stored = chunks();
+
+        assertEquals(0, ChunkStore.collect(folder.toFile()));
+        Files.delete(folder.resolve("game_1" + ChunkStore.EXTENSION));
+        assertEquals(1, ChunkStore.collect(folder.toFile()));  // The first save's player
+        assertEquals(stored - 1, chunks());
+        assertEquals(5, SaveFormat.read(folder.resolve("game_2" + ChunkStore.EXTENSION))
+                .get("playerList").get(0).getInt("money"));
+
+        Files.delete(folder.resolve("game_2" + ChunkStore.EXTENSION));
+        ChunkStore.collect(folder.toFile());
+        assertEquals(0, chunks());
+    }
+
+    @Test
+    void keepsChunksOfUnreadableSaves() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("A")), asset, 4, false);
+        ChunkStore.write(tree(gs), folder.resolve("game_1" + ChunkStore.EXTENSION));
+        Files.delete(folder.resolve("game_1" + ChunkStore.EXTENSION));
+        long stored = chunks();
+
+        // A save which can be listed but not read, so the chunks it refers to are unknown
+        Path unreadable = Files.createDirectory(folder.resolve("game_2" + ChunkStore.EXTENSION));
+        assertEquals(0, ChunkStore.collect(folder.toFile()));
+        assertEquals(stored, chunks());
+
+        Files.delete(unreadable);
+        assertEquals(stored, ChunkStore.collect(folder.toFile()));
+    }
+}
@@ -28,7 +28,7 @@ class EndScreenTest {
         // Check if Profiles are updated by the screen
         EndScreen screen = new EndScreen(Mockito.mock(SpriteBatch.class), asset);
         PlayerProfile profile = new PlayerProfile("test",0,125,0);
-        screen.addUpdateScoreListener(p -> resultProfile = p);
+        screen.addUpdateScoreListener(results -> resultProfile = results.get(0));
         screen.addDeleteSavesListener(id -> assertEquals(1234, id));
 
         GameState state = new GameState(Collections.singletonList(profile), asset, 1234, false);
@@ -0,0 +1,127 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.GameEngine;
+import com.mygdx.game.Engine.TileType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plays the same seeded games on the game board's GameState and on the headless GameEngine, making the same choices in
+ * both, and checks that they stay in step. The turn, round and tile rules are shared through GameModel, but rolling,
+ * moving and tile activation are written for each model, so this keeps the two from drifting apart.
+ */
+class EngineParityTest {
+    static AssetManager asset;
+    static SpriteBatch batch;
+
+    @BeforeAll
+    static void setUp() {
+        asset = new GameContext().getAssetManager();
+        batch = Mockito.mock(SpriteBatch.class);
+    }
+
+    /** Indices of the tiles at the end of each reachable path of the game board's current player. */
+    private static TreeSet<Integer> destinations(GameState gs) {
+        BoardGraph graph = gs.getBoardGraph();
+        TreeSet<Integer> tiles = new TreeSet<>();
+        for (ArrayList<String> path : gs.getCurrentPlayer().getReachablePaths()) {
+            tiles.add(graph.indexOf(path.get(path.size() - 1)));
+        }
+        return tiles;
+    }
+
+    /** Indices of the tiles at the end of each reachable path of the engine's current player. */
+    private static TreeSet<Integer> destinations(GameEngine engine) {
+        TreeSet<Integer> tiles = new TreeSet<>();
+        for (int[] path : engine.getReachablePaths()) {
+            tiles.add(path[path.length - 1]);
+        }
+        return tiles;
+    }
+
+    /** Checks that both models hold the same game. */
+    private static void assertSameGame(GameState gs, GameEngine engine) {
+        String turn = "Turn " + engine.getTurn();
+        assertEquals(engine.getTurn(), gs.getTurn(), turn);
+        assertEquals(engine.getRound(), gs.getRound(), turn);
+        assertEquals(engine.isGameOver(), gs.isGameOver(), turn);
+        assertEquals(engine.getCurrentPlayer(), gs.getPlayerList().indexOf(gs.getCurrentPlayer()), turn);
+        for (int player = 0; player < engine.getPlayerCount(); player++) {
+            Player p = gs.getPlayerList().get(player);
+            assertEquals(engine.getMoney(player), p.getMoney(), turn);
+            assertEquals(engine.getStars(player), p.getStars(), turn);
+            assertEquals(engine.getLevel(player), p.getLevel(), turn);
+            assertEquals(engine.getPosition(player), p.getCurrentIndex(), turn);
+            assertEquals(engine.isFrozen(player), p.isFrozen(), turn);
+            if (engine.isGameOver()) assertEquals(engine.getScore(player), p.getScore(), turn);
+        }
+        for (int tile = 0; tile < engine.getLayout().size(); tile++) {
+            assertEquals(engine.getTileType(tile), gs.getTile(tile).getType(), turn + ", tile " + tile);
+        }
+        for (int stock = 0; stock < engine.getStocks().length; stock++) {
+            assertEquals(engine.getStocks()[stock].getPrice(), gs.getAllStocks()[stock].getPrice(), turn);
+        }
+    }
+
+    /**
+     * Plays a whole game on both models, moving to the same randomly chosen reachable tile in both.
+     *
+     * @param landed Counts the tiles landed on, by type
+     */
+    private static void play(long seed, boolean hardMode, EnumMap<TileType, Integer> landed) {
+        List<PlayerProfile> profiles = List.of(new PlayerProfile("A", 0, 0, 1), new PlayerProfile("B", 0, 0, 1),
+                new PlayerProfile("C", 0, 0, 1));
+        GameState gs = new GameState(profiles, asset, 0, hardMode, seed, BoardLayout.defaultLayout());
+        GameEngine engine = new GameEngine(BoardLayout.defaultLayout(), profiles.size(), hardMode, seed);
+        assertSameGame(gs, engine);
+
+        Random choices = new Random(seed);
+        while (!engine.isGameOver()) {
+            Player player = gs.getCurrentPlayer();
+            assertEquals(engine.rollDie(), player.rollDie(gs.getNodeMap()));
+            TreeSet<Integer> reachable = destinations(engine);
+            assertEquals(reachable, destinations(gs));
+
+            if (!reachable.isEmpty()) {
+                int tile = new ArrayList<>(reachable).get(choices.nextInt(reachable.size()));
+                landed.merge(engine.getTileType(tile), 1, Integer::sum);
+                engine.move(tile);
+                player.move(gs.getBoardGraph().getID(tile), gs.getNodeMap(), batch, hardMode);
+            }
+            engine.nextTurn();
+            gs.nextTurn();
+            assertSameGame(gs, engine);
+        }
+    }
+
+    @Test
+    void easyMode() {
+        EnumMap<TileType, Integer> landed = new EnumMap<>(TileType.class);
+        for (long seed = 1; seed <= 3; seed++) {
+            play(seed, false, landed);
+        }
+        assertTrue(landed.containsKey(TileType.PENALTY) && landed.containsKey(TileType.EVENT), landed.toString());
+    }
+
+    @Test
+    void hardMode() {
+        EnumMap<TileType, Integer> landed = new EnumMap<>(TileType.class);
+        for (long seed = 1; seed <= 3; seed++) {
+            play(seed, true, landed);
+        }
+        assertTrue(landed.containsKey(TileType.PENALTY) && landed.containsKey(TileType.EVENT), landed.toString());
+    }
+}
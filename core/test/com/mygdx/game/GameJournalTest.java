@@ -0,0 +1,138 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.Engine.TileType;
+import com.mygdx.game.Node.Node;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+    static private AssetManager asset;
+
+    @BeforeAll
+    static void setUp() {
+        asset = new GameContext().getAssetManager();
+    }
+
+    /** Replays entries onto a snapshot and reads the game back. */
+    private static GameState replay(String snapshot, List<String> entries) {
+        Json json = new Json();
+        SaveCodecs.register(json);
+        JsonValue root = GameJournal.replay(new JsonReader().parse(snapshot), entries);
+        return json.readValue(GameState.class, null, root);
+    }
+
+    @Test
+    void recordsNothingBeforeSnapshot() throws Exception {
+        GameState gs = new GameState(List.of(new PlayerProfile("A"), new PlayerProfile("B")), asset, 1, false);
+        gs.getCurrentPlayer().setMoney(42);
+        gs.record("test", gs.getCurrentPlayer());
+
+        assertFalse(gs.getJournal().isStarted());
+        assertTrue(gs.getJournal().drain().get().isEmpty());
+    }
+
+    @Test
+    void replayMatchesGame() throws Exception {
+        GameState gs = new GameState(List.of(new PlayerProfile("A"), new PlayerProfile("007")), asset, 2, false);
+        GameJournal journal = gs.getJournal();
+        String snapshot = journal.snapshot(gs);
+
+        gs.getCurrentPlayer().rollDie(gs.getNodeMap());
+        gs.record("roll", gs.getCurrentPlayer());
+        gs.getCurrentPlayer().setMoney(1234);
+        gs.record("move", gs.getCurrentPlayer());
+        gs.record("nothing", gs.getCurrentPlayer());  // Unchanged, so not an entry
+        for (int i = 0; i < 5; i++) {
+            gs.nextTurn();  // Records the turn and the market tick
+        }
+        List<String> entries = new ArrayList<>(journal.drain().get());
+
+        assertEquals(8, journal.size());  // Every action recorded, including the one which changed nothing
+        assertEquals(7, entries.size());
+        assertTrue(entries.get(0).startsWith("{\"action\":\"roll\""));
+        for (String entry : entries) {
+            assertTrue(entry.length() < snapshot.length() / 2, entry);  // Only what changed
+        }
+
+        GameState replayed = replay(snapshot, entries);
+        assertEquals(gs.getTurn(), replayed.getTurn());
+        assertEquals(gs.getRound(), replayed.getRound());
+        assertEquals(gs.getCurrentPlayer().getPlayerProfile().getName(),
+                replayed.getCurrentPlayer().getPlayerProfile().getName());
+        assertEquals("007", replayed.getPlayerList().get(1).getPlayerProfile().getName());
+        assertEquals(1234, replayed.getPlayerList().get(0).getMoney());
+        assertEquals(gs.getPlayerList().get(0).getCurrentTile(), replayed.getPlayerList().get(0).getCurrentTile());
+        for (int i = 0; i < gs.getAllStocks().length; i++) {
+            assertEquals(gs.getAllStocks()[i].getPrice(), replayed.getAllStocks()[i].getPrice());
+        }
+        // Carries on with the same random events
+        replayed.loadTextures(asset);
+        assertEquals(gs.getCurrentPlayer().rollDie(gs.getNodeMap()),
+                replayed.getCurrentPlayer().rollDie(replayed.getNodeMap()));
+    }
+
+    @Test
+    void recordsChangedParts() throws Exception {
+        GameState gs = new GameState(List.of(new PlayerProfile("A"), new PlayerProfile("B")), asset, 5, false);
+        GameJournal journal = gs.getJournal();
+        String snapshot = journal.snapshot(gs);
+
+        // A tile changed by an action, and another player changed without being recorded
+        Node tile = gs.getTile(3);
+        tile.hasStar = false;
+        gs.record("move", gs.getCurrentPlayer(), tile);
+        gs.getPlayerList().get(1).setMoney(77);
+        List<String> entries = new ArrayList<>(journal.drain().get());
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).contains("\"tiles/"), entries.get(0));
+        assertFalse(entries.get(0).contains("playerList/1"), entries.get(0));
+
+        // The end of the turn picks up every player and the tiles changed during the turn
+        gs.setTileType(5, TileType.PENALTY);
+        gs.nextTurn();
+        entries.addAll(journal.drain().get());
+        assertEquals(2, entries.size());
+
+        GameState replayed = replay(snapshot, entries);
+        assertEquals(77, replayed.getPlayerList().get(1).getMoney());
+        assertFalse(replayed.getNodeMap().get(tile.getID()).hasStar);
+        assertEquals(TileType.PENALTY, replayed.getNodeMap().get(gs.getTile(5).getID()).getType());
+        assertEquals(gs.getTurn(), replayed.getTurn());
+    }
+
+    @Test
+    void stopsAtTruncatedEntry() throws Exception {
+        GameState gs = new GameState(List.of(new PlayerProfile("A")), asset, 3, false);
+        String snapshot = gs.getJournal().snapshot(gs);
+        gs.getCurrentPlayer().setMoney(10);
+        gs.record("first", gs.getCurrentPlayer());
+        gs.getCurrentPlayer().setMoney(20);
+        gs.record("second", gs.getCurrentPlayer());
+        List<String> entries = new ArrayList<>(gs.getJournal().drain().get());
+        entries.set(1, entries.get(1).substring(0, entries.get(1).length() / 2));
+
+        assertEquals(10, replay(snapshot, entries).getCurrentPlayer().getMoney());
+    }
+
+    @Test
+    void snapshotRestartsJournal() throws Exception {
+        GameState gs = new GameState(List.of(new PlayerProfile("A")), asset, 4, false);
+        GameJournal journal = gs.getJournal();
+        journal.snapshot(gs);
+        gs.getCurrentPlayer().setMoney(10);
+        gs.record("first", gs.getCurrentPlayer());
+        journal.snapshot(gs);
+
+        assertEquals(0, journal.size());
+        assertTrue(journal.drain().get().isEmpty());
+    }
+}
@@ -2,10 +2,9 @@ package com.mygdx.game;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.TileType;
 import com.mygdx.game.Node.Node;
-import com.mygdx.game.Node.NormalNode;
-import com.mygdx.game.Node.PenaltyNode;
-import com.mygdx.game.Node.StarNode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -56,6 +55,62 @@ class GameStateTest {
         assertEquals(13, gs.getPlayerList().get(0).getLevel()); // Check level-up
     }
 
+    @Test
+    void seed() {
+        PlayerProfile profile = new PlayerProfile("test",0,0,0);
+        PlayerProfile profile2 = new PlayerProfile("test2",0,0,0);
+        GameState gs = new GameState(List.of(profile, profile2), asset, 0, false, 1234);
+        GameState gs2 = new GameState(List.of(profile, profile2), asset, 0, false, 1234);
+        assertEquals(1234, gs.getSeed());
+        // Same seed gives the same game
+        for (int i = 0; i < 10; i++) {
+            assertEquals(gs.getCurrentPlayer().getCurrentTile(), gs2.getCurrentPlayer().getCurrentTile());
+            assertEquals(gs.getCurrentPlayer().rollDie(gs.getNodeMap()), gs2.getCurrentPlayer().rollDie(gs2.getNodeMap()));
+            gs.nextTurn();
+            gs2.nextTurn();
+        }
+        for (int i = 0; i < gs.getAllStocks().length; i++) {
+            assertEquals(gs.getAllStocks()[i].getPrice(), gs2.getAllStocks()[i].getPrice());
+        }
+        assertEquals(gs.getItems().size, gs2.getItems().size);
+    }
+
+    @Test
+    void boardGraph() {
+        PlayerProfile profile = new PlayerProfile("test",0,0,0);
+        GameState gs = new GameState(List.of(profile), asset, 0, false);
+        GameState gs2 = new GameState(List.of(profile), asset, 1, false);
+        // Games on the same board share one graph, and so one reachability table
+        assertSame(gs.getBoardGraph(), gs2.getBoardGraph());
+        assertSame(BoardLayout.defaultLayout().getGraph(), gs.getBoardGraph());
+
+        for (int i = 0; i < gs.getBoardGraph().size(); i++) {
+            assertEquals(gs.getBoardGraph().getID(i), gs.getTile(i).getID());
+        }
+        Player player = gs.getCurrentPlayer();
+        assertEquals(player.getCurrentTile(), gs.getBoardGraph().getID(player.getCurrentIndex()));
+    }
+
+    @Test
+    void customBoard() {
+        // Ring of four plain tiles, linked clockwise
+        int[][] map = { {1,1},
+                        {1,1}};
+        int[][] direction = { {2,3},
+                              {1,4}};
+        BoardLayout layout = BoardLayout.fromGrid(map, direction);
+        PlayerProfile profile = new PlayerProfile("test",0,0,0);
+        PlayerProfile profile2 = new PlayerProfile("test2",0,0,0);
+        GameState gs = new GameState(List.of(profile, profile2), asset, 0, false, 1, layout);
+        assertSame(layout.getGraph(), gs.getBoardGraph());
+        assertEquals(4, gs.getNodeMap().size());
+        assertSame(layout.getGraph().getID(0), gs.getTile(0).getID());  // IDs are shared with the graph
+
+        List<PlayerProfile> tooMany = List.of(profile, profile2, new PlayerProfile("test3",0,0,0),
+                new PlayerProfile("test4",0,0,0), new PlayerProfile("test5",0,0,0));
+        assertThrows(IllegalArgumentException.class, () -> new GameState(tooMany, asset, 0, false, 1, layout));
+    }
+
     @Test
     void nextTurn() {
         PlayerProfile profile = new PlayerProfile("test",0,0,0);
@@ -132,8 +187,8 @@ class GameStateTest {
         // Remove all star nodes
         for (String id : gs.getNodeMap().keySet()) {
             Node node = gs.getNodeMap().get(id);
-            if (node instanceof StarNode) {
-                gs.getNodeMap().put(id, new NormalNode(node.getMapX(), node.getMapY(), node.getNorth(), node.getEast(), node.getSouth(), node.getWest(), gs.getNodeMap(), asset));
+            if (node.getType() == TileType.STAR) {
+                gs.getNodeMap().put(id, new Node(node.getMapX(), node.getMapY(), node.getNorth(), node.getEast(), node.getSouth(), node.getWest(), TileType.NORMAL, asset));
             }
         }
 
@@ -146,7 +201,7 @@ class GameStateTest {
 
                 starNum = 0;
                 for (Node node : gs.getNodeMap().values()) {
-                    if (node instanceof StarNode) starNum++;
+                    if (node.getType() == TileType.STAR) starNum++;
                 }
             } while (starNum < 3);
         });
@@ -158,13 +213,14 @@ class GameStateTest {
         GameState gs = new GameState(List.of(profile), asset, 0, false);
 
         for (Map.Entry<String, Node> entry : gs.getNodeMap().entrySet()) {
-            if (entry.getValue() instanceof StarNode) {
+            if (entry.getValue().getType() == TileType.STAR) {
                 // Move player to node and try to remove
                 gs.getCurrentPlayer().setCurrentTile(entry.getKey(), gs.getNodeMap());
-                StarNode node = (StarNode)entry.getValue();
+                Node node = entry.getValue();
                 node.hasStar = false;
                 gs.removeStar(gs.getNodeMap());
-                assertFalse(gs.getNodeMap().get(entry.getKey()) instanceof StarNode);
+                assertNotEquals(TileType.STAR, gs.getNodeMap().get(entry.getKey()).getType());
+                assertSame(node, gs.getNodeMap().get(entry.getKey()));  // Same tile, new type
                 break;
             }
         }
@@ -183,7 +239,7 @@ class GameStateTest {
 
                 penaltyNum = 0;
                 for (Node node : gs.getNodeMap().values()) {
-                    if (node instanceof PenaltyNode) penaltyNum++;
+                    if (node.getType() == TileType.PENALTY) penaltyNum++;
                 }
             } while (penaltyNum < 3);
         });
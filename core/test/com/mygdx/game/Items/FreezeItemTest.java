@@ -32,16 +32,16 @@ class FreezeItemTest {
         GameState state = new GameState(List.of(profile), asset, 0, false);
         FreezeItem freeze = new FreezeItem(skin);
         freeze.use(state.getCurrentPlayer(), state, Mockito.mock(Stage.class));
-        assertEquals(0, freeze.usedItemDialog.getButtonTable().getChildren().size);
+        assertEquals(0, freeze.getUsedItemDialog().getButtonTable().getChildren().size);
 
         // Check with more players
         PlayerProfile p2 = new PlayerProfile("test2", 0, 0, 0);
         PlayerProfile p3 = new PlayerProfile("test3", 0, 0, 0);
         state = new GameState(List.of(profile, p2, p3), asset, 0, false);
         freeze.use(state.getCurrentPlayer(), state, Mockito.mock(Stage.class));
-        assertEquals(2, freeze.usedItemDialog.getButtonTable().getChildren().size);
+        assertEquals(2, freeze.getUsedItemDialog().getButtonTable().getChildren().size);
         // Check effect
-        freeze.usedItemDialog.getButtonTable().getChild(0).fire(new ChangeListener.ChangeEvent());
+        freeze.getUsedItemDialog().getButtonTable().getChild(0).fire(new ChangeListener.ChangeEvent());
         assertTrue(state.getPlayerList().get(1).isFrozen());
     }
 }
\ No newline at end of file
@@ -61,6 +61,8 @@ class ItemTest {
         Item item = new Item("testItem", asset.get(Config.getInstance().getUiPath()));
 
         item.loadTextures(asset.get(Config.getInstance().getUiPath()));
-        assertNotNull(item.usedItemDialog);
+        assertNull(item.usedItemDialog);  // Not created until the item is used
+        assertNotNull(item.getUsedItemDialog());
+        assertSame(item.getUsedItemDialog(), item.usedItemDialog);
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.mygdx.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    /** Roster of students with the given high scores, in order. */
+    private static List<PlayerProfile> roster(int... highScores) {
+        List<PlayerProfile> roster = new ArrayList<>();
+        for (int i = 0; i < highScores.length; i++) {
+            roster.add(new PlayerProfile("Student" + i, 0, highScores[i], 0));
+        }
+        return roster;
+    }
+
+    /** Table of the top 3 high scores of a roster, ranking ties in roster order. */
+    private static Leaderboard leaderboard(List<PlayerProfile> roster) {
+        IdentityHashMap<PlayerProfile, Long> order = new IdentityHashMap<>();
+        Leaderboard leaderboard = new Leaderboard(3, PlayerProfile::getHighScore,
+                profile -> order.computeIfAbsent(profile, p -> (long) order.size()));
+        roster.forEach(profile -> order.put(profile, (long) order.size()));
+        leaderboard.rebuild(roster);
+        return leaderboard;
+    }
+
+    /** Names of the students in a table, from highest to lowest ranked. */
+    private static List<String> names(Leaderboard leaderboard) {
+        return leaderboard.getProfiles().stream().map(PlayerProfile::getName).toList();
+    }
+
+    @Test
+    void ranksTiesInRosterOrder() {
+        List<PlayerProfile> roster = roster(5, 9, 5, 5, 1);
+        Leaderboard leaderboard = leaderboard(roster);
+
+        assertEquals(List.of("Student1", "Student0", "Student2"), names(leaderboard));
+        assertThrows(IllegalArgumentException.class, () -> new Leaderboard(0, PlayerProfile::getHighScore, p -> 0));
+    }
+
+    @Test
+    void raisedScoreEntersTable() {
+        List<PlayerProfile> roster = roster(5, 9, 5, 5, 1);
+        Leaderboard leaderboard = leaderboard(roster);
+
+        roster.get(4).setHighScore(7);
+        assertTrue(leaderboard.update(roster.get(4), roster, false));
+        assertEquals(List.of("Student1", "Student4", "Student0"), names(leaderboard));
+
+        // Students outside the table don't change it
+        roster.get(3).setHighScore(4);
+        assertFalse(leaderboard.update(roster.get(3), roster, false));
+        roster.get(3).setName("Renamed");
+        assertFalse(leaderboard.update(roster.get(3), roster, true));
+        // Students in it do if they are renamed, even if their place doesn't change
+        roster.get(0).setName("Renamed");
+        assertTrue(leaderboard.update(roster.get(0), roster, true));
+        // But not if only their score changes and no one moves
+        roster.get(1).setHighScore(8);
+        assertFalse(leaderboard.update(roster.get(1), roster, false));
+        roster.get(4).setHighScore(6);
+        assertFalse(leaderboard.update(roster.get(4), roster, false));
+        roster.get(0).setKnowledgeLevel(3);
+        assertFalse(leaderboard.update(roster.get(0), roster, false));
+        assertEquals(List.of("Student1", "Student4", "Renamed"), names(leaderboard));
+    }
+
+    @Test
+    void droppedScoreLeavesTable() {
+        List<PlayerProfile> roster = roster(5, 9, 5, 5, 1);
+        Leaderboard leaderboard = leaderboard(roster);
+
+        roster.get(1).setHighScore(0);
+        assertTrue(leaderboard.update(roster.get(1), roster, false));
+        assertEquals(List.of("Student0", "Student2", "Student3"), names(leaderboard));
+    }
+
+    @Test
+    void removedStudentIsReplaced() {
+        List<PlayerProfile> roster = roster(5, 9, 5, 5, 1);
+        Leaderboard leaderboard = leaderboard(roster);
+
+        PlayerProfile removed = roster.remove(4);
+        assertFalse(leaderboard.remove(removed, roster));
+        removed = roster.remove(0);
+        assertTrue(leaderboard.remove(removed, roster));
+        assertEquals(List.of("Student1", "Student2", "Student3"), names(leaderboard));
+    }
+}
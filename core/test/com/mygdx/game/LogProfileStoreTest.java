@@ -0,0 +1,170 @@
+package com.mygdx.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogProfileStoreTest {
+
+    @TempDir
+    Path folder;
+
+    /** Roster of students with the given names, each with a different score. */
+    private static ArrayList<PlayerProfile> roster(String... names) {
+        ArrayList<PlayerProfile> roster = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            roster.add(new PlayerProfile(names[i], i * 10, i, 1));
+        }
+        return roster;
+    }
+
+    /** Names of the students in a roster, in order. */
+    private static List<String> names(List<PlayerProfile> roster) {
+        return roster.stream().map(PlayerProfile::getName).toList();
+    }
+
+    @Test
+    void replaysChanges() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        LogProfileStore store = new LogProfileStore(file);
+        assertTrue(store.load().isEmpty());
+
+        ArrayList<PlayerProfile> roster = roster("A", "B", "C");
+        store.write(roster, roster, List.of());
+        roster.get(0).setName("Renamed");
+        roster.get(0).setHighScore(99);
+        roster.get(0).setKnowledgeLevel(4);
+        PlayerProfile removed = roster.remove(1);
+        roster.add(new PlayerProfile("D"));
+        store.write(roster, List.of(roster.get(0), roster.get(2)), List.of(removed));
+
+        List<PlayerProfile> loaded = new LogProfileStore(file).load();
+        assertEquals(List.of("Renamed", "C", "D"), names(loaded));
+        assertEquals(99, loaded.get(0).getHighScore());
+        assertEquals(4, loaded.get(0).getKnowledgeLevel());
+        assertEquals(20, loaded.get(1).getLifetimeScore());
+        assertEquals(roster.get(0).getSpritePath(), loaded.get(0).getSpritePath());
+    }
+
+    @Test
+    void appendsOnlyChangedStudents() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        LogProfileStore store = new LogProfileStore(file);
+        ArrayList<PlayerProfile> roster = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            roster.add(new PlayerProfile("Student " + i));
+        }
+        store.write(roster, roster, List.of());
+
+        long size = Files.size(file);
+        roster.get(500).setHighScore(42);
+        store.write(roster, List.of(roster.get(500)), List.of());
+        assertTrue(Files.size(file) - size < 100, "Change took " + (Files.size(file) - size) + " bytes");
+        assertEquals(42, new LogProfileStore(file).load().get(500).getHighScore());
+    }
+
+    @Test
+    void dropsUnfinishedWrite() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        LogProfileStore store = new LogProfileStore(file);
+        ArrayList<PlayerProfile> roster = roster("A", "B");
+        store.write(roster, roster, List.of());
+        long committed = Files.size(file);
+
+        // A write cut short partway, as if the game stopped while writing it
+        roster.get(0).setHighScore(50);
+        roster.get(1).setHighScore(60);
+        store.write(roster, roster, List.of());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+
+        LogProfileStore recovered = new LogProfileStore(file);
+        List<PlayerProfile> loaded = recovered.load();
+        assertEquals(0, loaded.get(0).getHighScore());  // Neither change of the write is kept
+        assertEquals(1, loaded.get(1).getHighScore());
+        assertEquals(committed, Files.size(file));
+
+        // Writes carry on from the last commit
+        loaded.get(1).setHighScore(70);
+        recovered.write(loaded, List.of(loaded.get(1)), List.of());
+        assertEquals(70, new LogProfileStore(file).load().get(1).getHighScore());
+    }
+
+    @Test
+    void compactsReplacedRecords() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        LogProfileStore store = new LogProfileStore(file);
+        ArrayList<PlayerProfile> roster = roster("A", "B", "C");
+        store.write(roster, roster, List.of());
+        long size = Files.size(file);
+
+        for (int i = 0; i < 5000; i++) {
+            roster.get(1).setLifetimeScore(i);
+            store.write(roster, List.of(roster.get(1)), List.of());
+        }
+        assertTrue(Files.size(file) < size * 1000, "Log holds " + Files.size(file) + " bytes");
+
+        List<PlayerProfile> loaded = new LogProfileStore(file).load();
+        assertEquals(List.of("A", "B", "C"), names(loaded));
+        assertEquals(4999, loaded.get(1).getLifetimeScore());
+    }
+
+    @Test
+    void recoversFromFailedWrite() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        LogProfileStore store = new LogProfileStore(file);
+        ArrayList<PlayerProfile> roster = roster("A", "B");
+        store.write(roster, roster, List.of());
+
+        // The log can be neither appended to nor cut back
+        Files.delete(file);
+        Files.createDirectory(file);
+        PlayerProfile removed = roster.remove(1);
+        roster.add(new PlayerProfile("C"));
+        assertThrows(IOException.class, () -> store.write(roster, List.of(roster.get(1)), List.of(removed)));
+
+        // The next write rewrites the whole roster rather than appending after a torn record
+        Files.delete(file);
+        store.write(roster, List.of(), List.of(removed));
+        assertEquals(List.of("A", "C"), names(new LogProfileStore(file).load()));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = folder.resolve("students" + LogProfileStore.EXTENSION);
+        Files.writeString(file, "[ not a log ]");
+        assertThrows(IllegalArgumentException.class, () -> new LogProfileStore(file).load());
+    }
+
+    @Test
+    void profileManagerUsesLog() {
+        String students = folder.resolve("students" + LogProfileStore.EXTENSION).toString();
+        String highScores = folder.resolve("highScores.json").toString();
+        String lifetimeScores = folder.resolve("lifetimeScores.json").toString();
+
+        ProfileManager profileManager = new ProfileManager(students, highScores, lifetimeScores);
+        profileManager.addStudents(List.of("A", "B", "C"));
+        profileManager.batch(() -> {
+            profileManager.addStudent("D");
+            profileManager.removeStudent("D");  // Never written
+            profileManager.updateHighScore("B", 30);
+            profileManager.renameStudent("B", "Renamed");
+        });
+        profileManager.removeStudent("A");
+
+        ProfileManager secondManager = new ProfileManager(students, highScores, lifetimeScores);
+        assertEquals(List.of("Renamed", "C"), names(secondManager.getStudentProfiles()));
+        assertEquals(30, secondManager.getStudentProfiles().get(0).getHighScore());
+        assertEquals("Renamed", secondManager.getHighScoreList().get(0).getName());
+    }
+}
@@ -1,8 +1,13 @@
 package com.mygdx.game.Node;
 
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Json;
 import com.mygdx.game.*;
+import com.mygdx.game.Engine.BoardGraph;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Engine.TileType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -30,40 +35,75 @@ class NodeTest {
     @Test
     void getReachable() {
         Map<String, Node> nMap = new HashMap<String, Node>();
-        // Use NormalNode to test Node's un-overridable functions
-        NormalNode node = new NormalNode(0, 0, false, false, false, true, nMap, asset);
+        Node node = new Node(0, 0, false, false, false, true, TileType.NORMAL, asset);
         nMap.put("0,0", node);
-        NormalNode node2 = new NormalNode(-1, 0, false, true, false, false, nMap, asset);
+        Node node2 = new Node(-1, 0, false, true, false, false, TileType.NORMAL, asset);
         nMap.put("-1,0", node2);
 
-        ArrayList<ArrayList<String>> paths = node.getReachable(1, null, nMap);
+        BoardGraph graph = Node.compileGraph(nMap.values());
+        ArrayList<ArrayList<String>> paths = node.getReachable(1, null, graph);
         assertEquals(1, paths.size());
         assertEquals(2, paths.get(0).size());
         assertEquals("0,0", paths.get(0).get(0)); // First element is always itself
         assertEquals("-1,0", paths.get(0).get(1));
         // Test no going back
-        paths = node2.getReachable(1, node.getID(), nMap);
+        paths = node2.getReachable(1, node.getID(), graph);
         assertEquals(0, paths.size());
-        paths = node2.getReachable(1, null, nMap);
+        paths = node2.getReachable(1, null, graph);
         assertEquals(1, paths.size());
 
         // Test multidirections
-        NormalNode node3 = new NormalNode(0, 1, false, false, true, false, nMap, asset);
+        Node node3 = new Node(0, 1, false, false, true, false, TileType.NORMAL, asset);
         nMap.put("0,1", node3);
         node.setNorth(true);
-        paths = node.getReachable(1, null, nMap);
+        graph = Node.compileGraph(nMap.values());
+        paths = node.getReachable(1, null, graph);
         assertEquals(2, paths.size());
 
         // Test range
-        NormalNode node4 = new NormalNode(0, 2, false, false, true, false, nMap, asset);
+        Node node4 = new Node(0, 2, false, false, true, false, TileType.NORMAL, asset);
         nMap.put("0,2", node4);
         node3.setNorth(true);
-        paths = node4.getReachable(2, null, nMap);
+        graph = Node.compileGraph(nMap.values());
+        paths = node4.getReachable(2, null, graph);
         assertEquals(1, paths.size());
-        NormalNode node5 = new NormalNode(1, 0, false, false, false, true, nMap, asset);
+        Node node5 = new Node(1, 0, false, false, false, true, TileType.NORMAL, asset);
         nMap.put("1,0", node5);
         node.setEast(true);
-        paths = node4.getReachable(3, null, nMap);
+        graph = Node.compileGraph(nMap.values());
+        paths = node4.getReachable(3, null, graph);
         assertEquals(2, paths.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void setType() {
+        Node node = new Node(0, 0, TileType.STAR, asset);
+        Sprite sprite = node.getSprite();
+        node.hasStar = false;
+
+        // Changing type keeps the same Node and Sprite
+        node.setType(TileType.PENALTY);
+        assertEquals(TileType.PENALTY, node.getType());
+        assertSame(sprite, node.getSprite());
+        assertSame(NodeTextures.of(asset).getPenalty(), sprite.getTexture());
+
+        // A new star tile holds a star
+        node.setType(TileType.STAR);
+        assertTrue(node.hasStar);
+        assertSame(NodeTextures.of(asset).getTile(), sprite.getTexture());
+    }
+
+    @Test
+    void codecKeepsPenaltyAmount() {
+        Json json = new Json();
+        SaveCodecs.register(json);
+        Node node = new Node(2, 3, true, false, false, true, TileType.EVENT, asset);
+        assertFalse(json.toJson(node).contains("penaltyAmount"));  // Only written once it has doubled
+
+        // The global penalty of an event tile keeps doubling after the game is saved and loaded
+        node.penaltyAmount = Rules.globalPenalty(Rules.globalPenalty(node.penaltyAmount, true), true);
+        Node loaded = json.fromJson(Node.class, json.toJson(node));
+        assertEquals(Rules.GLOBAL_PENALTY_AMOUNT * 4, loaded.penaltyAmount);
+        assertEquals(TileType.EVENT, loaded.getType());
+    }
+}
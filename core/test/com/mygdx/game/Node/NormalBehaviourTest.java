@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.mygdx.game.*;
+import com.mygdx.game.Engine.TileType;
 import com.ray3k.stripe.FreeTypeSkinLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +16,11 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-class NormalNodeTest {
+class NormalBehaviourTest {
     private AssetManager asset;
     private GameContext gameContext;
     private PlayerProfile profile;
-    private NormalNode normalNode;
+    private Node normalNode;
     private Player p;
     private int baseMoney;
     @BeforeEach
@@ -28,9 +29,9 @@ class NormalNodeTest {
         asset = gameContext.getAssetManager();
 
         profile = new PlayerProfile("test",0,0,0);
-        normalNode = new NormalNode(0,0, asset);
+        normalNode = new Node(0,0, TileType.NORMAL, asset);
 
-        baseMoney = normalNode.getBaseMoney();
+        baseMoney = ((NormalBehaviour) NodeBehaviour.of(TileType.NORMAL)).getBaseMoney();
 
         p = new Player(profile,asset);
         p.setMoney(0);
@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.mygdx.game.*;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Engine.TileType;
 import com.ray3k.stripe.FreeTypeSkinLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +17,11 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-class PenaltyNodeTest {
+class PenaltyBehaviourTest {
     private PlayerProfile profile;
     private AssetManager asset;
     private GameContext gameContext;
-    private PenaltyNode penaltyNode;
+    private Node penaltyNode;
     private Player p;
     private boolean easy = false;
     private boolean hard = true;
@@ -32,9 +34,9 @@ class PenaltyNodeTest {
         asset = gameContext.getAssetManager();
 
         profile = new PlayerProfile("test",0,0,0);
-        penaltyNode = new PenaltyNode(0,0, asset);
+        penaltyNode = new Node(0,0, TileType.PENALTY, asset);
 
-        penalty = penaltyNode.penaltyAmount;
+        penalty = Rules.PENALTY_AMOUNT;
 
         p = new Player(profile,asset);
         p.setMoney(penalty);
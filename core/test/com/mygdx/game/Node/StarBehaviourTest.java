@@ -9,21 +9,22 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.mygdx.game.*;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Engine.TileType;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.ray3k.stripe.FreeTypeSkinLoader;
 import org.mockito.Mockito;
 
 
-import java.lang.reflect.Field;
-
 import static org.junit.jupiter.api.Assertions.*;
 
-class StarNodeTest {
+class StarBehaviourTest {
     private AssetManager asset;
     private GameContext gameContext;
     private PlayerProfile profile;
 
-    private StarNode starNode;
+    private Node starNode;
+    private StarBehaviour star;
     private Player p;
 
 
@@ -33,26 +34,22 @@ class StarNodeTest {
         asset = gameContext.getAssetManager();
 
         profile = new PlayerProfile("test",0,0,0);
-        starNode = new StarNode(0,0, asset);
+        starNode = new Node(0,0, TileType.STAR, asset);
+        star = (StarBehaviour) NodeBehaviour.of(TileType.STAR);
 
         p = new Player(profile,asset);
         p.setMoney(0);
     }
 
     @org.junit.jupiter.api.Test
-    void activateTest() throws NoSuchFieldException, IllegalAccessException {
-        Field costField = StarNode.class.getDeclaredField("starCost");
-        costField.setAccessible(true);
-        // Try normal mode
-        starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
-                asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), false);
-        int starCost = (Integer)costField.get(starNode);
-        assertEquals(100, starCost);
-        // Hard mode
-        starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
-                asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), true);
-        starCost = (Integer)costField.get(starNode);
-        assertEquals(250, starCost);
+    void activateTest() {
+        // Player can't afford the star in either mode, so nothing is bought
+        assertTrue(starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
+                asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), false));
+        assertTrue(starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
+                asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), true));
+        assertEquals(0, p.getStars());
+        assertTrue(starNode.hasStar);
     }
 
     @org.junit.jupiter.api.Test
@@ -61,26 +58,28 @@ class StarNodeTest {
         starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
                 asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), false);
         assertEquals(0, p.getStars());
-        starNode.starMod(p);
+        star.starMod(starNode, p, Rules.starCost(false));
         assertEquals(1, p.getStars());
         assertEquals(prevMoney - 100, p.getMoney());
+        assertFalse(starNode.hasStar);
 
         // Hard mode
         prevMoney = p.getMoney();
         starNode.activate(p, Mockito.mock(SpriteBatch.class), Mockito.mock(Stage.class),
                 asset.get(Config.getInstance().getUiPath()), Mockito.mock(GameBoard.class), true);
-        starNode.starMod(p);
+        star.starMod(starNode, p, Rules.starCost(true));
         assertEquals(2, p.getStars());
         assertEquals(prevMoney - 250, p.getMoney());
     }
 
     @org.junit.jupiter.api.Test
     void checkStarTest() {
+        starNode.getSprite();  // Sprites are created when the tile is first drawn
         starNode.hasStar = true;
         starNode.checkStar();
-        assertTrue(starNode.starSprite.getColor().a == 1.0);
+        assertTrue(starNode.symbol.getColor().a == 1.0);
         starNode.hasStar = false;
         starNode.checkStar();
-        assertTrue(starNode.starSprite.getColor().a == 0.0);
+        assertTrue(starNode.symbol.getColor().a == 0.0);
     }
 }
\ No newline at end of file
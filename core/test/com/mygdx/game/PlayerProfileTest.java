@@ -161,4 +161,14 @@ class PlayerProfileTest {
         profile.updateKnowledgeLevel();
         assertEquals(0, profile.getTipCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    void learnedIsSharedAndReadOnly() {
+        profile.setKnowledgeLevel(3);
+        PlayerProfile other = new PlayerProfile("other", 0, 0, 3);
+
+        assertEquals(other.getLearned(), profile.getLearned());
+        assertEquals(KnowledgeCatalog.getInstance().getLearned(3), profile.getLearned());
+        assertThrows(UnsupportedOperationException.class, () -> profile.getLearned().add("tip"));
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -96,7 +97,7 @@ class ProfileManagerTest {
     @Test
     void numberStudentProfiles() {
 
-        ArrayList<PlayerProfile> studentProfiles = profileManager.getStudentProfiles();
+        List<PlayerProfile> studentProfiles = profileManager.getStudentProfiles();
 
         // Verify correct number of students were returned
         assertEquals(studentProfiles.size(), numStudents);
@@ -106,7 +107,7 @@ class ProfileManagerTest {
     @Test
     void studentInitialization() {
 
-        ArrayList<PlayerProfile> studentProfiles = profileManager.getStudentProfiles();
+        List<PlayerProfile> studentProfiles = profileManager.getStudentProfiles();
 
         // Verify that one student with optional attributes (high score, lifetime score) was initialized correctly
         PlayerProfile student5 = studentProfiles.get(4);
@@ -455,4 +456,347 @@ class ProfileManagerTest {
 
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void renameToExistingStudent() {
+        // Attempt to rename a student to the name of another student
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.renameStudent("Student4", "Student1");});
+        profileManager.renameStudent("Student4", "Student4");  // Keeping the same name is allowed
+    }
+
+    @Test
+    void renameStudentLookupUpdates() {
+
+        profileManager.renameStudent("Student4", "NewName");
+
+        // Confirm the student is found by their new name only
+        profileManager.changeKnowledgeLevel("NewName", 7);
+        assertEquals(7, profileManager.getStudentProfiles().get(3).getKnowledgeLevel());
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.changeKnowledgeLevel("Student4", 7);});
+        profileManager.addStudent("Student4");  // Old name is free again
+
+    }
+
+
+    @Test
+    void addStudents() {
+
+        profileManager.addStudents(List.of("NewStudent1", "NewStudent2"));
+
+        // Confirm students were added in order, and written to file
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(numStudents + 2, secondManager.getStudentProfiles().size());
+        assertEquals("NewStudent1", secondManager.getStudentProfiles().get(numStudents).getName());
+        assertEquals("NewStudent2", secondManager.getStudentProfiles().get(numStudents + 1).getName());
+        assertEquals(5, secondManager.getHighScoreList().size());
+
+    }
+
+    @Test
+    void addStudentsDuplicate() {
+
+        // No students are added if any of the names are taken
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.addStudents(List.of("NewStudent", "Student1"));});
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.addStudents(List.of("NewStudent", "NewStudent"));});
+        assertEquals(numStudents, profileManager.getStudentProfiles().size());
+        profileManager.addStudent("NewStudent");
+
+    }
+
+
+    @Test
+    void removeStudents() {
+
+        List<PlayerProfile> removed = profileManager.removeStudents(List.of("Student3", "Student1"));
+
+        // Confirm the students were removed, and written to file
+        assertEquals("Student3", removed.get(0).getName());
+        assertEquals("Student1", removed.get(1).getName());
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(numStudents - 2, secondManager.getStudentProfiles().size());
+        for (PlayerProfile student : secondManager.getStudentProfiles()) {
+            assertNotEquals("Student3", student.getName());
+            assertNotEquals("Student1", student.getName());
+        }
+        for (PlayerProfile student : secondManager.getHighScoreList()) {
+            assertNotEquals("Student3", student.getName());
+        }
+
+    }
+
+    @Test
+    void removeStudentKeepsOrder() {
+
+        // Remove students from the end, the start, and the middle, around newly added students
+        profileManager.addStudents(List.of("NewStudent1", "NewStudent2", "NewStudent3"));
+        ArrayList<String> expected = new ArrayList<String>();
+        for (PlayerProfile student : profileManager.getStudentProfiles()) expected.add(student.getName());
+        for (String name : List.of("NewStudent3", expected.get(0), "NewStudent1", expected.get(2))) {
+            profileManager.removeStudent(name);
+            expected.remove(name);
+
+            ArrayList<String> names = new ArrayList<String>();
+            for (PlayerProfile student : profileManager.getStudentProfiles()) names.add(student.getName());
+            assertEquals(expected, names);
+        }
+
+    }
+
+    @Test
+    void studentProfilesView() {
+
+        // The list follows the roster as students are added and removed, and can't be changed directly
+        List<PlayerProfile> students = profileManager.getStudentProfiles();
+        assertThrows(UnsupportedOperationException.class, () ->{students.remove(0);});
+        assertThrows(UnsupportedOperationException.class, () ->{students.iterator().remove();});
+
+        ArrayList<String> names = new ArrayList<String>();
+        profileManager.batch(() -> {
+            for (int i = 0; i < 2000; i++) names.add("Extra" + i);
+            profileManager.addStudents(names);
+            for (int i = 0; i < 2000; i += 2) profileManager.removeStudent("Extra" + i);
+        });
+        assertEquals(numStudents + 1000, students.size());
+        assertEquals("Extra1", students.get(numStudents).getName());
+        assertEquals("Extra1999", students.get(numStudents + 999).getName());
+        assertThrows(IndexOutOfBoundsException.class, () ->{students.get(numStudents + 1000);});
+
+    }
+
+    @Test
+    void removeStudentsFakeStudent() {
+
+        // No students are removed if any of them do not exist
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.removeStudents(List.of("Student3", "FakeStudent"));});
+        assertEquals(numStudents, profileManager.getStudentProfiles().size());
+        profileManager.removeStudent("Student3");
+
+    }
+
+
+    @Test
+    void applyGameResults() {
+
+        PlayerProfile first = new PlayerProfile("Student3");
+        first.setKnowledgeLevel(4);
+        first.setHighScore(1);  // Lower than the student's high score, so not kept
+        first.setLifetimeScore(750);
+        PlayerProfile second = new PlayerProfile("Student5");
+        second.setKnowledgeLevel(2);
+        second.setHighScore(100000);
+        second.setLifetimeScore(100000);
+        int oldHighScore = profileManager.getStudentProfiles().get(2).getHighScore();
+
+        profileManager.applyGameResults(List.of(first, second));
+
+        // Confirm each database file was written
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        PlayerProfile student3 = secondManager.getStudentProfiles().get(2);
+        assertEquals(4, student3.getKnowledgeLevel());
+        assertEquals(oldHighScore, student3.getHighScore());
+        assertEquals(750, student3.getLifetimeScore());
+        assertEquals("Student5", secondManager.getHighScoreList().get(0).getName());
+        assertEquals("Student5", secondManager.getLifetimeHighScoreList().get(0).getName());
+
+    }
+
+    @Test
+    void applyGameResultsFakeStudent() {
+
+        PlayerProfile result = new PlayerProfile("Student3");
+        result.setKnowledgeLevel(4);
+
+        // No profiles are changed if any of the results can't be applied
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.applyGameResults(List.of(result, new PlayerProfile("FakeStudent")));});
+        assertNotEquals(4, profileManager.getStudentProfiles().get(2).getKnowledgeLevel());
+
+    }
+
+
+    @Test
+    void batchWritesOnce() throws IOException {
+
+        profileManager.batch(() -> {
+            profileManager.changeKnowledgeLevel("Student4", 9);
+            profileManager.batch(() -> profileManager.renameStudent("Student4", "NewName"));  // Nested batch
+            profileManager.updateHighScore("NewName", 500);
+
+            // Changes are made in memory, but not written until the batch ends
+            assertEquals("NewName", profileManager.getStudentProfiles().get(3).getName());
+            assertEquals(500, profileManager.getStudentProfiles().get(3).getHighScore());
+            try {
+                assertEquals(studentDatabase, Files.readString(Path.of(studentFile)));
+                assertEquals(highScoreDatabase, Files.readString(Path.of(highScoreFile)));
+            }
+            catch (IOException e) {
+                fail(e);
+            }
+        });
+
+        // Confirm every change was written to file
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        PlayerProfile student = secondManager.getStudentProfiles().get(3);
+        assertEquals("NewName", student.getName());
+        assertEquals(9, student.getKnowledgeLevel());
+        assertEquals(500, student.getHighScore());
+        assertEquals("NewName", secondManager.getHighScoreList().get(0).getName());
+
+    }
+
+    @Test
+    void batchWritesChangesBeforeException() {
+
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.batch(() -> {
+            profileManager.changeKnowledgeLevel("Student4", 9);
+            profileManager.renameStudent("FakeStudent", "NewName");
+        });});
+
+        // Changes made before the exception are still written, matching the profiles in memory
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(9, secondManager.getStudentProfiles().get(3).getKnowledgeLevel());
+
+        // Later changes are written straight away again
+        profileManager.changeKnowledgeLevel("Student4", 10);
+        secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(10, secondManager.getStudentProfiles().get(3).getKnowledgeLevel());
+
+    }
+
+
+    @Test
+    void highScoreFilesOnlyWrittenOnChange() throws IOException {
+
+        // Changes to students outside the high score tables leave the table files untouched
+        profileManager.addStudent("NewStudent");
+        profileManager.renameStudent("Student6", "NewName");
+        profileManager.updateHighScore("Student8", 3);
+        assertEquals(highScoreDatabase, Files.readString(Path.of(highScoreFile)));
+        assertEquals(lifetimeScoreDatabase, Files.readString(Path.of(lifetimeScoreFile)));
+
+        // A student entering one table only rewrites that table
+        profileManager.updateHighScore("Student8", 20);
+        assertEquals(lifetimeScoreDatabase, Files.readString(Path.of(lifetimeScoreFile)));
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals("Student8", secondManager.getHighScoreList().get(2).getName());
+        assertEquals("Student5", secondManager.getHighScoreList().get(4).getName());  // Student3 pushed out
+
+        // Changes to a student in a table which don't move or rename anyone don't write it
+        Files.delete(Path.of(highScoreFile));
+        profileManager.changeKnowledgeLevel("Student8", 4);
+        assertFalse(Files.exists(Path.of(highScoreFile)));
+        profileManager.renameStudent("Student8", "Renamed");
+        assertTrue(Files.exists(Path.of(highScoreFile)));
+
+    }
+
+
+    @Test
+    void rankAndPercentile() {
+
+        // Ranked within the whole roster, with equal scores sharing a rank
+        assertEquals(1, profileManager.getHighScoreRank("Student4"));
+        assertEquals(5, profileManager.getHighScoreRank("Student3"));
+        assertEquals(7, profileManager.getHighScoreRank("Student6"));
+        assertEquals(7, profileManager.getHighScoreRank("Student7"));
+        assertEquals(100, profileManager.getHighScorePercentile("Student4"));
+        assertEquals(50, profileManager.getHighScorePercentile("Student3"));
+        assertEquals(1, profileManager.getLifetimeScoreRank("Student2"));
+        assertEquals(3, profileManager.countHighScoresBetween(10, 30));
+        assertEquals(2, profileManager.countLifetimeScoresBetween(100, 200));
+        assertThrows(IllegalArgumentException.class, () ->{profileManager.getHighScoreRank("FakeStudent");});
+
+    }
+
+    @Test
+    void rankUpdates() {
+
+        profileManager.updateHighScore("Student3", 30);
+        assertEquals(2, profileManager.getHighScoreRank("Student3"));
+        assertEquals(3, profileManager.getHighScoreRank("Student2"));
+
+        profileManager.updateLifetimeScore("Student8", 500);
+        profileManager.renameStudent("Student8", "NewName");
+        assertEquals(1, profileManager.getLifetimeScoreRank("NewName"));
+
+        profileManager.removeStudent("Student4");
+        profileManager.addStudent("NewStudent");
+        assertEquals(1, profileManager.getHighScoreRank("Student3"));
+        assertEquals(6, profileManager.getHighScoreRank("NewStudent"));
+        assertEquals(numStudents, profileManager.countHighScoresBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        // Results applied to a profile which was already changed directly, as at the end of a game
+        PlayerProfile profile = profileManager.getStudentProfiles().get(0);
+        profile.setHighScore(100);
+        profile.setLifetimeScore(1000);
+        profileManager.applyGameResults(List.of(profile));
+        assertEquals(1, profileManager.getHighScoreRank("Student1"));
+        assertEquals(1, profileManager.getLifetimeScoreRank("Student1"));
+        assertEquals(0, profileManager.countHighScoresBetween(16, 16));  // Old high score no longer counted
+        assertEquals(numStudents, profileManager.countLifetimeScoresBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+    }
+
+
+    @Test
+    void ranksScoresFarApart() {
+
+        // Any score can be ranked, however far it is from the other students' scores
+        PlayerProfile student = profileManager.getStudentProfiles().get(2);
+        profileManager.updateHighScore(student.getName(), Integer.MAX_VALUE);
+        profileManager.updateLifetimeScore(student.getName(), Integer.MIN_VALUE);
+        assertEquals(1, profileManager.getHighScoreRank(student.getName()));
+        assertEquals(numStudents, profileManager.getLifetimeScoreRank(student.getName()));
+        PlayerProfile other = profileManager.getStudentProfiles().get(3);
+        PlayerProfile result = new PlayerProfile(other.getName(), Integer.MAX_VALUE, Integer.MIN_VALUE, 1);
+        profileManager.applyGameResults(List.of(result));
+        assertEquals(1, profileManager.getLifetimeScoreRank(other.getName()));
+        assertEquals(numStudents, profileManager.countHighScoresBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        // Loading the roster with them ranks them the same
+        ProfileManager secondManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(1, secondManager.getHighScoreRank(student.getName()));
+        assertEquals(numStudents, secondManager.getLifetimeScoreRank(student.getName()));
+
+        // Ranks are taken from the scores students are counted with, until a change is applied
+        PlayerProfile profile = profileManager.getStudentProfiles().get(0);
+        int rank = profileManager.getHighScoreRank(profile.getName());
+        profile.setHighScore(Integer.MAX_VALUE);
+        assertEquals(rank, profileManager.getHighScoreRank(profile.getName()));
+
+    }
+
+
+    @Test
+    void migratesLegacyFiles() throws IOException {
+
+        // Replace the databases with copies written in the old format, which stored every unlocked tip
+        String folder = Path.of(studentFile).getParent().toString();
+        String legacyStudents = Files.readString(Path.of(folder, "studentDatabaseLegacy.json"));
+        Files.writeString(Path.of(studentFile), legacyStudents);
+        Files.writeString(Path.of(highScoreFile), Files.readString(Path.of(folder, "highScoreDatabaseLegacy.json")));
+        Files.writeString(Path.of(lifetimeScoreFile), Files.readString(Path.of(folder, "lifetimeScoreDatabaseLegacy.json")));
+
+        // Old files are read as before, and rewritten in the current format
+        ProfileManager legacyManager = new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);
+        assertEquals(numStudents, legacyManager.getStudentProfiles().size());
+        assertEquals(7, legacyManager.getStudentProfiles().get(2).getKnowledgeLevel());
+        assertEquals(studentDatabase, Files.readString(Path.of(studentFile)));
+        assertEquals(highScoreDatabase, Files.readString(Path.of(highScoreFile)));
+        assertEquals(lifetimeScoreDatabase, Files.readString(Path.of(lifetimeScoreFile)));
+        assertTrue(Files.size(Path.of(studentFile)) < legacyStudents.length());
+
+        // High score tables refer to students by name
+        assertFalse(highScoreDatabase.contains("highScore"));
+        assertTrue(highScoreDatabase.contains("Student4"));
+
+    }
+
+
+    @Test
+    void rejectsNewerFormat() throws IOException {
+
+        Files.writeString(Path.of(studentFile), "{version: " + (ProfileFormat.VERSION + 1) + ", students: []}");
+        assertThrows(IllegalArgumentException.class, () ->{new ProfileManager(studentFile, highScoreFile, lifetimeScoreFile);});
+
+    }
+}
@@ -0,0 +1,96 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveFormatTest {
+
+    /** Writes a tree in the binary format and reads it back. */
+    private static JsonValue roundTrip(JsonValue tree) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SaveFormat.writeBinary(tree, out);
+        return SaveFormat.readBinary(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        String json = "{class:GameState,id:-3,seed:-8070450532247928832,big:9223372036854775807,price:0.1,half:0.5,"
+                + "name:\"007\",price2:1.50,done:true,lost:false,none:null,empty:\"\",text:\"héllo, \\\"you\\\"\","
+                + "tiles:[{id:\"1,2\"},{id:\"1,3\"},{id:\"1,2\"}],nested:[[],{}]}";
+        JsonValue tree = new JsonReader().parse(json);
+        JsonValue read = roundTrip(tree);
+
+        assertEquals(tree.toJson(JsonWriter.OutputType.json), read.toJson(JsonWriter.OutputType.json));
+        assertEquals(-8070450532247928832L, read.getLong("seed"));
+        assertEquals(Long.MAX_VALUE, read.getLong("big"));
+        assertEquals(0.1f, read.getFloat("price"));
+        assertEquals("007", read.getString("name"));  // Kept as written, not as the number it looks like
+        assertEquals("1.50", read.getString("price2"));
+        assertTrue(read.get("none").isNull());
+        assertEquals(3, read.get("tiles").size);
+        assertEquals("1,2", read.get("tiles").get(2).getString("id"));
+        assertSame(read, read.get("tiles").parent);
+    }
+
+    @Test
+    void stringsStoredOnce() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append("{description:\"A long description repeated by every item in the game\"},");
+        }
+        json.append("]");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SaveFormat.writeBinary(new JsonReader().parse(json.toString()), out);
+
+        assertTrue(out.size() < json.length() / 20, "Binary size " + out.size());
+    }
+
+    @Test
+    void rejectsBadData() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+                () -> SaveFormat.readBinary(new ByteArrayInputStream("{id:1}".getBytes())));
+        assertThrows(IllegalArgumentException.class,  // Unknown version
+                () -> SaveFormat.readBinary(new ByteArrayInputStream(new byte[] {'F', 'F', 'S', 'V', 99})));
+        assertThrows(IllegalArgumentException.class,  // Not compressed
+                () -> SaveFormat.readBinary(new ByteArrayInputStream(new byte[] {'F', 'F', 'S', 'V', 1, 0, 6, 0})));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SaveFormat.writeBinary(new JsonReader().parse("{tiles:[1,2,3]}"), out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() / 2);
+        assertThrows(EOFException.class, () -> SaveFormat.readBinary(new ByteArrayInputStream(truncated)));
+
+        // Huge string count, then a huge string length, with nothing behind them
+        byte[] maxInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        byte[] count = compressedBody(maxInt);
+        assertThrows(EOFException.class, () -> SaveFormat.readBinary(new ByteArrayInputStream(count)));
+        byte[] length = compressedBody(new byte[] {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        assertThrows(EOFException.class, () -> SaveFormat.readBinary(new ByteArrayInputStream(length)));
+    }
+
+    /** Builds a binary save from the header and the given body, compressed. */
+    private static byte[] compressedBody(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[] {'F', 'F', 'S', 'V', 1});
+        try (DeflaterOutputStream compressed = new DeflaterOutputStream(out)) {
+            compressed.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void isBinary() {
+        assertTrue(SaveFormat.isBinary("game_1.sav"));
+        assertFalse(SaveFormat.isBinary("game_1.json"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveManifestTest {
+    static GameContext gameContext;
+    static AssetManager asset;
+    static SaveSystem saver;
+
+    @BeforeAll
+    static void setUp() {
+        gameContext = new GameContext();
+        asset = gameContext.getAssetManager();
+        saver = new SaveSystem();
+    }
+
+    @Test
+    void recordAndDelete() throws IOException {
+        PlayerProfile profile = new PlayerProfile("manifestA", 0, 0, 0);
+        PlayerProfile profile2 = new PlayerProfile("manifestB", 0, 0, 0);
+        GameState gs = new GameState(List.of(profile, profile2), asset, 77, false);
+        saver.saveGameState(gs, "testManifest");
+
+        SaveManifest.Entry entry = find(saver.getManifest().list(), "testManifest_1.json");
+        assertNotNull(entry);
+        assertEquals(77, entry.getGameID());
+        assertEquals("testManifest", entry.getName());
+        assertEquals(1, entry.getRound());
+        assertArrayEquals(new String[] {"manifestA", "manifestB"}, entry.getPlayers());
+        assertTrue(entry.hasPlayer("manifestB"));
+        assertEquals(Files.size(Path.of("saves/testManifest_1.json")), entry.getSize());
+        assertTrue(Files.exists(Path.of("saves", SaveManifest.FILE_NAME)));
+
+        saver.getManifest().delete("testManifest_1.json");
+        assertFalse(Files.exists(Path.of("saves/testManifest_1.json")));
+        assertNull(find(saver.getManifest().list(), "testManifest_1.json"));
+    }
+
+    @Test
+    void rebuild() throws IOException {
+        PlayerProfile profile = new PlayerProfile("manifestC", 0, 0, 0);
+        GameState gs = new GameState(List.of(profile), asset, 78, false);
+        gs.setRound(4);
+        saver.saveGameState(gs, "testRebuild");
+
+        // A save changed and another removed behind the manifest's back, and the manifest file lost
+        saver.saveGameState(gs, "testRebuild");
+        Path changed = Path.of("saves/testRebuild_1.json");
+        Files.writeString(changed, Files.readString(changed) + "\n");
+        Files.delete(Path.of("saves/testRebuild_2.json"));
+        Files.delete(Path.of("saves", SaveManifest.FILE_NAME));
+        SaveManifest fresh = SaveManifest.of(new File("saves/../saves"));
+        assertSame(saver.getManifest(), fresh);  // Shared per folder
+
+        List<SaveManifest.Entry> saves = fresh.list();
+        assertNull(find(saves, "testRebuild_2.json"));
+        SaveManifest.Entry entry = find(saves, "testRebuild_1.json");
+        assertNotNull(entry);  // Summary read from the save itself
+        assertEquals(Files.size(changed), entry.getSize());
+        assertTrue(Files.exists(Path.of("saves", SaveManifest.FILE_NAME)));  // Written again
+        assertEquals(78, entry.getGameID());
+        assertEquals(4, entry.getRound());
+        assertArrayEquals(new String[] {"manifestC"}, entry.getPlayers());
+
+        fresh.delete("testRebuild_1.json");
+    }
+
+    @Test
+    void saveNumbers() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("manifestD", 0, 0, 0)), asset, 79, false);
+        saver.saveGameState(gs, "testNumbers");
+        saver.saveGameState(gs, "testNumbers");
+        assertTrue(Files.exists(Path.of("saves/testNumbers_2.json")));
+
+        // A number taken behind the manifest's back is skipped
+        Files.writeString(Path.of("saves/testNumbers_3.sav"), "");
+        assertEquals(4, saver.getManifest().nextNumber("testNumbers", ".json", ".sav"));
+        assertEquals(1, saver.getManifest().nextNumber("testNumbersOther", ".json", ".sav"));
+        saver.saveGameState(gs, "testNumbers");
+        assertTrue(Files.exists(Path.of("saves/testNumbers_5.json")));
+
+        for (String fileName : List.of("testNumbers_1.json", "testNumbers_2.json", "testNumbers_3.sav",
+                "testNumbers_5.json")) {
+            saver.getManifest().delete(fileName);
+        }
+    }
+
+    @Test
+    void appendsChanges(@TempDir Path folder) throws IOException {
+        // Written by earlier runs: two saves, one of them deleted since, and a line cut short by a crash
+        Path file = folder.resolve(SaveManifest.FILE_NAME);
+        Files.writeString(file, "{\"entry\":{\"fileName\":\"a_1.json\",\"gameID\":1,\"players\":[\"x\"]}}\n"
+                + "{\"entry\":{\"fileName\":\"b_1.json\",\"gameID\":2,\"players\":[\"y\"]}}\n"
+                + "{\"deleted\":\"a_1.json\"}\n"
+                + "{\"entry\":{\"fileNa");
+        SaveManifest manifest = SaveManifest.of(folder.toFile());
+        List<SaveManifest.Entry> known = manifest.known();
+        assertEquals(1, known.size());
+        assertEquals(2, known.get(0).getGameID());
+
+        // The damaged file is rewritten once, and later changes are appended to it
+        manifest.record("c_1.json", 3, 1, new String[] {"z"});
+        assertEquals(2, Files.readAllLines(file).size());
+        manifest.record("c_1.json", 3, 2, new String[] {"z"});
+        manifest.delete("b_1.json");
+        assertEquals(4, Files.readAllLines(file).size());
+        assertEquals(1, manifest.known().size());
+        assertEquals(2, manifest.known().get(0).getRound());
+    }
+
+    @Test
+    void latestCountsJournal(@TempDir Path folder) throws IOException {
+        Path autosave = Files.writeString(folder.resolve("autosave_1.json"), "{\"id\":1}");
+        Path named = Files.writeString(folder.resolve("named_1.json"), "{\"id\":2}");
+        Files.setLastModifiedTime(autosave, FileTime.fromMillis(1000000));
+        Files.setLastModifiedTime(named, FileTime.fromMillis(2000000));
+        SaveManifest manifest = SaveManifest.of(folder.toFile());
+        assertEquals("named_1.json", manifest.latest().getFileName());
+
+        // Played on since its snapshot, through the journal
+        Path journal = Files.writeString(GameJournal.fileFor(autosave), "{}\n");
+        Files.setLastModifiedTime(journal, FileTime.fromMillis(3000000));
+        assertEquals("autosave_1.json", manifest.latest().getFileName());
+        assertEquals(3000000, manifest.latest().getLastWritten());
+    }
+
+    private static SaveManifest.Entry find(List<SaveManifest.Entry> saves, String fileName) {
+        for (SaveManifest.Entry save : saves) {
+            if (save.getFileName().equals(fileName)) return save;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.mygdx.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveRetentionTest {
+
+    /** Summary of a save made at the given time. */
+    private static SaveManifest.Entry save(String fileName, int gameID, long modified) {
+        return save(fileName, gameID, modified, 0);
+    }
+
+    /** Summary of a save made at the given time, whose journal was last appended to at another time. */
+    private static SaveManifest.Entry save(String fileName, int gameID, long modified, long journalModified) {
+        return new SaveManifest.Entry(fileName, gameID, 1, new String[] {"A"}, modified, 100, journalModified);
+    }
+
+    @Test
+    void keepsRecentUnnamedSaves() {
+        List<SaveManifest.Entry> saves = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            saves.add(save("NewGame_" + i + ".sav", 1, i));
+        }
+        saves.add(save("NewGame_6.sav", 2, 0));  // Oldest, but the only save of its game
+        saves.add(save("Finals_1.sav", 1, 0));
+
+        assertEquals(List.of("NewGame_2.sav", "NewGame_1.sav"), new SaveRetention(3, true, 10).expired(saves));
+        // Named saves count towards their game when not kept forever
+        assertEquals(List.of("NewGame_3.sav", "NewGame_2.sav", "NewGame_1.sav", "Finals_1.sav"),
+                new SaveRetention(2, false, 10).expired(saves));
+    }
+
+    @Test
+    void keepsRecentAutosaves() {
+        List<SaveManifest.Entry> saves = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            saves.add(save("autosave_" + i + ".sav", i, i * 10));
+        }
+
+        assertEquals(List.of("autosave_2.sav", "autosave_1.sav"), new SaveRetention(3, true, 2).expired(saves));
+        assertTrue(SaveRetention.KEEP_ALL.expired(saves).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new SaveRetention(0, true, 1));
+    }
+
+    @Test
+    void ranksAutosavesByJournal() {
+        List<SaveManifest.Entry> saves = new ArrayList<>();
+        saves.add(save("autosave_1.sav", 1, 10, 50));  // Oldest snapshot, but played on since
+        saves.add(save("autosave_2.sav", 2, 20));
+        saves.add(save("autosave_3.sav", 3, 30));
+
+        assertEquals(List.of("autosave_2.sav"), new SaveRetention(3, true, 2).expired(saves));
+        // The game being played keeps its autosave, and takes one of the places
+        assertEquals(List.of("autosave_1.sav", "autosave_3.sav"),
+                new SaveRetention(3, true, 1).expired(saves, "autosave_2.sav"));
+        assertEquals(List.of("autosave_2.sav"), new SaveRetention(3, true, 2).expired(saves, "autosave_3.sav"));
+    }
+}
@@ -94,7 +94,8 @@ class SaveScreenTest {
         // Only delete second half
         sScreen.deleteByID(1, saver);
         File saveFolder = new File("saves");
-        assertEquals(5, saveFolder.listFiles().length);
+        assertEquals(5, saveFolder.listFiles((dir, name) -> name.startsWith("testG_")).length);
+        assertEquals(5, saver.getManifest().list().size());
 
         // Cleanup
         for (int i = 1; i <= 10; i++) {
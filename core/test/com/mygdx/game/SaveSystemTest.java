@@ -6,19 +6,34 @@ import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.mygdx.game.Items.Bike;
+import com.mygdx.game.Items.Item;
+import com.mygdx.game.Items.Shield;
+import com.mygdx.game.Node.LegacyNodes;
+import com.mygdx.game.Node.Node;
 import com.ray3k.stripe.FreeTypeSkinLoader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SaveSystemTest {
@@ -69,5 +84,232 @@ class SaveSystemTest {
         // Compare the GameStates
         assertEquals(deserialized.getPlayerList().size(), gs.getPlayerList().size());
         assertEquals(deserialized.getNodeMap().size(), gs.getNodeMap().size());
+        assertEquals(deserialized.getSeed(), gs.getSeed());
+
+        // The loaded game carries on with the same random events
+        assertEquals(deserPlayer.rollDie(deserialized.getNodeMap()), origPlayer.rollDie(gs.getNodeMap()));
+        deserialized.getAllStocks()[0].updatePrice();
+        gs.getAllStocks()[0].updatePrice();
+        assertEquals(deserialized.getAllStocks()[0].getPrice(), gs.getAllStocks()[0].getPrice());
+    }
+
+    @Test
+    void saveBinaryGameState() throws IOException {
+        PlayerProfile testProfile = new PlayerProfile("TestUser");
+        GameState gs = new GameState(Collections.singletonList(testProfile), asset, 7, false);
+        SaveSystem binary = new SaveSystem(SaveFormat.BINARY_EXTENSION);
+        binary.saveGameState(gs, "testBinary");
+        saver.saveGameState(gs, "testBinary");  // Numbered after the binary save, in the other format
+        Path binaryFile = Paths.get("saves/testBinary_1.sav");
+        Path jsonFile = Paths.get("saves/testBinary_2.json");
+        assertTrue(Files.exists(binaryFile));
+        assertTrue(Files.exists(jsonFile));
+        assertTrue(Files.size(binaryFile) * 3 < Files.size(jsonFile), Files.size(binaryFile) + " vs " + Files.size(jsonFile));
+
+        // Either save system reads either format
+        GameState fromBinary = saver.readGameState("testBinary_1.sav", asset);
+        GameState fromJson = binary.readGameState("testBinary_2.json", asset);
+        assertEquals(7, fromBinary.getID());
+        assertEquals(gs.getSeed(), fromBinary.getSeed());
+        assertEquals(gs.getNodeMap().size(), fromBinary.getNodeMap().size());
+        assertEquals(gs.getCurrentPlayer().getCurrentTile(), fromBinary.getCurrentPlayer().getCurrentTile());
+        assertEquals(gs.getAllStocks()[0].getPrice(), fromBinary.getAllStocks()[0].getPrice());
+        assertEquals(fromJson.getCurrentPlayer().getItems().size(), fromBinary.getCurrentPlayer().getItems().size());
+        assertEquals("TestUser", binary.getManifest().list().stream()
+                .filter(save -> save.getFileName().equals("testBinary_1.sav")).findFirst().get().getPlayers()[0]);
+
+        assertThrows(IllegalArgumentException.class, () -> new SaveSystem(".txt"));
+        binary.getManifest().delete("testBinary_1.sav");
+        binary.getManifest().delete("testBinary_2.json");
+    }
+
+    @Test
+    void saveGameStateAsync() throws Exception {
+        PlayerProfile testProfile = new PlayerProfile("TestUser");
+        GameState gs = new GameState(Collections.singletonList(testProfile), asset, 5, false);
+        SaveSystem async = new SaveSystem();
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        async.addSaveCompleteListener(fileName -> {
+            written.add(fileName);
+            firstWritten.countDown();
+            try {
+                release.await();  // Hold the writer so the next saves wait in the queue
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        async.saveGameStateAsync(gs, "testAsync");
+        assertTrue(firstWritten.await(10, TimeUnit.SECONDS));
+        // Back-to-back saves of the same game are merged into the latest
+        gs.setRound(2);
+        async.saveGameStateAsync(gs, "testAsync");
+        gs.setRound(3);
+        async.saveGameStateAsync(gs, "testAsync");
+        gs.setRound(4);  // Changed after saving; not in the save
+        release.countDown();
+        async.dispose();
+
+        assertEquals(List.of("testAsync_1.json", "testAsync_2.json"), written);
+        assertFalse(Files.exists(Paths.get("saves/testAsync_3.json")));
+        assertFalse(Files.exists(Paths.get("saves/testAsync_2.json.tmp")));
+        GameState deserialized = saver.readGameState("testAsync_2.json", asset);
+        assertEquals(3, deserialized.getRound());
+        assertEquals(3, async.getManifest().list().stream()
+                .filter(save -> save.getFileName().equals("testAsync_2.json")).findFirst().get().getRound());
+
+        async.getManifest().delete("testAsync_1.json");
+        async.getManifest().delete("testAsync_2.json");
+    }
+
+    @Test
+    void saveOnlyGameplayState() throws IOException {
+        Skin skin = asset.get(Config.getInstance().getUiPath(), Skin.class);
+        GameState gs = new GameState(List.of(new PlayerProfile("First"), new PlayerProfile("Second")), asset, 9, false);
+        Player player = gs.getCurrentPlayer();
+        player.addItem(new Bike(skin));
+        player.addItem(new Shield(skin));
+        player.setMoney(100000);
+        player.addInvestments(gs.getAllStocks()[1], 1);
+        player.addInvestments(gs.getAllStocks()[1], 1);
+        gs.getPlayerList().get(1).setFrozen(true);
+        saver.saveGameState(gs, "testCodecs");
+        Path saveFile = Paths.get("saves/testCodecs_1.json");
+
+        // Sprites and fixed text are rebuilt when loading, not saved
+        String saved = Files.readString(saveFile);
+        assertFalse(saved.contains("texture"));
+        assertFalse(saved.contains("description"));
+
+        GameState deserialized = saver.readGameState("testCodecs_1.json", asset);
+        saver.getManifest().delete("testCodecs_1.json");
+        Player deserPlayer = deserialized.getCurrentPlayer();
+        assertEquals(player.getItems().stream().map(Item::getName).toList(),
+                deserPlayer.getItems().stream().map(Item::getName).toList());
+        assertEquals(player.getMoney(), deserPlayer.getMoney());
+        assertEquals(player.getInvestments(), deserPlayer.getInvestments());
+        assertEquals(2, deserPlayer.getCurrentInvestments().get(1).size());
+        // Shares are the loaded game's stocks, so they follow its prices
+        assertTrue(deserPlayer.getCurrentInvestments().get(1).get(0) == deserialized.getAllStocks()[1]);
+        assertTrue(deserialized.getPlayerList().get(1).isFrozen());
+        assertEquals(player.getSprite().getColor(), deserPlayer.getSprite().getColor());
+        assertEquals(gs.getAllStocks()[3].getPrice(), deserialized.getAllStocks()[3].getPrice());
+        assertEquals(gs.getTile(0).getType(), deserialized.getTile(0).getType());
+    }
+
+    @Test
+    void readGameStateWithoutAssets() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("First"), new PlayerProfile("Second")), asset, 10, false);
+        gs.getPlayerList().get(1).setFrozen(true);
+        saver.saveGameState(gs, "testModel");
+
+        GameState model = saver.readGameState("testModel_1.json");
+        saver.getManifest().delete("testModel_1.json");
+        assertEquals(gs.getCurrentPlayer().getCurrentTile(), model.getCurrentPlayer().getCurrentTile());
+        assertEquals(gs.getNodeMap().size(), model.getNodeMap().size());
+        assertEquals(gs.getTile(0).getType(), model.getTile(0).getType());
+        assertTrue(model.getPlayerList().get(1).isFrozen());
+
+        // Sprites are created on the player's tile once the game is drawn
+        model.loadTextures(asset);
+        Player player = model.getPlayerList().get(1);
+        Node tile = model.getNodeMap().get(player.getCurrentTile());
+        assertEquals(tile.getXPos(), player.getSprite().getX());
+        assertEquals(0.8f, player.getFreezeSprite().getColor().a, 0.01f);
+        assertEquals(gs.getCurrentPlayer().getSprite().getColor(), model.getCurrentPlayer().getSprite().getColor());
+    }
+
+    @Test
+    void readLegacyGameState() throws IOException {
+        // Saves used to be written by reflection, with textures left out
+        Json legacy = new Json();
+        legacy.setSerializer(Texture.class, new Json.Serializer<Texture>() {
+            @Override
+            public void write(Json json, Texture object, Class knownType) { json.writeValue(null); }
+            @Override
+            public Texture read(Json json, JsonValue jsonValue, Class aClass) { return null; }
+        });
+        LegacyNodes.register(legacy);
+        GameState gs = new GameState(Collections.singletonList(new PlayerProfile("TestUser")), asset, 11, false);
+        gs.getCurrentPlayer().setMoney(321);
+        Path saveFile = Paths.get("saves/testLegacy_1.json");
+        Files.createDirectories(saveFile.getParent());
+        Files.writeString(saveFile, legacy.prettyPrint(gs));
+
+        GameState deserialized = saver.readGameState("testLegacy_1.json", asset);
+        saver.getManifest().delete("testLegacy_1.json");
+        assertEquals(11, deserialized.getID());
+        assertEquals(321, deserialized.getCurrentPlayer().getMoney());
+        assertEquals(gs.getNodeMap().size(), deserialized.getNodeMap().size());
+        assertEquals(gs.getSeed(), deserialized.getSeed());
+    }
+
+    @Test
+    void rejectNewerSaveVersion() throws IOException {
+        Path saveFile = Paths.get("saves/testVersion_1.json");
+        Files.createDirectories(saveFile.getParent());
+        Files.writeString(saveFile, "{\"version\": " + (SaveCodecs.VERSION + 1) + ", \"id\": 1}");
+
+        assertEquals(null, saver.readGameState("testVersion_1.json", asset));
+        saver.getManifest().delete("testVersion_1.json");
+    }
+
+    @Test
+    void autosaveAppendsJournal() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("First"), new PlayerProfile("Second")), asset, 12, false);
+        SaveSystem auto = new SaveSystem();
+        auto.autosave(gs);  // First autosave is a snapshot
+        auto.flush();
+        Path saveFile = Paths.get("saves/autosave_12.json");
+        Path journalFile = Paths.get("saves/autosave_12.journal");
+        assertTrue(Files.exists(saveFile));
+        assertFalse(Files.exists(journalFile));
+        long snapshotSize = Files.size(saveFile);
+
+        gs.getCurrentPlayer().setMoney(777);
+        gs.record("test", gs.getCurrentPlayer());
+        gs.nextTurn();
+        auto.autosave(gs);
+        gs.nextTurn();
+        auto.autosave(gs);
+        auto.flush();
+        assertEquals(snapshotSize, Files.size(saveFile));  // Only the journal was written
+        assertTrue(Files.size(journalFile) < snapshotSize);
+
+        GameState deserialized = auto.readGameState("autosave_12.json", asset);
+        assertEquals(777, deserialized.getPlayerList().get(0).getMoney());
+        assertEquals(gs.getTurn(), deserialized.getTurn());
+        assertEquals(gs.getCurrentPlayer().getPlayerProfile().getName(),
+                deserialized.getCurrentPlayer().getPlayerProfile().getName());
+        assertEquals(gs.getAllStocks()[5].getPrice(), deserialized.getAllStocks()[5].getPrice());
+
+        // Deleting the autosave deletes its journal
+        auto.getManifest().delete("autosave_12.json");
+        auto.dispose();
+        assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    void saveChunkedGameState() throws IOException {
+        GameState gs = new GameState(List.of(new PlayerProfile("First")), asset, 13, false);
+        SaveSystem chunked = new SaveSystem(ChunkStore.EXTENSION);
+        chunked.saveGameState(gs, "testChunked");
+        Path saveFile = Paths.get("saves/testChunked_1.ref");
+        assertTrue(Files.exists(saveFile));
+
+        GameState deserialized = saver.readGameState("testChunked_1.ref", asset);
+        assertEquals(13, deserialized.getID());
+        assertEquals(gs.getNodeMap().size(), deserialized.getNodeMap().size());
+        assertEquals("First", chunked.getManifest().list().stream()
+                .filter(save -> save.getFileName().equals("testChunked_1.ref")).findFirst().get().getPlayers()[0]);
+
+        chunked.getManifest().delete("testChunked_1.ref");
+        chunked.dispose();
+        ChunkStore.collect(new File("saves"));
+        try (Stream<Path> chunks = Files.list(Paths.get("saves", ChunkStore.FOLDER))) {
+            assertEquals(0, chunks.count());
+        }
     }
-}
\ No newline at end of file
+}
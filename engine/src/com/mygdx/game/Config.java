@@ -50,6 +50,8 @@ public class Config {
     private String saveFolder = "saves";
     /** Folder containing game music and sound files. */
     private String soundsFolder = "sounds/";
+    /** Filepath to the default game board file. */
+    private String boardPath = "boards/default.board";
 
     /* Passwords */
 
@@ -219,6 +221,14 @@ public class Config {
         return soundsFolder;
     }
 
+    /**
+     * Returns the filepath to the default game board file.
+     * @return Filepath to the default game board file.
+     */
+    public String getBoardPath() {
+        return boardPath;
+    }
+
     /**
      * Returns the debug mode password.
      * @return Debug mode password
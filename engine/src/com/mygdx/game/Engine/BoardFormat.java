@@ -0,0 +1,376 @@
+package com.mygdx.game.Engine;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes board files, in a text format meant to be edited by hand and a compact binary format meant for
+ * large generated boards.
+ * <br><br>
+ * The text format stores the same pair of matrices as {@link BoardLayout#fromGrid(int[][], int[][])}. Blank lines and
+ * lines starting with {@code #} are ignored:
+ * <pre>
+ * board 1
+ * tiles
+ * 1 1 2
+ * 5 0 1
+ * directions
+ * 3 4 4
+ * 2 0 1
+ * </pre>
+ * The binary format starts with the bytes {@code FFBD} and a version number, followed by the number of tiles and then
+ * the x and y-coordinates of each tile as variable-length integers and one byte holding its type code and directions.
+ * Files are checked for their format when read, so either kind can be used wherever a board is loaded.
+ * <br><br>
+ * Every board read is validated before use. Boards loaded from disk with {@link #load(Path)} are compiled once and
+ * shared, so starting a new game on a board never reads or compiles it again.
+ * <br><br>
+ * The binary format limits boards to {@link #MAX_TILES} tiles, and the reader only allocates room for the tiles it has
+ * actually read, so a corrupt tile count cannot make it allocate more memory than the file's contents need.
+ */
+public final class BoardFormat {
+
+    /** Header line of the text format. */
+    private static final String TEXT_HEADER = "board";
+    /** First bytes of the binary format. */
+    private static final byte[] MAGIC = {'F', 'F', 'B', 'D'};
+    /** Current version of both formats. */
+    public static final int VERSION = 1;
+    /** Largest number of tiles a binary board file may hold. */
+    public static final int MAX_TILES = 1 << 20;
+
+    /** Boards loaded from disk, by file path. */
+    private static final ConcurrentHashMap<Path, BoardLayout> loaded = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BoardFormat() {}
+
+    /**
+     * Loads a board file, in either format. Each file is only read and compiled the first time it is loaded; later
+     * calls return the same layout, with its graph already compiled.
+     * <br><br>
+     * A relative path that does not exist on disk is looked up on the classpath, where the game's assets are packaged.
+     *
+     * @param file Path to the board file
+     * @return Layout of the board
+     * @throws IOException If the file cannot be read, or does not exist on disk or the classpath
+     * @throws IllegalArgumentException If the file is not a valid board
+     */
+    public static BoardLayout load(Path file) throws IOException, IllegalArgumentException {
+        Path key = file.toAbsolutePath().normalize();
+        BoardLayout layout = loaded.get(key);
+        if (layout == null) {
+            try (InputStream in = open(file, key)) {
+                layout = read(in);
+            }
+            layout.getGraph();  // Compile now rather than at the start of the first game
+            BoardLayout previous = loaded.putIfAbsent(key, layout);
+            if (previous != null) layout = previous;
+        }
+
+        return layout;
+    }
+
+    /**
+     * Opens a board file on disk, or as a classpath resource if a relative path does not exist on disk.
+     *
+     * @param file Path as given to {@link #load(Path)}
+     * @param absolute Absolute form of the path
+     * @return Stream of the file's contents
+     * @throws IOException If the file exists in neither place, or cannot be opened
+     */
+    private static InputStream open(Path file, Path absolute) throws IOException {
+        if (Files.exists(absolute) || file.isAbsolute()) return Files.newInputStream(absolute);
+
+        String resource = file.normalize().toString().replace(File.separatorChar, '/');
+        InputStream in = BoardFormat.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) throw new NoSuchFileException(file.toString());
+        return in;
+    }
+
+    /**
+     * Reads a board in either format, detecting the format from the first bytes.
+     *
+     * @param in Stream to read from. Read to the end, but not closed
+     * @return Validated layout of the board
+     * @throws IOException If the stream cannot be read, or ends early
+     * @throws IllegalArgumentException If the data is not a valid board
+     */
+    public static BoardLayout read(InputStream in) throws IOException, IllegalArgumentException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(MAGIC.length);
+        byte[] start = new byte[MAGIC.length];
+        int length = buffered.read(start);
+        buffered.reset();
+
+        boolean binary = length == MAGIC.length;
+        for (int i = 0; binary && i < MAGIC.length; i++) {
+            binary = start[i] == MAGIC[i];
+        }
+
+        if (binary) return readBinary(buffered);
+        return readText(new InputStreamReader(buffered, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a board in the text format.
+     *
+     * @param reader Reader to read from. Read to the end, but not closed
+     * @return Validated layout of the board
+     * @throws IOException If the reader fails
+     * @throws IllegalArgumentException If the text is not a valid board. The message gives the line at fault
+     */
+    public static BoardLayout readText(Reader reader) throws IOException, IllegalArgumentException {
+        BufferedReader lines = new BufferedReader(reader);
+        ArrayList<int[]> tiles = new ArrayList<>();
+        ArrayList<int[]> directions = new ArrayList<>();
+        ArrayList<int[]> section = null;
+        boolean header = false;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            try {
+                if (!header) {
+                    String[] words = line.split("\\s+");
+                    if (words.length != 2 || !words[0].equals(TEXT_HEADER)) {
+                        throw new IllegalArgumentException("Expected \"" + TEXT_HEADER + " " + VERSION + "\"");
+                    }
+                    checkVersion(Integer.parseInt(words[1]));
+                    header = true;
+                } else if (line.equals("tiles")) {
+                    section = tiles;
+                } else if (line.equals("directions")) {
+                    section = directions;
+                } else if (section == null) {
+                    throw new IllegalArgumentException("Expected \"tiles\" or \"directions\"");
+                } else {
+                    String[] words = line.split("\\s+");
+                    int[] row = new int[words.length];
+                    for (int i = 0; i < words.length; i++) {
+                        row[i] = Integer.parseInt(words[i]);
+                    }
+                    section.add(row);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": not a number: " + line, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (!header) throw new IllegalArgumentException("Board file is empty");
+        BoardLayout layout = BoardLayout.fromGrid(tiles.toArray(new int[0][]), directions.toArray(new int[0][]));
+        validate(layout);
+        return layout;
+    }
+
+    /**
+     * Reads a board in the binary format.
+     *
+     * @param in Stream to read from. Read to the end of the board, but not closed
+     * @return Validated layout of the board
+     * @throws IOException If the stream cannot be read, or ends early
+     * @throws IllegalArgumentException If the data is not a valid board
+     */
+    public static BoardLayout readBinary(InputStream in) throws IOException, IllegalArgumentException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) throw new IllegalArgumentException("Not a binary board file");
+        }
+        checkVersion(data.readUnsignedByte());
+
+        int size = readVarInt(data);
+        if (size < 0 || size > MAX_TILES) throw new IllegalArgumentException("Malformed tile count in board file");
+        // The count is not trusted until the tiles are read, so the arrays grow as they fill rather than being sized
+        int capacity = Math.min(size, 1024);
+        int[] xs = new int[capacity];
+        int[] ys = new int[capacity];
+        int[] directions = new int[capacity];
+        TileType[] types = new TileType[capacity];
+        for (int tile = 0; tile < size; tile++) {
+            if (tile == capacity) {
+                capacity = Math.min(size, capacity * 2);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                directions = Arrays.copyOf(directions, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            xs[tile] = zigZagDecode(readVarInt(data));
+            ys[tile] = zigZagDecode(readVarInt(data));
+            int packed = data.readUnsignedByte();
+            directions[tile] = packed & 0xF;
+            types[tile] = TileType.fromCode(packed >>> 4);
+            if (types[tile] == null) throw new IllegalArgumentException("Tile " + tile + " is a wall");
+        }
+
+        BoardLayout layout = new BoardLayout(xs, ys, directions, types);
+        validate(layout);
+        return layout;
+    }
+
+    /**
+     * Writes a board in the text format. The board must fit in the matrices used by
+     * {@link BoardLayout#fromGrid(int[][], int[][])}, which place the top row at the board's highest y-coordinate.
+     *
+     * @param layout Layout to write
+     * @param writer Writer to write to. Flushed, but not closed
+     * @throws IOException If the writer fails
+     * @throws IllegalArgumentException If the board has tiles left of x = 0 or below y = 1
+     */
+    public static void writeText(BoardLayout layout, Writer writer) throws IOException, IllegalArgumentException {
+        int width = 0, height = 0;
+        for (int tile = 0; tile < layout.size(); tile++) {
+            if (layout.getX(tile) < 0 || layout.getY(tile) < 1) {
+                throw new IllegalArgumentException("Tile " + layout.getID(tile) + " cannot be written as text");
+            }
+            width = Math.max(width, layout.getX(tile) + 1);
+            height = Math.max(height, layout.getY(tile));
+        }
+
+        StringBuilder text = new StringBuilder();
+        text.append(TEXT_HEADER).append(' ').append(VERSION).append('\n');
+        text.append("tiles\n");
+        for (int row = 0; row < height; row++) {
+            for (int x = 0; x < width; x++) {
+                int tile = layout.indexOf(x, height - row);
+                if (x > 0) text.append(' ');
+                text.append(tile == -1 ? 0 : layout.getType(tile).getCode());
+            }
+            text.append('\n');
+        }
+        text.append("directions\n");
+        for (int row = 0; row < height; row++) {
+            for (int x = 0; x < width; x++) {
+                int tile = layout.indexOf(x, height - row);
+                if (x > 0) text.append(' ');
+                text.append(tile == -1 ? 0 : directionCode(layout.getDirections(tile)));
+            }
+            text.append('\n');
+        }
+
+        writer.write(text.toString());
+        writer.flush();
+    }
+
+    /**
+     * Writes a board in the binary format. Any board can be written.
+     *
+     * @param layout Layout to write
+     * @param out Stream to write to. Flushed, but not closed
+     * @throws IOException If the stream fails
+     */
+    public static void writeBinary(BoardLayout layout, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        writeVarInt(data, layout.size());
+        for (int tile = 0; tile < layout.size(); tile++) {
+            writeVarInt(data, zigZagEncode(layout.getX(tile)));
+            writeVarInt(data, zigZagEncode(layout.getY(tile)));
+            data.writeByte(layout.getType(tile).getCode() << 4 | layout.getDirections(tile));
+        }
+        data.flush();
+    }
+
+    /**
+     * Checks that a board can be played. Every board read by this class has been validated.
+     * <br><br>
+     * A board is valid if it has at least one tile, every tile can be left in at least one direction, and every
+     * enabled direction leads to another tile.
+     *
+     * @param layout Layout to check
+     * @throws IllegalArgumentException If the board cannot be played. The message names the tile at fault
+     */
+    public static void validate(BoardLayout layout) throws IllegalArgumentException {
+        if (layout.size() == 0) throw new IllegalArgumentException("Board has no tiles");
+
+        for (int tile = 0; tile < layout.size(); tile++) {
+            if (layout.getDirections(tile) == 0) {
+                throw new IllegalArgumentException("Tile " + layout.getID(tile) + " has no way out");
+            }
+            for (int direction = BoardLayout.NORTH; direction <= BoardLayout.WEST; direction <<= 1) {
+                if (layout.hasDirection(tile, direction) && layout.neighbour(tile, direction) == -1) {
+                    throw new IllegalArgumentException("Tile " + layout.getID(tile) + " leads off the board");
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts direction flags into a direction code of a layout matrix. The inverse of
+     * {@link BoardLayout#directionMask(int)}.
+     *
+     * @param mask Direction flags
+     * @return Direction code, with one digit per direction in north, east, south, west order
+     */
+    private static int directionCode(int mask) {
+        int code = 0;
+        int digit = 1;
+        for (int direction = BoardLayout.NORTH; direction <= BoardLayout.WEST; direction <<= 1, digit++) {
+            if ((mask & direction) != 0) code = code * 10 + digit;
+        }
+        return code;
+    }
+
+    /**
+     * Checks that a board file was written in a version this class can read.
+     * @param version Version stored in the file
+     * @throws IllegalArgumentException If the version is not supported
+     */
+    private static void checkVersion(int version) throws IllegalArgumentException {
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported board version: " + version);
+    }
+
+    /**
+     * Writes a non-negative integer using 7 bits per byte, with the high bit set on every byte but the last.
+     * @param out Stream to write to
+     * @param value Value to write
+     * @throws IOException If the stream fails
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarInt(DataOutput, int)}.
+     * @param in Stream to read from
+     * @return Value read
+     * @throws IOException If the stream fails or ends early
+     * @throws IllegalArgumentException If the value is longer than an int
+     */
+    private static int readVarInt(DataInput in) throws IOException, IllegalArgumentException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed number in board file");
+    }
+
+    /** Maps signed integers to unsigned ones so small negative coordinates stay short: 0, -1, 1, -2 become 0, 1, 2, 3. */
+    private static int zigZagEncode(int value) { return (value << 1) ^ (value >> 31); }
+
+    /** Inverse of {@link #zigZagEncode(int)}. */
+    private static int zigZagDecode(int value) { return (value >>> 1) ^ -(value & 1); }
+}
@@ -0,0 +1,410 @@
+package com.mygdx.game.Engine;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable graph of the links between tiles on a game board.
+ * <br><br>
+ * Tiles are numbered densely from 0, and the links leaving each tile are packed into a single array (compressed sparse
+ * row form) in north, east, south, west order. Path searches only touch integer arrays, so they never build tile IDs
+ * or look tiles up by name. The "x,y" tile IDs are only kept to translate to and from the node map, the screen and
+ * save files.
+ * <br><br>
+ * Graphs created with {@link #of(int[], int[], int[])} are shared between every board with the same tiles and links, so
+ * games on the same board also share one {@link ReachabilityTable}. Shared graphs are only weakly held, so a graph is
+ * dropped along with its table once no board uses it.
+ */
+public final class BoardGraph {
+
+    /** Shared graphs, by the tile data they were compiled from. Guarded by its own lock. */
+    private static final HashMap<TileData, SharedGraph> shared = new HashMap<>();
+    /** Shared graphs which have been garbage collected, and whose entries can be removed. */
+    private static final ReferenceQueue<BoardGraph> collected = new ReferenceQueue<>();
+
+    /** ID of each tile, in the form "x,y". */
+    private final String[] ids;
+    /** X-coordinate of each tile. */
+    private final int[] xs;
+    /** Y-coordinate of each tile. */
+    private final int[] ys;
+    /** Index of the first link of each tile in {@link #targets}. Has one extra entry marking the end of the last tile. */
+    private final int[] offsets;
+    /** Tile each link leads to. The links of tile {@code i} are stored from {@code offsets[i]} to {@code offsets[i + 1]}. */
+    private final int[] targets;
+    /** Index of each tile by ID. */
+    private final HashMap<String, Integer> indices;
+    /** Memoized paths between tiles, created on first use. */
+    private volatile ReachabilityTable reachability;
+
+
+    /**
+     * Constructor compiles a graph from per-tile data. Enabled directions which do not lead to a tile are ignored.
+     *
+     * @param xs X-coordinate of each tile
+     * @param ys Y-coordinate of each tile
+     * @param directions Enabled directions of each tile, stored as {@link BoardLayout} direction flags
+     * @throws IllegalArgumentException If the arrays differ in length or two tiles share a position
+     */
+    public BoardGraph(int[] xs, int[] ys, int[] directions) throws IllegalArgumentException {
+        if (xs.length != ys.length || xs.length != directions.length) {
+            throw new IllegalArgumentException("Tile data must have the same length");
+        }
+
+        int size = xs.length;
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+        this.ids = new String[size];
+        this.indices = new HashMap<>(size * 2);
+        for (int tile = 0; tile < size; tile++) {
+            ids[tile] = xs[tile] + "," + ys[tile];
+            if (indices.put(ids[tile], tile) != null) {
+                throw new IllegalArgumentException("Two tiles share the position " + ids[tile]);
+            }
+        }
+
+        // Pack the links of every tile, in north, east, south, west order
+        this.offsets = new int[size + 1];
+        ArrayList<Integer> links = new ArrayList<>();
+        for (int tile = 0; tile < size; tile++) {
+            offsets[tile] = links.size();
+            for (int direction = BoardLayout.NORTH; direction <= BoardLayout.WEST; direction <<= 1) {
+                if ((directions[tile] & direction) == 0) continue;
+
+                int next = indexOf(xs[tile] + offsetX(direction), ys[tile] + offsetY(direction));
+                if (next != -1) links.add(next);
+            }
+        }
+        offsets[size] = links.size();
+
+        this.targets = new int[links.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = links.get(i);
+        }
+    }
+
+    /**
+     * Returns the shared graph for the given tile data, compiling it if no board with the same tiles and links is in
+     * use.
+     *
+     * @param xs X-coordinate of each tile
+     * @param ys Y-coordinate of each tile
+     * @param directions Enabled directions of each tile, stored as {@link BoardLayout} direction flags
+     * @return Graph of the tiles
+     * @throws IllegalArgumentException If the arrays differ in length or two tiles share a position
+     */
+    public static BoardGraph of(int[] xs, int[] ys, int[] directions) throws IllegalArgumentException {
+        TileData key = new TileData(xs.clone(), ys.clone(), directions.clone());
+        synchronized (shared) {
+            // Drop the entries of graphs which have been collected
+            Reference<? extends BoardGraph> dropped;
+            while ((dropped = collected.poll()) != null) {
+                SharedGraph entry = (SharedGraph) dropped;
+                shared.remove(entry.key, entry);
+            }
+
+            SharedGraph entry = shared.get(key);
+            BoardGraph graph = entry == null ? null : entry.get();
+            if (graph == null) {
+                graph = new BoardGraph(key.xs, key.ys, key.directions);
+                shared.put(key, new SharedGraph(key, graph));
+            }
+
+            return graph;
+        }
+    }
+
+    /**
+     * Compiles the graph of a board layout. Tile indices match the indices in the layout.
+     *
+     * @param layout Layout to compile
+     * @return Shared graph of the layout
+     */
+    public static BoardGraph compile(BoardLayout layout) {
+        int[] xs = new int[layout.size()];
+        int[] ys = new int[layout.size()];
+        int[] directions = new int[layout.size()];
+        for (int tile = 0; tile < layout.size(); tile++) {
+            xs[tile] = layout.getX(tile);
+            ys[tile] = layout.getY(tile);
+            directions[tile] = layout.getDirections(tile);
+        }
+
+        return of(xs, ys, directions);
+    }
+
+    /**
+     * Returns the change in x-coordinate when moving in a direction.
+     * @param direction Direction flag
+     * @return Change in x-coordinate
+     */
+    private static int offsetX(int direction) {
+        if (direction == BoardLayout.EAST) return 1;
+        if (direction == BoardLayout.WEST) return -1;
+        return 0;
+    }
+
+    /**
+     * Returns the change in y-coordinate when moving in a direction.
+     * @param direction Direction flag
+     * @return Change in y-coordinate
+     */
+    private static int offsetY(int direction) {
+        if (direction == BoardLayout.NORTH) return 1;
+        if (direction == BoardLayout.SOUTH) return -1;
+        return 0;
+    }
+
+
+    /**
+     * Finds all paths exactly {@code distance} tiles long starting from a tile. Paths never turn back on themselves.
+     * <br><br>
+     * Paths are found depth first, trying links in north, east, south, west order. The search reuses a single path
+     * buffer and only allocates the paths it returns.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, which cannot be moved back to, or -1
+     * @param distance Number of tiles to move
+     * @param found List to add the paths found to. Each path includes the starting tile
+     * @return Number of paths found
+     */
+    public int findPaths(int start, int previous, int distance, List<int[]> found) {
+        if (distance < 1) return 0;  // Nothing in reach
+
+        int[] path = new int[distance + 1];
+        path[0] = start;
+        return findPathsRecur(path, 0, previous, distance, found);
+    }
+
+    /**
+     * Recursive helper function for findPaths. Depth First Search.
+     *
+     * @param path Tiles visited so far
+     * @param step Index of the current tile in the path
+     * @param previous Tile visited before the current tile, or -1
+     * @param distance Number of tiles to move
+     * @param found List of paths found
+     * @return Number of paths found
+     */
+    private int findPathsRecur(int[] path, int step, int previous, int distance, List<int[]> found) {
+        if (step == distance) {
+            found.add(path.clone());
+            return 1;
+        }
+
+        int count = 0;
+        int tile = path[step];
+        for (int link = offsets[tile]; link < offsets[tile + 1]; link++) {
+            int next = targets[link];
+            if (next == previous) continue;
+
+            path[step + 1] = next;
+            count += findPathsRecur(path, step + 1, tile, distance, found);
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds every tile exactly {@code distance} tiles away from a tile, with one path to each. Paths never turn back on
+     * themselves.
+     * <br><br>
+     * Searches breadth first, one step at a time, over (tile, previous tile) states rather than whole paths. Where
+     * paths are only different before they reach the same state, they can only end on the same tiles, so each state is
+     * only kept once per step. The time taken grows with the number of links times the distance, rather than with the
+     * number of paths, which grows exponentially on boards with many junctions.
+     * <br><br>
+     * States are expanded in the order their paths would be found by {@link #findPaths(int, int, int, List)}, so the
+     * path kept for each tile is the first one a depth first search would find, and tiles are returned in the order
+     * their first path would be found.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, which cannot be moved back to, or -1
+     * @param distance Number of tiles to move
+     * @return One path to each reachable tile. Each path includes the starting tile
+     */
+    public int[][] findDestinations(int start, int previous, int distance) {
+        if (distance < 1) return new int[0][];  // Nothing in reach
+
+        // Tile, previous tile and the index of the state it came from in the last step, for each state in each step
+        int[][] tiles = new int[distance + 1][];
+        int[][] from = new int[distance + 1][];
+        int[][] parents = new int[distance + 1][];
+        tiles[0] = new int[] {start};
+        from[0] = new int[] {previous};
+        parents[0] = new int[] {-1};
+
+        // Step each link was last followed on. A state is reached by exactly one link, so this marks states seen
+        int[] followed = new int[targets.length];
+        int[] nextTiles = new int[targets.length];
+        int[] nextFrom = new int[targets.length];
+        int[] nextParents = new int[targets.length];
+        for (int step = 1; step <= distance; step++) {
+            int count = 0;
+            for (int state = 0; state < tiles[step - 1].length; state++) {
+                int tile = tiles[step - 1][state];
+                for (int link = offsets[tile]; link < offsets[tile + 1]; link++) {
+                    int next = targets[link];
+                    if (next == from[step - 1][state] || followed[link] == step) continue;
+
+                    followed[link] = step;
+                    nextTiles[count] = next;
+                    nextFrom[count] = tile;
+                    nextParents[count] = state;
+                    count++;
+                }
+            }
+
+            if (count == 0) return new int[0][];  // Dead end
+            tiles[step] = Arrays.copyOf(nextTiles, count);
+            from[step] = Arrays.copyOf(nextFrom, count);
+            parents[step] = Arrays.copyOf(nextParents, count);
+        }
+
+        // Keep the first path ending on each tile
+        boolean[] reached = new boolean[size()];
+        ArrayList<int[]> found = new ArrayList<>();
+        for (int state = 0; state < tiles[distance].length; state++) {
+            int tile = tiles[distance][state];
+            if (reached[tile]) continue;
+            reached[tile] = true;
+
+            int[] path = new int[distance + 1];
+            for (int step = distance, s = state; step >= 0; s = parents[step][s], step--) {
+                path[step] = tiles[step][s];
+            }
+            found.add(path);
+        }
+
+        return found.toArray(new int[0][]);
+    }
+
+
+    /**
+     * Returns the memoized table of paths between tiles, shared by every game on this graph.
+     *
+     * @return Reachability table of the graph
+     */
+    public ReachabilityTable getReachability() {
+        ReachabilityTable table = reachability;
+        if (table == null) {
+            synchronized (this) {
+                if (reachability == null) reachability = new ReachabilityTable(this);
+                table = reachability;
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Returns the number of tiles on the board.
+     * @return Number of tiles
+     */
+    public int size() { return ids.length; }
+
+    /**
+     * Returns the x-coordinate of a tile.
+     * @param tile Tile index
+     * @return X-coordinate of the tile
+     */
+    public int getX(int tile) { return xs[tile]; }
+
+    /**
+     * Returns the y-coordinate of a tile.
+     * @param tile Tile index
+     * @return Y-coordinate of the tile
+     */
+    public int getY(int tile) { return ys[tile]; }
+
+    /**
+     * Returns the ID of a tile. The same String instance is returned on every call.
+     * @param tile Tile index
+     * @return Tile ID in the form "x,y"
+     */
+    public String getID(int tile) { return ids[tile]; }
+
+    /**
+     * Finds the tile with the given ID.
+     *
+     * @param id Tile ID in the form "x,y"
+     * @return Index of the tile, or -1 if there is no tile with the ID
+     */
+    public int indexOf(String id) {
+        if (id == null) return -1;
+        Integer tile = indices.get(id);
+        return tile == null ? -1 : tile;
+    }
+
+    /**
+     * Finds the tile at the given position.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return Index of the tile, or -1 if there is no tile at the position
+     */
+    public int indexOf(int x, int y) { return indexOf(x + "," + y); }
+
+    /**
+     * Returns the number of tiles which can be moved to from a tile.
+     * @param tile Tile index
+     * @return Number of links leaving the tile
+     */
+    public int degree(int tile) { return offsets[tile + 1] - offsets[tile]; }
+
+    /**
+     * Returns a tile which can be moved to from a tile.
+     *
+     * @param tile Tile index
+     * @param link Index of the link, from 0 to {@code degree(tile) - 1}, in north, east, south, west order
+     * @return Index of the linked tile
+     */
+    public int linkedTile(int tile, int link) { return targets[offsets[tile] + link]; }
+
+
+    /**
+     * Weak reference to a shared graph, which remembers the tile data it is stored under.
+     */
+    private static final class SharedGraph extends WeakReference<BoardGraph> {
+        private final TileData key;
+
+        private SharedGraph(TileData key, BoardGraph graph) {
+            super(graph, collected);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Tile data a graph is compiled from. Used to find the shared graph of a board.
+     */
+    private static final class TileData {
+        private final int[] xs;
+        private final int[] ys;
+        private final int[] directions;
+        private final int hash;
+
+        private TileData(int[] xs, int[] ys, int[] directions) {
+            this.xs = xs;
+            this.ys = ys;
+            this.directions = directions;
+            this.hash = 31 * (31 * Arrays.hashCode(xs) + Arrays.hashCode(ys)) + Arrays.hashCode(directions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TileData)) return false;
+            TileData other = (TileData) o;
+            return hash == other.hash && Arrays.equals(xs, other.xs) && Arrays.equals(ys, other.ys)
+                    && Arrays.equals(directions, other.directions);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+}
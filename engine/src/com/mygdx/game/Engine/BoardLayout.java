@@ -0,0 +1,287 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Immutable description of a game board.
+ * <br><br>
+ * Stores the position, enabled directions and starting type of every tile on the board. Tiles are numbered from 0 in
+ * the order they appear in the layout. The layout contains no rendering information, so it can be used by both the
+ * game board screen and headless simulations.
+ */
+public final class BoardLayout {
+
+    /* Direction flags. A tile's directions control which adjacent tiles can be reached from it. */
+
+    /** Flag for the direction towards the tile above. */
+    public static final int NORTH = 1;
+    /** Flag for the direction towards the tile to the right. */
+    public static final int EAST = 2;
+    /** Flag for the direction towards the tile below. */
+    public static final int SOUTH = 4;
+    /** Flag for the direction towards the tile to the left. */
+    public static final int WEST = 8;
+
+    /** Default game board, created on first use. */
+    private static BoardLayout defaultLayout;
+
+    /** X-coordinate of each tile. */
+    private final int[] xs;
+    /** Y-coordinate of each tile. */
+    private final int[] ys;
+    /** Enabled directions of each tile, stored as direction flags. */
+    private final int[] directions;
+    /** Type of each tile at the start of a game. */
+    private final TileType[] types;
+
+    /** Smallest x-coordinate on the board. */
+    private final int minX;
+    /** Smallest y-coordinate on the board. */
+    private final int minY;
+    /** Number of columns spanned by the board. */
+    private final int gridWidth;
+    /** Number of rows spanned by the board. */
+    private final int gridHeight;
+    /** Index of the tile in each grid cell, or -1 for walls. Used to find tiles by position. */
+    private final int[] grid;
+    /** Compiled graph of the links between tiles, created on first use. */
+    private BoardGraph graph;
+
+
+    /**
+     * Constructor creates a layout from per-tile data.
+     *
+     * @param xs X-coordinate of each tile
+     * @param ys Y-coordinate of each tile
+     * @param directions Enabled directions of each tile
+     * @param types Starting type of each tile
+     * @throws IllegalArgumentException If the arrays differ in length or two tiles share a position
+     */
+    public BoardLayout(int[] xs, int[] ys, int[] directions, TileType[] types) throws IllegalArgumentException {
+        if (xs.length != ys.length || xs.length != directions.length || xs.length != types.length) {
+            throw new IllegalArgumentException("Tile data must have the same length");
+        }
+
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+        this.directions = directions.clone();
+        this.types = types.clone();
+
+        // Find the bounds of the board
+        int lowX = 0, lowY = 0, highX = -1, highY = -1;
+        for (int i = 0; i < xs.length; i++) {
+            if (i == 0 || xs[i] < lowX) lowX = xs[i];
+            if (i == 0 || ys[i] < lowY) lowY = ys[i];
+            if (i == 0 || xs[i] > highX) highX = xs[i];
+            if (i == 0 || ys[i] > highY) highY = ys[i];
+        }
+        this.minX = lowX;
+        this.minY = lowY;
+        this.gridWidth = highX - lowX + 1;
+        this.gridHeight = highY - lowY + 1;
+
+        // Index tiles by position
+        this.grid = new int[gridWidth * gridHeight];
+        Arrays.fill(grid, -1);
+        for (int i = 0; i < xs.length; i++) {
+            int cell = (ys[i] - minY) * gridWidth + (xs[i] - minX);
+            if (grid[cell] != -1) {
+                throw new IllegalArgumentException("Two tiles share the position " + xs[i] + "," + ys[i]);
+            }
+            grid[cell] = i;
+        }
+    }
+
+    /**
+     * Creates a layout from a pair of matrices, which are easier to visualize and configure. The top row of the matrix
+     * is the top row of the board.
+     *
+     * @param map Matrix of tile codes. 0 = wall, 1 = normal, 2 = star, 3 = penalty, 4 = event, 5 = agility test
+     * @param direction Matrix of direction codes. 1 = N, 2 = E, 3 = S, 4 = W, and two digit codes such as 12 = N/E
+     *                  combine two directions
+     * @return Layout of the described board
+     * @throws IllegalArgumentException If the matrices differ in size or contain an unknown code
+     */
+    public static BoardLayout fromGrid(int[][] map, int[][] direction) throws IllegalArgumentException {
+        if (map.length != direction.length) {
+            throw new IllegalArgumentException("Tile and direction matrices must be the same size");
+        }
+
+        ArrayList<int[]> tiles = new ArrayList<>();  // x, y, directions, type code of each tile
+        for (int i = 0; i < map.length; i++) {
+            if (map[i].length != direction[i].length) {
+                throw new IllegalArgumentException("Tile and direction matrices must be the same size");
+            }
+            for (int j = 0; j < map[i].length; j++) {
+                if (map[i][j] == 0) continue;  // Wall
+                tiles.add(new int[] {j, map.length - i, directionMask(direction[i][j]), map[i][j]});
+            }
+        }
+
+        int[] xs = new int[tiles.size()];
+        int[] ys = new int[tiles.size()];
+        int[] directions = new int[tiles.size()];
+        TileType[] types = new TileType[tiles.size()];
+        for (int i = 0; i < tiles.size(); i++) {
+            int[] tile = tiles.get(i);
+            xs[i] = tile[0];
+            ys[i] = tile[1];
+            directions[i] = tile[2];
+            types[i] = TileType.fromCode(tile[3]);
+        }
+
+        return new BoardLayout(xs, ys, directions, types);
+    }
+
+    /**
+     * Converts a direction code from a layout matrix into direction flags.
+     *
+     * @param code Direction code. 0 = none, 1 = N, 2 = E, 3 = S, 4 = W, or two of these digits combined
+     * @return Direction flags
+     * @throws IllegalArgumentException If the code is not a valid direction code
+     */
+    public static int directionMask(int code) throws IllegalArgumentException {
+        if (code == 0) return 0;
+
+        int mask = 0;
+        for (int remaining = code; remaining > 0; remaining /= 10) {
+            switch (remaining % 10) {
+                case 1:
+                    mask |= NORTH;
+                    break;
+                case 2:
+                    mask |= EAST;
+                    break;
+                case 3:
+                    mask |= SOUTH;
+                    break;
+                case 4:
+                    mask |= WEST;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown direction code: " + code);
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the default game board, loaded from the board file named in {@link Config#getBoardPath()}.
+     *
+     * @return Layout of the default game board
+     * @throws IllegalStateException If the board file is missing or not a valid board
+     */
+    public static synchronized BoardLayout defaultLayout() throws IllegalStateException {
+        if (defaultLayout == null) {
+            String path = Config.getInstance().getBoardPath();
+            try {
+                defaultLayout = BoardFormat.load(Paths.get(path));
+            } catch (IOException | IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to load the default board " + path, e);
+            }
+        }
+
+        return defaultLayout;
+    }
+
+
+    /**
+     * Returns the compiled graph of the links between tiles. The graph is shared by every game played on this layout.
+     *
+     * @return Graph of the layout
+     */
+    public synchronized BoardGraph getGraph() {
+        if (graph == null) graph = BoardGraph.compile(this);
+        return graph;
+    }
+
+    /**
+     * Returns the number of tiles on the board.
+     * @return Number of tiles
+     */
+    public int size() { return xs.length; }
+
+    /**
+     * Returns the x-coordinate of a tile.
+     * @param tile Tile index
+     * @return X-coordinate of the tile
+     */
+    public int getX(int tile) { return xs[tile]; }
+
+    /**
+     * Returns the y-coordinate of a tile.
+     * @param tile Tile index
+     * @return Y-coordinate of the tile
+     */
+    public int getY(int tile) { return ys[tile]; }
+
+    /**
+     * Returns the enabled directions of a tile.
+     * @param tile Tile index
+     * @return Direction flags of the tile
+     */
+    public int getDirections(int tile) { return directions[tile]; }
+
+    /**
+     * Checks if a direction is enabled on a tile.
+     * @param tile Tile index
+     * @param direction Direction flag
+     * @return True if the tile links to the adjacent tile in that direction, false if otherwise
+     */
+    public boolean hasDirection(int tile, int direction) { return (directions[tile] & direction) != 0; }
+
+    /**
+     * Returns the type of a tile at the start of a game.
+     * @param tile Tile index
+     * @return Starting type of the tile
+     */
+    public TileType getType(int tile) { return types[tile]; }
+
+    /**
+     * Finds the tile at the given position.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return Index of the tile, or -1 if there is no tile at the position
+     */
+    public int indexOf(int x, int y) {
+        if (x < minX || y < minY || x >= minX + gridWidth || y >= minY + gridHeight) return -1;
+        return grid[(y - minY) * gridWidth + (x - minX)];
+    }
+
+    /**
+     * Finds the tile adjacent to the given tile in a direction. Does not check if the direction is enabled.
+     *
+     * @param tile Tile index
+     * @param direction Direction flag
+     * @return Index of the adjacent tile, or -1 if there is no tile in that direction
+     */
+    public int neighbour(int tile, int direction) {
+        switch (direction) {
+            case NORTH:
+                return indexOf(xs[tile], ys[tile] + 1);
+            case EAST:
+                return indexOf(xs[tile] + 1, ys[tile]);
+            case SOUTH:
+                return indexOf(xs[tile], ys[tile] - 1);
+            case WEST:
+                return indexOf(xs[tile] - 1, ys[tile]);
+            default:
+                throw new IllegalArgumentException("Unknown direction: " + direction);
+        }
+    }
+
+    /**
+     * Returns the ID of a tile, made from its coordinates. Matches the IDs used in the game board's node map.
+     *
+     * @param tile Tile index
+     * @return Tile ID in the form "x,y"
+     */
+    public String getID(int tile) { return xs[tile] + "," + ys[tile]; }
+}
@@ -0,0 +1,635 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Config;
+import com.mygdx.game.Stock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Headless model of a complete game.
+ * <br><br>
+ * Plays by the same rules as the game board, but holds no sprites, dialogs or assets, so games can be run without
+ * libGDX graphics. Tiles and players are referred to by index, and all player data is stored in primitive arrays.
+ * Decisions the game board would ask the player about, such as where to move or whether to buy a star, are made by
+ * calling the corresponding method. The turn, round and tile rules are shared with the game board through
+ * {@link GameModel}.
+ * @see Rules
+ */
+public class GameEngine extends GameModel {
+
+    /* Board */
+
+    /** Layout of the game board. */
+    private final BoardLayout layout;
+    /** Paths between tiles, shared with every other game on the same layout. */
+    private final ReachabilityTable reachability;
+    /** Current type of each tile, indexed by type. */
+    private final TileIndex tileTypes;
+    /** Indicates if the star on a star tile has been bought. The tile turns back into a normal tile afterwards. */
+    private final boolean[] starTaken;
+    /** Money taken by the global penalty of each event tile. Doubles every time the tile is landed on in hard mode. */
+    private final int[] eventPenalties;
+
+    /* Players */
+
+    /** Number of players in the game. */
+    private final int playerCount;
+    /** Money of each player. */
+    private final int[] money;
+    /** Stars of each player. */
+    private final int[] stars;
+    /** Investment account of each player. */
+    private final int[] investments;
+    /** Score of each player. Calculated at the end of the game. */
+    private final int[] scores;
+    /** Level of each player. */
+    private final int[] levels;
+    /** Tile each player is on. */
+    private final int[] positions;
+    /** Tile each player was on before their last move, or -1. Used to disallow players from going backwards. */
+    private final int[] previousTiles;
+    /** Frozen state of each player. Frozen players skip their next turn. */
+    private final boolean[] frozen;
+    /** Indicates if each player has an active shield. */
+    private final boolean[] shields;
+    /** Indicates if each player will roll two dice on their next roll. */
+    private final boolean[] multiDice;
+    /** Die roll stream of each player, split from the game's dice stream in turn order, as the game board does. */
+    private final RandomStream[] dice;
+    /** Number of shares each player owns of each stock. */
+    private final int[][] shares;
+    /** Number of each type of item in each player's inventory. */
+    private final int[][] inventories;
+    /** View of each player's data, handed to the shared rules. */
+    private final PlayerView[] players;
+
+    /* Shop */
+
+    /** Number of each type of item available in the shop. */
+    private final int[] shopItems = new int[ItemType.values().length];
+    /** All available stocks. */
+    private final Stock[] stocks;
+
+    /* Turns */
+
+    /** Indicates if difficulty level is set to hard. */
+    private final boolean hardMode;
+
+    /** Number rolled on the die on the current turn. */
+    private int dieRoll;
+    /** Number of die rolls remaining on the current turn. */
+    private int rollsLeft = 1;
+    /** Board movements remaining on the current turn. */
+    private int movesLeft = 1;
+    /** One path to each tile reachable by the current player. Each path starts at the player's tile. */
+    private final List<int[]> reachablePaths = new ArrayList<>();
+
+    /** Used to generate all random events in the game. */
+    private final GameRandom random;
+
+
+    /**
+     * Constructor initializes a new game.
+     *
+     * @param layout Layout of the game board
+     * @param playerCount Number of players in the game
+     * @param hardMode Controls if hard mode is enabled
+     * @param seed Seed used to generate the game's random events
+     * @throws IllegalArgumentException If there are no players, or more players than normal tiles to start on
+     */
+    public GameEngine(BoardLayout layout, int playerCount, boolean hardMode, long seed) throws IllegalArgumentException {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("Player list cannot be empty");
+        }
+
+        this.layout = layout;
+        this.reachability = layout.getGraph().getReachability();
+        this.playerCount = playerCount;
+        this.hardMode = hardMode;
+        this.random = new GameRandom(seed);
+
+        // Board
+        starTaken = new boolean[layout.size()];
+        eventPenalties = new int[layout.size()];
+        Arrays.fill(eventPenalties, Rules.GLOBAL_PENALTY_AMOUNT);
+        TileType[] startTypes = new TileType[layout.size()];
+        for (int tile = 0; tile < layout.size(); tile++) {
+            startTypes[tile] = layout.getType(tile);
+        }
+        tileTypes = new TileIndex(startTypes);
+
+        // Players
+        money = new int[playerCount];
+        stars = new int[playerCount];
+        investments = new int[playerCount];
+        scores = new int[playerCount];
+        levels = new int[playerCount];
+        positions = new int[playerCount];
+        previousTiles = new int[playerCount];
+        frozen = new boolean[playerCount];
+        shields = new boolean[playerCount];
+        multiDice = new boolean[playerCount];
+        dice = new RandomStream[playerCount];
+        shares = new int[playerCount][Market.STOCK_COUNT];
+        inventories = new int[playerCount][ItemType.values().length];
+        players = new PlayerView[playerCount];
+
+        // Add items to the shop. 25% chance per additional item
+        for (ItemType type : ItemType.values()) {
+            for (int i = 0; i == 0; i = random.items().nextInt(0, 3)) {
+                shopItems[type.ordinal()]++;
+            }
+        }
+
+        // Set starting tiles - player cannot start on a special tile, only a plain tile
+        // They also can't start on the same tile as another player
+        List<Integer> startTiles = new ArrayList<>();
+        for (int tile : tileTypes.toArray(TileType.NORMAL)) startTiles.add(tile);
+        random.board().shuffle(startTiles);
+        if (startTiles.size() < playerCount) {
+            throw new IllegalArgumentException("Not enough normal tiles for every player to start on");
+        }
+
+        for (int player = 0; player < playerCount; player++) {
+            players[player] = new PlayerView(player);
+            dice[player] = random.dice().split();
+            money[player] = Rules.STARTING_MONEY;
+            levels[player] = 1;
+            positions[player] = startTiles.remove(startTiles.size() - 1);
+            previousTiles[player] = -1;
+            for (ItemType type : ItemType.values()) {  // Each player starts with one of every item
+                inventories[player][type.ordinal()] = 1;
+            }
+        }
+
+        stocks = Market.createStocks(random.market());
+    }
+
+
+    @Override
+    protected void endTurn() {
+        dieRoll = 0;
+        rollsLeft = 1;
+        movesLeft = 1;
+        reachablePaths.clear();
+    }
+
+    @Override
+    protected void restockItem() {
+        shopItems[randomItem().ordinal()]++;
+    }
+
+    @Override
+    protected PlayerModel getPlayerModel(int player) { return players[player]; }
+
+    @Override
+    protected GameRandom getRandom() { return random; }
+
+    @Override
+    protected TileIndex getTileIndex() { return tileTypes; }
+
+
+    /**
+     * Rolls the die for the current player's turn. If the player used the multidice item, the die is rolled twice.
+     * Finds one path to each tile the player can reach with the number rolled.
+     *
+     * @return Number rolled by the die
+     * @throws IllegalStateException If the player has no rolls remaining
+     */
+    public int rollDie() throws IllegalStateException {
+        if (rollsLeft <= 0) {
+            throw new IllegalStateException("No rolls remaining this turn");
+        }
+
+        int player = currPlayerTurn;
+        dieRoll = dice[player].nextInt(1, Rules.DIE_SIDES);
+        if (multiDice[player]) {
+            dieRoll += dice[player].nextInt(1, Rules.DIE_SIDES);
+            multiDice[player] = false;
+        }
+
+        reachablePaths.clear();
+        Collections.addAll(reachablePaths, reachability.getDestinations(positions[player], previousTiles[player], dieRoll));
+        rollsLeft--;
+
+        return dieRoll;
+    }
+
+    /**
+     * Move the current player to a tile reachable with their die roll, and activate the tile.
+     * <br><br>
+     * Star and agility test tiles only take effect through {@link #buyStar()} and {@link #playAgilityTest(int)}.
+     *
+     * @param tile Tile to move to
+     * @throws IllegalArgumentException If the tile is not reachable
+     * @throws IllegalStateException If the player has no moves remaining
+     */
+    public void move(int tile) throws IllegalArgumentException, IllegalStateException {
+        if (movesLeft <= 0) {
+            throw new IllegalStateException("No moves remaining this turn");
+        }
+
+        // Check if a path exists to the given tile
+        int[] validPath = null;
+        for (int[] path : reachablePaths) {
+            if (path[path.length - 1] == tile) {
+                validPath = path;
+                break;
+            }
+        }
+        if (validPath == null) {
+            throw new IllegalArgumentException("Invalid movement; Tile not in reachable list.");
+        }
+
+        int player = currPlayerTurn;
+        previousTiles[player] = validPath[validPath.length - 2];
+        positions[player] = tile;
+        activate(player, tile);
+
+        reachablePaths.clear();  // Reset reachable paths and die roll for next turn
+        dieRoll = 0;
+        movesLeft--;
+    }
+
+    /**
+     * Applies the effect of landing on a tile.
+     *
+     * @param player Player who landed on the tile
+     * @param tile Tile landed on
+     */
+    private void activate(int player, int tile) {
+        switch (tileTypes.getType(tile)) {
+            case NORMAL:
+                money[player] += Rules.NORMAL_TILE_MONEY;
+                break;
+            case PENALTY:
+                applyPenalty(players[player], hardMode);
+                break;
+            case EVENT:
+                eventPenalties[tile] = Rules.globalPenalty(eventPenalties[tile], hardMode);
+                globalPenaltyEvent(eventPenalties[tile]);
+                break;
+            default:  // Star and agility test tiles are activated by the player's choice
+                break;
+        }
+    }
+
+    /**
+     * Checks if the current player can buy the star on the tile they are standing on.
+     * @return True if the player is on a star tile with a star, and has enough money to buy it
+     */
+    public boolean canBuyStar() {
+        int player = currPlayerTurn;
+        int tile = positions[player];
+        return tileTypes.getType(tile) == TileType.STAR && !starTaken[tile] && money[player] >= Rules.starCost(hardMode);
+    }
+
+    /**
+     * The current player buys the star on the tile they are standing on.
+     *
+     * @throws IllegalStateException If the player cannot buy the star
+     */
+    public void buyStar() throws IllegalStateException {
+        if (!canBuyStar()) {
+            throw new IllegalStateException("No star to buy");
+        }
+
+        int player = currPlayerTurn;
+        starTaken[positions[player]] = true;
+        payForStar(players[player], Rules.starCost(hardMode));
+    }
+
+    /**
+     * Checks if the current player can play the agility test minigame from the tile they are standing on.
+     * @return True if the player is on an agility test tile and can afford to play
+     */
+    public boolean canPlayAgilityTest() {
+        int player = currPlayerTurn;
+        return tileTypes.getType(positions[player]) == TileType.AGILITY && money[player] >= Rules.AGILITY_TEST_COST;
+    }
+
+    /**
+     * The current player pays to play the agility test minigame and receives their earnings.
+     *
+     * @param earnings Money earned in the minigame
+     * @throws IllegalStateException If the player cannot play the minigame
+     */
+    public void playAgilityTest(int earnings) throws IllegalStateException {
+        if (!canPlayAgilityTest()) {
+            throw new IllegalStateException("Cannot play the agility test");
+        }
+
+        money[currPlayerTurn] += earnings - Rules.AGILITY_TEST_COST;
+    }
+
+
+    @Override
+    protected void setTileType(int tile, TileType type) {
+        tileTypes.setType(tile, type);
+        starTaken[tile] = false;
+    }
+
+
+    /**
+     * The current player buys an item from the shop.
+     *
+     * @param type Type of item to buy
+     * @return True if the item was bought, false if it is not in the shop or the player cannot afford it
+     */
+    public boolean buyItem(ItemType type) {
+        int player = currPlayerTurn;
+        if (shopItems[type.ordinal()] == 0 || money[player] <= type.getPrice()) return false;
+
+        money[player] -= type.getPrice();
+        shopItems[type.ordinal()]--;
+        inventories[player][type.ordinal()]++;
+        return true;
+    }
+
+    /**
+     * The current player uses an item from their inventory. Freeze items target the next player in the turn order.
+     *
+     * @param type Type of item to use
+     * @return True if the item was used up, false if the player does not have it or it had no effect
+     */
+    public boolean useItem(ItemType type) {
+        return useItem(type, (currPlayerTurn + 1) % playerCount);
+    }
+
+    /**
+     * The current player uses an item from their inventory.
+     *
+     * @param type Type of item to use
+     * @param target Player targeted by a freeze item. Ignored by other items
+     * @return True if the item was used up, false if the player does not have it or it had no effect
+     */
+    public boolean useItem(ItemType type, int target) {
+        int player = currPlayerTurn;
+        if (inventories[player][type.ordinal()] == 0) return false;
+
+        switch (type) {
+            case BIKE:
+                // Add all tiles as possible tiles for the player to go to, except their current tile
+                reachablePaths.clear();
+                for (int tile = 0; tile < layout.size(); tile++) {
+                    if (tile != positions[player]) reachablePaths.add(new int[] {positions[player], tile});
+                }
+                rollsLeft = 0;
+                break;
+            case BOOK:
+                levelUp(player);
+                break;
+            case FREEZE:
+                setFrozen(target);
+                break;
+            case MULTI_DICE:
+                multiDice[player] = true;
+                break;
+            case SHIELD:
+                if (shields[player]) return false;  // Shield already active
+                shields[player] = true;
+                break;
+        }
+
+        inventories[player][type.ordinal()]--;
+        return true;
+    }
+
+    /**
+     * Freezes a player, making them skip their next turn, unless they possess a shield.
+     * @param player Player to freeze
+     */
+    private void setFrozen(int player) {
+        if (useShield(player)) return;  // Consume shield to prevent freezing
+        frozen[player] = true;
+    }
+
+    /**
+     * Consumes a player's shield if they have one.
+     *
+     * @param player Player to check
+     * @return True if the shield was active and is now used up, false if otherwise
+     */
+    private boolean useShield(int player) {
+        if (shields[player]) {
+            shields[player] = false;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * The current player buys a share of a stock, if they can afford it.
+     *
+     * @param stock Index of the stock
+     * @return True if the share was bought
+     */
+    public boolean buyStock(int stock) {
+        int player = currPlayerTurn;
+        updateInvestments(player);
+        int price = stocks[stock].getPrice();
+        if (money[player] < price) return false;
+
+        shares[player][stock]++;
+        investments[player] += price;
+        money[player] -= price;
+        return true;
+    }
+
+    /**
+     * The current player sells a share of a stock, if they own one.
+     *
+     * @param stock Index of the stock
+     * @return True if the share was sold
+     */
+    public boolean sellStock(int stock) {
+        int player = currPlayerTurn;
+        updateInvestments(player);
+        if (shares[player][stock] == 0) return false;
+
+        int price = stocks[stock].getPrice();
+        shares[player][stock]--;
+        investments[player] -= price;
+        money[player] += price;
+        return true;
+    }
+
+    /**
+     * Recalculates a player's investment account from the current stock prices.
+     * @param player Player to update
+     */
+    private void updateInvestments(int player) {
+        investments[player] = 0;
+        for (int stock = 0; stock < Market.STOCK_COUNT; stock++) {
+            investments[player] += stocks[stock].getPrice() * shares[player][stock];
+        }
+    }
+
+    /**
+     * Increases a player's level by one, unless they are already at the maximum level.
+     * @param player Player to level up
+     */
+    private void levelUp(int player) {
+        if (levels[player] + 1 <= Config.getInstance().getMaxLevel()) {
+            levels[player]++;
+        }
+    }
+
+    /**
+     * Calculates and sets a player's score.
+     * @param player Player to calculate the score of
+     */
+    public void calculateScore(int player) {
+        scores[player] = Rules.calculateScore(stars[player], money[player], investments[player]);
+    }
+
+
+    /**
+     * Chooses a random item type. Books are never chosen, matching the items added to the shop on the game board.
+     * @return Item type randomly chosen
+     */
+    private ItemType randomItem() {
+        switch (random.items().nextInt(1, 4)) {
+            case 1:
+                return ItemType.BIKE;
+            case 2:
+                return ItemType.FREEZE;
+            case 3:
+                return ItemType.MULTI_DICE;
+            default:
+                return ItemType.SHIELD;
+        }
+    }
+
+
+    /* Getters */
+
+    /** @return Layout of the game board */
+    public BoardLayout getLayout() { return layout; }
+    /** @param tile Tile index
+     *  @return Current type of the tile */
+    public TileType getTileType(int tile) { return tileTypes.getType(tile); }
+    /** @param tile Tile index
+     *  @return True if the tile is a star tile whose star has been bought */
+    @Override
+    public boolean isStarTaken(int tile) { return starTaken[tile]; }
+    /** @return Number of players in the game */
+    @Override
+    public int getPlayerCount() { return playerCount; }
+    /** @return Index of the player whose turn it is */
+    public int getCurrentPlayer() { return currPlayerTurn; }
+    /** @param player Player index
+     *  @return Player's money */
+    public int getMoney(int player) { return money[player]; }
+    /** @param player Player index
+     *  @return Player's stars */
+    public int getStars(int player) { return stars[player]; }
+    /** @param player Player index
+     *  @return Value of the player's investment account */
+    public int getInvestments(int player) { return investments[player]; }
+    /** @param player Player index
+     *  @return Player's score, calculated at the end of the game */
+    public int getScore(int player) { return scores[player]; }
+    /** @param player Player index
+     *  @return Player's level */
+    public int getLevel(int player) { return levels[player]; }
+    /** @param player Player index
+     *  @return Tile the player is on */
+    @Override
+    public int getPosition(int player) { return positions[player]; }
+    /** @param player Player index
+     *  @return True if the player is frozen */
+    public boolean isFrozen(int player) { return frozen[player]; }
+    /** @param player Player index
+     *  @return True if the player has an active shield */
+    public boolean hasShield(int player) { return shields[player]; }
+    /** @param player Player index
+     *  @param stock Stock index
+     *  @return Number of shares the player owns of the stock */
+    public int getShares(int player, int stock) { return shares[player][stock]; }
+    /** @param player Player index
+     *  @param type Item type
+     *  @return Number of the item in the player's inventory */
+    public int getItemCount(int player, ItemType type) { return inventories[player][type.ordinal()]; }
+    /** @param type Item type
+     *  @return Number of the item available in the shop */
+    public int getShopItemCount(ItemType type) { return shopItems[type.ordinal()]; }
+    /** @return All available stocks */
+    @Override
+    public Stock[] getStocks() { return stocks; }
+    /** @return One path to each tile reachable by the current player. Each path starts at the player's tile */
+    public List<int[]> getReachablePaths() { return reachablePaths; }
+    /** @return Number rolled on the current turn, or 0 */
+    public int getDieRoll() { return dieRoll; }
+    /** @return True if the current player has a die roll remaining */
+    public boolean canRoll() { return rollsLeft > 0; }
+    /** @return True if the current player has a move remaining */
+    public boolean canMove() { return movesLeft > 0; }
+    /** @return True if hard mode is enabled */
+    @Override
+    public boolean getHardMode() { return hardMode; }
+    /** @return Seed of the game */
+    public long getSeed() { return random.getSeed(); }
+
+    /**
+     * Sets a player's level.
+     * @param player Player index
+     * @param level New level
+     */
+    public void setLevel(int player, int level) { levels[player] = level; }
+
+
+    /**
+     * View of one player's data in the engine's arrays.
+     */
+    private final class PlayerView implements PlayerModel {
+
+        /** Index of the player. */
+        private final int player;
+
+        /**
+         * Constructor for the view of a player.
+         * @param player Index of the player
+         */
+        private PlayerView(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public int getMoney() { return money[player]; }
+
+        @Override
+        public void setMoney(int amount) { money[player] = amount; }
+
+        @Override
+        public int getStars() { return stars[player]; }
+
+        @Override
+        public void setStars(int numStars) { stars[player] = numStars; }
+
+        @Override
+        public boolean useShield() { return GameEngine.this.useShield(player); }
+
+        @Override
+        public boolean isFrozen() { return frozen[player]; }
+
+        @Override
+        public void setFrozen(boolean isFrozen) {
+            if (isFrozen) GameEngine.this.setFrozen(player);
+            else frozen[player] = false;
+        }
+
+        @Override
+        public int getShares(int stock) { return shares[player][stock]; }
+
+        @Override
+        public void levelUp() { GameEngine.this.levelUp(player); }
+
+        @Override
+        public void calculateScore() { GameEngine.this.calculateScore(player); }
+    }
+}
@@ -0,0 +1,316 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Stock;
+
+/**
+ * Turn, round and tile rules shared by every model of a game.
+ * <br><br>
+ * Holds the order in which things happen at the end of each turn and round, the upkeep of star and penalty tiles,
+ * and the effects of penalties, written against the methods each model implements. {@link GameEngine} keeps its
+ * players in primitive arrays, while the game board's GameState keeps them in its Player objects, so both play by this
+ * one copy of the rules. Players are referred to by their index in the turn order, and tiles by their index in the
+ * board graph.
+ * @see Rules
+ */
+public abstract class GameModel {
+
+    /** Player whose turn it is at a given moment. */
+    protected int currPlayerTurn = 0;
+    /** Current turn number. */
+    protected int turnNumber = 0;
+    /** Current round number. */
+    protected int roundNumber = 1;
+    /**
+     * Indicates if the game has ended. <br><br>
+     * Set to true when the number of rounds exceeds the maximum number of rounds.
+     */
+    protected boolean gameOver = false;
+
+
+    /* State of the game, supplied by each model */
+
+    /** @return Number of players in the game */
+    public abstract int getPlayerCount();
+
+    /**
+     * Returns a player of the game.
+     * @param player Index of the player in the turn order
+     * @return The player
+     */
+    protected abstract PlayerModel getPlayerModel(int player);
+
+    /**
+     * Returns the tile a player is on.
+     * @param player Index of the player in the turn order
+     * @return Index of the tile
+     */
+    protected abstract int getPosition(int player);
+
+    /** @return True if hard mode is enabled */
+    public abstract boolean getHardMode();
+
+    /** @return Random streams of the game */
+    protected abstract GameRandom getRandom();
+
+    /** @return All available stocks */
+    protected abstract Stock[] getStocks();
+
+    /** @return Index from tile type to the tiles of that type */
+    protected abstract TileIndex getTileIndex();
+
+    /**
+     * Changes the type of a tile, keeping the tile type index in sync.
+     * @param tile Index of the tile
+     * @param type New type of the tile
+     */
+    protected abstract void setTileType(int tile, TileType type);
+
+    /**
+     * Checks if the star on a star tile has been bought.
+     * @param tile Index of the tile
+     * @return True if the star has been bought
+     */
+    protected abstract boolean isStarTaken(int tile);
+
+    /**
+     * Wipes the current player's calculated turn values, such as their die roll and reachable tiles.
+     */
+    protected abstract void endTurn();
+
+    /**
+     * Prepares the turn of the new current player. Does nothing unless a model has per-turn state to set up.
+     */
+    protected void startTurn() {}
+
+    /**
+     * Adds a random item to the shop.
+     */
+    protected abstract void restockItem();
+
+
+    /* Turns and rounds */
+
+    /**
+     * End the current player's turn, and start the next player's turn.
+     * <br><br>
+     * Frozen players skip their turn. Each turn, the per-turn dividend is paid to the new current player and the high
+     * risk stocks are updated.
+     */
+    public void nextTurn() {
+
+        // Wipe the player's calculated turn values
+        endTurn();
+        removeStar();
+        checkStar();
+        currPlayerTurn = (currPlayerTurn + 1) % getPlayerCount();
+        if (getPlayerModel(currPlayerTurn).isFrozen()) {
+            getPlayerModel(currPlayerTurn).setFrozen(false);
+            // Skip turn
+            currPlayerTurn = (currPlayerTurn + 1) % getPlayerCount();
+            turnNumber++;
+        }
+        startTurn();
+        turnNumber++;
+
+        // Paying out stocks that payout dividends every turn
+        payoutDividend(currPlayerTurn, Market.TURN_DIVIDEND_STOCK);
+        payoutDividend(currPlayerTurn, Market.TURN_DIVIDEND_STOCK);
+
+        // Updating high risk stocks
+        for (int stock : Market.TURN_STOCKS) {
+            getStocks()[stock].updatePrice();
+        }
+
+        nextRound();
+    }
+
+    /**
+     * Moves to the next round in the game, if every player has had their turn.
+     * <br><br>
+     * Each round, dividends are paid out and stocks are updated.
+     * Every 2 rounds, each player's level is increased.
+     * Every 5 rounds, new items are added to the shop.
+     * Every 7 rounds, the penalty tiles are checked.
+     */
+    protected void nextRound() {
+        if (Rules.isNewRound(turnNumber, getPlayerCount())) {
+            roundNumber++;
+
+            // Paying out dividend for safe and medium risk stocks for all players
+            for (int player = 0; player < getPlayerCount(); player++) {
+                for (int stock : Market.ROUND_STOCKS) {
+                    payoutDividend(player, stock);
+                }
+            }
+            for (int stock : Market.ROUND_STOCKS) {
+                getStocks()[stock].updatePrice();
+            }
+
+            // Check for game end
+            if (Rules.isGameOver(roundNumber)) {
+                for (int player = 0; player < getPlayerCount(); player++) {
+                    getPlayerModel(player).calculateScore();
+                }
+                gameOver = true;
+            }
+        }
+        if (Rules.isLevelUpRound(roundNumber)) {  // Player level increases every other round
+            for (int player = 0; player < getPlayerCount(); player++) {
+                getPlayerModel(player).levelUp();
+            }
+        }
+        if (Rules.isRestockRound(roundNumber)) {  // Every 5 rounds put random items in the shop
+            for (int i = 0; i < Rules.RESTOCK_ITEMS; i++) {
+                restockItem();
+            }
+        }
+        if (Rules.isPenaltyRound(roundNumber)) {
+            checkPenalty();
+        }
+    }
+
+    /**
+     * Payout dividend of stock to player.
+     *
+     * @param player Index of the player
+     * @param stock Stock's index
+     */
+    private void payoutDividend(int player, int stock) {
+        PlayerModel p = getPlayerModel(player);
+        p.setMoney(p.getMoney() + getStocks()[stock].dividendPay() * p.getShares(stock));
+    }
+
+
+    /* Tiles */
+
+    /**
+     * Adds a star to the game board. Run when there are fewer stars on the game board than a random limit between the
+     * minimum and maximum allowed number of stars.
+     */
+    protected void checkStar() {
+        int currentStar = getTileIndex().count(TileType.STAR);
+
+        int starLimit = getRandom().board().nextInt(Rules.MIN_STARS, Rules.MAX_STARS);
+        if (currentStar < starLimit) {  // Only add new star if there are fewer stars than the limit
+            setTileType(getTileIndex().random(TileType.NORMAL, getRandom().board()), TileType.STAR);
+        }
+    }
+
+    /**
+     * Convert the current player's tile back to a normal tile if it is a star tile whose star was bought.
+     */
+    protected void removeStar() {
+        int tile = getPosition(currPlayerTurn);
+        if (getTileIndex().getType(tile) == TileType.STAR && isStarTaken(tile)) {
+            setTileType(tile, TileType.NORMAL);
+        }
+    }
+
+    /**
+     * Check the number of penalty tiles on the board. Adds a penalty tile if there are fewer than a random limit,
+     * otherwise removes one if there are more than the minimum.
+     */
+    protected void checkPenalty() {
+        int currentPen = getTileIndex().count(TileType.PENALTY);
+
+        if (currentPen < getRandom().board().nextInt(Rules.MIN_PENALTIES, Rules.MAX_PENALTIES)) {
+            setTileType(getTileIndex().random(TileType.NORMAL, getRandom().board()), TileType.PENALTY);
+        }
+        else if (currentPen > Rules.MIN_PENALTIES) {
+            setTileType(getTileIndex().random(TileType.PENALTY, getRandom().board()), TileType.NORMAL);
+        }
+    }
+
+
+    /* Penalties */
+
+    /**
+     * Global penalty event for event tiles.
+     * <br><br>
+     * In easy mode, the penalty reduces all player's money by a given amount, unless it would make the player's money
+     * negative. In hard mode, it reduces all player's stars by 1. If the player does not have a star, it reduces their
+     * money by the given amount. If the player has a shield, they are protected from the penalty's effects.
+     *
+     * @param penaltyAmount Amount to reduce each player's money
+     */
+    public void globalPenaltyEvent(int penaltyAmount) {
+        for (int player = 0; player < getPlayerCount(); player++) {
+            PlayerModel p = getPlayerModel(player);
+            if (p.useShield()) continue;  // Player has shield -- consume shield to prevent penalty
+
+            if (getHardMode()) {
+                if (p.getStars() > 0) {
+                    p.setStars(p.getStars() - 1);  // Deduct one star
+                }
+                else {
+                    p.setMoney(p.getMoney() - penaltyAmount);  // Reduce money by penalty amount
+                }
+            }
+            else if (p.getMoney() - penaltyAmount >= 0) {  // Only if the player's money would not become negative
+                p.setMoney(p.getMoney() - penaltyAmount);
+            }
+        }
+    }
+
+    /**
+     * Applies the effect of landing on a penalty tile.
+     * <br><br>
+     * In easy mode, the player loses money, but not below zero. In hard mode, the player loses a star, or money if
+     * they have no stars. A shield protects the player and is used up.
+     *
+     * @param player Player who landed on the tile
+     * @param hardMode True if hard mode is enabled
+     */
+    public static void applyPenalty(PlayerModel player, boolean hardMode) {
+        if (player.useShield()) return;
+
+        if (!hardMode) {
+            player.setMoney(Math.max(0, player.getMoney() - Rules.PENALTY_AMOUNT));
+        }
+        else if (player.getStars() > 0) {
+            player.setStars(player.getStars() - 1);
+        }
+        else {
+            player.setMoney(player.getMoney() - Rules.PENALTY_AMOUNT);
+        }
+    }
+
+    /**
+     * Gives a player a star in exchange for its cost.
+     *
+     * @param player Player buying the star
+     * @param starCost Cost of the star
+     * @see Rules#starCost(boolean)
+     */
+    public static void payForStar(PlayerModel player, int starCost) {
+        player.setStars(player.getStars() + 1);
+        player.setMoney(player.getMoney() - starCost);
+    }
+
+
+    /* Getters */
+
+    /**
+     * Returns the current turn.
+     * @return Current turn number
+     */
+    public int getTurn() { return turnNumber; }
+
+    /**
+     * Returns the current round number.
+     * @return Current round number
+     */
+    public int getRound() { return roundNumber; }
+
+    /**
+     * Sets the current round number.
+     * @param round Round number
+     */
+    public void setRound(int round) { this.roundNumber = round; }
+
+    /**
+     * Checks if the game is over.
+     * @return True if the game is over, otherwise false
+     */
+    public boolean isGameOver() { return gameOver; }
+}
@@ -0,0 +1,90 @@
+package com.mygdx.game.Engine;
+
+/**
+ * Random source of a single game.
+ * <br><br>
+ * Every random event in a game is drawn from one of four independent streams, all derived from the game's seed. Keeping
+ * the streams apart means, for example, that buying an extra stock does not change the die rolls which follow. The
+ * seed and the state of every stream are saved with the game, so a game played from the same seed with the same
+ * choices always turns out the same way.
+ */
+public class GameRandom {
+
+    /** Seed the streams were derived from. */
+    private long seed;
+    /** Stream for die rolls. */
+    private RandomStream dice;
+    /** Stream for stock price and dividend changes. */
+    private RandomStream market;
+    /** Stream for starting positions, and star and penalty tile placement. */
+    private RandomStream board;
+    /** Stream for items added to the shop. */
+    private RandomStream items;
+
+
+    /**
+     * Constructor derives all streams from a seed.
+     * @param seed Seed of the game
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+
+        RandomStream root = new RandomStream(seed);
+        dice = root.split();
+        market = root.split();
+        board = root.split();
+        items = root.split();
+    }
+
+    /**
+     * Constructor restores a game's streams, as they were when the game was saved.
+     *
+     * @param seed Seed of the game
+     * @param dice Stream for die rolls
+     * @param market Stream for the stock market
+     * @param board Stream for board changes
+     * @param items Stream for items added to the shop
+     */
+    public GameRandom(long seed, RandomStream dice, RandomStream market, RandomStream board, RandomStream items) {
+        this.seed = seed;
+        this.dice = dice;
+        this.market = market;
+        this.board = board;
+        this.items = items;
+    }
+
+    /**
+     * Private no-arg constructor for deserialization
+     */
+    private GameRandom() {}
+
+    /**
+     * Returns the seed of the game.
+     * @return Seed the streams were derived from
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Returns the stream for die rolls. Each player may be given their own child stream with {@link RandomStream#split()}.
+     * @return Dice stream
+     */
+    public RandomStream dice() { return dice; }
+
+    /**
+     * Returns the stream for the stock market. Each stock is given its own child stream.
+     * @return Market stream
+     */
+    public RandomStream market() { return market; }
+
+    /**
+     * Returns the stream for board changes.
+     * @return Board stream
+     */
+    public RandomStream board() { return board; }
+
+    /**
+     * Returns the stream for items added to the shop.
+     * @return Items stream
+     */
+    public RandomStream items() { return items; }
+}
@@ -0,0 +1,61 @@
+package com.mygdx.game.Engine;
+
+/**
+ * Types of items which can be bought in the shop and used on the game board.
+ */
+public enum ItemType {
+
+    /** Allows the player to go to any tile on the map in one move. */
+    BIKE("Bike", 200),
+    /** Boosts the player up by 1 level. */
+    BOOK("Book", 50),
+    /** Freezes another player for one turn. */
+    FREEZE("FreezeItem", 100),
+    /** Rolls a second die on the player's next roll. */
+    MULTI_DICE("MultiDice", 50),
+    /** Protects the player from the next penalty. */
+    SHIELD("Shield", 150);
+
+    /** Name of the item. */
+    private final String name;
+    /** The cost of the item in the shop. */
+    private final int price;
+
+    /**
+     * Constructor for an item type.
+     *
+     * @param name Name of the item
+     * @param price Cost of the item in the shop
+     */
+    ItemType(String name, int price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    /**
+     * Returns the name of the item.
+     * @return Name of the item
+     */
+    public String getName() { return name; }
+
+    /**
+     * Returns the cost, in coins, needed to purchase the item.
+     * @return Price of the item
+     */
+    public int getPrice() { return price; }
+
+    /**
+     * Finds the item type with the given name.
+     *
+     * @param name Name of the item
+     * @return Item type with the given name
+     * @throws IllegalArgumentException If no item has the given name
+     */
+    public static ItemType fromName(String name) throws IllegalArgumentException {
+        for (ItemType type : values()) {
+            if (type.name.equals(name)) return type;
+        }
+
+        throw new IllegalArgumentException("Unknown item: " + name);
+    }
+}
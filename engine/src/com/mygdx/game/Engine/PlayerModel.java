@@ -0,0 +1,53 @@
+package com.mygdx.game.Engine;
+
+/**
+ * The parts of a player which the shared rules in {@link GameModel} read and change.
+ * <br><br>
+ * Implemented by the game board's Player, and by a view over one index of {@link GameEngine}'s player arrays.
+ */
+public interface PlayerModel {
+
+    /** @return Player's money */
+    int getMoney();
+
+    /** @param amount New value for the player's money */
+    void setMoney(int amount);
+
+    /** @return Player's stars */
+    int getStars();
+
+    /** @param numStars New value for the player's stars */
+    void setStars(int numStars);
+
+    /**
+     * Consumes the player's shield if they have one.
+     * @return True if the shield was active and is now used up, false if otherwise
+     */
+    boolean useShield();
+
+    /** @return True if the player must skip their next turn */
+    boolean isFrozen();
+
+    /**
+     * Sets the player's frozen state. Freezing a player with a shield consumes the shield instead.
+     * @param frozen True to freeze the player
+     */
+    void setFrozen(boolean frozen);
+
+    /**
+     * Returns the number of shares the player owns of a stock.
+     * @param stock Index of the stock
+     * @return Number of shares owned
+     */
+    int getShares(int stock);
+
+    /**
+     * Increases the player's level by one, unless they are already at the maximum level.
+     */
+    void levelUp();
+
+    /**
+     * Calculates and sets the player's score.
+     */
+    void calculateScore();
+}
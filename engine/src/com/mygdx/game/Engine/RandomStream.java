@@ -0,0 +1,156 @@
+package com.mygdx.game.Engine;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded source of random numbers which can be saved and restored.
+ * <br><br>
+ * Uses the SplitMix64 generator, whose entire state is a single long. Unlike {@link java.util.Random} and
+ * {@link java.util.SplittableRandom}, the state is a plain field, so a stream saved with the game carries on with the
+ * same sequence after loading. Independent child streams are created with {@link #split()}.
+ * <br><br>
+ * Streams are not thread safe. Each game owns its own streams.
+ * @see GameRandom
+ */
+public class RandomStream {
+
+    /** Added to the state on every step. The odd integer closest to 2^64 divided by the golden ratio. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    /** Varies the seeds of streams created without one, so streams created at the same time differ. */
+    private static final AtomicLong seedUniquifier = new AtomicLong(0x2545F4914F6CDD1DL);
+
+    /** Current state of the generator. */
+    private long state;
+
+
+    /**
+     * Constructor creates a stream with the given seed. Streams with the same seed produce the same numbers.
+     * @param seed Seed of the stream
+     */
+    public RandomStream(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Constructor creates a stream with a seed taken from the clock. Also used for deserialization.
+     */
+    public RandomStream() {
+        this(newSeed());
+    }
+
+    /**
+     * Creates a seed which is different every time it is called.
+     * @return New seed
+     */
+    public static long newSeed() {
+        return mix(System.nanoTime() ^ seedUniquifier.addAndGet(GOLDEN_GAMMA));
+    }
+
+    /**
+     * Scrambles the bits of a value. Consecutive values give unrelated results.
+     *
+     * @param value Value to scramble
+     * @return Scrambled value
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the current state of the stream. A stream created with the state as its seed carries on with the same
+     * numbers as this one.
+     * @return State of the stream
+     */
+    public long getState() { return state; }
+
+    /**
+     * Returns the next random long. All values are equally likely.
+     * @return Random long
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Returns a random value from 0 up to, but not including, the bound.
+     *
+     * @param bound Upper bound, exclusive
+     * @return Random value between 0 and bound - 1
+     * @throws IllegalArgumentException If the bound is not positive
+     */
+    public int nextInt(int bound) throws IllegalArgumentException {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+
+        // Scale the top 32 bits into the range. The bias is below 2^-32 for the small ranges used by the game
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Returns a random value within the range.
+     *
+     * @param min the minimum value of the range
+     * @param max the maximum value of the range
+     * @return Random value between min and max, inclusive
+     * @throws IllegalArgumentException If min is greater than max
+     */
+    public int nextInt(int min, int max) throws IllegalArgumentException {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum cannot be greater than maximum");
+        }
+
+        return (int) (min + (((nextLong() >>> 32) * ((long) max - min + 1)) >>> 32));
+    }
+
+    /**
+     * Returns a random value from 0 up to, but not including, 1.
+     * @return Random double
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Returns a random value from 0 up to, but not including, the bound.
+     * @param bound Upper bound, exclusive
+     * @return Random double
+     */
+    public double nextDouble(double bound) {
+        return nextDouble() * bound;
+    }
+
+    /**
+     * Returns a random boolean.
+     * @return True or false, with equal chance
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Creates a new stream whose numbers are unrelated to this stream's. Advances this stream by one step.
+     * @return Child stream
+     */
+    public RandomStream split() {
+        return new RandomStream(nextLong());
+    }
+
+    /**
+     * Shuffle the elements in the list.
+     * @param list List to shuffle
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int index = nextInt(i + 1);
+            T temp = list.get(index);
+            list.set(index, list.get(i));
+            list.set(i, temp);
+        }
+    }
+}
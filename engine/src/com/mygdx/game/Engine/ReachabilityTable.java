@@ -0,0 +1,135 @@
+package com.mygdx.game.Engine;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Memoized table of the paths reachable from each tile of a board graph.
+ * <br><br>
+ * The table can return every distinct path, or only one path to each reachable tile. The second mode is what a die
+ * roll needs, since a player only picks where to end up, and stays small on boards with many junctions where the
+ * number of distinct paths explodes.
+ * <br><br>
+ * Entries are keyed by (tile, previous tile, distance) and filled in the first time they are looked up, so a die roll
+ * is a lookup instead of a search. Links never change during a game, even when tiles change type, so one table is
+ * shared by every game played on the same board. The table is safe to use from several threads at once.
+ */
+public final class ReachabilityTable {
+
+    /** Longest distance stored in the table. Two dice are rolled with the multidice item. */
+    public static final int MAX_DISTANCE = Rules.DIE_SIDES * 2;
+    /** Largest number of links a tile can have. */
+    private static final int MAX_LINKS = 4;
+    /** Slots per tile: one per link the player could have come from, and one for no previous tile. */
+    private static final int SLOTS = MAX_LINKS + 1;
+    /** Empty result, shared by every search which finds nothing. */
+    private static final int[][] NO_PATHS = new int[0][];
+
+    /** Graph the paths are found on. */
+    private final BoardGraph graph;
+    /** Paths found so far, or null for entries not yet looked up. */
+    private final AtomicReferenceArray<int[][]> paths;
+    /** Paths to each reachable tile found so far, or null for entries not yet looked up. */
+    private final AtomicReferenceArray<int[][]> destinations;
+
+
+    /**
+     * Constructor creates an empty table. Use {@link BoardGraph#getReachability()} to share the graph's table.
+     *
+     * @param graph Graph to find paths on
+     */
+    public ReachabilityTable(BoardGraph graph) {
+        this.graph = graph;
+        this.paths = new AtomicReferenceArray<>(graph.size() * SLOTS * (MAX_DISTANCE + 1));
+        this.destinations = new AtomicReferenceArray<>(graph.size() * SLOTS * (MAX_DISTANCE + 1));
+    }
+
+    /**
+     * Returns all paths exactly {@code distance} tiles long starting from a tile. Paths never turn back on themselves.
+     * <br><br>
+     * The returned arrays are shared, and must not be modified.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, which cannot be moved back to, or -1
+     * @param distance Number of tiles to move
+     * @return Paths found, in the same order as {@link BoardGraph#findPaths(int, int, int, java.util.List)}. Each path
+     *         includes the starting tile
+     */
+    public int[][] getPaths(int start, int previous, int distance) {
+        if (distance < 1) return NO_PATHS;  // Nothing in reach
+        if (distance > MAX_DISTANCE) return search(start, previous, distance);  // Too long to be rolled, not stored
+
+        int key = key(start, previous, distance);
+        int[][] found = paths.get(key);
+        if (found == null) {
+            found = search(start, previous, distance);
+            if (!paths.compareAndSet(key, null, found)) found = paths.get(key);  // Keep the copy another thread stored
+        }
+
+        return found;
+    }
+
+    /**
+     * Returns one path to each tile exactly {@code distance} tiles away from a tile. Paths never turn back on
+     * themselves.
+     * <br><br>
+     * The path to each tile is the first one {@link #getPaths(int, int, int)} returns for that tile, so moving along
+     * it is the same as picking the first matching path from every path. The returned arrays are shared, and must not
+     * be modified.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, which cannot be moved back to, or -1
+     * @param distance Number of tiles to move
+     * @return Paths found, one per reachable tile, as returned by {@link BoardGraph#findDestinations(int, int, int)}.
+     *         Each path includes the starting tile
+     */
+    public int[][] getDestinations(int start, int previous, int distance) {
+        if (distance < 1) return NO_PATHS;  // Nothing in reach
+        if (distance > MAX_DISTANCE) return graph.findDestinations(start, previous, distance);  // Not stored
+
+        int key = key(start, previous, distance);
+        int[][] found = destinations.get(key);
+        if (found == null) {
+            found = graph.findDestinations(start, previous, distance);
+            if (found.length == 0) found = NO_PATHS;
+            if (!destinations.compareAndSet(key, null, found)) found = destinations.get(key);
+        }
+
+        return found;
+    }
+
+    /**
+     * Finds the table entry of a search.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, or -1
+     * @param distance Number of tiles to move, from 1 to {@link #MAX_DISTANCE}
+     * @return Index of the entry
+     */
+    private int key(int start, int previous, int distance) {
+        // Only the previous tile's place among the start tile's links matters
+        int slot = MAX_LINKS;
+        for (int link = 0; link < graph.degree(start); link++) {
+            if (graph.linkedTile(start, link) == previous) {
+                slot = link;
+                break;
+            }
+        }
+
+        return (start * SLOTS + slot) * (MAX_DISTANCE + 1) + distance;
+    }
+
+    /**
+     * Searches the graph for paths.
+     *
+     * @param start Tile to start from
+     * @param previous Tile the player came from, or -1
+     * @param distance Number of tiles to move
+     * @return Paths found
+     */
+    private int[][] search(int start, int previous, int distance) {
+        ArrayList<int[]> found = new ArrayList<>();
+        graph.findPaths(start, previous, distance, found);
+        return found.isEmpty() ? NO_PATHS : found.toArray(new int[0][]);
+    }
+}
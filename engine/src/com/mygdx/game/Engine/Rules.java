@@ -0,0 +1,138 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Config;
+
+/**
+ * Game rules shared by the game board and headless simulations.
+ * <br><br>
+ * Contains the amounts awarded and taken by each tile, the score formula, and the schedule of events which happen as
+ * the rounds progress.
+ */
+public final class Rules {
+
+    /* Players */
+
+    /** Money each player starts the game with. */
+    public static final int STARTING_MONEY = 500;
+    /** Number of sides on the die. */
+    public static final int DIE_SIDES = 4;
+    /** Points each star is worth in the final score. */
+    public static final int STAR_POINTS = 1000;
+
+    /* Tiles */
+
+    /** Money given to a player landing on a normal tile. */
+    public static final int NORMAL_TILE_MONEY = 25;
+    /** Money taken from a player landing on a penalty tile. */
+    public static final int PENALTY_AMOUNT = 50;
+    /** Money taken from every player when an event tile is landed on in normal mode. Doubled in hard mode. */
+    public static final int GLOBAL_PENALTY_AMOUNT = 50;
+    /** Cost of a star in normal mode. */
+    public static final int STAR_COST = 100;
+    /** Cost of a star in hard mode. */
+    public static final int HARD_STAR_COST = 250;
+    /** Cost to play the agility test minigame. */
+    public static final int AGILITY_TEST_COST = 100;
+
+    /* Board */
+
+    /** Maximum number of stars allowed on the gameboard at any given time. */
+    public static final int MAX_STARS = 3;
+    /** Minimum number of stars required on the gameboard at any given time. */
+    public static final int MIN_STARS = 1;
+    /** Maximum number of penalty tiles allowed on the gameboard at any given time. */
+    public static final int MAX_PENALTIES = 3;
+    /** Minimum number of penalty tiles required on the gameboard at any given time. */
+    public static final int MIN_PENALTIES = 1;
+
+    /* Shop */
+
+    /** Number of random items added to the shop on each restock round. */
+    public static final int RESTOCK_ITEMS = 3;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Rules() {}
+
+
+    /**
+     * Returns the cost of a star.
+     * @param hardMode True if hard mode is enabled
+     * @return Cost of a star
+     */
+    public static int starCost(boolean hardMode) {
+        return hardMode ? HARD_STAR_COST : STAR_COST;
+    }
+
+    /**
+     * Returns the money taken from every player when an event tile is landed on. In hard mode, the amount doubles
+     * every time the tile is landed on.
+     * @param previous Amount taken the last time the tile was landed on, or {@link #GLOBAL_PENALTY_AMOUNT}
+     * @param hardMode True if hard mode is enabled
+     * @return Penalty amount
+     */
+    public static int globalPenalty(int previous, boolean hardMode) {
+        return hardMode ? previous * 2 : previous;
+    }
+
+    /**
+     * Calculates a player's score using the formula:
+     * Score = 1000 * stars + money + investments
+     *
+     * @param stars Player's stars
+     * @param money Player's money
+     * @param investments Value of the player's investment account
+     * @return Player's score
+     */
+    public static int calculateScore(int stars, int money, int investments) {
+        return STAR_POINTS * stars + money + investments;
+    }
+
+    /**
+     * Checks if a new round starts after the given turn. A round ends once every player has had a turn.
+     *
+     * @param turnNumber Current turn number
+     * @param playerCount Number of players in the game
+     * @return True if a new round starts
+     */
+    public static boolean isNewRound(int turnNumber, int playerCount) {
+        return turnNumber % playerCount == 0 && turnNumber != 0;
+    }
+
+    /**
+     * Checks if players gain a level during the given round. Players level up every other round.
+     * @param round Round number
+     * @return True if players gain a level
+     */
+    public static boolean isLevelUpRound(int round) {
+        return round > 0 && round % 2 == 0;
+    }
+
+    /**
+     * Checks if new items are put in the shop during the given round. Happens every 5 rounds.
+     * @param round Round number
+     * @return True if new items are added to the shop
+     */
+    public static boolean isRestockRound(int round) {
+        return round > 0 && round % 5 == 0;
+    }
+
+    /**
+     * Checks if the penalty tiles are moved around during the given round. Happens every 7 rounds.
+     * @param round Round number
+     * @return True if the penalty tiles are checked
+     */
+    public static boolean isPenaltyRound(int round) {
+        return round > 0 && round % 7 == 0;
+    }
+
+    /**
+     * Checks if the game has ended. The game ends once the number of rounds exceeds the maximum number of rounds.
+     * @param round Round number
+     * @return True if the game is over
+     */
+    public static boolean isGameOver(int round) {
+        return round > Config.getInstance().getMaxRounds();
+    }
+}
@@ -0,0 +1,261 @@
+package com.mygdx.game.Engine;
+
+import java.util.Random;
+
+/**
+ * Counts how many scores fall at or below any given score, kept up to date as scores are added, changed and removed.
+ * <br><br>
+ * Scores are counted in an order-statistic tree: a treap with one node per distinct score, where each node also holds
+ * the number of scores below it in the tree. Adding or removing a score and counting the scores in a range are all
+ * logarithmic in the number of distinct scores, expected, and memory grows with the number of distinct scores rather
+ * than with the spread between them, so any score can be counted.
+ */
+public final class ScoreIndex {
+
+    /** Root of the tree, or null if no scores are counted. */
+    private Node root = null;
+    /** Random priorities which keep the tree balanced. Seeded so the tree's shape is the same on every run. */
+    private final Random priorities = new Random(0);
+    /** Number of scores counted. */
+    private int size = 0;
+
+
+    /**
+     * Counts a score.
+     *
+     * @param score Score to add
+     */
+    public void add(int score) {
+        root = insert(root, score);
+        size++;
+    }
+
+    /**
+     * Stops counting a score.
+     *
+     * @param score Score to remove
+     * @throws IllegalArgumentException If the score isn't counted
+     */
+    public void remove(int score) throws IllegalArgumentException {
+        if (!contains(score)) throw new IllegalArgumentException("Score " + score + " is not counted");
+
+        root = delete(root, score);
+        size--;
+    }
+
+    /**
+     * Replaces a counted score with a new one.
+     *
+     * @param oldScore Score to remove
+     * @param newScore Score to add
+     * @throws IllegalArgumentException If the old score isn't counted, in which case nothing changes
+     */
+    public void move(int oldScore, int newScore) throws IllegalArgumentException {
+        if (oldScore == newScore) return;
+
+        remove(oldScore);
+        add(newScore);
+    }
+
+    /**
+     * Returns the number of scores counted.
+     * @return Number of scores
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns the number of scores at or below a score.
+     *
+     * @param score Highest score to count
+     * @return Number of scores no higher than the score
+     */
+    public int countAtMost(long score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (score < node.score) {
+                node = node.left;
+            } else {
+                count += total(node.left) + node.count;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of scores in a range.
+     *
+     * @param low Lowest score to count
+     * @param high Highest score to count
+     * @return Number of scores from low to high, inclusive, or 0 if low is above high
+     */
+    public int countBetween(int low, int high) {
+        if (low > high) return 0;
+
+        return countAtMost(high) - countAtMost((long) low - 1);
+    }
+
+    /**
+     * Returns the rank of a score: one more than the number of higher scores. Equal scores share a rank.
+     *
+     * @param score Score to rank
+     * @return Rank of the score, where 1 is the highest
+     */
+    public int rank(int score) {
+        return size - countAtMost(score) + 1;
+    }
+
+    /**
+     * Returns the percentile of a score: the percentage of scores at or below it.
+     *
+     * @param score Score to rank
+     * @return Percentile from 0 to 100, rounded down, or 100 if no scores are counted
+     */
+    public int percentile(int score) {
+        if (size == 0) return 100;
+
+        return (int) (100L * countAtMost(score) / size);
+    }
+
+    /**
+     * Checks if a score is counted.
+     *
+     * @param score Score to find
+     * @return True if the score is counted at least once
+     */
+    private boolean contains(int score) {
+        Node node = root;
+        while (node != null && node.score != score) {
+            node = score < node.score ? node.left : node.right;
+        }
+        return node != null;
+    }
+
+    /**
+     * Counts a score in a subtree, adding a node for it if it isn't counted yet.
+     *
+     * @param node Root of the subtree, or null if it is empty
+     * @param score Score to add
+     * @return New root of the subtree
+     */
+    private Node insert(Node node, int score) {
+        if (node == null) return new Node(score, priorities.nextInt());
+
+        if (score == node.score) {
+            node.count++;
+        } else if (score < node.score) {
+            node.left = insert(node.left, score);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, score);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Stops counting a score in a subtree which counts it, removing its node once it is no longer counted.
+     *
+     * @param node Root of the subtree
+     * @param score Score to remove
+     * @return New root of the subtree, or null if it is now empty
+     */
+    private Node delete(Node node, int score) {
+        if (score < node.score) {
+            node.left = delete(node.left, score);
+        } else if (score > node.score) {
+            node.right = delete(node.right, score);
+        } else if (node.count > 1) {
+            node.count--;
+        } else {
+            return join(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two subtrees, where every score in the first is lower than every score in the second.
+     *
+     * @param low Subtree with the lower scores, or null
+     * @param high Subtree with the higher scores, or null
+     * @return Root of the joined subtree
+     */
+    private static Node join(Node low, Node high) {
+        if (low == null) return high;
+        if (high == null) return low;
+
+        if (low.priority > high.priority) {
+            low.right = join(low.right, high);
+            low.update();
+            return low;
+        }
+        high.left = join(low, high.left);
+        high.update();
+        return high;
+    }
+
+    /**
+     * Rotates a node's left child up into its place.
+     *
+     * @param node Node to rotate down
+     * @return Left child, now the root of the subtree
+     */
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    /**
+     * Rotates a node's right child up into its place.
+     *
+     * @param node Node to rotate down
+     * @return Right child, now the root of the subtree
+     */
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    /**
+     * Returns the number of scores counted in a subtree.
+     *
+     * @param node Root of the subtree, or null if it is empty
+     * @return Number of scores
+     */
+    private static int total(Node node) {
+        return node == null ? 0 : node.total;
+    }
+
+    /**
+     * One distinct score in the tree, with how many times it is counted.
+     */
+    private static final class Node {
+        final int score;
+        final int priority;
+        /** Number of times the score is counted. */
+        int count = 1;
+        /** Number of scores counted in this node's subtree. */
+        int total = 1;
+        Node left;
+        Node right;
+
+        Node(int score, int priority) {
+            this.score = score;
+            this.priority = priority;
+        }
+
+        /** Recounts the subtree's scores after its children changed. */
+        void update() {
+            total = ScoreIndex.total(left) + count + ScoreIndex.total(right);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mygdx.game.Engine;
+
+/**
+ * Index from tile type to the tiles of that type, kept up to date as tiles change type.
+ * <br><br>
+ * Each type keeps a dense array of its tiles, and each tile remembers its place in that array. Counting the tiles of a
+ * type, changing a tile's type and picking a random tile of a type are all constant time, whatever the board size.
+ */
+public final class TileIndex {
+
+    /** Current type of each tile. */
+    private final TileType[] types;
+    /** Tiles of each type, by type ordinal. Only the first {@code counts[type]} entries are in use. */
+    private final int[][] members;
+    /** Number of tiles of each type, by type ordinal. */
+    private final int[] counts;
+    /** Position of each tile in the member array of its type. */
+    private final int[] positions;
+
+
+    /**
+     * Constructor indexes the starting type of every tile.
+     *
+     * @param types Type of each tile
+     */
+    public TileIndex(TileType[] types) {
+        this.types = new TileType[types.length];
+        this.members = new int[TileType.values().length][types.length];
+        this.counts = new int[TileType.values().length];
+        this.positions = new int[types.length];
+        for (int tile = 0; tile < types.length; tile++) {
+            add(tile, types[tile]);
+        }
+    }
+
+    /**
+     * Returns the current type of a tile.
+     * @param tile Tile index
+     * @return Type of the tile
+     */
+    public TileType getType(int tile) { return types[tile]; }
+
+    /**
+     * Changes the type of a tile.
+     *
+     * @param tile Tile index
+     * @param type New type of the tile
+     */
+    public void setType(int tile, TileType type) {
+        if (types[tile] == type) return;
+
+        remove(tile);
+        add(tile, type);
+    }
+
+    /**
+     * Returns the number of tiles of a type.
+     * @param type Tile type
+     * @return Number of tiles of the type
+     */
+    public int count(TileType type) { return counts[type.ordinal()]; }
+
+    /**
+     * Returns a tile of a type. The order of the tiles changes as tiles change type.
+     *
+     * @param type Tile type
+     * @param i Position of the tile, from 0 to {@code count(type) - 1}
+     * @return Index of the tile
+     * @throws IndexOutOfBoundsException If there is no tile at the position
+     */
+    public int get(TileType type, int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= counts[type.ordinal()]) {
+            throw new IndexOutOfBoundsException("No " + type + " tile at " + i);
+        }
+
+        return members[type.ordinal()][i];
+    }
+
+    /**
+     * Picks a random tile of a type.
+     *
+     * @param type Tile type
+     * @param random Stream to draw from
+     * @return Index of the tile
+     * @throws IllegalStateException If there are no tiles of the type
+     */
+    public int random(TileType type, RandomStream random) throws IllegalStateException {
+        int count = counts[type.ordinal()];
+        if (count == 0) {
+            throw new IllegalStateException("No " + type + " tiles on the board");
+        }
+
+        return members[type.ordinal()][random.nextInt(count)];
+    }
+
+    /**
+     * Copies the tiles of a type.
+     *
+     * @param type Tile type
+     * @return Indices of every tile of the type
+     */
+    public int[] toArray(TileType type) {
+        int[] tiles = new int[counts[type.ordinal()]];
+        System.arraycopy(members[type.ordinal()], 0, tiles, 0, tiles.length);
+        return tiles;
+    }
+
+    /**
+     * Returns the number of tiles indexed.
+     * @return Number of tiles
+     */
+    public int size() { return types.length; }
+
+    /**
+     * Adds a tile to the member array of a type.
+     * @param tile Tile index
+     * @param type Type of the tile
+     */
+    private void add(int tile, TileType type) {
+        int t = type.ordinal();
+        types[tile] = type;
+        positions[tile] = counts[t];
+        members[t][counts[t]++] = tile;
+    }
+
+    /**
+     * Removes a tile from the member array of its type, moving the last member into its place.
+     * @param tile Tile index
+     */
+    private void remove(int tile) {
+        int t = types[tile].ordinal();
+        int last = members[t][--counts[t]];
+        members[t][positions[tile]] = last;
+        positions[last] = positions[tile];
+    }
+}
@@ -0,0 +1,57 @@
+package com.mygdx.game.Engine;
+
+/**
+ * Types of tiles found on the game board.
+ * <br><br>
+ * Each type has the numeric code used to describe it in board layouts, where 0 is reserved for walls.
+ */
+public enum TileType {
+
+    /** Plain tile. Gives the player a small amount of money. */
+    NORMAL(1),
+    /** Tile holding a star which can be purchased. */
+    STAR(2),
+    /** Tile which takes money or stars from the player who lands on it. */
+    PENALTY(3),
+    /** Event tile which takes money or stars from every player. */
+    EVENT(4),
+    /** Tile offering the agility test minigame. */
+    AGILITY(5);
+
+    /** Code used to represent the tile type in a board layout. */
+    private final int code;
+
+    /**
+     * Constructor for a tile type.
+     *
+     * @param code Code used to represent the tile type in a board layout
+     */
+    TileType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the code used to represent the tile type in a board layout.
+     * @return Layout code of the tile type
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Finds the tile type with the given layout code.
+     *
+     * @param code Layout code of the tile type
+     * @return Tile type with the given code, or null if the code represents a wall
+     * @throws IllegalArgumentException If the code does not represent a tile type or a wall
+     */
+    public static TileType fromCode(int code) throws IllegalArgumentException {
+        if (code == 0) return null;  // Wall
+
+        for (TileType type : values()) {
+            if (type.code == code) return type;
+        }
+
+        throw new IllegalArgumentException("Unknown tile code: " + code);
+    }
+}
@@ -0,0 +1,171 @@
+package com.mygdx.game.Engine.Tournament;
+
+import com.mygdx.game.Engine.GameEngine;
+import com.mygdx.game.Engine.RandomStream;
+import com.mygdx.game.Engine.ItemType;
+import com.mygdx.game.Engine.Rules;
+import com.mygdx.game.Engine.TileType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Built-in strategies for tournaments.
+ */
+public final class Strategies {
+
+    /** Money the investor keeps in hand before buying stocks. Enough to buy a star in hard mode. */
+    private static final int INVESTOR_RESERVE = Rules.HARD_STAR_COST;
+    /** Stock bought by the investor. The safe dividend stock pays out every round. */
+    private static final int INVESTOR_STOCK = 3;
+
+    /**
+     * Moves to a random reachable tile and buys every star it lands on.
+     */
+    public static final Strategy RANDOM = new Strategy() {
+        @Override
+        public String getName() { return "Random"; }
+
+        @Override
+        public void playTurn(GameEngine engine, RandomStream random) {
+            roll(engine);
+            if (canMove(engine)) {
+                List<int[]> paths = engine.getReachablePaths();
+                move(engine, paths.get(random.nextInt(paths.size())));
+            }
+            if (engine.canBuyStar()) engine.buyStar();
+        }
+    };
+
+    /**
+     * Heads for tiles with a star on them, avoiding penalty tiles, and keeps a shield up whenever it has one.
+     */
+    public static final Strategy STAR_HUNTER = new Strategy() {
+        @Override
+        public String getName() { return "Star Hunter"; }
+
+        @Override
+        public void playTurn(GameEngine engine, RandomStream random) {
+            int player = engine.getCurrentPlayer();
+            if (!engine.hasShield(player)) engine.useItem(ItemType.SHIELD);
+
+            roll(engine);
+            if (canMove(engine)) move(engine, bestPath(engine, random));
+            if (engine.canBuyStar()) engine.buyStar();
+        }
+    };
+
+    /**
+     * Avoids penalty tiles and buys stars, putting any money above a reserve into dividend stocks.
+     */
+    public static final Strategy INVESTOR = new Strategy() {
+        @Override
+        public String getName() { return "Investor"; }
+
+        @Override
+        public void playTurn(GameEngine engine, RandomStream random) {
+            roll(engine);
+            if (canMove(engine)) move(engine, bestPath(engine, random));
+            if (engine.canBuyStar()) engine.buyStar();
+
+            int player = engine.getCurrentPlayer();
+            while (engine.getMoney(player) - engine.getStocks()[INVESTOR_STOCK].getPrice() >= INVESTOR_RESERVE) {
+                if (!engine.buyStock(INVESTOR_STOCK)) break;
+            }
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Strategies() {}
+
+    /**
+     * Returns all built-in strategies.
+     * @return List of strategies
+     */
+    public static List<Strategy> all() {
+        return Arrays.asList(RANDOM, STAR_HUNTER, INVESTOR);
+    }
+
+    /**
+     * Finds the built-in strategy with the given name, ignoring case and spaces.
+     *
+     * @param name Name of the strategy
+     * @return Strategy with the given name
+     * @throws IllegalArgumentException If no strategy has the given name
+     */
+    public static Strategy fromName(String name) throws IllegalArgumentException {
+        for (Strategy strategy : all()) {
+            if (strategy.getName().replace(" ", "").equalsIgnoreCase(name.replace(" ", ""))) return strategy;
+        }
+
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+
+    /**
+     * Rolls the die if the current player can still roll.
+     * @param engine Game being played
+     */
+    private static void roll(GameEngine engine) {
+        if (engine.canRoll()) engine.rollDie();
+    }
+
+    /**
+     * Checks if the current player can still move and has a tile to move to. A player can be left with no reachable
+     * tiles on a board with dead ends, as they cannot go back the way they came.
+     *
+     * @param engine Game being played
+     * @return True if the player has a move remaining and at least one reachable tile
+     */
+    private static boolean canMove(GameEngine engine) {
+        return engine.canMove() && !engine.getReachablePaths().isEmpty();
+    }
+
+    /**
+     * Moves the current player along a path.
+     * @param engine Game being played
+     * @param path Path to follow
+     */
+    private static void move(GameEngine engine, int[] path) {
+        engine.move(path[path.length - 1]);
+    }
+
+    /**
+     * Chooses the path ending on the most valuable tile. Available stars are preferred, then any tile other than a
+     * penalty tile. Ties are broken randomly. There must be at least one reachable tile.
+     *
+     * @param engine Game being played
+     * @param random Random stream of the player's decisions
+     * @return Chosen path
+     */
+    private static int[] bestPath(GameEngine engine, RandomStream random) {
+        List<int[]> best = new ArrayList<>();
+        int bestValue = Integer.MIN_VALUE;
+        for (int[] path : engine.getReachablePaths()) {
+            int value = tileValue(engine, path[path.length - 1]);
+            if (value > bestValue) {
+                best.clear();
+                bestValue = value;
+            }
+            if (value == bestValue) best.add(path);
+        }
+
+        return best.get(random.nextInt(best.size()));
+    }
+
+    /**
+     * Scores a tile as a destination.
+     *
+     * @param engine Game being played
+     * @param tile Tile index
+     * @return Value of the tile. Higher is better
+     */
+    private static int tileValue(GameEngine engine, int tile) {
+        TileType type = engine.getTileType(tile);
+        if (type == TileType.STAR && !engine.isStarTaken(tile)) return 2;
+        if (type == TileType.PENALTY || type == TileType.EVENT) return 0;
+        return 1;
+    }
+}
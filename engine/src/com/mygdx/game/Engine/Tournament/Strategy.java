@@ -0,0 +1,29 @@
+package com.mygdx.game.Engine.Tournament;
+
+import com.mygdx.game.Engine.GameEngine;
+import com.mygdx.game.Engine.RandomStream;
+
+
+/**
+ * Decides how a simulated player plays their turns.
+ * <br><br>
+ * Strategies must not keep any state between calls, as a single instance is shared by every game of a tournament and
+ * games are played on several threads at once.
+ * @see TournamentRunner
+ */
+public interface Strategy {
+
+    /**
+     * Returns the name used to identify the strategy in tournament results.
+     * @return Name of the strategy
+     */
+    String getName();
+
+    /**
+     * Plays the current player's turn. Called once per turn, before the turn is ended by the runner.
+     *
+     * @param engine Game being played. The current player is the player using this strategy
+     * @param random Random stream of the player's decisions, used for any random decisions
+     */
+    void playTurn(GameEngine engine, RandomStream random);
+}
@@ -0,0 +1,122 @@
+package com.mygdx.game.Engine.Tournament;
+
+/**
+ * Totals collected for one strategy over the games of a tournament.
+ * <br><br>
+ * Every seat played by the strategy is counted once. Partial totals from different threads are combined with
+ * {@link #merge(StrategyStats)}.
+ */
+public class StrategyStats {
+
+    /** Width of each bucket of the score histogram. */
+    public static final int BUCKET_WIDTH = 1000;
+    /** Number of buckets in the score histogram. Scores past the last bucket are counted in it. */
+    public static final int BUCKET_COUNT = 20;
+
+    /** Name of the strategy. */
+    private final String name;
+    /** Number of seats played. */
+    private int seats = 0;
+    /** Number of seats which won their game. A tied win counts for every winner. */
+    private int wins = 0;
+    /** Sum of final scores. */
+    private long scoreSum = 0;
+    /** Sum of squared final scores. Used to find the standard deviation. */
+    private double scoreSquareSum = 0;
+    /** Lowest final score. */
+    private int minScore = Integer.MAX_VALUE;
+    /** Highest final score. */
+    private int maxScore = Integer.MIN_VALUE;
+    /** Number of final scores in each bucket. Negative scores are counted in the first bucket. */
+    private final int[] histogram = new int[BUCKET_COUNT];
+    /** Sum of stars held at the end of each game. */
+    private long starSum = 0;
+    /** Number of games ended without a single star. */
+    private int starlessGames = 0;
+    /** Sum of money held at the end of each game. */
+    private long moneySum = 0;
+    /** Sum of investment accounts at the end of each game. */
+    private long investmentSum = 0;
+
+    /**
+     * Constructor creates empty totals.
+     * @param name Name of the strategy
+     */
+    public StrategyStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records the outcome of one seat.
+     *
+     * @param score Final score
+     * @param stars Stars held at the end of the game
+     * @param money Money held at the end of the game
+     * @param investments Investment account at the end of the game
+     * @param won True if the seat won the game
+     */
+    public void record(int score, int stars, int money, int investments, boolean won) {
+        seats++;
+        if (won) wins++;
+        scoreSum += score;
+        scoreSquareSum += (double) score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        histogram[Math.max(0, Math.min(BUCKET_COUNT - 1, score / BUCKET_WIDTH))]++;
+        starSum += stars;
+        if (stars == 0) starlessGames++;
+        moneySum += money;
+        investmentSum += investments;
+    }
+
+    /**
+     * Adds another set of totals for the same strategy into this one.
+     * @param other Totals to add
+     */
+    public void merge(StrategyStats other) {
+        seats += other.seats;
+        wins += other.wins;
+        scoreSum += other.scoreSum;
+        scoreSquareSum += other.scoreSquareSum;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        starSum += other.starSum;
+        starlessGames += other.starlessGames;
+        moneySum += other.moneySum;
+        investmentSum += other.investmentSum;
+    }
+
+    /** @return Name of the strategy */
+    public String getName() { return name; }
+    /** @return Number of seats played */
+    public int getSeats() { return seats; }
+    /** @return Number of seats which won their game */
+    public int getWins() { return wins; }
+    /** @return Fraction of seats which won their game */
+    public double getWinRate() { return seats == 0 ? 0 : (double) wins / seats; }
+    /** @return Mean final score */
+    public double getMeanScore() { return seats == 0 ? 0 : (double) scoreSum / seats; }
+    /** @return Standard deviation of final scores */
+    public double getScoreDeviation() {
+        if (seats == 0) return 0;
+        double mean = getMeanScore();
+        return Math.sqrt(Math.max(0, scoreSquareSum / seats - mean * mean));
+    }
+    /** @return Lowest final score, or 0 if no seats were played */
+    public int getMinScore() { return seats == 0 ? 0 : minScore; }
+    /** @return Highest final score, or 0 if no seats were played */
+    public int getMaxScore() { return seats == 0 ? 0 : maxScore; }
+    /** @return Copy of the score histogram. Bucket i holds scores from i * BUCKET_WIDTH */
+    public int[] getHistogram() { return histogram.clone(); }
+    /** @return Mean stars held at the end of a game */
+    public double getMeanStars() { return seats == 0 ? 0 : (double) starSum / seats; }
+    /** @return Fraction of games ended without a single star */
+    public double getStarlessRate() { return seats == 0 ? 0 : (double) starlessGames / seats; }
+    /** @return Mean money held at the end of a game */
+    public double getMeanMoney() { return seats == 0 ? 0 : (double) moneySum / seats; }
+    /** @return Mean investment account at the end of a game */
+    public double getMeanInvestments() { return seats == 0 ? 0 : (double) investmentSum / seats; }
+}
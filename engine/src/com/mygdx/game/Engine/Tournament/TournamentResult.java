@@ -0,0 +1,120 @@
+package com.mygdx.game.Engine.Tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Results of a tournament, or of part of one while it is running.
+ * @see TournamentRunner
+ */
+public class TournamentResult {
+
+    /** Totals of each strategy, in the order the strategies were given to the runner. */
+    private final List<StrategyStats> stats = new ArrayList<>();
+    /** Number of games played. */
+    private int games = 0;
+    /** Wall clock time taken to play the games, in nanoseconds. */
+    private long elapsedNanos = 0;
+    /** Number of threads the games were played on. */
+    private int parallelism = 1;
+
+    /**
+     * Constructor creates empty results.
+     * @param strategies Strategies playing in the tournament
+     */
+    public TournamentResult(List<Strategy> strategies) {
+        for (Strategy strategy : strategies) {
+            stats.add(new StrategyStats(strategy.getName()));
+        }
+    }
+
+    /**
+     * Counts a finished game.
+     */
+    void addGame() { games++; }
+
+    /**
+     * Returns the totals of a strategy.
+     * @param strategy Index of the strategy
+     * @return Totals of the strategy
+     */
+    StrategyStats get(int strategy) { return stats.get(strategy); }
+
+    /**
+     * Adds the results of other games played by the same strategies into these results.
+     * @param other Results to add
+     */
+    void merge(TournamentResult other) {
+        games += other.games;
+        for (int i = 0; i < stats.size(); i++) {
+            stats.get(i).merge(other.stats.get(i));
+        }
+    }
+
+    /**
+     * Sets the time taken by the tournament.
+     * @param elapsedNanos Wall clock time, in nanoseconds
+     * @param parallelism Number of threads used
+     */
+    void setTiming(long elapsedNanos, int parallelism) {
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+    }
+
+    /** @return Totals of each strategy */
+    public List<StrategyStats> getStats() { return Collections.unmodifiableList(stats); }
+    /** @return Number of games played */
+    public int getGames() { return games; }
+    /** @return Wall clock time taken, in nanoseconds */
+    public long getElapsedNanos() { return elapsedNanos; }
+    /** @return Number of threads the games were played on */
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * Returns the number of games played per second.
+     * @return Throughput of the whole tournament
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Returns the number of games played per second by each thread.
+     * @return Throughput per core
+     */
+    public double getGamesPerSecondPerCore() {
+        return getGamesPerSecond() / parallelism;
+    }
+
+    /**
+     * Formats the results as a table.
+     * @return Human readable report
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%d games in %.2f s on %d threads: %.0f games/s, %.0f games/s/core%n",
+                games, elapsedNanos / 1e9, parallelism, getGamesPerSecond(), getGamesPerSecondPerCore()));
+        report.append(String.format(Locale.ROOT, "%-12s %7s %8s %9s %8s %7s %7s %9s %9s %9s %11s%n", "Strategy",
+                "Seats", "Win %", "Score", "StdDev", "Min", "Max", "Stars", "No star %", "Money", "Invested"));
+        for (StrategyStats s : stats) {
+            report.append(String.format(Locale.ROOT, "%-12s %7d %7.1f%% %9.0f %8.0f %7d %7d %9.2f %8.1f%% %9.0f %11.0f%n",
+                    s.getName(), s.getSeats(), s.getWinRate() * 100, s.getMeanScore(), s.getScoreDeviation(),
+                    s.getMinScore(), s.getMaxScore(), s.getMeanStars(), s.getStarlessRate() * 100, s.getMeanMoney(),
+                    s.getMeanInvestments()));
+        }
+
+        report.append(String.format(Locale.ROOT, "%nScore distribution (buckets of %d)%n", StrategyStats.BUCKET_WIDTH));
+        for (StrategyStats s : stats) {
+            report.append(String.format(Locale.ROOT, "%-12s", s.getName()));
+            for (int count : s.getHistogram()) {
+                report.append(String.format(Locale.ROOT, " %6d", count));
+            }
+            report.append(String.format("%n"));
+        }
+
+        return report.toString();
+    }
+}
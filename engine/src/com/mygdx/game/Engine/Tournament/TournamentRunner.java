@@ -0,0 +1,222 @@
+package com.mygdx.game.Engine.Tournament;
+
+import com.mygdx.game.Config;
+import com.mygdx.game.Engine.BoardFormat;
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.GameEngine;
+import com.mygdx.game.Engine.RandomStream;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many complete games between strategies in parallel and collects the results.
+ * <br><br>
+ * Games are split between the threads of a fork/join pool. Each game is played by the headless {@link GameEngine}
+ * until the maximum number of rounds is reached. The engine takes its turn, round and tile rules from
+ * {@link com.mygdx.game.Engine.GameModel}, the same rules the game board plays by. The number of players cycles
+ * through the allowed range, and strategies take turns sitting in each seat, so every strategy plays a similar mix of
+ * games. Game i of a tournament with a given seed is always played the same way, whatever the number of threads.
+ * <br><br>
+ * Can be run from the command line, on the default board or on any board file read by {@link BoardFormat}:
+ * {@code TournamentRunner [--board=file] [games] [normal|hard] [seed] [strategy...]}
+ */
+public class TournamentRunner {
+
+    /** Command line option naming the board file to play on. */
+    private static final String BOARD_OPTION = "--board=";
+    /** Number of games a task plays itself instead of splitting further. */
+    private static final int GAMES_PER_TASK = 32;
+
+    /** Strategies taking part. */
+    private final List<Strategy> strategies;
+    /** Layout of the board the games are played on. */
+    private final BoardLayout layout;
+    /** Fewest players in a game. */
+    private final int minPlayers;
+    /** Most players in a game. */
+    private final int maxPlayers;
+    /** Indicates if the games are played in hard mode. */
+    private final boolean hardMode;
+    /** Seed from which the seed of every game is derived. */
+    private final long seed;
+
+
+    /**
+     * Constructor for a tournament played on the default board by the allowed number of players.
+     *
+     * @param strategies Strategies taking part
+     * @param hardMode Controls if hard mode is enabled
+     * @param seed Seed from which the seed of every game is derived
+     * @throws IllegalArgumentException If no strategies are given
+     */
+    public TournamentRunner(List<Strategy> strategies, boolean hardMode, long seed) throws IllegalArgumentException {
+        this(strategies, BoardLayout.defaultLayout(), Config.getInstance().getMinPlayers(),
+                Config.getInstance().getMaxPlayers(), hardMode, seed);
+    }
+
+    /**
+     * Constructor for a tournament.
+     *
+     * @param strategies Strategies taking part
+     * @param layout Layout of the board the games are played on
+     * @param minPlayers Fewest players in a game
+     * @param maxPlayers Most players in a game
+     * @param hardMode Controls if hard mode is enabled
+     * @param seed Seed from which the seed of every game is derived
+     * @throws IllegalArgumentException If no strategies are given or the player range is invalid
+     */
+    public TournamentRunner(List<Strategy> strategies, BoardLayout layout, int minPlayers, int maxPlayers,
+                            boolean hardMode, long seed) throws IllegalArgumentException {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("Strategy list cannot be empty");
+        }
+        if (minPlayers < 1 || maxPlayers < minPlayers) {
+            throw new IllegalArgumentException("Invalid player range: " + minPlayers + " to " + maxPlayers);
+        }
+
+        this.strategies = new ArrayList<>(strategies);
+        this.layout = layout;
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.hardMode = hardMode;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the tournament on the common fork/join pool.
+     *
+     * @param games Number of games to play
+     * @return Results of the tournament
+     */
+    public TournamentResult run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the tournament.
+     *
+     * @param games Number of games to play
+     * @param pool Pool to play the games on
+     * @return Results of the tournament
+     */
+    public TournamentResult run(int games, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        TournamentResult result = pool.invoke(new GamesTask(this, 0, games));
+        result.setTiming(System.nanoTime() - start, Math.min(pool.getParallelism(), Math.max(1, games)));
+
+        return result;
+    }
+
+    /**
+     * Plays a single game of the tournament and adds its outcome to the results.
+     *
+     * @param game Index of the game in the tournament
+     * @param result Results to add the outcome to
+     */
+    void playGame(int game, TournamentResult result) {
+        long gameSeed = RandomStream.mix(seed + game);
+        int playerCount = minPlayers + game % (maxPlayers - minPlayers + 1);
+        GameEngine engine = new GameEngine(layout, playerCount, hardMode, gameSeed);
+        RandomStream random = new RandomStream(RandomStream.mix(gameSeed));
+
+        // Rotate strategies through the seats
+        int[] seats = new int[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            seats[player] = (game + player) % strategies.size();
+        }
+
+        while (!engine.isGameOver()) {
+            strategies.get(seats[engine.getCurrentPlayer()]).playTurn(engine, random);
+            engine.nextTurn();
+        }
+
+        int bestScore = Integer.MIN_VALUE;
+        for (int player = 0; player < playerCount; player++) {
+            bestScore = Math.max(bestScore, engine.getScore(player));
+        }
+        for (int player = 0; player < playerCount; player++) {
+            result.get(seats[player]).record(engine.getScore(player), engine.getStars(player),
+                    engine.getMoney(player), engine.getInvestments(player), engine.getScore(player) == bestScore);
+        }
+        result.addGame();
+    }
+
+    /**
+     * Plays a range of games, splitting it between threads when it is large.
+     */
+    private static final class GamesTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        /** Tournament the games belong to. */
+        private final TournamentRunner runner;
+        /** First game of the range. */
+        private final int from;
+        /** Game after the last game of the range. */
+        private final int to;
+
+        /**
+         * Constructor for a range of games.
+         * @param runner Tournament the games belong to
+         * @param from First game of the range
+         * @param to Game after the last game of the range
+         */
+        GamesTask(TournamentRunner runner, int from, int to) {
+            this.runner = runner;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                TournamentResult result = new TournamentResult(runner.strategies);
+                for (int game = from; game < to; game++) {
+                    runner.playGame(game, result);
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            GamesTask right = new GamesTask(runner, middle, to);
+            right.fork();
+            TournamentResult result = new GamesTask(runner, from, middle).compute();
+            result.merge(right.join());
+            return result;
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the results.
+     *
+     * @param args Optional {@code --board=file} naming the board to play on, then the number of games, "normal" or
+     *             "hard", seed, and the names of the strategies taking part. All are optional; by default 10000 normal
+     *             mode games are played on the default board by every built-in strategy
+     * @throws IOException If the board file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        BoardLayout layout = BoardLayout.defaultLayout();
+        if (args.length > 0 && args[0].startsWith(BOARD_OPTION)) {
+            layout = BoardFormat.load(Paths.get(args[0].substring(BOARD_OPTION.length())));
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        boolean hardMode = args.length > 1 && args[1].equalsIgnoreCase("hard");
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : RandomStream.newSeed();
+        List<Strategy> strategies = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            strategies.add(Strategies.fromName(args[i]));
+        }
+        if (strategies.isEmpty()) strategies.addAll(Strategies.all());
+
+        System.out.println((hardMode ? "Hard" : "Normal") + " mode, seed " + seed + ", " + layout.size() + " tiles");
+        System.out.print(new TournamentRunner(strategies, layout, Config.getInstance().getMinPlayers(),
+                Config.getInstance().getMaxPlayers(), hardMode, seed).run(games));
+    }
+}
@@ -1,5 +1,6 @@
 package com.mygdx.game;
-import java.util.Random;
+
+import com.mygdx.game.Engine.RandomStream;
 
 /**
  * Holds the logic for simulating the stock market fluctuation.
@@ -36,7 +37,7 @@ public class Stock {
     /** Represents the dividend's risk. */
     private int divRisk;
     /** Used to generate randomized aspects of stock change. */
-    private Random rand;
+    private RandomStream rand;
 
 
     /**
@@ -55,6 +56,26 @@ public class Stock {
      */
     public Stock(String name, int price, String description,
                  double mincg, double mincd, double maxcg, double maxcd, double divPay, int risk, int divRisk) {
+        this(name, price, description, mincg, mincd, maxcg, maxcd, divPay, risk, divRisk, new RandomStream());
+    }
+
+    /**
+     * Constructor for preset stocks whose changes are drawn from a game's random source.
+     *
+     * @param name Stock's name
+     * @param price Stock's current buy price per quantity
+     * @param description Description outlining the risks and reward of the stock.
+     * @param mincg Minimum growth change.
+     * @param mincd Minimum decline change.
+     * @param maxcg Maximum growth change.
+     * @param maxcd Maximum decline change
+     * @param divPay Dividend payout percentage
+     * @param risk Representation of the stock's risk.
+     * @param divRisk Representation of the dividend's risk.
+     * @param rand Stream used to generate randomized aspects of stock change. Owned by the stock from now on
+     */
+    public Stock(String name, int price, String description, double mincg, double mincd, double maxcg, double maxcd,
+                 double divPay, int risk, int divRisk, RandomStream rand) {
 
         // Initialize stock's attributes
         this.tickerName = name;
@@ -68,14 +89,32 @@ public class Stock {
         this.divPay = divPay;
         this.risk = risk;
         this.divRisk = divRisk;
-        this.rand = new Random();
+        this.rand = rand;
     }
 
     /**
      * Private no-arg constructor for serialization.
      */
     private Stock() {
-        rand = new Random();
+        rand = new RandomStream();  // Replaced by the saved stream, if the save has one
+    }
+
+    /**
+     * Restores the values which change during a game, as they were when the game was saved. Everything else about the
+     * stock is fixed by its definition in {@link com.mygdx.game.Engine.Market}.
+     *
+     * @param price Stock's buy price per quantity
+     * @param priceChange Percentage price changed since last update
+     * @param divPay Dividend payout percentage
+     * @param divPayChange Percentage dividend pay changed since last update
+     * @param rand Stream used to generate randomized aspects of stock change. Owned by the stock from now on
+     */
+    public void restore(int price, double priceChange, double divPay, double divPayChange, RandomStream rand) {
+        this.price = price;
+        this.priceChange = priceChange;
+        this.divPay = divPay;
+        this.divPayChange = divPayChange;
+        this.rand = rand;
     }
 
     /**
@@ -102,6 +141,12 @@ public class Stock {
      */
     public String getDescription() {return this.description;}
 
+    /**
+     * Returns the stream used to generate randomized aspects of stock change.
+     * @return Stock's random stream
+     */
+    public RandomStream getRandom() {return this.rand;}
+
     /**
      * Returns the stock's ticker name.
      * @return Stock ticker name
@@ -0,0 +1,157 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFormatTest {
+
+    @Test
+    void textRoundTrip() throws IOException {
+        BoardLayout layout = BoardLayout.defaultLayout();
+        StringWriter text = new StringWriter();
+        BoardFormat.writeText(layout, text);
+
+        BoardLayout read = BoardFormat.readText(new StringReader(text.toString()));
+        assertSameBoard(layout, read);
+        // Same tiles and links, so games on either board share one graph
+        assertSame(layout.getGraph(), read.getGraph());
+    }
+
+    @Test
+    void binaryRoundTrip() throws IOException {
+        BoardLayout layout = BoardLayout.defaultLayout();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BoardFormat.writeBinary(layout, bytes);
+
+        assertSameBoard(layout, BoardFormat.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void readText() throws IOException {
+        String text = "# Ring of four tiles\n"
+                + "board 1\n"
+                + "\n"
+                + "tiles\n"
+                + "1 2\n"
+                + "3 1\n"
+                + "directions\n"
+                + "2 3\n"
+                + "1 4\n";
+        BoardLayout layout = BoardFormat.read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(4, layout.size());
+        assertEquals(TileType.STAR, layout.getType(layout.indexOf(1, 2)));
+        assertEquals(TileType.PENALTY, layout.getType(layout.indexOf(0, 1)));
+        assertTrue(layout.hasDirection(layout.indexOf(0, 2), BoardLayout.EAST));
+    }
+
+    @Test
+    void invalidText() {
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(new StringReader("")));
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(new StringReader("board 2\n")));
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(new StringReader("board 1\n1 1\n")));
+
+        // Unknown tile code, with the line at fault in the message
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(
+                new StringReader("board 1\ntiles\n1 x\ndirections\n2 4\n")));
+        assertTrue(e.getMessage().startsWith("Line 3"));
+        // Direction leading into a wall
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(
+                new StringReader("board 1\ntiles\n1 1 0\ndirections\n2 2 0\n")));
+        // Tile with no way out
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.readText(
+                new StringReader("board 1\ntiles\n1 1\ndirections\n2 0\n")));
+    }
+
+    @Test
+    void invalidBinary() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BoardFormat.writeBinary(BoardLayout.defaultLayout(), bytes);
+        byte[] data = bytes.toByteArray();
+
+        byte[] truncated = java.util.Arrays.copyOf(data, data.length - 1);
+        assertThrows(EOFException.class, () -> BoardFormat.read(new ByteArrayInputStream(truncated)));
+
+        byte[] version = data.clone();
+        version[4] = 99;
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.read(new ByteArrayInputStream(version)));
+
+        // Tile count past the limit, and one within it that the file cannot back, fail without allocating for it
+        byte[] huge = {'F', 'F', 'B', 'D', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        assertThrows(IllegalArgumentException.class, () -> BoardFormat.read(new ByteArrayInputStream(huge)));
+        byte[] unbacked = {'F', 'F', 'B', 'D', 1, (byte) 0x80, (byte) 0x80, 0x40, 0, 0, 0x11};
+        assertThrows(EOFException.class, () -> BoardFormat.read(new ByteArrayInputStream(unbacked)));
+    }
+
+    @Test
+    void largeBoard() throws IOException {
+        BoardLayout layout = snake(102);
+        assertTrue(layout.size() > 10000);
+        BoardFormat.validate(layout);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BoardFormat.writeBinary(layout, bytes);
+        assertTrue(bytes.size() < layout.size() * 4);  // Compact: a few bytes per tile
+        BoardLayout read = BoardFormat.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertSameBoard(layout, read);
+
+        StringWriter text = new StringWriter();
+        BoardFormat.writeText(layout, text);
+        assertSameBoard(layout, BoardFormat.readText(new StringReader(text.toString())));
+    }
+
+    @Test
+    void load(@TempDir Path folder) throws IOException {
+        Path file = folder.resolve("default.board");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            BoardFormat.writeBinary(BoardLayout.defaultLayout(), out);
+        }
+
+        BoardLayout layout = BoardFormat.load(file);
+        assertSameBoard(BoardLayout.defaultLayout(), layout);
+        // Compiled once, then shared
+        assertSame(layout, BoardFormat.load(folder.resolve(".").resolve("default.board")));
+
+        assertThrows(IOException.class, () -> BoardFormat.load(folder.resolve("missing.board")));
+    }
+
+    /**
+     * Builds a square board of plain tiles, where every tile leads to the next one around a loop through every row.
+     *
+     * @param side Number of rows and columns. Must be even
+     * @return Layout of the board
+     */
+    private static BoardLayout snake(int side) {
+        int[][] map = new int[side][side];
+        int[][] direction = new int[side][side];
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                map[i][j] = 1;
+                // Snake east along even rows and west along odd rows, dropping a row at each end
+                boolean east = i % 2 == 0;
+                boolean end = east ? j == side - 1 : j == 1;
+                if (j == 0) direction[i][j] = i == 0 ? 2 : 1;  // Left column returns to the top
+                else if (end && i < side - 1) direction[i][j] = 3;
+                else if (end) direction[i][j] = 4;
+                else direction[i][j] = east ? 2 : 4;
+            }
+        }
+        return BoardLayout.fromGrid(map, direction);
+    }
+
+    private static void assertSameBoard(BoardLayout expected, BoardLayout actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int tile = 0; tile < expected.size(); tile++) {
+            int other = actual.indexOf(expected.getX(tile), expected.getY(tile));
+            assertNotEquals(-1, other);
+            assertEquals(expected.getType(tile), actual.getType(other));
+            assertEquals(expected.getDirections(tile), actual.getDirections(other));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGraphTest {
+    static private BoardLayout layout;
+    static private BoardGraph graph;
+
+    @BeforeAll
+    static void setUp() {
+        layout = BoardLayout.defaultLayout();
+        graph = layout.getGraph();
+        assertNotNull(graph);
+    }
+
+    @Test
+    void compile() {
+        assertEquals(layout.size(), graph.size());
+        assertSame(graph, layout.getGraph());  // Shared by every game on the layout
+        for (int tile = 0; tile < layout.size(); tile++) {
+            assertEquals(layout.getID(tile), graph.getID(tile));
+            assertEquals(tile, graph.indexOf(layout.getID(tile)));
+            assertEquals(tile, graph.indexOf(layout.getX(tile), layout.getY(tile)));
+        }
+
+        assertEquals(-1, graph.indexOf("9,8"));  // Wall
+        assertEquals(-1, graph.indexOf(null));
+    }
+
+    @Test
+    void links() {
+        int tile = graph.indexOf("7,6");  // Links north and west
+        assertEquals(2, graph.degree(tile));
+        assertEquals(graph.indexOf("7,7"), graph.linkedTile(tile, 0));
+        assertEquals(graph.indexOf("6,6"), graph.linkedTile(tile, 1));
+    }
+
+    @Test
+    void findPaths() {
+        // Line of three tiles, linked in both directions, with a branch north of the middle tile
+        int[] xs = {0, 1, 2, 1};
+        int[] ys = {0, 0, 0, 1};
+        int[] directions = {
+                BoardLayout.EAST,
+                BoardLayout.NORTH | BoardLayout.EAST | BoardLayout.WEST,
+                BoardLayout.WEST,
+                BoardLayout.SOUTH
+        };
+        BoardGraph line = new BoardGraph(xs, ys, directions);
+
+        List<int[]> paths = new ArrayList<>();
+        assertEquals(2, line.findPaths(0, -1, 2, paths));
+        assertArrayEquals(new int[] {0, 1, 3}, paths.get(0));  // North is tried first
+        assertArrayEquals(new int[] {0, 1, 2}, paths.get(1));
+
+        // Cannot move back to the previous tile
+        paths.clear();
+        assertEquals(2, line.findPaths(1, 0, 1, paths));
+        for (int[] path : paths) assertNotEquals(0, path[1]);
+
+        paths.clear();
+        assertEquals(0, line.findPaths(0, -1, 0, paths));
+        assertTrue(paths.isEmpty());
+    }
+
+    @Test
+    void missingNeighbour() {
+        // Direction enabled towards a wall is ignored
+        BoardGraph single = new BoardGraph(new int[] {0}, new int[] {0}, new int[] {BoardLayout.NORTH});
+        assertEquals(0, single.degree(0));
+    }
+
+    @Test
+    void duplicatePosition() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardGraph(new int[] {0, 0}, new int[] {0, 0}, new int[] {0, 0}));
+    }
+}
@@ -0,0 +1,76 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Config;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardLayoutTest {
+    static private BoardLayout layout;
+
+    @BeforeAll
+    static void setUp() {
+        layout = BoardLayout.defaultLayout();
+        assertNotNull(layout);
+    }
+
+    @Test
+    void loadedFromBoardFile() throws IOException {
+        assertSame(BoardFormat.load(Paths.get(Config.getInstance().getBoardPath())), layout);
+    }
+
+    @Test
+    void size() {
+        assertEquals(45, layout.size());
+    }
+
+    @Test
+    void indexOf() {
+        int tile = layout.indexOf(0, 8);  // Top-left corner of the default board
+        assertNotEquals(-1, tile);
+        assertEquals(0, layout.getX(tile));
+        assertEquals(8, layout.getY(tile));
+        assertEquals("0,8", layout.getID(tile));
+
+        assertEquals(-1, layout.indexOf(9, 8));  // Wall
+        assertEquals(-1, layout.indexOf(-1, 0));  // Off the board
+    }
+
+    @Test
+    void getType() {
+        assertEquals(TileType.STAR, layout.getType(layout.indexOf(2, 8)));
+        assertEquals(TileType.EVENT, layout.getType(layout.indexOf(2, 2)));
+        assertEquals(TileType.AGILITY, layout.getType(layout.indexOf(0, 7)));
+    }
+
+    @Test
+    void neighbour() {
+        int tile = layout.indexOf(7, 6);  // Links north and west
+        assertTrue(layout.hasDirection(tile, BoardLayout.NORTH));
+        assertTrue(layout.hasDirection(tile, BoardLayout.WEST));
+        assertFalse(layout.hasDirection(tile, BoardLayout.EAST));
+        assertEquals(layout.indexOf(7, 7), layout.neighbour(tile, BoardLayout.NORTH));
+        assertEquals(layout.indexOf(6, 6), layout.neighbour(tile, BoardLayout.WEST));
+    }
+
+    @Test
+    void directionMask() {
+        assertEquals(0, BoardLayout.directionMask(0));
+        assertEquals(BoardLayout.SOUTH, BoardLayout.directionMask(3));
+        assertEquals(BoardLayout.NORTH | BoardLayout.EAST, BoardLayout.directionMask(12));
+        assertThrows(IllegalArgumentException.class, () -> BoardLayout.directionMask(5));
+    }
+
+    @Test
+    void duplicatePosition() {
+        int[] xs = {0, 0};
+        int[] ys = {1, 1};
+        int[] directions = {0, 0};
+        TileType[] types = {TileType.NORMAL, TileType.NORMAL};
+        assertThrows(IllegalArgumentException.class, () -> new BoardLayout(xs, ys, directions, types));
+    }
+}
@@ -0,0 +1,168 @@
+package com.mygdx.game.Engine;
+
+import com.mygdx.game.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine(BoardLayout.defaultLayout(), 3, false, 42);
+    }
+
+    @Test
+    void initialState() {
+        assertEquals(3, engine.getPlayerCount());
+        assertEquals(1, engine.getRound());
+        assertEquals(0, engine.getTurn());
+        for (int player = 0; player < 3; player++) {
+            assertEquals(Rules.STARTING_MONEY, engine.getMoney(player));
+            assertEquals(TileType.NORMAL, engine.getTileType(engine.getPosition(player)));
+            for (ItemType type : ItemType.values()) {
+                assertEquals(1, engine.getItemCount(player, type));
+            }
+        }
+        // Players never share a starting tile
+        assertNotEquals(engine.getPosition(0), engine.getPosition(1));
+        assertNotEquals(engine.getPosition(1), engine.getPosition(2));
+        assertNotEquals(engine.getPosition(0), engine.getPosition(2));
+    }
+
+    @Test
+    void emptyPlayerList() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(BoardLayout.defaultLayout(), 0, false, 1));
+    }
+
+    @Test
+    void rollDie() {
+        int roll = engine.rollDie();
+        assertTrue(roll >= 1 && roll <= Rules.DIE_SIDES);
+        assertFalse(engine.canRoll());
+        assertThrows(IllegalStateException.class, () -> engine.rollDie());
+
+        assertFalse(engine.getReachablePaths().isEmpty());
+        for (int[] path : engine.getReachablePaths()) {
+            assertEquals(roll + 1, path.length);
+            assertEquals(engine.getPosition(0), path[0]);
+        }
+    }
+
+    @Test
+    void move() {
+        engine.rollDie();
+        int[] path = engine.getReachablePaths().get(0);
+        int destination = path[path.length - 1];
+        engine.move(destination);
+
+        assertEquals(destination, engine.getPosition(0));
+        assertFalse(engine.canMove());
+        assertThrows(IllegalStateException.class, () -> engine.move(destination));
+    }
+
+    @Test
+    void invalidMove() {
+        engine.rollDie();
+        assertThrows(IllegalArgumentException.class, () -> engine.move(engine.getPosition(0)));
+    }
+
+    @Test
+    void nextTurn() {
+        engine.nextTurn();
+        assertEquals(1, engine.getCurrentPlayer());
+        assertEquals(1, engine.getTurn());
+        assertTrue(engine.canRoll());
+
+        engine.nextTurn();
+        engine.nextTurn();
+        assertEquals(0, engine.getCurrentPlayer());
+        assertEquals(2, engine.getRound());
+    }
+
+    @Test
+    void freeze() {
+        assertTrue(engine.useItem(ItemType.FREEZE));
+        assertTrue(engine.isFrozen(1));
+        assertEquals(0, engine.getItemCount(0, ItemType.FREEZE));
+
+        engine.nextTurn();  // Player 1 skips their turn
+        assertEquals(2, engine.getCurrentPlayer());
+        assertFalse(engine.isFrozen(1));
+    }
+
+    @Test
+    void shield() {
+        assertTrue(engine.useItem(ItemType.SHIELD));
+        assertFalse(engine.useItem(ItemType.SHIELD));  // Only one shield can be active
+
+        engine.globalPenaltyEvent(Rules.GLOBAL_PENALTY_AMOUNT);
+        assertEquals(Rules.STARTING_MONEY, engine.getMoney(0));
+        assertFalse(engine.hasShield(0));
+        assertEquals(Rules.STARTING_MONEY - Rules.GLOBAL_PENALTY_AMOUNT, engine.getMoney(1));
+    }
+
+    @Test
+    void bike() {
+        assertTrue(engine.useItem(ItemType.BIKE));
+        assertFalse(engine.canRoll());
+        assertEquals(engine.getLayout().size() - 1, engine.getReachablePaths().size());
+    }
+
+    @Test
+    void buyStock() {
+        int price = engine.getStocks()[0].getPrice();
+        assertTrue(engine.buyStock(0));
+        assertEquals(1, engine.getShares(0, 0));
+        assertEquals(Rules.STARTING_MONEY - price, engine.getMoney(0));
+
+        assertTrue(engine.sellStock(0));
+        assertFalse(engine.sellStock(0));
+        assertEquals(0, engine.getShares(0, 0));
+    }
+
+    @Test
+    void deterministic() {
+        GameEngine first = new GameEngine(BoardLayout.defaultLayout(), 4, true, 7);
+        GameEngine second = new GameEngine(BoardLayout.defaultLayout(), 4, true, 7);
+        for (int player = 0; player < 4; player++) {
+            assertEquals(first.getPosition(player), second.getPosition(player));
+        }
+        for (int turn = 0; turn < 40; turn++) {
+            assertEquals(first.rollDie(), second.rollDie());
+            first.buyStock(turn % Market.STOCK_COUNT);
+            second.buyStock(turn % Market.STOCK_COUNT);
+            first.nextTurn();
+            second.nextTurn();
+        }
+        for (int player = 0; player < 4; player++) {
+            assertEquals(first.getMoney(player), second.getMoney(player));
+            assertEquals(first.getInvestments(player), second.getInvestments(player));
+        }
+        for (int tile = 0; tile < first.getLayout().size(); tile++) {
+            assertEquals(first.getTileType(tile), second.getTileType(tile));
+        }
+        assertEquals(7, first.getSeed());
+    }
+
+    @Test
+    void gameOver() {
+        while (!engine.isGameOver()) {
+            if (engine.canRoll()) {
+                engine.rollDie();
+                int[] path = engine.getReachablePaths().get(0);
+                engine.move(path[path.length - 1]);
+            }
+            if (engine.canBuyStar()) engine.buyStar();
+            engine.nextTurn();
+        }
+
+        assertEquals(Config.getInstance().getMaxRounds() + 1, engine.getRound());
+        for (int player = 0; player < 3; player++) {
+            assertEquals(Rules.calculateScore(engine.getStars(player), engine.getMoney(player),
+                    engine.getInvestments(player)), engine.getScore(player));
+        }
+    }
+}
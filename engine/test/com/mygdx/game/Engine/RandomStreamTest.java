@@ -0,0 +1,79 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamTest {
+
+    @Test
+    void sameSeed() {
+        RandomStream first = new RandomStream(99);
+        RandomStream second = new RandomStream(99);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    void nextInt() {
+        RandomStream stream = new RandomStream(1);
+        assertThrows(IllegalArgumentException.class, () -> stream.nextInt(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> stream.nextInt(0));
+
+        boolean[] seen = new boolean[11];
+        for (int i = 0; i < 1000; i++) {
+            int generated = stream.nextInt(0, 10);
+            assertTrue(generated >= 0 && generated <= 10);
+            seen[generated] = true;
+        }
+        for (boolean value : seen) {
+            assertTrue(value);  // Every value in the range comes up
+        }
+
+        assertEquals(Integer.MAX_VALUE, new RandomStream(2).nextInt(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void nextDouble() {
+        RandomStream stream = new RandomStream(3);
+        for (int i = 0; i < 1000; i++) {
+            double generated = stream.nextDouble(2.5);
+            assertTrue(generated >= 0 && generated < 2.5);
+        }
+    }
+
+    @Test
+    void split() {
+        RandomStream parent = new RandomStream(4);
+        RandomStream child = parent.split();
+        assertNotEquals(parent.nextLong(), child.nextLong());
+
+        // Splitting is part of the sequence, so it is reproducible too
+        RandomStream copy = new RandomStream(4);
+        assertEquals(new RandomStream(4).split().nextLong(), copy.split().nextLong());
+    }
+
+    @Test
+    void shuffle() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8));
+        List<Integer> other = new ArrayList<>(list);
+        new RandomStream(5).shuffle(list);
+        new RandomStream(5).shuffle(other);
+
+        assertEquals(list, other);
+        assertTrue(list.containsAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8)));
+    }
+
+    @Test
+    void gameRandom() {
+        GameRandom random = new GameRandom(6);
+        assertEquals(6, random.getSeed());
+        assertNotEquals(random.dice().nextLong(), random.market().nextLong());
+        assertEquals(new GameRandom(6).board().nextLong(), new GameRandom(6).board().nextLong());
+    }
+}
@@ -0,0 +1,118 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachabilityTableTest {
+    static private BoardGraph graph;
+    static private ReachabilityTable table;
+
+    @BeforeAll
+    static void setUp() {
+        graph = BoardLayout.defaultLayout().getGraph();
+        table = graph.getReachability();
+        assertNotNull(table);
+    }
+
+    @Test
+    void shared() {
+        assertSame(table, graph.getReachability());
+        assertSame(graph, BoardGraph.compile(BoardLayout.defaultLayout()));
+    }
+
+    @Test
+    void matchesSearch() {
+        // Every entry matches a fresh search, whatever tile the player came from
+        for (int tile = 0; tile < graph.size(); tile++) {
+            for (int previous = -1; previous < graph.size(); previous++) {
+                for (int distance = 1; distance <= ReachabilityTable.MAX_DISTANCE; distance++) {
+                    List<int[]> expected = new ArrayList<>();
+                    graph.findPaths(tile, previous, distance, expected);
+                    int[][] paths = table.getPaths(tile, previous, distance);
+                    assertEquals(expected.size(), paths.length);
+                    for (int i = 0; i < paths.length; i++) {
+                        assertArrayEquals(expected.get(i), paths[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void destinationsMatchSearch() {
+        // One path per tile, which is the first path to that tile found by a full search
+        for (int tile = 0; tile < graph.size(); tile++) {
+            for (int previous = -1; previous < graph.size(); previous++) {
+                for (int distance = 1; distance <= ReachabilityTable.MAX_DISTANCE; distance++) {
+                    List<int[]> expected = new ArrayList<>();
+                    Set<Integer> ends = new HashSet<>();
+                    for (int[] path : table.getPaths(tile, previous, distance)) {
+                        if (ends.add(path[path.length - 1])) expected.add(path);
+                    }
+                    int[][] destinations = table.getDestinations(tile, previous, distance);
+                    assertEquals(expected.size(), destinations.length);
+                    for (int i = 0; i < destinations.length; i++) {
+                        assertArrayEquals(expected.get(i), destinations[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void destinationsOnGrid() {
+        // Open 20x20 grid linked in every direction. Paths 30 tiles long number in the trillions
+        int side = 20;
+        int[] xs = new int[side * side];
+        int[] ys = new int[side * side];
+        int[] directions = new int[side * side];
+        for (int i = 0; i < side * side; i++) {
+            xs[i] = i % side;
+            ys[i] = i / side;
+            directions[i] = BoardLayout.NORTH | BoardLayout.EAST | BoardLayout.SOUTH | BoardLayout.WEST;
+        }
+        BoardGraph grid = new BoardGraph(xs, ys, directions);
+
+        int start = grid.indexOf(10, 10);
+        int[][] destinations = grid.findDestinations(start, -1, 30);
+        // Every tile an even number of steps away can be reached, including the start by going around a loop
+        assertEquals(side * side / 2, destinations.length);
+        Set<Integer> ends = new HashSet<>();
+        for (int[] path : destinations) {
+            assertEquals(31, path.length);
+            assertEquals(start, path[0]);
+            for (int step = 1; step < path.length; step++) {
+                int dx = Math.abs(grid.getX(path[step]) - grid.getX(path[step - 1]));
+                int dy = Math.abs(grid.getY(path[step]) - grid.getY(path[step - 1]));
+                assertEquals(1, dx + dy);  // Each step follows a link
+                if (step > 1) assertNotEquals(path[step - 2], path[step]);  // Never turns back
+            }
+            assertTrue(ends.add(path[path.length - 1]));  // One path per tile
+        }
+    }
+
+    @Test
+    void memoized() {
+        int tile = graph.indexOf("7,3");
+        int previous = graph.indexOf("7,2");
+        assertSame(table.getPaths(tile, previous, 4), table.getPaths(tile, previous, 4));
+        assertSame(table.getDestinations(tile, previous, 4), table.getDestinations(tile, previous, 4));
+    }
+
+    @Test
+    void outOfRange() {
+        int tile = graph.indexOf("7,3");
+        assertEquals(0, table.getPaths(tile, -1, 0).length);
+
+        List<int[]> expected = new ArrayList<>();
+        graph.findPaths(tile, -1, ReachabilityTable.MAX_DISTANCE + 1, expected);
+        assertEquals(expected.size(), table.getPaths(tile, -1, ReachabilityTable.MAX_DISTANCE + 1).length);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreIndexTest {
+
+    @Test
+    void rankAndPercentile() {
+        ScoreIndex index = new ScoreIndex();
+        for (int score : new int[] {10, 40, 20, 40, 0}) {
+            index.add(score);
+        }
+
+        assertEquals(5, index.size());
+        assertEquals(1, index.rank(40));  // Equal scores share a rank
+        assertEquals(3, index.rank(20));
+        assertEquals(5, index.rank(0));
+        assertEquals(100, index.percentile(40));
+        assertEquals(60, index.percentile(20));
+        assertEquals(20, index.percentile(0));
+        assertEquals(4, index.countBetween(10, 40));
+        assertEquals(0, index.countBetween(40, 10));
+    }
+
+    @Test
+    void moveAndRemove() {
+        ScoreIndex index = new ScoreIndex();
+        index.add(5);
+        index.add(7);
+        index.move(5, 9);
+
+        assertEquals(1, index.rank(9));
+        assertEquals(2, index.rank(7));
+        index.remove(9);
+        assertEquals(1, index.size());
+        assertEquals(1, index.rank(7));
+        assertThrows(IllegalArgumentException.class, () -> index.remove(9));
+        assertThrows(IllegalArgumentException.class, () -> index.remove(-100));
+    }
+
+    @Test
+    void countsScoresFarApart() {
+        ScoreIndex index = new ScoreIndex();
+        index.add(3);
+        index.add(Integer.MAX_VALUE);
+        index.add(Integer.MIN_VALUE);
+        index.add(-250);
+
+        assertEquals(1, index.rank(Integer.MAX_VALUE));
+        assertEquals(2, index.rank(3));
+        assertEquals(4, index.rank(Integer.MIN_VALUE));
+        assertEquals(3, index.countBetween(Integer.MIN_VALUE, 3));
+        assertEquals(4, index.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        // A move of a score which isn't counted leaves every score counted
+        assertThrows(IllegalArgumentException.class, () -> index.move(4, 20));
+        assertEquals(4, index.size());
+        index.move(Integer.MAX_VALUE, 20);
+        assertEquals(1, index.rank(20));
+        assertEquals(0, index.countBetween(21, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void matchesSortedScores() {
+        Random random = new Random(42);
+        ScoreIndex index = new ScoreIndex();
+        List<Integer> scores = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!scores.isEmpty() && random.nextInt(4) == 0) {
+                index.remove(scores.remove(random.nextInt(scores.size())));
+            } else {
+                int score = random.nextInt(5000) - 1000;
+                scores.add(score);
+                index.add(score);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int score = random.nextInt(7000) - 2000;
+            long higher = scores.stream().filter(s -> s > score).count();
+            long atMost = scores.size() - higher;
+            assertEquals(higher + 1, index.rank(score));
+            assertEquals(atMost, index.countAtMost(score));
+        }
+    }
+}
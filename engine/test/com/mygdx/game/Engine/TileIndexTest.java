@@ -0,0 +1,62 @@
+package com.mygdx.game.Engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileIndexTest {
+    private TileIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TileIndex(new TileType[] {
+                TileType.NORMAL, TileType.STAR, TileType.NORMAL, TileType.PENALTY, TileType.NORMAL
+        });
+    }
+
+    @Test
+    void count() {
+        assertEquals(5, index.size());
+        assertEquals(3, index.count(TileType.NORMAL));
+        assertEquals(1, index.count(TileType.STAR));
+        assertEquals(1, index.count(TileType.PENALTY));
+        assertEquals(0, index.count(TileType.EVENT));
+    }
+
+    @Test
+    void setType() {
+        index.setType(0, TileType.STAR);
+        assertEquals(TileType.STAR, index.getType(0));
+        assertEquals(2, index.count(TileType.NORMAL));
+        assertEquals(2, index.count(TileType.STAR));
+
+        // Remaining normal tiles are still indexed after the swap
+        Set<Integer> normal = new HashSet<>();
+        for (int tile : index.toArray(TileType.NORMAL)) normal.add(tile);
+        assertEquals(Set.of(2, 4), normal);
+
+        index.setType(1, TileType.NORMAL);
+        index.setType(0, TileType.NORMAL);
+        assertEquals(4, index.count(TileType.NORMAL));
+        assertEquals(0, index.count(TileType.STAR));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(TileType.STAR, 0));
+    }
+
+    @Test
+    void random() {
+        RandomStream stream = new RandomStream(1);
+        Set<Integer> picked = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            int tile = index.random(TileType.NORMAL, stream);
+            assertEquals(TileType.NORMAL, index.getType(tile));
+            picked.add(tile);
+        }
+        assertEquals(3, picked.size());
+
+        assertThrows(IllegalStateException.class, () -> index.random(TileType.EVENT, stream));
+    }
+}
@@ -0,0 +1,94 @@
+package com.mygdx.game.Engine.Tournament;
+
+import com.mygdx.game.Engine.BoardLayout;
+import com.mygdx.game.Engine.TileType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentRunnerTest {
+
+    @Test
+    void run() {
+        TournamentRunner runner = new TournamentRunner(Strategies.all(), false, 1);
+        TournamentResult result = runner.run(200, new ForkJoinPool(2));
+
+        assertEquals(200, result.getGames());
+        assertTrue(result.getGamesPerSecondPerCore() > 0);
+
+        int seats = 0;
+        int wins = 0;
+        for (StrategyStats stats : result.getStats()) {
+            seats += stats.getSeats();
+            wins += stats.getWins();
+            assertTrue(stats.getWinRate() >= 0 && stats.getWinRate() <= 1);
+            assertTrue(stats.getMinScore() <= stats.getMeanScore());
+            assertTrue(stats.getMeanScore() <= stats.getMaxScore());
+        }
+        // Player counts cycle from 2 to 5, so 200 games seat 700 players
+        assertEquals(700, seats);
+        assertTrue(wins >= 200);  // Every game has at least one winner
+    }
+
+    @Test
+    void hardMode() {
+        TournamentRunner runner = new TournamentRunner(Collections.singletonList(Strategies.STAR_HUNTER), true, 2);
+        TournamentResult result = runner.run(50);
+
+        StrategyStats stats = result.getStats().get(0);
+        assertEquals("Star Hunter", stats.getName());
+        assertEquals(173, stats.getSeats());  // Every seat is played by the same strategy
+        assertTrue(stats.getWins() >= 50);
+    }
+
+    @Test
+    void deterministic() {
+        TournamentRunner runner = new TournamentRunner(Strategies.all(), false, 3);
+        TournamentResult first = runner.run(64, new ForkJoinPool(1));
+        TournamentResult second = runner.run(64, new ForkJoinPool(4));
+
+        for (int i = 0; i < first.getStats().size(); i++) {
+            StrategyStats a = first.getStats().get(i);
+            StrategyStats b = second.getStats().get(i);
+            assertEquals(a.getWins(), b.getWins());
+            assertEquals(a.getMeanScore(), b.getMeanScore());
+            assertArrayEquals(a.getHistogram(), b.getHistogram());
+        }
+    }
+
+    @Test
+    void deadEnds() {
+        // A single row of tiles, so players often roll more than the tiles ahead of them and have nowhere to go
+        int length = 7;
+        int[] xs = new int[length];
+        int[] ys = new int[length];
+        int[] directions = new int[length];
+        TileType[] types = new TileType[length];
+        for (int tile = 0; tile < length; tile++) {
+            xs[tile] = tile;
+            if (tile > 0) directions[tile] |= BoardLayout.WEST;
+            if (tile < length - 1) directions[tile] |= BoardLayout.EAST;
+        }
+        Arrays.fill(types, TileType.NORMAL);
+        BoardLayout row = new BoardLayout(xs, ys, directions, types);
+
+        TournamentRunner runner = new TournamentRunner(Strategies.all(), row, 1, 2, false, 4);
+        assertEquals(30, runner.run(30).getGames());
+    }
+
+    @Test
+    void noStrategies() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentRunner(Collections.emptyList(), false, 1));
+    }
+
+    @Test
+    void fromName() {
+        assertSame(Strategies.STAR_HUNTER, Strategies.fromName("starhunter"));
+        assertThrows(IllegalArgumentException.class, () -> Strategies.fromName("Cheater"));
+    }
+}